@@ -0,0 +1,10 @@
+#!/bin/sh
+# Prepara el primario para la réplica de docker-compose.replica.yml: rol de replicación y
+# entrada de pg_hba.conf. Se ejecuta una sola vez, al inicializar el volumen de datos.
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-EOSQL
+  CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD '${REPLICATION_PASSWORD:-replicatorpass}';
+EOSQL
+
+echo "host replication replicator all md5" >> "$PGDATA/pg_hba.conf"
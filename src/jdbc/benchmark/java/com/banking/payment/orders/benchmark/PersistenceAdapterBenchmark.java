@@ -0,0 +1,341 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.PaymentOrdersApplication;
+import com.banking.payment.orders.adapter.out.persistence.JdbcPaymentOrderRepositoryAdapter;
+import com.banking.payment.orders.adapter.out.persistence.PaymentOrderRepositoryAdapter;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * PersistenceAdapterBenchmark - Compara los adaptadores R2DBC y JDBC con hilos virtuales.
+ *
+ * <p>Arranca PostgreSQL en un contenedor con el esquema de los tests, o usa uno ya arrancado
+ * con {@code --database}, y la aplicación sin servidor web, con ambos adaptadores sobre la
+ * misma base de datos. Cada adaptador se mide por separado con el mismo bucle cerrado:
+ * {@code --concurrency} clientes que encadenan findById de órdenes existentes y save de
+ * órdenes nuevas según {@code --read-ratio}. El pool JDBC tiene por defecto el mismo tamaño
+ * máximo que el R2DBC, y los tiempos de espera de ambos pools se amplían para medir la cola
+ * en la latencia en lugar de como errores.
+ *
+ * <p>Por cada adaptador informa del throughput, la latencia (p50, p99, p99.9 y máximo), los
+ * bytes asignados por operación, el pico de heap, la actividad del GC y el pico de hilos de
+ * plataforma (los hilos virtuales no cuentan).
+ *
+ * <p>Ejecutar con:
+ * {@code mvn -Pjdbc test-compile exec:exec -Djdbc.benchmark.args="--concurrency=2000"}
+ */
+public final class PersistenceAdapterBenchmark {
+
+  private static final int SEED_CHUNK = 500;
+
+  private PersistenceAdapterBenchmark() {
+  }
+
+  /**
+   * Punto de entrada.
+   *
+   * @param args opciones {@code --nombre=valor}; las que empiezan por {@code --spring.} o
+   *     {@code --payment-orders.} se pasan como propiedades a la aplicación
+   */
+  public static void main(String[] args) {
+    Options options = Options.parse(args);
+    PostgreSQLContainer<?> postgres = options.database().isEmpty()
+        ? new PostgreSQLContainer<>(options.postgresImage())
+            .withDatabaseName("paymentorders")
+            .withUsername(options.username())
+            .withPassword(options.password())
+            .withInitScript("schema.sql")
+        : null;
+    String hostAndDatabase = options.database();
+    if (postgres != null) {
+      postgres.start();
+      hostAndDatabase = postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/"
+          + postgres.getDatabaseName();
+    }
+    try (ConfigurableApplicationContext context = start(hostAndDatabase, options)) {
+      Map<String, PaymentOrderPort> adapters = new LinkedHashMap<>();
+      adapters.put("r2dbc", context.getBean(PaymentOrderRepositoryAdapter.class));
+      adapters.put("jdbc-virtual", context.getBean(JdbcPaymentOrderRepositoryAdapter.class));
+
+      UUID[] ids = seed(adapters.get("r2dbc"), options.seedOrders());
+      List<Result> results = new ArrayList<>();
+      adapters.forEach((name, port) -> results.add(measure(name, port, ids, options)));
+      print(results, options);
+    } finally {
+      if (postgres != null) {
+        postgres.stop();
+      }
+    }
+  }
+
+  private static ConfigurableApplicationContext start(String hostAndDatabase, Options options) {
+    // devtools relanzaría main sin argumentos en otro class loader
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("spring.main.web-application-type", "none");
+    properties.put("spring.r2dbc.url", "r2dbc:postgresql://" + hostAndDatabase);
+    properties.put("spring.r2dbc.username", options.username());
+    properties.put("spring.r2dbc.password", options.password());
+    properties.put("payment-orders.persistence.adapter", "jdbc");
+    properties.put("payment-orders.jdbc.url",
+        "jdbc:postgresql://" + hostAndDatabase + "?reWriteBatchedInserts=true");
+    properties.put("payment-orders.jdbc.maximum-pool-size",
+        LoopResources.DEFAULT_IO_WORKER_COUNT * 2);
+    properties.put("payment-orders.r2dbc.pool.max-acquire-time", "60s");
+    properties.put("payment-orders.jdbc.connection-timeout", "60s");
+    properties.put("payment-orders.outbox.relay.enabled", "false");
+    properties.put("logging.level.com.banking.payment.orders", "INFO");
+    properties.put("logging.level.org.springframework.r2dbc", "INFO");
+    properties.put("logging.level.io.r2dbc.postgresql", "INFO");
+    properties.putAll(options.applicationProperties());
+    // Como argumentos y no como propiedades por defecto, que application.properties taparía
+    return new SpringApplicationBuilder(PaymentOrdersApplication.class)
+        .run(properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new));
+  }
+
+  private static UUID[] seed(PaymentOrderPort port, int orders) {
+    return Flux.range(0, orders)
+        .map(index -> newOrder())
+        .buffer(SEED_CHUNK)
+        .concatMap(port::insertAll)
+        .map(PaymentOrderProcedure::getPaymentOrderProcedureInstanceReference)
+        .collectList()
+        .block()
+        .toArray(new UUID[0]);
+  }
+
+  private static Result measure(String name, PaymentOrderPort port, UUID[] ids,
+      Options options) {
+    System.out.printf("%s: warmup %s at concurrency %d%n",
+        name, options.warmup(), options.concurrency());
+    drive(port, ids, options, options.warmup(), new Recorder(3), new AtomicLong());
+    System.gc();
+
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .toList();
+    heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+    threads.resetPeakThreadCount();
+    long gcCountBefore = gcTotal(GarbageCollectorMXBean::getCollectionCount);
+    long gcMillisBefore = gcTotal(GarbageCollectorMXBean::getCollectionTime);
+    long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+
+    System.out.printf("%s: measuring %s%n", name, options.duration());
+    Recorder recorder = new Recorder(3);
+    AtomicLong errors = new AtomicLong();
+    long startNanos = System.nanoTime();
+    long operations = drive(port, ids, options, options.duration(), recorder, errors);
+    double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+    return new Result(
+        name,
+        operations,
+        errors.get(),
+        seconds,
+        recorder.getIntervalHistogram(),
+        threads.getTotalThreadAllocatedBytes() - allocatedBefore,
+        heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum(),
+        gcTotal(GarbageCollectorMXBean::getCollectionCount) - gcCountBefore,
+        gcTotal(GarbageCollectorMXBean::getCollectionTime) - gcMillisBefore,
+        threads.getPeakThreadCount());
+  }
+
+  /**
+   * Bucle cerrado: cada cliente lanza su siguiente operación al terminar la anterior, hasta
+   * agotar el tiempo indicado.
+   *
+   * @return operaciones completadas, con error o sin él
+   */
+  private static long drive(PaymentOrderPort port, UUID[] ids, Options options,
+      Duration length, Recorder recorder, AtomicLong errors) {
+    long deadline = System.nanoTime() + length.toNanos();
+    AtomicLong completed = new AtomicLong();
+    Flux.range(0, options.concurrency())
+        .flatMap(client -> Mono.defer(() -> {
+          long startNanos = System.nanoTime();
+          return operation(port, ids, options.readRatio()).doOnNext(success -> {
+            recorder.recordValue(Math.max(1, (System.nanoTime() - startNanos) / 1000));
+            completed.incrementAndGet();
+            if (!success) {
+              errors.incrementAndGet();
+            }
+          });
+        }).repeat(() -> System.nanoTime() < deadline), options.concurrency())
+        .blockLast();
+    return completed.get();
+  }
+
+  private static Mono<Boolean> operation(PaymentOrderPort port, UUID[] ids, double readRatio) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Mono<?> call = random.nextDouble() < readRatio
+        ? port.findById(ids[random.nextInt(ids.length)])
+        : port.save(newOrder());
+    return call.then(Mono.just(Boolean.TRUE)).onErrorReturn(Boolean.FALSE);
+  }
+
+  private static PaymentOrderProcedure newOrder() {
+    return PaymentOrderProcedure.initiate(
+        "TXN-" + ThreadLocalRandom.current().nextInt(1_000_000),
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES6421000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001");
+  }
+
+  private static long gcTotal(Function<GarbageCollectorMXBean, Long> metric) {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream()
+        .mapToLong(collector -> Math.max(0, metric.apply(collector)))
+        .sum();
+  }
+
+  private static void print(List<Result> results, Options options) {
+    System.out.printf("%nPersistence adapters - concurrency %d, read ratio %.2f, duration %s,"
+            + " %d seed orders%n%n", options.concurrency(), options.readRatio(),
+        options.duration(), options.seedOrders());
+    row("adapter", results, Result::name);
+    row("throughput (ops/s)", results,
+        result -> String.format("%.0f", result.operations() / result.seconds()));
+    row("latency p50 (ms)", results, result -> millis(result.latency(), 50));
+    row("latency p99 (ms)", results, result -> millis(result.latency(), 99));
+    row("latency p99.9 (ms)", results, result -> millis(result.latency(), 99.9));
+    row("latency max (ms)", results,
+        result -> String.format("%.2f", result.latency().getMaxValue() / 1000.0));
+    row("errors", results, result -> Long.toString(result.errors()));
+    row("allocated / op (KB)", results, result -> String.format("%.1f",
+        result.allocatedBytes() / 1024.0 / Math.max(1, result.operations())));
+    row("peak heap (MB)", results,
+        result -> Long.toString(result.peakHeapBytes() / (1024 * 1024)));
+    row("GC count / time (ms)", results,
+        result -> result.gcCount() + " / " + result.gcMillis());
+    row("peak platform threads", results, result -> Integer.toString(result.peakThreads()));
+  }
+
+  private static void row(String label, List<Result> results, Function<Result, String> value) {
+    StringBuilder line = new StringBuilder(String.format("%-24s", label));
+    results.forEach(result -> line.append(String.format("%16s", value.apply(result))));
+    System.out.println(line);
+  }
+
+  private static String millis(Histogram latency, double percentile) {
+    return String.format("%.2f", latency.getValueAtPercentile(percentile) / 1000.0);
+  }
+
+  /**
+   * Resultado de la medición de un adaptador; latencias en microsegundos.
+   */
+  private record Result(
+      String name,
+      long operations,
+      long errors,
+      double seconds,
+      Histogram latency,
+      long allocatedBytes,
+      long peakHeapBytes,
+      long gcCount,
+      long gcMillis,
+      int peakThreads) {
+  }
+
+  /**
+   * Parámetros de la ejecución, leídos de argumentos {@code --nombre=valor}.
+   *
+   * @param concurrency clientes concurrentes del bucle cerrado
+   * @param readRatio proporción de findById; el resto son save de órdenes nuevas
+   * @param warmup duración del calentamiento de cada adaptador, que no se registra
+   * @param duration duración de la medición de cada adaptador
+   * @param seedOrders órdenes creadas antes de empezar, para las lecturas
+   * @param postgresImage imagen del contenedor PostgreSQL
+   * @param database {@code host:puerto/base} de un PostgreSQL ya arrancado con el esquema
+   *     aplicado; vacío para usar un contenedor
+   * @param username usuario de la base de datos
+   * @param password contraseña de la base de datos
+   * @param applicationProperties propiedades adicionales de la aplicación
+   */
+  private record Options(
+      int concurrency,
+      double readRatio,
+      Duration warmup,
+      Duration duration,
+      int seedOrders,
+      String postgresImage,
+      String database,
+      String username,
+      String password,
+      Map<String, Object> applicationProperties) {
+
+    static Options parse(String[] args) {
+      Map<String, String> values = new LinkedHashMap<>();
+      Map<String, Object> applicationProperties = new LinkedHashMap<>();
+      for (String arg : args) {
+        int separator = arg.indexOf('=');
+        if (!arg.startsWith("--") || separator < 0) {
+          throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+        }
+        String name = arg.substring(2, separator);
+        String value = arg.substring(separator + 1);
+        if (name.startsWith("spring.") || name.startsWith("payment-orders.")) {
+          applicationProperties.put(name, value);
+        } else {
+          values.put(name, value);
+        }
+      }
+
+      Options options = new Options(
+          Integer.parseInt(take(values, "concurrency", "1000")),
+          Double.parseDouble(take(values, "read-ratio", "0.8")),
+          DurationStyle.detectAndParse(take(values, "warmup", "15s")),
+          DurationStyle.detectAndParse(take(values, "duration", "60s")),
+          Integer.parseInt(take(values, "seed-orders", "10000")),
+          take(values, "postgres-image", "postgres:15-alpine"),
+          take(values, "database", ""),
+          take(values, "username", "paymentuser"),
+          take(values, "password", "paymentpass"),
+          applicationProperties);
+      if (!values.isEmpty()) {
+        throw new IllegalArgumentException("Unknown options: " + values.keySet());
+      }
+      if (options.concurrency <= 0 || options.seedOrders <= 0) {
+        throw new IllegalArgumentException("concurrency and seed-orders must be positive");
+      }
+      return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+      String value = values.remove(name);
+      return value != null ? value : defaultValue;
+    }
+  }
+}
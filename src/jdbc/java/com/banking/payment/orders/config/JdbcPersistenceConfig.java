@@ -0,0 +1,98 @@
+package com.banking.payment.orders.config;
+
+import com.banking.payment.orders.adapter.out.persistence.JdbcPaymentOrderRepositoryAdapter;
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JdbcPersistenceConfig - Persistencia de órdenes de pago sobre JDBC e hilos virtuales.
+ *
+ * <p>Solo se compila con el perfil Maven {@code jdbc} (Java 21) y solo se activa con
+ * payment-orders.persistence.adapter=jdbc; {@link PaymentOrderPortConfig} usa entonces
+ * {@link JdbcPaymentOrderRepositoryAdapter} en lugar del adaptador R2DBC. El adaptador crea
+ * sus propias transacciones sobre este pool; el resto de adaptadores siguen en R2DBC.
+ */
+@Configuration
+@ConditionalOnProperty(name = "payment-orders.persistence.adapter", havingValue = "jdbc")
+public class JdbcPersistenceConfig {
+
+  static final String POOL_NAME = "payment-orders-jdbc";
+
+  /**
+   * Pool de conexiones JDBC. Cada llamada bloqueante ocupa una conexión durante toda la
+   * consulta, así que el pool, y no el número de hilos, limita la concurrencia real.
+   *
+   * @param properties credenciales de spring.r2dbc, usadas si JDBC no define otras
+   * @param url URL JDBC del primario
+   * @param username usuario de la base de datos
+   * @param password contraseña de la base de datos
+   * @param maximumPoolSize conexiones máximas del pool
+   * @param connectionTimeout tiempo máximo de espera para obtener una conexión
+   * @return pool de conexiones JDBC
+   */
+  @Bean(destroyMethod = "close")
+  public HikariDataSource jdbcDataSource(
+      R2dbcProperties properties,
+      @Value("${payment-orders.jdbc.url}") String url,
+      @Value("${payment-orders.jdbc.username:}") String username,
+      @Value("${payment-orders.jdbc.password:}") String password,
+      @Value("${payment-orders.jdbc.maximum-pool-size:20}") int maximumPoolSize,
+      @Value("${payment-orders.jdbc.connection-timeout:2s}") Duration connectionTimeout) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(POOL_NAME);
+    config.setJdbcUrl(url);
+    config.setUsername(username.isEmpty() ? properties.getUsername() : username);
+    config.setPassword(password.isEmpty() ? properties.getPassword() : password);
+    config.setMaximumPoolSize(maximumPoolSize);
+    config.setConnectionTimeout(connectionTimeout.toMillis());
+    return new HikariDataSource(config);
+  }
+
+  /**
+   * Scheduler con un hilo virtual por tarea, donde se ejecutan las llamadas JDBC.
+   *
+   * @return scheduler de hilos virtuales
+   */
+  @Bean(destroyMethod = "dispose")
+  public Scheduler jdbcScheduler() {
+    return Schedulers.fromExecutorService(
+        Executors.newVirtualThreadPerTaskExecutor(), POOL_NAME);
+  }
+
+  /**
+   * Adaptador JDBC de órdenes de pago.
+   *
+   * @param dataSource pool de conexiones JDBC
+   * @param scheduler scheduler de hilos virtuales
+   * @param mapper mapper de persistencia
+   * @param batchSize filas por batch JDBC en insertAll
+   * @param outboxEnabled si se registran eventos en la bandeja de salida
+   * @return adaptador JDBC
+   */
+  @Bean
+  public JdbcPaymentOrderRepositoryAdapter jdbcPaymentOrderRepositoryAdapter(
+      @Qualifier("jdbcDataSource") HikariDataSource dataSource,
+      @Qualifier("jdbcScheduler") Scheduler scheduler,
+      PaymentOrderPersistenceMapper mapper,
+      @Value("${payment-orders.jdbc.batch-size:500}") int batchSize,
+      @Value("${payment-orders.outbox.relay.enabled:false}") boolean outboxEnabled) {
+    return new JdbcPaymentOrderRepositoryAdapter(
+        new JdbcTemplate(dataSource),
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+        mapper, scheduler, batchSize, outboxEnabled);
+  }
+}
@@ -0,0 +1,79 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderRequest;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * BenchmarkFixtures - Datos de ejemplo compartidos por los benchmarks JMH.
+ */
+final class BenchmarkFixtures {
+
+  static final String REQUEST_JSON = """
+      {
+        "paymentOrderProcedure": {
+          "paymentTransactionInitiatorReference": "TXN-12345",
+          "payer": {
+            "payerReference": "John Doe",
+            "payerBankReference": "BANK001",
+            "payerProductInstanceReference": "ES9121000418450200051332"
+          },
+          "payee": {
+            "payeeReference": "Jane Smith",
+            "payeeBankReference": "BANK002",
+            "payeeProductInstanceReference": "ES6421000418450200051333"
+          },
+          "paymentDetails": {
+            "amount": 150.00,
+            "currency": "EUR",
+            "paymentMechanismType": "CreditTransfer"
+          },
+          "dateInformation": {
+            "dateType": "RequestedExecutionDate",
+            "date": "2030-01-15"
+          },
+          "remittanceInformation": "Payment for invoice INV-001"
+        }
+      }
+      """;
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * ObjectMapper con los módulos registrados igual que en la aplicación.
+   */
+  static ObjectMapper objectMapper() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.findAndRegisterModules();
+    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return objectMapper;
+  }
+
+  static InitiatePaymentOrderRequest request(ObjectMapper objectMapper) {
+    try {
+      return objectMapper.readValue(REQUEST_JSON, InitiatePaymentOrderRequest.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Invalid benchmark request fixture", e);
+    }
+  }
+
+  static PaymentOrderProcedure paymentOrder() {
+    return PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES6421000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.of(2030, 1, 15)),
+        "Payment for invoice INV-001"
+    );
+  }
+}
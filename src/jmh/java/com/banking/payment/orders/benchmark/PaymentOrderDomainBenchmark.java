@@ -0,0 +1,69 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PaymentOrderDomainBenchmark - Mide la creación de órdenes y la resolución de estados.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentOrderDomainBenchmark {
+
+  private Payer payer;
+  private Payee payee;
+  private PaymentDetails paymentDetails;
+  private DateInformation dateInformation;
+
+  @Setup
+  public void setUp() {
+    payer = new Payer("John Doe", "BANK001", "ES9121000418450200051332");
+    payee = new Payee("Jane Smith", "BANK002", "ES6421000418450200051333");
+    paymentDetails = new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer");
+    dateInformation = new DateInformation("RequestedExecutionDate", LocalDate.of(2030, 1, 15));
+  }
+
+  @Benchmark
+  public PaymentOrderProcedure initiate() {
+    return PaymentOrderProcedure.initiate(
+        "TXN-12345", payer, payee, paymentDetails, dateInformation,
+        "Payment for invoice INV-001");
+  }
+
+  @Benchmark
+  public PaymentOrderStatus statusFromValue(StatusValueState state) {
+    return PaymentOrderStatus.fromValue(state.statusValue);
+  }
+
+  /**
+   * Primer y último valor del enum, para medir el coste de la búsqueda lineal.
+   */
+  @State(Scope.Benchmark)
+  public static class StatusValueState {
+
+    @Param({"Initiated", "Cancelled"})
+    String statusValue;
+  }
+}
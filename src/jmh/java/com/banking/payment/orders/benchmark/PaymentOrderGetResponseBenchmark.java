@@ -0,0 +1,109 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.adapter.in.rest.PaymentOrderJsonWriter;
+import com.banking.payment.orders.adapter.in.rest.PaymentOrderResponseCache;
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * PaymentOrderGetResponseBenchmark - Compara los caminos de codificación de las respuestas GET
+ * hasta un buffer de Netty: DTO generado + Jackson (el camino anterior), el writer JSON escrito
+ * a mano y el JSON de PaymentOrderResponseCache envuelto sin copia.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentOrderGetResponseBenchmark {
+
+  private static final ResolvableType PAYMENT_ORDER_RESPONSE =
+      ResolvableType.forClass(PaymentOrderResponse.class);
+  private static final ResolvableType STATUS_RESPONSE =
+      ResolvableType.forClass(PaymentOrderStatusResponse.class);
+
+  private NettyDataBufferFactory bufferFactory;
+  private PaymentOrderRestMapper mapper;
+  private Jackson2JsonEncoder jacksonEncoder;
+  private PaymentOrderJsonWriter jsonWriter;
+  private PaymentOrderResponseCache responseCache;
+  private PaymentOrderProcedure paymentOrder;
+  private PaymentOrderStatusSnapshot status;
+
+  @Setup
+  public void setUp() {
+    bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    mapper = new PaymentOrderRestMapper();
+    jacksonEncoder = new Jackson2JsonEncoder(BenchmarkFixtures.objectMapper());
+    jsonWriter = new PaymentOrderJsonWriter();
+    responseCache = new PaymentOrderResponseCache(
+        jsonWriter, new SimpleMeterRegistry(), true, DataSize.ofMegabytes(32));
+    paymentOrder = BenchmarkFixtures.paymentOrder();
+    status = PaymentOrderStatusSnapshot.of(paymentOrder);
+  }
+
+  @Benchmark
+  public int paymentOrderJackson() {
+    return release(jacksonEncoder.encodeValue(mapper.toPaymentOrderResponse(paymentOrder),
+        bufferFactory, PAYMENT_ORDER_RESPONSE, MediaType.APPLICATION_JSON, Map.of()));
+  }
+
+  @Benchmark
+  public int paymentOrderHandWritten() {
+    byte[] json = jsonWriter.writePaymentOrder(paymentOrder);
+    return release(bufferFactory.allocateBuffer(json.length).write(json));
+  }
+
+  @Benchmark
+  public int paymentOrderCached() {
+    return release(responseCache.paymentOrder(paymentOrder, bufferFactory));
+  }
+
+  @Benchmark
+  public int statusJackson() {
+    return release(jacksonEncoder.encodeValue(mapper.toStatusResponse(status),
+        bufferFactory, STATUS_RESPONSE, MediaType.APPLICATION_JSON, Map.of()));
+  }
+
+  @Benchmark
+  public int statusHandWritten() {
+    byte[] json = jsonWriter.writeStatus(status);
+    return release(bufferFactory.allocateBuffer(json.length).write(json));
+  }
+
+  @Benchmark
+  public int statusCached() {
+    return release(responseCache.status(status, bufferFactory));
+  }
+
+  private static int release(DataBuffer buffer) {
+    int size = buffer.readableByteCount();
+    DataBufferUtils.release(buffer);
+    return size;
+  }
+}
@@ -0,0 +1,37 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.domain.model.PaymentOrderIds;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PaymentOrderIdBenchmark - Compara la generación de ids v4 (SecureRandom compartido) con la
+ * de ids v7 de PaymentOrderIds, con varios hilos generando a la vez. El efecto en la base de
+ * datos (inserción e índice) se mide con src/jmh/sql/payment-order-id-insert.sql.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class PaymentOrderIdBenchmark {
+
+  @Benchmark
+  public UUID randomV4() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID timeOrderedV7() {
+    return PaymentOrderIds.next();
+  }
+}
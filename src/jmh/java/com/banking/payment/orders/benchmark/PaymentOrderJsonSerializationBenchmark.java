@@ -0,0 +1,70 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PaymentOrderJsonSerializationBenchmark - Mide la serialización Jackson de los modelos de
+ * respuesta generados por OpenAPI.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentOrderJsonSerializationBenchmark {
+
+  private ObjectWriter initiateWriter;
+  private ObjectWriter paymentOrderWriter;
+  private ObjectWriter statusWriter;
+  private InitiatePaymentOrderResponse initiateResponse;
+  private PaymentOrderResponse paymentOrderResponse;
+  private PaymentOrderStatusResponse statusResponse;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+    initiateWriter = objectMapper.writerFor(InitiatePaymentOrderResponse.class);
+    paymentOrderWriter = objectMapper.writerFor(PaymentOrderResponse.class);
+    statusWriter = objectMapper.writerFor(PaymentOrderStatusResponse.class);
+
+    PaymentOrderRestMapper mapper = new PaymentOrderRestMapper();
+    PaymentOrderProcedure paymentOrder = BenchmarkFixtures.paymentOrder();
+    initiateResponse = mapper.toInitiateResponse(paymentOrder);
+    paymentOrderResponse = mapper.toPaymentOrderResponse(paymentOrder);
+    statusResponse = mapper.toStatusResponse(paymentOrder);
+  }
+
+  @Benchmark
+  public byte[] initiateResponse() throws JsonProcessingException {
+    return initiateWriter.writeValueAsBytes(initiateResponse);
+  }
+
+  @Benchmark
+  public byte[] paymentOrderResponse() throws JsonProcessingException {
+    return paymentOrderWriter.writeValueAsBytes(paymentOrderResponse);
+  }
+
+  @Benchmark
+  public byte[] statusResponse() throws JsonProcessingException {
+    return statusWriter.writeValueAsBytes(statusResponse);
+  }
+}
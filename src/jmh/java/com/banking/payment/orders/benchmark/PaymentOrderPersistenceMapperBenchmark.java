@@ -0,0 +1,55 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PaymentOrderPersistenceMapperBenchmark - Mide el mapeo entre dominio y entidad R2DBC.
+ *
+ * <p>La entidad de entrada está en estado PENDING para incluir la restauración del estado
+ * en toDomain.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentOrderPersistenceMapperBenchmark {
+
+  private PaymentOrderPersistenceMapper mapper;
+  private PaymentOrderProcedure paymentOrder;
+  private PaymentOrderEntity entity;
+
+  @Setup
+  public void setUp() {
+    mapper = new PaymentOrderPersistenceMapper();
+    paymentOrder = BenchmarkFixtures.paymentOrder();
+    entity = mapper.toEntity(paymentOrder, true);
+    entity.setStatus(PaymentOrderPersistenceMapper.encodeStatus(PaymentOrderStatus.PENDING));
+    entity.setVersion(0L);
+  }
+
+  @Benchmark
+  public PaymentOrderEntity toEntity() {
+    return mapper.toEntity(paymentOrder, false);
+  }
+
+  @Benchmark
+  public PaymentOrderProcedure toDomain() {
+    return mapper.toDomain(entity);
+  }
+}
@@ -0,0 +1,57 @@
+package com.banking.payment.orders.benchmark;
+
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderRequest;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PaymentOrderRestMapperBenchmark - Mide el mapeo entre modelos REST y dominio.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentOrderRestMapperBenchmark {
+
+  private PaymentOrderRestMapper mapper;
+  private InitiatePaymentOrderRequest request;
+  private PaymentOrderProcedure paymentOrder;
+
+  @Setup
+  public void setUp() {
+    mapper = new PaymentOrderRestMapper();
+    request = BenchmarkFixtures.request(BenchmarkFixtures.objectMapper());
+    paymentOrder = BenchmarkFixtures.paymentOrder();
+  }
+
+  @Benchmark
+  public InitiatePaymentOrderCommand toCommand() {
+    return mapper.toCommand(request);
+  }
+
+  @Benchmark
+  public PaymentOrderResponse toPaymentOrderResponse() {
+    return mapper.toPaymentOrderResponse(paymentOrder);
+  }
+
+  @Benchmark
+  public PaymentOrderStatusResponse toStatusResponse() {
+    return mapper.toStatusResponse(paymentOrder);
+  }
+}
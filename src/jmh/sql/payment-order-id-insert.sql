@@ -0,0 +1,51 @@
+-- Compara inserción e índice de clave primaria con ids UUID v4 (aleatorios) y v7 (ordenados
+-- por tiempo). Crea tablas propias con la clave de payment_orders y las elimina al terminar.
+--
+-- Uso (contra el PostgreSQL de docker-compose; rows por defecto 20 millones):
+--   psql -h localhost -U paymentuser -d paymentorders -v rows=20000000 \
+--        -f src/jmh/sql/payment-order-id-insert.sql
+--
+-- Con v4 cada fila cae en una hoja aleatoria del índice: cuando el índice deja de caber en
+-- shared_buffers cada inserción lee una página de disco y las divisiones de página dejan hojas
+-- a medio llenar. Con v7 las inserciones se concentran en la hoja más a la derecha.
+
+\if :{?rows}
+\else
+\set rows 20000000
+\endif
+\timing on
+
+-- UUIDv7 equivalente a PaymentOrderIds: milisegundo Unix en los 48 bits altos y versión 7
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_ids_v4;
+DROP TABLE IF EXISTS bench_ids_v7;
+CREATE UNLOGGED TABLE bench_ids_v4 (id UUID NOT NULL, created_date_time TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, created_date_time));
+CREATE UNLOGGED TABLE bench_ids_v7 (LIKE bench_ids_v4 INCLUDING ALL);
+
+\echo 'Inserción con ids v4'
+INSERT INTO bench_ids_v4 SELECT gen_random_uuid(), clock_timestamp() FROM generate_series(1, :rows);
+
+\echo 'Inserción con ids v7'
+INSERT INTO bench_ids_v7 SELECT bench_uuid_v7(), clock_timestamp() FROM generate_series(1, :rows);
+
+\echo 'Tamaño de tabla e índice de clave primaria'
+SELECT c.relname AS relation,
+       pg_size_pretty(pg_relation_size(c.oid)) AS size,
+       pg_relation_size(c.oid) / current_setting('block_size')::bigint AS pages
+FROM pg_class c
+WHERE c.relname IN ('bench_ids_v4', 'bench_ids_v7', 'bench_ids_v4_pkey', 'bench_ids_v7_pkey')
+ORDER BY c.relname;
+
+DROP TABLE bench_ids_v4;
+DROP TABLE bench_ids_v7;
+DROP FUNCTION bench_uuid_v7();
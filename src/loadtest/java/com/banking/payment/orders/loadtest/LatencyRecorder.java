@@ -0,0 +1,150 @@
+package com.banking.payment.orders.loadtest;
+
+import com.banking.payment.orders.loadtest.LoadTestOptions.Operation;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * LatencyRecorder - Registra las latencias de cada operación en histogramas HdrHistogram.
+ *
+ * <p>Cada petición se registra dos veces: el tiempo de respuesta se mide desde el instante en
+ * que la petición debía salir según el calendario de llegadas, no desde que salió, de modo que
+ * si el generador o el servicio se atascan el retraso acumulado cuenta en la latencia
+ * (corrección de la omisión coordinada); el tiempo de servicio se mide desde el envío real.
+ * Las latencias se guardan en microsegundos con tres cifras significativas.
+ */
+final class LatencyRecorder {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<Operation, Series> series = new EnumMap<>(Operation.class);
+
+  LatencyRecorder() {
+    for (Operation operation : Operation.values()) {
+      series.put(operation, new Series(operation));
+    }
+  }
+
+  /**
+   * Registra una petición terminada, con éxito o con error.
+   *
+   * @param operation operación ejecutada
+   * @param intendedStartNanos instante previsto de salida ({@link System#nanoTime()})
+   * @param sentNanos instante real de salida
+   * @param endNanos instante de la respuesta
+   * @param success false si la petición falló o agotó su tiempo
+   */
+  void record(Operation operation, long intendedStartNanos, long sentNanos, long endNanos,
+      boolean success) {
+    Series target = series.get(operation);
+    target.responseTime.recordValue(toMicros(endNanos - intendedStartNanos));
+    target.serviceTime.recordValue(toMicros(endNanos - sentNanos));
+    if (!success) {
+      target.errors.increment();
+    }
+  }
+
+  private static long toMicros(long nanos) {
+    return Math.min(Math.max(nanos / 1_000, 0), HIGHEST_TRACKABLE_MICROS);
+  }
+
+  /**
+   * Cierra el intervalo en curso: lo escribe en el log de histogramas etiquetado por operación
+   * y lo acumula en el total.
+   *
+   * @param logWriter log de intervalos
+   */
+  void writeInterval(HistogramLogWriter logWriter) {
+    for (Series each : series.values()) {
+      Histogram interval = each.responseTime.getIntervalHistogram(each.responseInterval);
+      each.responseInterval = interval;
+      each.responseTotal.add(interval);
+      interval.setTag(each.operation.operationId());
+      logWriter.outputIntervalHistogram(interval);
+
+      each.serviceInterval = each.serviceTime.getIntervalHistogram(each.serviceInterval);
+      each.serviceTotal.add(each.serviceInterval);
+    }
+  }
+
+  /**
+   * Descarta lo registrado hasta ahora, por ejemplo al terminar el calentamiento.
+   */
+  void reset() {
+    for (Series each : series.values()) {
+      each.responseTime.reset();
+      each.serviceTime.reset();
+      each.responseTotal.reset();
+      each.serviceTotal.reset();
+      each.errors.reset();
+    }
+  }
+
+  /**
+   * Escribe el resumen por operación y la distribución completa de percentiles.
+   *
+   * @param out destino del informe
+   * @param measuredSeconds duración de la medición, para el caudal conseguido
+   */
+  void writeReport(PrintStream out, double measuredSeconds) {
+    out.printf("%-40s %9s %7s %10s %9s %9s %9s %9s %9s%n", "operation", "requests", "errors",
+        "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (Series each : series.values()) {
+      writeSummary(out, each.operation.operationId() + " (response)", each.responseTotal,
+          each.errors.sum(), measuredSeconds);
+      writeSummary(out, each.operation.operationId() + " (service)", each.serviceTotal,
+          each.errors.sum(), measuredSeconds);
+    }
+    for (Series each : series.values()) {
+      if (each.responseTotal.getTotalCount() == 0) {
+        continue;
+      }
+      out.printf("%n%s - response time (ms, coordinated-omission corrected)%n",
+          each.operation.operationId());
+      each.responseTotal.outputPercentileDistribution(out, 1_000.0);
+      out.printf("%n%s - service time (ms)%n", each.operation.operationId());
+      each.serviceTotal.outputPercentileDistribution(out, 1_000.0);
+    }
+  }
+
+  private static void writeSummary(PrintStream out, String name, Histogram histogram,
+      long errors, double measuredSeconds) {
+    out.printf("%-40s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+        histogram.getTotalCount(), errors, histogram.getTotalCount() / measuredSeconds,
+        histogram.getValueAtPercentile(50) / 1_000.0,
+        histogram.getValueAtPercentile(90) / 1_000.0,
+        histogram.getValueAtPercentile(99) / 1_000.0,
+        histogram.getValueAtPercentile(99.9) / 1_000.0,
+        histogram.getMaxValue() / 1_000.0);
+  }
+
+  /**
+   * Histogramas de una operación: grabadores concurrentes, intervalo reciclado y total.
+   */
+  private static final class Series {
+
+    private final Operation operation;
+    private final Recorder responseTime = new Recorder(HIGHEST_TRACKABLE_MICROS,
+        SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_MICROS,
+        SIGNIFICANT_DIGITS);
+    private final Histogram responseTotal = new Histogram(HIGHEST_TRACKABLE_MICROS,
+        SIGNIFICANT_DIGITS);
+    private final Histogram serviceTotal = new Histogram(HIGHEST_TRACKABLE_MICROS,
+        SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private Histogram responseInterval;
+    private Histogram serviceInterval;
+
+    private Series(Operation operation) {
+      this.operation = operation;
+    }
+  }
+}
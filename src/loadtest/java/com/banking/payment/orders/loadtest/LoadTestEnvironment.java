@@ -0,0 +1,91 @@
+package com.banking.payment.orders.loadtest;
+
+import com.banking.payment.orders.PaymentOrdersApplication;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * LoadTestEnvironment - Instancia del servicio contra la que se genera la carga.
+ *
+ * <p>Sin {@code --target} arranca PostgreSQL en un contenedor con el esquema de los tests y la
+ * aplicación en este mismo proceso, en un puerto libre y con el log SQL en INFO. Generador y
+ * servicio comparten CPU, así que para dimensionar pods conviene apuntar {@code --target} a
+ * una instancia con los mismos límites de CPU y memoria que en producción.
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+  private final URI baseUrl;
+  private final PostgreSQLContainer<?> postgres;
+  private final ConfigurableApplicationContext application;
+
+  private LoadTestEnvironment(URI baseUrl, PostgreSQLContainer<?> postgres,
+      ConfigurableApplicationContext application) {
+    this.baseUrl = baseUrl;
+    this.postgres = postgres;
+    this.application = application;
+  }
+
+  /**
+   * Usa la instancia indicada o, si no hay ninguna, arranca una local.
+   *
+   * @param options opciones de la ejecución
+   * @return entorno listo para recibir carga
+   */
+  static LoadTestEnvironment start(LoadTestOptions options) {
+    if (options.target() != null) {
+      return new LoadTestEnvironment(options.target(), null, null);
+    }
+    PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(options.postgresImage())
+        .withDatabaseName("paymentorders")
+        .withUsername("paymentuser")
+        .withPassword("paymentpass")
+        .withInitScript("schema.sql");
+    postgres.start();
+    try {
+      Map<String, Object> properties = new LinkedHashMap<>();
+      properties.put("spring.r2dbc.url", "r2dbc:postgresql://" + postgres.getHost() + ":"
+          + postgres.getFirstMappedPort() + "/" + postgres.getDatabaseName());
+      properties.put("spring.r2dbc.username", postgres.getUsername());
+      properties.put("spring.r2dbc.password", postgres.getPassword());
+      properties.put("server.port", "0");
+      properties.put("logging.level.com.banking.payment.orders", "INFO");
+      properties.put("logging.level.org.springframework.r2dbc", "INFO");
+      properties.put("logging.level.io.r2dbc.postgresql", "INFO");
+      properties.putAll(options.applicationProperties());
+      ConfigurableApplicationContext application =
+          new SpringApplicationBuilder(PaymentOrdersApplication.class)
+              .properties(properties)
+              .run();
+      String port = application.getEnvironment().getProperty("local.server.port");
+      return new LoadTestEnvironment(
+          URI.create("http://localhost:" + port), postgres, application);
+    } catch (RuntimeException ex) {
+      postgres.stop();
+      throw ex;
+    }
+  }
+
+  URI baseUrl() {
+    return baseUrl;
+  }
+
+  String description() {
+    return application != null
+        ? "local application, PostgreSQL container " + postgres.getDockerImageName()
+        : baseUrl.toString();
+  }
+
+  @Override
+  public void close() {
+    if (application != null) {
+      application.close();
+    }
+    if (postgres != null) {
+      postgres.stop();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.banking.payment.orders.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * LoadTestOptions - Parámetros de una ejecución del generador de carga.
+ *
+ * <p>Se leen de argumentos {@code --nombre=valor}. Los que empiezan por {@code --spring.} o
+ * {@code --payment-orders.} se pasan como propiedades a la aplicación arrancada localmente.
+ *
+ * @param target URL base de una instancia ya levantada, o null para arrancar una local
+ * @param rate peticiones por segundo del modelo abierto, sumando todas las operaciones
+ * @param mix peso relativo de cada operación
+ * @param arrival distribución de las llegadas
+ * @param warmup duración del calentamiento, que no se registra
+ * @param duration duración de la medición
+ * @param seedOrders órdenes creadas antes de empezar, para las consultas
+ * @param maxConnections conexiones HTTP máximas del cliente
+ * @param requestTimeout tiempo máximo de cada petición
+ * @param reportDirectory directorio donde se crea la carpeta del informe
+ * @param postgresImage imagen del contenedor PostgreSQL de la instancia local
+ * @param applicationProperties propiedades adicionales de la instancia local
+ */
+record LoadTestOptions(
+    URI target,
+    double rate,
+    Map<Operation, Integer> mix,
+    Arrival arrival,
+    Duration warmup,
+    Duration duration,
+    int seedOrders,
+    int maxConnections,
+    Duration requestTimeout,
+    Path reportDirectory,
+    String postgresImage,
+    Map<String, Object> applicationProperties) {
+
+  /**
+   * Operaciones REST que genera la carga, identificadas por su operationId del contrato.
+   */
+  enum Operation {
+    INITIATE("initiatePaymentOrder"),
+    RETRIEVE("retrievePaymentOrder"),
+    RETRIEVE_STATUS("retrievePaymentOrderStatus");
+
+    private final String operationId;
+
+    Operation(String operationId) {
+      this.operationId = operationId;
+    }
+
+    String operationId() {
+      return operationId;
+    }
+
+    static Operation fromOperationId(String operationId) {
+      for (Operation operation : values()) {
+        if (operation.operationId.equals(operationId)) {
+          return operation;
+        }
+      }
+      throw new IllegalArgumentException("Unknown operation: " + operationId);
+    }
+  }
+
+  /**
+   * Distribución de los instantes de llegada: intervalos constantes o exponenciales
+   * (proceso de Poisson, más parecido a muchos clientes independientes).
+   */
+  enum Arrival {
+    UNIFORM,
+    POISSON
+  }
+
+  /**
+   * Lee las opciones de la línea de comandos; las ausentes toman su valor por defecto.
+   *
+   * @param args argumentos {@code --nombre=valor}
+   * @return opciones de la ejecución
+   * @throws IllegalArgumentException si un argumento no se reconoce o no es válido
+   */
+  static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new LinkedHashMap<>();
+    Map<String, Object> applicationProperties = new LinkedHashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+      }
+      String name = arg.substring(2, separator);
+      String value = arg.substring(separator + 1);
+      if (name.startsWith("spring.") || name.startsWith("payment-orders.")) {
+        applicationProperties.put(name, value);
+      } else {
+        values.put(name, value);
+      }
+    }
+
+    String target = values.remove("target");
+    LoadTestOptions options = new LoadTestOptions(
+        target != null ? URI.create(target) : null,
+        Double.parseDouble(take(values, "rate", "200")),
+        parseMix(take(values, "mix",
+            "initiatePaymentOrder:20,retrievePaymentOrder:40,retrievePaymentOrderStatus:40")),
+        Arrival.valueOf(take(values, "arrival", "poisson").toUpperCase(Locale.ROOT)),
+        DurationStyle.detectAndParse(take(values, "warmup", "10s")),
+        DurationStyle.detectAndParse(take(values, "duration", "60s")),
+        Integer.parseInt(take(values, "seed-orders", "1000")),
+        Integer.parseInt(take(values, "max-connections", "500")),
+        DurationStyle.detectAndParse(take(values, "request-timeout", "10s")),
+        Path.of(take(values, "report-dir", "target/loadtest")),
+        take(values, "postgres-image", "postgres:15-alpine"),
+        applicationProperties);
+    if (!values.isEmpty()) {
+      throw new IllegalArgumentException("Unknown options: " + values.keySet());
+    }
+    if (options.rate <= 0) {
+      throw new IllegalArgumentException("rate must be positive");
+    }
+    return options;
+  }
+
+  private static String take(Map<String, String> values, String name, String defaultValue) {
+    String value = values.remove(name);
+    return value != null ? value : defaultValue;
+  }
+
+  /**
+   * Lee una mezcla {@code operationId:peso,...}; las operaciones omitidas tienen peso 0.
+   */
+  static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Expected operationId:weight but got: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight < 0) {
+        throw new IllegalArgumentException("Negative weight for " + parts[0]);
+      }
+      weights.put(Operation.fromOperationId(parts[0].trim()), weight);
+    }
+    if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+      throw new IllegalArgumentException("mix must have at least one positive weight");
+    }
+    return weights;
+  }
+
+  /**
+   * Intervalo medio entre llegadas.
+   *
+   * @return nanosegundos entre peticiones consecutivas
+   */
+  double meanIntervalNanos() {
+    return 1_000_000_000d / rate;
+  }
+}
@@ -0,0 +1,292 @@
+package com.banking.payment.orders.loadtest;
+
+import com.banking.payment.orders.loadtest.LoadTestOptions.Arrival;
+import com.banking.payment.orders.loadtest.LoadTestOptions.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.HistogramLogWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * PaymentOrderLoadGenerator - Generador de carga de modelo abierto para la API REST.
+ *
+ * <p>Las peticiones salen según un calendario fijado de antemano ({@code --rate} por segundo,
+ * con llegadas uniformes o de Poisson) y repartido entre operaciones según {@code --mix}, sin
+ * esperar a que terminen las anteriores: si el servicio se satura, las peticiones se acumulan
+ * en lugar de frenar al generador. Las latencias se registran con {@link LatencyRecorder}.
+ *
+ * <p>Antes de empezar crea {@code --seed-orders} órdenes que, junto con las creadas durante la
+ * carga, son las que consultan retrievePaymentOrder y retrievePaymentOrderStatus. Al terminar
+ * escribe en {@code --report-dir} un informe de texto y el log de intervalos de un segundo
+ * ({@code latency.hlog}), legible con HistogramLogProcessor o HdrHistogram plotter.
+ *
+ * <p>Ejecutar con: {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rate=500"}
+ */
+public final class PaymentOrderLoadGenerator {
+
+  private static final String PAYMENT_ORDERS_PATH = "/payment-initiation/payment-orders";
+  private static final int ID_POOL_CAPACITY = 1 << 17;
+  private static final DateTimeFormatter REPORT_FOLDER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+  private final LoadTestOptions options;
+  private final WebClient client;
+  private final LatencyRecorder recorder = new LatencyRecorder();
+  private final AtomicReferenceArray<UUID> orderIds =
+      new AtomicReferenceArray<>(ID_POOL_CAPACITY);
+  private final AtomicLong createdOrders = new AtomicLong();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+  private volatile long measureStartNanos = Long.MAX_VALUE;
+
+  private PaymentOrderLoadGenerator(LoadTestOptions options, WebClient client) {
+    this.options = options;
+    this.client = client;
+    this.operations = options.mix().keySet().toArray(new Operation[0]);
+    this.cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int index = 0; index < operations.length; index++) {
+      total += options.mix().get(operations[index]);
+      cumulativeWeights[index] = total;
+    }
+  }
+
+  /**
+   * Punto de entrada.
+   *
+   * @param args opciones {@code --nombre=valor}, ver {@link LoadTestOptions#parse}
+   * @throws IOException si no se puede escribir el informe
+   */
+  public static void main(String[] args) throws IOException {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    ConnectionProvider connections = ConnectionProvider.builder("payment-orders-loadtest")
+        .maxConnections(options.maxConnections())
+        .pendingAcquireMaxCount(-1)
+        .pendingAcquireTimeout(options.requestTimeout())
+        .build();
+    try (LoadTestEnvironment environment = LoadTestEnvironment.start(options)) {
+      WebClient client = WebClient.builder()
+          .baseUrl(environment.baseUrl().toString())
+          .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+          .build();
+      Path report = new PaymentOrderLoadGenerator(options, client).run(environment);
+      System.out.println("Load test report written to " + report.toAbsolutePath());
+    } finally {
+      connections.disposeLater().block();
+    }
+  }
+
+  private Path run(LoadTestEnvironment environment) throws IOException {
+    seedOrders();
+    Path folder = options.reportDirectory().resolve(REPORT_FOLDER.format(Instant.now()));
+    Files.createDirectories(folder);
+
+    long warmupNanos = options.warmup().toNanos();
+    long durationNanos = options.duration().toNanos();
+    ScheduledExecutorService intervals = Executors.newSingleThreadScheduledExecutor();
+    try (PrintStream hlog = new PrintStream(
+        Files.newOutputStream(folder.resolve("latency.hlog")), false, StandardCharsets.UTF_8)) {
+      HistogramLogWriter logWriter = new HistogramLogWriter(hlog);
+      logWriter.outputComment("Payment orders load test, response time in microseconds");
+      logWriter.outputLogFormatVersion();
+      logWriter.outputLegend();
+
+      long startNanos = System.nanoTime();
+      measureStartNanos = startNanos + warmupNanos;
+      intervals.schedule(() -> {
+        long startMillis = System.currentTimeMillis();
+        recorder.reset();
+        logWriter.outputStartTime(startMillis);
+        logWriter.setBaseTime(startMillis);
+        intervals.scheduleAtFixedRate(
+            () -> recorder.writeInterval(logWriter), 1, 1, TimeUnit.SECONDS);
+      }, warmupNanos, TimeUnit.NANOSECONDS);
+
+      generate(startNanos, measureStartNanos + durationNanos);
+      awaitInFlight();
+      intervals.shutdown();
+      awaitTermination(intervals);
+      recorder.writeInterval(logWriter);
+    }
+
+    Path report = folder.resolve("report.txt");
+    try (PrintStream out = new PrintStream(
+        Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+      out.printf("Payment orders load test - %s%n", Instant.now());
+      out.printf("target: %s%n", environment.description());
+      out.printf("arrival: %s, rate: %.1f req/s, warmup: %s, duration: %s, connections: %d%n",
+          options.arrival(), options.rate(), options.warmup(), options.duration(),
+          options.maxConnections());
+      out.printf("mix: %s%n", options.mix());
+      out.printf("response = from intended start (coordinated-omission corrected), "
+          + "service = from actual send; errors include timeouts (%s)%n%n",
+          options.requestTimeout());
+      recorder.writeReport(out, options.duration().toNanos() / 1e9);
+    }
+    return report;
+  }
+
+  /**
+   * Lanza las peticiones en su instante previsto. Si el hilo se retrasa (GC, planificador),
+   * las peticiones atrasadas salen de inmediato y su latencia sigue contando desde el
+   * instante previsto.
+   */
+  private void generate(long startNanos, long endNanos) {
+    double intended = startNanos;
+    while (intended < endNanos) {
+      long intendedNanos = (long) intended;
+      long delay;
+      while ((delay = intendedNanos - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(delay);
+      }
+      send(nextOperation(), intendedNanos);
+      intended += nextIntervalNanos();
+    }
+  }
+
+  private double nextIntervalNanos() {
+    if (options.arrival() == Arrival.UNIFORM) {
+      return options.meanIntervalNanos();
+    }
+    return -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * options.meanIntervalNanos();
+  }
+
+  private Operation nextOperation() {
+    int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[operations.length - 1]);
+    for (int index = 0; index < operations.length; index++) {
+      if (pick < cumulativeWeights[index]) {
+        return operations[index];
+      }
+    }
+    throw new IllegalStateException("Unreachable");
+  }
+
+  private void send(Operation operation, long intendedNanos) {
+    inFlight.incrementAndGet();
+    long sentNanos = System.nanoTime();
+    request(operation)
+        .timeout(options.requestTimeout())
+        .subscribe(
+            null,
+            error -> complete(operation, intendedNanos, sentNanos, false),
+            () -> complete(operation, intendedNanos, sentNanos, true));
+  }
+
+  private void complete(Operation operation, long intendedNanos, long sentNanos,
+      boolean success) {
+    if (intendedNanos >= measureStartNanos) {
+      recorder.record(operation, intendedNanos, sentNanos, System.nanoTime(), success);
+    }
+    inFlight.decrementAndGet();
+  }
+
+  private Mono<Void> request(Operation operation) {
+    return switch (operation) {
+      case INITIATE -> initiate().then();
+      case RETRIEVE -> client.get()
+          .uri(PAYMENT_ORDERS_PATH + "/{id}", randomOrderId())
+          .retrieve()
+          .bodyToMono(byte[].class)
+          .then();
+      case RETRIEVE_STATUS -> client.get()
+          .uri(PAYMENT_ORDERS_PATH + "/{id}/status", randomOrderId())
+          .retrieve()
+          .bodyToMono(byte[].class)
+          .then();
+    };
+  }
+
+  private Mono<UUID> initiate() {
+    return client.post()
+        .uri(PAYMENT_ORDERS_PATH)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(initiateBody())
+        .retrieve()
+        .bodyToMono(JsonNode.class)
+        .map(response -> UUID.fromString(response.path("paymentOrderProcedure")
+            .path("paymentOrderProcedureInstanceReference").asText()))
+        .doOnNext(this::addOrderId);
+  }
+
+  private void seedOrders() {
+    Flux.range(0, options.seedOrders())
+        .flatMap(index -> initiate(), 32)
+        .blockLast(options.requestTimeout().multipliedBy(Math.max(1, options.seedOrders())));
+    if (createdOrders.get() == 0) {
+      addOrderId(UUID.randomUUID());
+    }
+  }
+
+  private void addOrderId(UUID orderId) {
+    long index = createdOrders.getAndIncrement();
+    orderIds.set((int) (index % ID_POOL_CAPACITY), orderId);
+  }
+
+  /**
+   * Elige una orden existente al azar entre las últimas creadas; si todavía no hay ninguna,
+   * la consulta responderá 404, que también se mide.
+   */
+  private UUID randomOrderId() {
+    long created = Math.min(createdOrders.get(), ID_POOL_CAPACITY);
+    UUID orderId = created > 0
+        ? orderIds.get(ThreadLocalRandom.current().nextInt((int) created))
+        : null;
+    return orderId != null ? orderId : UUID.randomUUID();
+  }
+
+  private String initiateBody() {
+    int reference = ThreadLocalRandom.current().nextInt(1_000_000);
+    return """
+        {"paymentOrderProcedure":{\
+        "paymentTransactionInitiatorReference":"LOAD-%06d",\
+        "payer":{"payerReference":"Load Test Payer","payerBankReference":"BANK001",\
+        "payerProductInstanceReference":"ES9121000418450200051332"},\
+        "payee":{"payeeReference":"Load Test Payee","payeeBankReference":"BANK002",\
+        "payeeProductInstanceReference":"ES6421000418450200051333"},\
+        "paymentDetails":{"amount":%d.%02d,"currency":"EUR",\
+        "paymentMechanismType":"CreditTransfer"},\
+        "dateInformation":{"dateType":"RequestedExecutionDate","date":"%s"},\
+        "remittanceInformation":"Load test %06d"}}"""
+        .formatted(reference, 1 + reference % 10_000, reference % 100,
+            LocalDate.now().plusDays(1), reference);
+  }
+
+  private void awaitInFlight() {
+    long deadline = System.nanoTime() + options.requestTimeout().toNanos() * 2;
+    while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+  }
+
+  private static void awaitTermination(ScheduledExecutorService executor) {
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderRequest;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentOrderBatchItemReader - Convierte y valida individualmente los elementos de un lote.
+ * La validación se hace aquí, y no con {@code @Valid} sobre el flujo completo, para que un
+ * elemento inválido se rechace sin abortar el resto del lote.
+ */
+@Component
+public class PaymentOrderBatchItemReader {
+
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final PaymentOrderRestMapper mapper;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public PaymentOrderBatchItemReader(
+      ObjectMapper objectMapper,
+      Validator validator,
+      PaymentOrderRestMapper mapper) {
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Lee un elemento del lote.
+   *
+   * @param itemIndex posición del elemento en el lote
+   * @param item elemento JSON sin tipar
+   * @return elemento con su comando o con el motivo de rechazo
+   */
+  public BatchItem read(long itemIndex, JsonNode item) {
+    InitiatePaymentOrderRequest request;
+    try {
+      request = objectMapper.treeToValue(item, InitiatePaymentOrderRequest.class);
+    } catch (JsonProcessingException ex) {
+      return BatchItem.rejected(itemIndex, "Malformed payment order: " + ex.getOriginalMessage());
+    } catch (IllegalArgumentException ex) {
+      return BatchItem.rejected(itemIndex, "Malformed payment order: " + ex.getMessage());
+    }
+    if (request == null) {
+      return BatchItem.rejected(itemIndex, "Malformed payment order: empty item");
+    }
+
+    Set<ConstraintViolation<InitiatePaymentOrderRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      return BatchItem.rejected(itemIndex, violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted(Comparator.naturalOrder())
+          .collect(Collectors.joining(", ")));
+    }
+    return BatchItem.accepted(itemIndex, mapper.toCommand(request));
+  }
+
+  /**
+   * BatchItem - Elemento leído del lote: un comando válido o un motivo de rechazo.
+   */
+  public record BatchItem(
+      long itemIndex,
+      InitiatePaymentOrderCommand command,
+      String rejectionDetail
+  ) {
+
+    static BatchItem accepted(long itemIndex, InitiatePaymentOrderCommand command) {
+      return new BatchItem(itemIndex, command, null);
+    }
+
+    static BatchItem rejected(long itemIndex, String rejectionDetail) {
+      return new BatchItem(itemIndex, null, rejectionDetail);
+    }
+
+    public boolean isAccepted() {
+      return command != null;
+    }
+  }
+}
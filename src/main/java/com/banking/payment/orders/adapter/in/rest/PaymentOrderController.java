@@ -1,19 +1,46 @@
 package com.banking.payment.orders.adapter.in.rest;
 
+import com.banking.payment.orders.adapter.in.rest.PaymentOrderBatchItemReader.BatchItem;
+import com.banking.payment.orders.adapter.in.rest.PaymentOrderExportWriter.Format;
 import com.banking.payment.orders.adapter.in.rest.api.PaymentOrdersApi;
 import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
 import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderRequest;
 import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderResponse;
-import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
-import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderBatchResult;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderSearchResult;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatus;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusTransition;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusTransitionResult;
+import com.banking.payment.orders.adapter.in.rest.model.RetrievePaymentOrdersRequest;
+import com.banking.payment.orders.adapter.in.rest.model.RetrievePaymentOrdersResponse;
+import com.banking.payment.orders.application.metrics.PaymentOrderExportMetrics;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.port.in.ExportPaymentOrdersUseCase;
 import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase;
 import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderStatusUseCase;
 import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderUseCase;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.in.SearchPaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.in.StreamPaymentOrderStatusUseCase;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -24,8 +51,21 @@ public class PaymentOrderController implements PaymentOrdersApi {
 
   private final InitiatePaymentOrderUseCase initiatePaymentOrderUseCase;
   private final RetrievePaymentOrderUseCase retrievePaymentOrderUseCase;
+  private final RetrievePaymentOrdersUseCase retrievePaymentOrdersUseCase;
   private final RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase;
+  private final SearchPaymentOrdersUseCase searchPaymentOrdersUseCase;
+  private final ExportPaymentOrdersUseCase exportPaymentOrdersUseCase;
+  private final TransitionPaymentOrderStatusUseCase transitionPaymentOrderStatusUseCase;
+  private final StreamPaymentOrderStatusUseCase streamPaymentOrderStatusUseCase;
   private final PaymentOrderRestMapper mapper;
+  private final PaymentOrderBatchItemReader batchItemReader;
+  private final PaymentOrderSearchCursorCodec cursorCodec;
+  private final PaymentOrderExportWriter exportWriter;
+  private final PaymentOrderResponseCache responseCache;
+  private final PaymentOrderExportMetrics exportMetrics;
+  private final int batchChunkSize;
+  private final int transitionChunkSize;
+  private final Duration statusStreamHeartbeat;
 
   /**
    * Constructor con inyección de dependencias.
@@ -33,22 +73,50 @@ public class PaymentOrderController implements PaymentOrdersApi {
   public PaymentOrderController(
       InitiatePaymentOrderUseCase initiatePaymentOrderUseCase,
       RetrievePaymentOrderUseCase retrievePaymentOrderUseCase,
+      RetrievePaymentOrdersUseCase retrievePaymentOrdersUseCase,
       RetrievePaymentOrderStatusUseCase retrievePaymentOrderStatusUseCase,
-      PaymentOrderRestMapper mapper) {
+      SearchPaymentOrdersUseCase searchPaymentOrdersUseCase,
+      ExportPaymentOrdersUseCase exportPaymentOrdersUseCase,
+      TransitionPaymentOrderStatusUseCase transitionPaymentOrderStatusUseCase,
+      StreamPaymentOrderStatusUseCase streamPaymentOrderStatusUseCase,
+      PaymentOrderRestMapper mapper,
+      PaymentOrderBatchItemReader batchItemReader,
+      PaymentOrderSearchCursorCodec cursorCodec,
+      PaymentOrderExportWriter exportWriter,
+      PaymentOrderResponseCache responseCache,
+      ObjectProvider<PaymentOrderExportMetrics> exportMetrics,
+      @Value("${payment-orders.batch.chunk-size:500}") int batchChunkSize,
+      @Value("${payment-orders.status-transitions.chunk-size:1000}") int transitionChunkSize,
+      @Value("${payment-orders.status-stream.heartbeat-interval:15s}")
+      Duration statusStreamHeartbeat) {
     this.initiatePaymentOrderUseCase = initiatePaymentOrderUseCase;
     this.retrievePaymentOrderUseCase = retrievePaymentOrderUseCase;
+    this.retrievePaymentOrdersUseCase = retrievePaymentOrdersUseCase;
     this.retrievePaymentOrderStatusUseCase = retrievePaymentOrderStatusUseCase;
+    this.searchPaymentOrdersUseCase = searchPaymentOrdersUseCase;
+    this.exportPaymentOrdersUseCase = exportPaymentOrdersUseCase;
+    this.transitionPaymentOrderStatusUseCase = transitionPaymentOrderStatusUseCase;
+    this.streamPaymentOrderStatusUseCase = streamPaymentOrderStatusUseCase;
     this.mapper = mapper;
+    this.batchItemReader = batchItemReader;
+    this.cursorCodec = cursorCodec;
+    this.exportWriter = exportWriter;
+    this.responseCache = responseCache;
+    this.exportMetrics = exportMetrics.getIfAvailable();
+    this.batchChunkSize = batchChunkSize;
+    this.transitionChunkSize = transitionChunkSize;
+    this.statusStreamHeartbeat = statusStreamHeartbeat;
   }
 
   @Override
   public Mono<ResponseEntity<InitiatePaymentOrderResponse>> initiatePaymentOrder(
       Mono<InitiatePaymentOrderRequest> initiatePaymentOrderRequest,
+      String idempotencyKey,
       ServerWebExchange exchange) {
 
     return initiatePaymentOrderRequest
         .map(mapper::toCommand)
-        .flatMap(initiatePaymentOrderUseCase::initiate)
+        .flatMap(command -> initiatePaymentOrderUseCase.initiate(command, idempotencyKey))
         .map(mapper::toInitiateResponse)
         .map(response -> ResponseEntity
             .status(HttpStatus.CREATED)
@@ -58,24 +126,172 @@ public class PaymentOrderController implements PaymentOrdersApi {
   }
 
   @Override
-  public Mono<ResponseEntity<PaymentOrderResponse>> retrievePaymentOrder(
+  public Mono<ResponseEntity<Flux<PaymentOrderBatchResult>>> initiatePaymentOrderBatch(
+      Flux<JsonNode> items,
+      ServerWebExchange exchange) {
+
+    Flux<PaymentOrderBatchResult> results = items
+        .index((itemIndex, item) -> batchItemReader.read(itemIndex, item))
+        .buffer(batchChunkSize)
+        .concatMap(this::initiateChunk);
+    return Mono.just(ResponseEntity.ok(results));
+  }
+
+  /**
+   * Emite primero los rechazos de validación del bloque y luego el resultado de las órdenes
+   * aceptadas, que el caso de uso devuelve en el mismo orden en que se le entregan.
+   */
+  private Flux<PaymentOrderBatchResult> initiateChunk(List<BatchItem> chunk) {
+    List<BatchItem> accepted = chunk.stream().filter(BatchItem::isAccepted).toList();
+
+    Flux<PaymentOrderBatchResult> rejected = Flux.fromIterable(chunk)
+        .filter(item -> !item.isAccepted())
+        .map(item -> mapper.toBatchRejection(item.itemIndex(), item.rejectionDetail()));
+    Flux<PaymentOrderBatchResult> initiated = Flux.zip(
+        Flux.fromIterable(accepted),
+        initiatePaymentOrderUseCase.initiateBatch(
+            Flux.fromIterable(accepted).map(BatchItem::command)),
+        (item, result) -> mapper.toBatchResult(item.itemIndex(), result));
+    return rejected.concatWith(initiated);
+  }
+
+  /**
+   * Agrupa los cambios en bloques; el caso de uso resuelve cada bloque con una sentencia por
+   * par (origen, destino) y devuelve los resultados en el orden recibido.
+   */
+  @Override
+  public Mono<ResponseEntity<Flux<PaymentOrderStatusTransitionResult>>>
+      transitionPaymentOrderStatuses(
+          Flux<PaymentOrderStatusTransition> transitions,
+          ServerWebExchange exchange) {
+
+    Flux<PaymentOrderStatusTransitionResult> results = transitions
+        .map(mapper::toTransitionCommand)
+        .buffer(transitionChunkSize)
+        .concatMap(transitionPaymentOrderStatusUseCase::transition)
+        .map(mapper::toTransitionResult);
+    return Mono.just(ResponseEntity.ok(results));
+  }
+
+  /**
+   * Emite la página directamente desde el resultado R2DBC; cada elemento lleva su propio
+   * cursor, de modo que el último recibido sirve para pedir la página siguiente.
+   */
+  @Override
+  public Mono<ResponseEntity<Flux<PaymentOrderSearchResult>>> searchPaymentOrders(
+      String payerProductInstanceReference,
+      String payeeProductInstanceReference,
+      PaymentOrderStatus status,
+      OffsetDateTime createdFrom,
+      OffsetDateTime createdTo,
+      Integer limit,
+      String cursor,
+      ServerWebExchange exchange) {
+
+    return Mono.fromCallable(() -> {
+      PaymentOrderSearchCriteria criteria = mapper.toSearchCriteria(
+          payerProductInstanceReference, payeeProductInstanceReference,
+          status, createdFrom, createdTo);
+      PaymentOrderSearchCursor after = cursorCodec.decode(cursor);
+      Flux<PaymentOrderSearchResult> results = searchPaymentOrdersUseCase
+          .search(criteria, after, limit)
+          .map(paymentOrder -> mapper.toSearchResult(
+              paymentOrder, cursorCodec.encode(PaymentOrderSearchCursor.of(paymentOrder))));
+      return ResponseEntity.ok(results);
+    });
+  }
+
+  /**
+   * Escribe cada orden como un DataBuffer independiente: Netty solo pide la siguiente fila
+   * cuando ha podido escribir las anteriores, y esa demanda llega hasta el cursor R2DBC.
+   */
+  @Override
+  public Mono<ResponseEntity<Flux<DataBuffer>>> exportPaymentOrders(
+      OffsetDateTime createdFrom,
+      OffsetDateTime createdTo,
+      PaymentOrderStatus status,
+      ServerWebExchange exchange) {
+
+    return Mono.fromCallable(() -> {
+      Format format = exportWriter.select(exchange.getRequest().getHeaders().getAccept());
+      PaymentOrderSearchCriteria criteria =
+          mapper.toSearchCriteria(null, null, status, createdFrom, createdTo);
+      Flux<byte[]> lines = exportWriter.lines(
+          format, exportPaymentOrdersUseCase.export(criteria));
+      if (exportMetrics != null) {
+        lines = exportMetrics.measure(
+            format.getTag(), lines, exportWriter.headerLines(format), line -> line.length);
+      }
+      DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+      Flux<DataBuffer> body = lines
+          .map(bufferFactory::wrap)
+          .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+      return ResponseEntity.ok()
+          .contentType(format.getMediaType())
+          .body(body);
+    });
+  }
+
+  @Override
+  public Mono<ResponseEntity<DataBuffer>> retrievePaymentOrder(
       UUID paymentOrderId,
       ServerWebExchange exchange) {
 
+    DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
     return Mono.just(paymentOrderId)
         .flatMap(retrievePaymentOrderUseCase::retrieve)
-        .map(mapper::toPaymentOrderResponse)
+        .map(paymentOrder -> responseCache.paymentOrder(paymentOrder, bufferFactory))
+        .map(json -> ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json));
+  }
+
+  @Override
+  public Mono<ResponseEntity<RetrievePaymentOrdersResponse>> retrievePaymentOrders(
+      Mono<RetrievePaymentOrdersRequest> retrievePaymentOrdersRequest,
+      ServerWebExchange exchange) {
+
+    return retrievePaymentOrdersRequest
+        .flatMap(request -> retrievePaymentOrdersUseCase.retrieveAll(request.getPaymentOrderIds()))
+        .map(mapper::toRetrievePaymentOrdersResponse)
         .map(ResponseEntity::ok);
   }
 
   @Override
-  public Mono<ResponseEntity<PaymentOrderStatusResponse>> retrievePaymentOrderStatus(
+  public Mono<ResponseEntity<DataBuffer>> retrievePaymentOrderStatus(
       UUID paymentOrderId,
       ServerWebExchange exchange) {
 
+    DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
     return Mono.just(paymentOrderId)
         .flatMap(retrievePaymentOrderStatusUseCase::retrieveStatus)
-        .map(mapper::toStatusResponse)
-        .map(ResponseEntity::ok);
+        .map(status -> responseCache.status(status, bufferFactory))
+        .map(json -> ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json));
+  }
+
+  /**
+   * Emite un evento "status" por cambio de estado, con la fecha de actualización como id, y
+   * un comentario de keepalive cada intervalo para que los proxies no cierren la conexión
+   * inactiva. El flujo termina cuando la orden alcanza un estado terminal.
+   */
+  @Override
+  public Mono<ResponseEntity<Flux<ServerSentEvent>>> streamPaymentOrderStatus(
+      UUID paymentOrderId,
+      ServerWebExchange exchange) {
+
+    Flux<ServerSentEvent<?>> statuses = streamPaymentOrderStatusUseCase
+        .streamStatus(paymentOrderId)
+        .map(status -> ServerSentEvent.builder(mapper.toStatusResponse(status))
+            .event("status")
+            .id(status.lastUpdateDateTime().toString())
+            .build());
+    Flux<ServerSentEvent> events = statuses
+        .publish(shared -> Flux.merge(shared, Flux.interval(statusStreamHeartbeat)
+            .map(tick -> ServerSentEvent.builder().comment("keepalive").build())
+            .takeUntilOther(shared.then())))
+        .cast(ServerSentEvent.class);
+    return Mono.just(ResponseEntity.ok(events));
   }
 }
@@ -0,0 +1,174 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderExportWriter - Codifica cada orden exportada como una línea NDJSON o CSV.
+ */
+@Component
+public class PaymentOrderExportWriter {
+
+  /**
+   * Formato de exportación y su tipo de contenido.
+   */
+  public enum Format {
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String tag;
+    private final MediaType mediaType;
+
+    Format(String tag, MediaType mediaType) {
+      this.tag = tag;
+      this.mediaType = mediaType;
+    }
+
+    public String getTag() {
+      return tag;
+    }
+
+    public MediaType getMediaType() {
+      return mediaType;
+    }
+  }
+
+  static final String CSV_HEADER = String.join(",",
+      "paymentOrderProcedureInstanceReference", "paymentOrderProcedureInstanceStatus",
+      "paymentTransactionInitiatorReference",
+      "payerReference", "payerBankReference", "payerProductInstanceReference",
+      "payeeReference", "payeeBankReference", "payeeProductInstanceReference",
+      "amount", "currency", "paymentMechanismType", "dateType", "date",
+      "remittanceInformation", "createdDateTime", "lastUpdateDateTime") + "\n";
+
+  private final ObjectMapper objectMapper;
+  private final PaymentOrderRestMapper mapper;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public PaymentOrderExportWriter(ObjectMapper objectMapper, PaymentOrderRestMapper mapper) {
+    this.objectMapper = objectMapper;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Elige el formato según la cabecera Accept: CSV solo si se pide text/csv antes que NDJSON.
+   *
+   * @param accept tipos aceptados, ordenados por preferencia
+   * @return formato de exportación
+   */
+  public Format select(Iterable<MediaType> accept) {
+    for (MediaType mediaType : accept) {
+      if (mediaType.isCompatibleWith(Format.NDJSON.mediaType)) {
+        return Format.NDJSON;
+      }
+      if (mediaType.isCompatibleWith(Format.CSV.mediaType)) {
+        return Format.CSV;
+      }
+    }
+    return Format.NDJSON;
+  }
+
+  /**
+   * Codifica las órdenes como líneas del formato indicado. En CSV la cabecera se emite
+   * cuando llega la primera señal de las órdenes, de modo que un error de validación o de
+   * consulta se propaga antes de escribir nada en la respuesta.
+   *
+   * @param format formato de exportación
+   * @param paymentOrders órdenes exportadas
+   * @return líneas codificadas en UTF-8, terminadas en salto de línea
+   */
+  public Flux<byte[]> lines(Format format, Flux<PaymentOrderProcedure> paymentOrders) {
+    Flux<byte[]> rows = paymentOrders.map(paymentOrder -> write(format, paymentOrder));
+    if (format != Format.CSV) {
+      return rows;
+    }
+    return rows.switchOnFirst((first, lines) -> first.isOnError()
+        ? lines
+        : Flux.concat(Mono.fromSupplier(() -> CSV_HEADER.getBytes(StandardCharsets.UTF_8)), lines));
+  }
+
+  /**
+   * Número de líneas de cabecera que emite {@link #lines} en el formato indicado.
+   *
+   * @param format formato de exportación
+   * @return líneas que no corresponden a órdenes
+   */
+  public int headerLines(Format format) {
+    return format == Format.CSV ? 1 : 0;
+  }
+
+  byte[] write(Format format, PaymentOrderProcedure paymentOrder) {
+    return format == Format.CSV ? writeCsv(paymentOrder) : writeNdjson(paymentOrder);
+  }
+
+  private byte[] writeNdjson(PaymentOrderProcedure paymentOrder) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(mapper.toPaymentOrderResponse(paymentOrder));
+      byte[] line = Arrays.copyOf(json, json.length + 1);
+      line[json.length] = '\n';
+      return line;
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private byte[] writeCsv(PaymentOrderProcedure paymentOrder) {
+    StringBuilder line = new StringBuilder(256);
+    appendCsv(line, paymentOrder.getPaymentOrderProcedureInstanceReference());
+    appendCsv(line, paymentOrder.getPaymentOrderProcedureInstanceStatus().getValue());
+    appendCsv(line, paymentOrder.getPaymentTransactionInitiatorReference());
+    appendCsv(line, paymentOrder.getPayer().payerReference());
+    appendCsv(line, paymentOrder.getPayer().payerBankReference());
+    appendCsv(line, paymentOrder.getPayer().payerProductInstanceReference());
+    appendCsv(line, paymentOrder.getPayee().payeeReference());
+    appendCsv(line, paymentOrder.getPayee().payeeBankReference());
+    appendCsv(line, paymentOrder.getPayee().payeeProductInstanceReference());
+    appendCsv(line, paymentOrder.getPaymentDetails().amount().toPlainString());
+    appendCsv(line, paymentOrder.getPaymentDetails().currency());
+    appendCsv(line, paymentOrder.getPaymentDetails().paymentMechanismType());
+    appendCsv(line, paymentOrder.getDateInformation().dateType());
+    appendCsv(line, paymentOrder.getDateInformation().date());
+    appendCsv(line, paymentOrder.getRemittanceInformation());
+    appendCsv(line, paymentOrder.getCreatedDateTime());
+    appendCsv(line, paymentOrder.getLastUpdateDateTime());
+    line.setCharAt(line.length() - 1, '\n');
+    return line.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Añade un campo seguido de coma, entre comillas (RFC 4180) si contiene comas, comillas o
+   * saltos de línea.
+   */
+  static void appendCsv(StringBuilder line, Object value) {
+    if (value != null) {
+      String text = value.toString();
+      if (needsQuoting(text)) {
+        line.append('"').append(text.replace("\"", "\"\"")).append('"');
+      } else {
+        line.append(text);
+      }
+    }
+    line.append(',');
+  }
+
+  private static boolean needsQuoting(String text) {
+    for (int index = 0; index < text.length(); index++) {
+      char character = text.charAt(index);
+      if (character == ',' || character == '"' || character == '\n' || character == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,392 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Money;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentOrderJsonWriter - Escribe en UTF-8 el JSON de PaymentOrderResponse y
+ * PaymentOrderStatusResponse directamente desde el dominio, sin construir los DTO generados
+ * ni pasar por Jackson.
+ *
+ * <p>La salida es byte a byte la misma que produce el ObjectMapper de la aplicación con los
+ * DTO de {@code PaymentOrderRestMapper}: campos en el orden de declaración, nulos explícitos,
+ * el importe con la escala de su moneda, fechas en ISO-8601 y el mismo escape de
+ * cadenas (comillas, barra invertida, controles y surrogates como {@code \\uXXXX}; el resto en
+ * UTF-8 sin escapar).
+ * Los nombres de campo van precodificados y UUID, importes, fechas y horas se escriben dígito a
+ * dígito sobre un buffer reutilizado por hilo; solo se copia el resultado final.
+ */
+@Component
+public class PaymentOrderJsonWriter {
+
+  private static final String PAYMENT_ORDERS_PATH = "/payment-initiation/payment-orders/";
+  private static final byte[] HEX_LOWER = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NULL = ascii("null");
+  private static final byte[] ORDER_REFERENCE =
+      ascii("{\"paymentOrderProcedure\":{\"paymentOrderProcedureInstanceReference\":");
+  private static final byte[] INITIATOR_REFERENCE =
+      ascii(",\"paymentTransactionInitiatorReference\":");
+  private static final byte[] PAYER_REFERENCE = ascii(",\"payer\":{\"payerReference\":");
+  private static final byte[] PAYER_BANK_REFERENCE = ascii(",\"payerBankReference\":");
+  private static final byte[] PAYER_PRODUCT_REFERENCE =
+      ascii(",\"payerProductInstanceReference\":");
+  private static final byte[] PAYEE_REFERENCE = ascii("},\"payee\":{\"payeeReference\":");
+  private static final byte[] PAYEE_BANK_REFERENCE = ascii(",\"payeeBankReference\":");
+  private static final byte[] PAYEE_PRODUCT_REFERENCE =
+      ascii(",\"payeeProductInstanceReference\":");
+  private static final byte[] AMOUNT = ascii("},\"paymentDetails\":{\"amount\":");
+  private static final byte[] CURRENCY = ascii(",\"currency\":");
+  private static final byte[] PAYMENT_MECHANISM_TYPE = ascii(",\"paymentMechanismType\":");
+  private static final byte[] DATE_TYPE = ascii("},\"dateInformation\":{\"dateType\":");
+  private static final byte[] DATE = ascii(",\"date\":");
+  private static final byte[] REMITTANCE_INFORMATION = ascii("},\"remittanceInformation\":");
+  private static final byte[] STATUS = ascii(",\"paymentOrderProcedureInstanceStatus\":");
+  private static final byte[] CREATED_DATE_TIME = ascii("},\"_metadata\":{\"createdDateTime\":");
+  private static final byte[] LAST_UPDATE_DATE_TIME = ascii(",\"lastUpdateDateTime\":");
+  private static final byte[] SELF_HREF =
+      ascii("},\"_links\":{\"self\":{\"href\":\"" + PAYMENT_ORDERS_PATH);
+  private static final byte[] STATUS_HREF =
+      ascii("\"},\"status\":{\"href\":\"" + PAYMENT_ORDERS_PATH);
+  private static final byte[] LINKS_END = ascii("/status\"}}}");
+  private static final byte[] STATUS_ONLY_LAST_UPDATE =
+      ascii("},\"_metadata\":{\"lastUpdateDateTime\":");
+  private static final byte[] OBJECTS_END = ascii("}}");
+
+  private static final ThreadLocal<Buffer> SCRATCH = ThreadLocal.withInitial(Buffer::new);
+
+  /**
+   * Escribe el PaymentOrderResponse de la orden.
+   *
+   * @param paymentOrder orden de pago
+   * @return JSON en UTF-8
+   */
+  public byte[] writePaymentOrder(PaymentOrderProcedure paymentOrder) {
+    UUID paymentOrderId = paymentOrder.getPaymentOrderProcedureInstanceReference();
+    Payer payer = paymentOrder.getPayer();
+    Payee payee = paymentOrder.getPayee();
+    PaymentDetails paymentDetails = paymentOrder.getPaymentDetails();
+    DateInformation dateInformation = paymentOrder.getDateInformation();
+
+    Buffer out = SCRATCH.get().reset();
+    out.raw(ORDER_REFERENCE).uuidString(paymentOrderId);
+    out.raw(INITIATOR_REFERENCE).string(paymentOrder.getPaymentTransactionInitiatorReference());
+    out.raw(PAYER_REFERENCE).string(payer.payerReference());
+    out.raw(PAYER_BANK_REFERENCE).string(payer.payerBankReference());
+    out.raw(PAYER_PRODUCT_REFERENCE).string(payer.payerProductInstanceReference());
+    out.raw(PAYEE_REFERENCE).string(payee.payeeReference());
+    out.raw(PAYEE_BANK_REFERENCE).string(payee.payeeBankReference());
+    out.raw(PAYEE_PRODUCT_REFERENCE).string(payee.payeeProductInstanceReference());
+    out.raw(AMOUNT).money(paymentDetails.amount());
+    out.raw(CURRENCY).string(paymentDetails.currency());
+    out.raw(PAYMENT_MECHANISM_TYPE).string(paymentDetails.paymentMechanismType());
+    out.raw(DATE_TYPE).string(dateInformation.dateType());
+    out.raw(DATE).date(dateInformation.date());
+    out.raw(REMITTANCE_INFORMATION).string(paymentOrder.getRemittanceInformation());
+    out.raw(STATUS).string(paymentOrder.getPaymentOrderProcedureInstanceStatus().getValue());
+    out.raw(CREATED_DATE_TIME).dateTime(paymentOrder.getCreatedDateTime());
+    out.raw(LAST_UPDATE_DATE_TIME).dateTime(paymentOrder.getLastUpdateDateTime());
+    out.raw(SELF_HREF).uuid(paymentOrderId);
+    out.raw(STATUS_HREF).uuid(paymentOrderId).raw(LINKS_END);
+    return out.toByteArray();
+  }
+
+  /**
+   * Escribe el PaymentOrderStatusResponse del estado.
+   *
+   * @param snapshot estado de la orden
+   * @return JSON en UTF-8
+   */
+  public byte[] writeStatus(PaymentOrderStatusSnapshot snapshot) {
+    Buffer out = SCRATCH.get().reset();
+    out.raw(ORDER_REFERENCE).uuidString(snapshot.paymentOrderProcedureInstanceReference());
+    out.raw(STATUS).string(snapshot.paymentOrderProcedureInstanceStatus().getValue());
+    out.raw(STATUS_ONLY_LAST_UPDATE).dateTime(snapshot.lastUpdateDateTime());
+    out.raw(OBJECTS_END);
+    return out.toByteArray();
+  }
+
+  private static byte[] ascii(String text) {
+    return text.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Array de bytes que crece según se escribe; se reutiliza entre llamadas del mismo hilo.
+   */
+  private static final class Buffer {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private Buffer reset() {
+      if (bytes.length > MAX_RETAINED_CAPACITY) {
+        bytes = new byte[INITIAL_CAPACITY];
+      }
+      size = 0;
+      return this;
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensure(int additional) {
+      if (size + additional > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+      }
+    }
+
+    private Buffer raw(byte[] fragment) {
+      ensure(fragment.length);
+      System.arraycopy(fragment, 0, bytes, size, fragment.length);
+      size += fragment.length;
+      return this;
+    }
+
+    private void put(int value) {
+      bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Texto que se sabe ASCII y sin caracteres a escapar, como los números.
+     */
+    private void ascii(String text) {
+      int length = text.length();
+      ensure(length);
+      for (int index = 0; index < length; index++) {
+        bytes[size++] = (byte) text.charAt(index);
+      }
+    }
+
+    private void string(String text) {
+      if (text == null) {
+        raw(NULL);
+        return;
+      }
+      int length = text.length();
+      // Peor caso: cada carácter como \\u00XX (6 bytes) y las comillas.
+      ensure(length * 6 + 2);
+      put('"');
+      for (int index = 0; index < length; index++) {
+        char character = text.charAt(index);
+        if (character < 0x80) {
+          escapeAscii(character);
+        } else if (character < 0x800) {
+          put(0xC0 | (character >> 6));
+          put(0x80 | (character & 0x3F));
+        } else if (Character.isSurrogate(character)) {
+          unicodeEscape(character);
+        } else {
+          put(0xE0 | (character >> 12));
+          put(0x80 | ((character >> 6) & 0x3F));
+          put(0x80 | (character & 0x3F));
+        }
+      }
+      put('"');
+    }
+
+    private void escapeAscii(char character) {
+      if (character >= 0x20 && character != '"' && character != '\\') {
+        put(character);
+        return;
+      }
+      put('\\');
+      switch (character) {
+        case '"', '\\' -> put(character);
+        case '\b' -> put('b');
+        case '\t' -> put('t');
+        case '\n' -> put('n');
+        case '\f' -> put('f');
+        case '\r' -> put('r');
+        default -> {
+          size--;
+          unicodeEscape(character);
+        }
+      }
+    }
+
+    private void unicodeEscape(char character) {
+      put('\\');
+      put('u');
+      put(HEX_UPPER[character >> 12]);
+      put(HEX_UPPER[(character >> 8) & 0xF]);
+      put(HEX_UPPER[(character >> 4) & 0xF]);
+      put(HEX_UPPER[character & 0xF]);
+    }
+
+    private Buffer uuidString(UUID uuid) {
+      ensure(38);
+      put('"');
+      uuid(uuid);
+      put('"');
+      return this;
+    }
+
+    private Buffer uuid(UUID uuid) {
+      ensure(36);
+      long msb = uuid.getMostSignificantBits();
+      hex(msb >>> 32, 8);
+      put('-');
+      hex(msb >>> 16, 4);
+      put('-');
+      hex(msb, 4);
+      put('-');
+      long lsb = uuid.getLeastSignificantBits();
+      hex(lsb >>> 48, 4);
+      put('-');
+      hex(lsb, 12);
+      return this;
+    }
+
+    private void hex(long value, int digits) {
+      for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+        put(HEX_LOWER[(int) (value >>> shift) & 0xF]);
+      }
+    }
+
+    /**
+     * LocalDate como {@code "yyyy-MM-dd"}; los años fuera de 0-9999 van por el formateador
+     * ISO, que añade el signo igual que Jackson.
+     */
+    private void date(LocalDate date) {
+      if (date == null) {
+        raw(NULL);
+        return;
+      }
+      if (date.getYear() < 0 || date.getYear() > 9999) {
+        quoted(date.toString());
+        return;
+      }
+      ensure(12);
+      put('"');
+      localDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+      put('"');
+    }
+
+    /**
+     * OffsetDateTime como {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}: segundos siempre,
+     * fracción sin ceros a la derecha y offset {@code Z} o {@code +HH:MM}. Los casos raros
+     * (años fuera de 0-9999, offsets con segundos) van por el propio formateador.
+     */
+    private void dateTime(OffsetDateTime dateTime) {
+      if (dateTime == null) {
+        raw(NULL);
+        return;
+      }
+      int year = dateTime.getYear();
+      int offsetSeconds = dateTime.getOffset().getTotalSeconds();
+      if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+        quoted(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime));
+        return;
+      }
+      ensure(40);
+      put('"');
+      localDate(year, dateTime.getMonthValue(), dateTime.getDayOfMonth());
+      put('T');
+      twoDigits(dateTime.getHour());
+      put(':');
+      twoDigits(dateTime.getMinute());
+      put(':');
+      twoDigits(dateTime.getSecond());
+      fraction(dateTime.getNano());
+      offset(offsetSeconds);
+      put('"');
+    }
+
+    /**
+     * Importe como el BigDecimal de la respuesta: unidades menores con la escala de la moneda,
+     * escritas cifra a cifra desde el long.
+     */
+    private void money(Money amount) {
+      long units = amount.minorUnits();
+      int scale = amount.fractionDigits();
+      int digits = 1;
+      for (long rest = units / 10; rest != 0; rest /= 10) {
+        digits++;
+      }
+      digits = Math.max(digits, scale + 1);
+      ensure(digits + 2);
+      if (units < 0) {
+        put('-');
+      }
+      size += scale > 0 ? digits + 1 : digits;
+      int position = size;
+      for (int index = 0; index < digits; index++) {
+        if (index == scale && scale > 0) {
+          bytes[--position] = '.';
+        }
+        bytes[--position] = (byte) ('0' + Math.abs(units % 10));
+        units /= 10;
+      }
+    }
+
+    private void quoted(String text) {
+      ensure(text.length() + 2);
+      put('"');
+      ascii(text);
+      put('"');
+    }
+
+    private void localDate(int year, int month, int day) {
+      put('0' + year / 1000);
+      put('0' + year / 100 % 10);
+      put('0' + year / 10 % 10);
+      put('0' + year % 10);
+      put('-');
+      twoDigits(month);
+      put('-');
+      twoDigits(day);
+    }
+
+    private void twoDigits(int value) {
+      put('0' + value / 10);
+      put('0' + value % 10);
+    }
+
+    private void fraction(int nanos) {
+      if (nanos == 0) {
+        return;
+      }
+      int digits = 9;
+      while (nanos % 10 == 0) {
+        nanos /= 10;
+        digits--;
+      }
+      put('.');
+      int divisor = 1;
+      for (int index = 1; index < digits; index++) {
+        divisor *= 10;
+      }
+      for (; divisor > 0; divisor /= 10) {
+        put('0' + nanos / divisor % 10);
+      }
+    }
+
+    private void offset(int totalSeconds) {
+      if (totalSeconds == 0) {
+        put('Z');
+        return;
+      }
+      int absolute = Math.abs(totalSeconds);
+      put(totalSeconds < 0 ? '-' : '+');
+      twoDigits(absolute / 3600);
+      put(':');
+      twoDigits(absolute / 60 % 60);
+    }
+  }
+}
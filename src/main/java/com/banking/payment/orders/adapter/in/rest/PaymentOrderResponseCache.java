@@ -0,0 +1,112 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * PaymentOrderResponseCache - Cache del JSON ya codificado de las respuestas GET de una orden
+ * y de su estado.
+ *
+ * <p>La clave incluye la fecha de última actualización (y el estado), de modo que cualquier
+ * cambio de la orden produce otra clave y nunca se sirve un JSON desactualizado; las entradas
+ * antiguas salen por tamaño. El límite se expresa en bytes de JSON. Las respuestas son
+ * buffers de solo lectura sobre los bytes guardados, sin copiarlos: cualquier servidor los
+ * escribe tal cual, sin pasar por Jackson.
+ */
+@Component
+public class PaymentOrderResponseCache {
+
+  static final String CACHE_NAME = "payment-order-responses";
+
+  private final PaymentOrderJsonWriter jsonWriter;
+  private final Cache<Key, byte[]> cache;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public PaymentOrderResponseCache(
+      PaymentOrderJsonWriter jsonWriter,
+      MeterRegistry meterRegistry,
+      @Value("${payment-orders.response-cache.enabled:true}") boolean enabled,
+      @Value("${payment-orders.response-cache.maximum-weight:32MB}") DataSize maximumWeight) {
+    this.jsonWriter = jsonWriter;
+    if (enabled) {
+      this.cache = Caffeine.newBuilder()
+          .maximumWeight(maximumWeight.toBytes())
+          .<Key, byte[]>weigher((key, json) -> json.length)
+          .recordStats()
+          .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    } else {
+      this.cache = null;
+    }
+  }
+
+  /**
+   * JSON de la PaymentOrderResponse de una orden.
+   *
+   * @param paymentOrder orden de pago
+   * @param bufferFactory factoría de buffers de la respuesta
+   * @return buffer de solo lectura con el JSON ya codificado
+   */
+  public DataBuffer paymentOrder(
+      PaymentOrderProcedure paymentOrder, DataBufferFactory bufferFactory) {
+    Key key = new Key(Kind.PAYMENT_ORDER,
+        paymentOrder.getPaymentOrderProcedureInstanceReference(),
+        paymentOrder.getPaymentOrderProcedureInstanceStatus(),
+        paymentOrder.getLastUpdateDateTime());
+    return wrap(encode(key, paymentOrder, jsonWriter::writePaymentOrder), bufferFactory);
+  }
+
+  /**
+   * JSON de la PaymentOrderStatusResponse de un estado.
+   *
+   * @param snapshot estado de la orden
+   * @param bufferFactory factoría de buffers de la respuesta
+   * @return buffer de solo lectura con el JSON ya codificado
+   */
+  public DataBuffer status(
+      PaymentOrderStatusSnapshot snapshot, DataBufferFactory bufferFactory) {
+    Key key = new Key(Kind.STATUS, snapshot.paymentOrderProcedureInstanceReference(),
+        snapshot.paymentOrderProcedureInstanceStatus(), snapshot.lastUpdateDateTime());
+    return wrap(encode(key, snapshot, jsonWriter::writeStatus), bufferFactory);
+  }
+
+  private static DataBuffer wrap(byte[] json, DataBufferFactory bufferFactory) {
+    return bufferFactory.wrap(ByteBuffer.wrap(json).asReadOnlyBuffer());
+  }
+
+  private <T> byte[] encode(Key key, T value, Function<T, byte[]> writer) {
+    if (cache == null || key.lastUpdateDateTime() == null) {
+      return writer.apply(value);
+    }
+    return cache.get(key, ignored -> writer.apply(value));
+  }
+
+  long estimatedSize() {
+    return cache != null ? cache.estimatedSize() : 0;
+  }
+
+  private enum Kind {
+    PAYMENT_ORDER,
+    STATUS
+  }
+
+  private record Key(Kind kind, UUID paymentOrderId, PaymentOrderStatus status,
+      OffsetDateTime lastUpdateDateTime) {
+  }
+}
@@ -0,0 +1,78 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentOrderSearchCursorCodec - Codifica el cursor de búsqueda como texto opaco.
+ * El formato es Base64 URL sin relleno de: segundos epoch (8 bytes), nanosegundos
+ * (4 bytes) y el UUID de la orden (16 bytes).
+ */
+@Component
+public class PaymentOrderSearchCursorCodec {
+
+  private static final int CURSOR_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  /**
+   * Codifica un cursor.
+   *
+   * @param cursor cursor de búsqueda
+   * @return cursor opaco
+   */
+  public String encode(PaymentOrderSearchCursor cursor) {
+    Instant createdDateTime = cursor.createdDateTime().toInstant();
+    ByteBuffer buffer = ByteBuffer.allocate(CURSOR_BYTES)
+        .putLong(createdDateTime.getEpochSecond())
+        .putInt(createdDateTime.getNano())
+        .putLong(cursor.id().getMostSignificantBits())
+        .putLong(cursor.id().getLeastSignificantBits());
+    return ENCODER.encodeToString(buffer.array());
+  }
+
+  /**
+   * Decodifica un cursor opaco.
+   *
+   * @param cursor cursor opaco, puede ser nulo
+   * @return cursor de búsqueda, o nulo si no se envió cursor
+   * @throws InvalidSearchCriteriaException si el cursor no es válido
+   */
+  public PaymentOrderSearchCursor decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+    byte[] bytes;
+    try {
+      bytes = DECODER.decode(cursor);
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidSearchCriteriaException("cursor is not valid", ex);
+    }
+    if (bytes.length != CURSOR_BYTES) {
+      throw new InvalidSearchCriteriaException("cursor is not valid");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    long epochSecond = buffer.getLong();
+    int nanos = buffer.getInt();
+    if (nanos < 0 || nanos > 999_999_999) {
+      throw new InvalidSearchCriteriaException("cursor is not valid");
+    }
+    try {
+      OffsetDateTime createdDateTime = OffsetDateTime.ofInstant(
+          Instant.ofEpochSecond(epochSecond, nanos), ZoneOffset.UTC);
+      return new PaymentOrderSearchCursor(
+          createdDateTime, new UUID(buffer.getLong(), buffer.getLong()));
+    } catch (DateTimeException ex) {
+      throw new InvalidSearchCriteriaException("cursor is not valid", ex);
+    }
+  }
+}
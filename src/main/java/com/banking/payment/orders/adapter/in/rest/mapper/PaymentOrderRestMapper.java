@@ -1,6 +1,7 @@
 package com.banking.payment.orders.adapter.in.rest.mapper;
 
 import com.banking.payment.orders.adapter.in.rest.model.DateInformation.DateTypeEnum;
+import com.banking.payment.orders.adapter.in.rest.model.ErrorResponse;
 import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderRequest;
 import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderResponse;
 import com.banking.payment.orders.adapter.in.rest.model.Links;
@@ -8,17 +9,32 @@ import com.banking.payment.orders.adapter.in.rest.model.LinksSelf;
 import com.banking.payment.orders.adapter.in.rest.model.LinksStatus;
 import com.banking.payment.orders.adapter.in.rest.model.Metadata;
 import com.banking.payment.orders.adapter.in.rest.model.MetadataFull;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderBatchResult;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderBatchResult.OutcomeEnum;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderProcedureFull;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderProcedureResponse;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderSearchResult;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatus;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponseMetadata;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponsePaymentOrderProcedure;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusTransition;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusTransitionResult;
+import com.banking.payment.orders.adapter.in.rest.model.RetrievePaymentOrdersResponse;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
 import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
-import java.math.BigDecimal;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderResult;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrdersUseCase.RetrievedPaymentOrders;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase.StatusTransitionCommand;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase.StatusTransitionResult;
 import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 /**
@@ -45,7 +61,7 @@ public class PaymentOrderRestMapper {
         payee.getPayeeReference(),
         payee.getPayeeBankReference(),
         payee.getPayeeProductInstanceReference(),
-        BigDecimal.valueOf(paymentDetails.getAmount()),
+        paymentDetails.getAmount(),
         paymentDetails.getCurrency().getValue(),
         paymentDetails.getPaymentMechanismType() != null
             ? paymentDetails.getPaymentMechanismType().getValue() : null,
@@ -70,16 +86,7 @@ public class PaymentOrderRestMapper {
     Metadata metadata = new Metadata();
     metadata.setCreatedDateTime(domain.getCreatedDateTime());
 
-    Links links = new Links();
-    LinksSelf self = new LinksSelf();
-    self.setHref(URI.create("/payment-initiation/payment-orders/"
-        + domain.getPaymentOrderProcedureInstanceReference()));
-    links.setSelf(self);
-
-    LinksStatus status = new LinksStatus();
-    status.setHref(URI.create("/payment-initiation/payment-orders/"
-        + domain.getPaymentOrderProcedureInstanceReference() + "/status"));
-    links.setStatus(status);
+    Links links = toLinks(domain.getPaymentOrderProcedureInstanceReference());
 
     response.setPaymentOrderProcedure(procedureResponse);
     response.setMetadata(metadata);
@@ -88,6 +95,58 @@ public class PaymentOrderRestMapper {
     return response;
   }
 
+  /**
+   * Convierte el resultado de iniciar una orden de un lote a PaymentOrderBatchResult.
+   */
+  public PaymentOrderBatchResult toBatchResult(long itemIndex, InitiatePaymentOrderResult result) {
+    if (!result.isSuccess()) {
+      return toBatchRejection(itemIndex, toBatchError(result.error()));
+    }
+    PaymentOrderProcedure domain = result.paymentOrder();
+
+    PaymentOrderProcedureResponse procedureResponse = new PaymentOrderProcedureResponse();
+    procedureResponse.setPaymentOrderProcedureInstanceReference(
+        domain.getPaymentOrderProcedureInstanceReference());
+    procedureResponse.setPaymentOrderProcedureInstanceStatus(
+        PaymentOrderStatus.fromValue(domain.getPaymentOrderProcedureInstanceStatus().getValue()));
+
+    PaymentOrderBatchResult batchResult =
+        new PaymentOrderBatchResult(itemIndex, OutcomeEnum.CREATED);
+    batchResult.setPaymentOrderProcedure(procedureResponse);
+    batchResult.setLinks(toLinks(domain.getPaymentOrderProcedureInstanceReference()));
+    return batchResult;
+  }
+
+  /**
+   * Construye el resultado de un elemento de lote rechazado por validación.
+   */
+  public PaymentOrderBatchResult toBatchRejection(long itemIndex, String detail) {
+    ErrorResponse error = new ErrorResponse(
+        URI.create("https://api.bank.com/errors/validation-error"), "Validation Error", 400);
+    error.setDetail(detail);
+    return toBatchRejection(itemIndex, error);
+  }
+
+  private PaymentOrderBatchResult toBatchRejection(long itemIndex, ErrorResponse error) {
+    PaymentOrderBatchResult batchResult =
+        new PaymentOrderBatchResult(itemIndex, OutcomeEnum.REJECTED);
+    batchResult.setError(error);
+    return batchResult;
+  }
+
+  private ErrorResponse toBatchError(RuntimeException ex) {
+    if (ex instanceof InvalidPaymentOrderException) {
+      return new ErrorResponse(URI.create("https://api.bank.com/errors/validation-error"),
+          "Invalid Payment Order", 400).detail(ex.getMessage());
+    }
+    if (ex instanceof PaymentOrderConflictException) {
+      return new ErrorResponse(URI.create("https://api.bank.com/errors/conflict"),
+          "Payment Order Conflict", 409).detail(ex.getMessage());
+    }
+    return new ErrorResponse(URI.create("https://api.bank.com/errors/internal-error"),
+        "Internal Server Error", 500).detail("An unexpected error occurred");
+  }
+
   /**
    * Convierte PaymentOrderProcedure a PaymentOrderResponse.
    */
@@ -119,7 +178,7 @@ public class PaymentOrderRestMapper {
     // Payment Details
     com.banking.payment.orders.adapter.in.rest.model.PaymentDetails paymentDetailsDto =
         new com.banking.payment.orders.adapter.in.rest.model.PaymentDetails();
-    paymentDetailsDto.setAmount(domain.getPaymentDetails().amount().doubleValue());
+    paymentDetailsDto.setAmount(domain.getPaymentDetails().amount().toBigDecimal());
     paymentDetailsDto.setCurrency(
         com.banking.payment.orders.adapter.in.rest.model.PaymentDetails.CurrencyEnum.fromValue(
             domain.getPaymentDetails().currency()));
@@ -146,16 +205,7 @@ public class PaymentOrderRestMapper {
     metadata.setCreatedDateTime(domain.getCreatedDateTime());
     metadata.setLastUpdateDateTime(domain.getLastUpdateDateTime());
 
-    Links links = new Links();
-    LinksSelf self = new LinksSelf();
-    self.setHref(URI.create("/payment-initiation/payment-orders/"
-        + domain.getPaymentOrderProcedureInstanceReference()));
-    links.setSelf(self);
-
-    LinksStatus status = new LinksStatus();
-    status.setHref(URI.create("/payment-initiation/payment-orders/"
-        + domain.getPaymentOrderProcedureInstanceReference() + "/status"));
-    links.setStatus(status);
+    Links links = toLinks(domain.getPaymentOrderProcedureInstanceReference());
 
     response.setPaymentOrderProcedure(procedureFull);
     response.setMetadata(metadata);
@@ -164,25 +214,122 @@ public class PaymentOrderRestMapper {
     return response;
   }
 
+  /**
+   * Convierte los parámetros de búsqueda REST a criterios de dominio.
+   */
+  public PaymentOrderSearchCriteria toSearchCriteria(
+      String payerProductInstanceReference,
+      String payeeProductInstanceReference,
+      PaymentOrderStatus status,
+      OffsetDateTime createdFrom,
+      OffsetDateTime createdTo) {
+    return new PaymentOrderSearchCriteria(
+        payerProductInstanceReference,
+        payeeProductInstanceReference,
+        toDomainStatus(status),
+        createdFrom,
+        createdTo);
+  }
+
+  /**
+   * Convierte el resultado de una consulta de varias órdenes a RetrievePaymentOrdersResponse.
+   */
+  public RetrievePaymentOrdersResponse toRetrievePaymentOrdersResponse(
+      RetrievedPaymentOrders retrieved) {
+    RetrievePaymentOrdersResponse response = new RetrievePaymentOrdersResponse();
+    response.setPaymentOrders(retrieved.paymentOrders().stream()
+        .map(this::toPaymentOrderResponse)
+        .toList());
+    response.setNotFound(retrieved.notFound());
+    return response;
+  }
+
+  /**
+   * Convierte un resultado de búsqueda y su cursor a PaymentOrderSearchResult.
+   */
+  public PaymentOrderSearchResult toSearchResult(PaymentOrderProcedure domain, String cursor) {
+    PaymentOrderSearchResult result = new PaymentOrderSearchResult();
+    result.setCursor(cursor);
+    result.setPaymentOrder(toPaymentOrderResponse(domain));
+    return result;
+  }
+
+  /**
+   * Convierte un cambio de estado REST a comando de dominio.
+   */
+  public StatusTransitionCommand toTransitionCommand(PaymentOrderStatusTransition transition) {
+    return new StatusTransitionCommand(
+        transition.getPaymentOrderProcedureInstanceReference(),
+        toDomainStatus(transition.getFromStatus()),
+        toDomainStatus(transition.getToStatus()));
+  }
+
+  /**
+   * Convierte el resultado de un cambio de estado a PaymentOrderStatusTransitionResult.
+   */
+  public PaymentOrderStatusTransitionResult toTransitionResult(StatusTransitionResult result) {
+    PaymentOrderStatusTransitionResult response = new PaymentOrderStatusTransitionResult();
+    response.setPaymentOrderProcedureInstanceReference(result.paymentOrderId());
+    PaymentOrderStatusTransitionResult.OutcomeEnum outcome = switch (result.outcome()) {
+      case APPLIED -> PaymentOrderStatusTransitionResult.OutcomeEnum.APPLIED;
+      case CONFLICT -> PaymentOrderStatusTransitionResult.OutcomeEnum.CONFLICT;
+      case NOT_FOUND -> PaymentOrderStatusTransitionResult.OutcomeEnum.NOTFOUND;
+      case INVALID_TRANSITION -> PaymentOrderStatusTransitionResult.OutcomeEnum.INVALIDTRANSITION;
+    };
+    response.setOutcome(outcome);
+    if (result.status() != null) {
+      response.setPaymentOrderProcedureInstanceStatus(PaymentOrderStatus.fromValue(
+          result.status().paymentOrderProcedureInstanceStatus().getValue()));
+      response.setLastUpdateDateTime(result.status().lastUpdateDateTime());
+    }
+    return response;
+  }
+
+  private static com.banking.payment.orders.domain.model.PaymentOrderStatus toDomainStatus(
+      PaymentOrderStatus status) {
+    return status != null
+        ? com.banking.payment.orders.domain.model.PaymentOrderStatus.fromValue(status.getValue())
+        : null;
+  }
+
   /**
    * Convierte PaymentOrderProcedure a PaymentOrderStatusResponse.
    */
   public PaymentOrderStatusResponse toStatusResponse(PaymentOrderProcedure domain) {
+    return toStatusResponse(PaymentOrderStatusSnapshot.of(domain));
+  }
+
+  /**
+   * Convierte PaymentOrderStatusSnapshot a PaymentOrderStatusResponse.
+   */
+  public PaymentOrderStatusResponse toStatusResponse(PaymentOrderStatusSnapshot snapshot) {
     PaymentOrderStatusResponse response = new PaymentOrderStatusResponse();
 
     PaymentOrderStatusResponsePaymentOrderProcedure procedure =
         new PaymentOrderStatusResponsePaymentOrderProcedure();
     procedure.setPaymentOrderProcedureInstanceReference(
-        domain.getPaymentOrderProcedureInstanceReference());
+        snapshot.paymentOrderProcedureInstanceReference());
     procedure.setPaymentOrderProcedureInstanceStatus(
-        PaymentOrderStatus.fromValue(domain.getPaymentOrderProcedureInstanceStatus().getValue()));
+        PaymentOrderStatus.fromValue(snapshot.paymentOrderProcedureInstanceStatus().getValue()));
 
     PaymentOrderStatusResponseMetadata metadata = new PaymentOrderStatusResponseMetadata();
-    metadata.setLastUpdateDateTime(domain.getLastUpdateDateTime());
+    metadata.setLastUpdateDateTime(snapshot.lastUpdateDateTime());
 
     response.setPaymentOrderProcedure(procedure);
     response.setMetadata(metadata);
 
     return response;
   }
+
+  private Links toLinks(UUID paymentOrderId) {
+    Links links = new Links();
+    LinksSelf self = new LinksSelf();
+    self.setHref(URI.create("/payment-initiation/payment-orders/" + paymentOrderId));
+    links.setSelf(self);
+
+    LinksStatus status = new LinksStatus();
+    status.setHref(URI.create("/payment-initiation/payment-orders/" + paymentOrderId + "/status"));
+    links.setStatus(status);
+    return links;
+  }
 }
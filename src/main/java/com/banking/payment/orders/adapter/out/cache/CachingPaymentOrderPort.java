@@ -0,0 +1,200 @@
+package com.banking.payment.orders.adapter.out.cache;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * CachingPaymentOrderPort - Decorador de PaymentOrderPort con cache read-through acotada.
+ *
+ * <p>Las lecturas concurrentes de un mismo ID comparten la carga en curso y las escrituras
+ * se reflejan de inmediato (write-through): la entrada se invalida antes de persistir y se
+ * reemplaza con la orden guardada, de modo que un cambio de estado nunca se lee desactualizado
+ * en este nodo. Las órdenes inexistentes no se cachean.
+ *
+ * <p>La instancia cacheada nunca sale del decorador: se guarda una copia de la orden escrita
+ * y cada lectura devuelve otra copia, así que un llamante que modifique su orden no altera
+ * lo que leen los demás.
+ */
+public class CachingPaymentOrderPort implements PaymentOrderPort {
+
+  static final String CACHE_NAME = "payment-orders";
+
+  private final PaymentOrderPort delegate;
+  private final AsyncCache<UUID, PaymentOrderProcedure> cache;
+
+  /**
+   * Crea el decorador y registra las métricas de hit/miss/eviction de la cache.
+   *
+   * @param delegate puerto decorado
+   * @param maximumSize número máximo de órdenes en memoria
+   * @param timeToLive tiempo de vida de cada entrada desde su escritura
+   * @param meterRegistry registro de métricas
+   */
+  public CachingPaymentOrderPort(
+      PaymentOrderPort delegate,
+      long maximumSize,
+      Duration timeToLive,
+      MeterRegistry meterRegistry) {
+    this(delegate, maximumSize, timeToLive, meterRegistry, Ticker.systemTicker());
+  }
+
+  CachingPaymentOrderPort(
+      PaymentOrderPort delegate,
+      long maximumSize,
+      Duration timeToLive,
+      MeterRegistry meterRegistry,
+      Ticker ticker) {
+    this.delegate = delegate;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .recordStats()
+        .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
+    UUID paymentOrderId = paymentOrder.getPaymentOrderProcedureInstanceReference();
+    return Mono.defer(() -> {
+      cache.synchronous().invalidate(paymentOrderId);
+      return delegate.save(paymentOrder);
+    }).doOnNext(this::cache);
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    return delegate.insertAll(paymentOrders)
+        .doOnNext(this::cache);
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
+    return Mono.defer(() -> Mono.fromFuture(
+            cache.get(paymentOrderId, (id, executor) -> delegate.findById(id).toFuture()),
+            true))
+        .map(PaymentOrderProcedure::copy);
+  }
+
+  long estimatedSize() {
+    return cache.synchronous().estimatedSize();
+  }
+
+  /**
+   * Resuelve el estado desde la orden cacheada si ya está cargada; en caso contrario consulta
+   * la proyección de estado sin poblar la cache con la orden completa.
+   */
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    return Mono.defer(() -> {
+      PaymentOrderProcedure paymentOrder = loaded(paymentOrderId);
+      return paymentOrder != null
+          ? Mono.just(PaymentOrderStatusSnapshot.of(paymentOrder))
+          : delegate.findStatusById(paymentOrderId);
+    });
+  }
+
+  /**
+   * Las búsquedas no pasan por la cache: cada página se lee directamente del delegado.
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    return delegate.search(criteria, after, limit);
+  }
+
+  /**
+   * Invalida las órdenes del bloque antes de actualizarlas y de nuevo cada orden modificada,
+   * para que una lectura concurrente no vuelva a cachear el estado anterior.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    return Flux.defer(() -> {
+      cache.synchronous().invalidateAll(paymentOrderIds);
+      return delegate.transitionStatus(paymentOrderIds, fromStatus, toStatus);
+    }).doOnNext(status ->
+        cache.synchronous().invalidate(status.paymentOrderProcedureInstanceReference()));
+  }
+
+  /**
+   * Igual que en el cambio en bloque, invalida las órdenes antes y después de actualizarlas.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    return Flux.defer(() -> {
+      cache.synchronous().invalidateAll(updates.stream()
+          .map(PaymentOrderStatusUpdate::paymentOrderProcedureInstanceReference)
+          .toList());
+      return delegate.updateStatuses(updates);
+    }).doOnNext(status ->
+        cache.synchronous().invalidate(status.paymentOrderProcedureInstanceReference()));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    return delegate.findStatusesByIds(paymentOrderIds);
+  }
+
+  /**
+   * Sirve desde la cache las órdenes ya cargadas y pide al delegado el resto en una única
+   * consulta. Las leídas solo se cachean si no hay ya una entrada, para no pisar la que haya
+   * dejado una escritura concurrente.
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    return Flux.defer(() -> {
+      List<PaymentOrderProcedure> hits = new ArrayList<>();
+      List<UUID> misses = new ArrayList<>();
+      for (UUID paymentOrderId : paymentOrderIds) {
+        PaymentOrderProcedure paymentOrder = loaded(paymentOrderId);
+        if (paymentOrder != null) {
+          hits.add(paymentOrder.copy());
+        } else {
+          misses.add(paymentOrderId);
+        }
+      }
+      if (misses.isEmpty()) {
+        return Flux.fromIterable(hits);
+      }
+      return Flux.fromIterable(hits).concatWith(delegate.findAllById(misses)
+          .doOnNext(paymentOrder -> cache.asMap().putIfAbsent(
+              paymentOrder.getPaymentOrderProcedureInstanceReference(),
+              CompletableFuture.completedFuture(paymentOrder.copy()))));
+    });
+  }
+
+  /**
+   * Devuelve la orden cacheada si su carga ya terminó con éxito, o null.
+   */
+  private PaymentOrderProcedure loaded(UUID paymentOrderId) {
+    CompletableFuture<PaymentOrderProcedure> cached = cache.getIfPresent(paymentOrderId);
+    if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+      return cached.join();
+    }
+    return null;
+  }
+
+  private void cache(PaymentOrderProcedure paymentOrder) {
+    cache.put(paymentOrder.getPaymentOrderProcedureInstanceReference(),
+        CompletableFuture.completedFuture(paymentOrder.copy()));
+  }
+}
@@ -0,0 +1,85 @@
+package com.banking.payment.orders.adapter.out.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics;
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * MeteredPaymentOrderPort - Decorador que mide cada operación de PaymentOrderPort.
+ *
+ * <p>Se aplica directamente sobre el adaptador R2DBC, de modo que los tiempos incluyen la
+ * adquisición de conexión y el driver, pero no la cache.
+ */
+public class MeteredPaymentOrderPort implements PaymentOrderPort {
+
+  private final PaymentOrderPort delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredPaymentOrderPort(PaymentOrderPort delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
+    return metrics.timeMono(Operation.PORT_SAVE, () -> delegate.save(paymentOrder));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    return metrics.timeFlux(Operation.PORT_INSERT_ALL, () -> delegate.insertAll(paymentOrders));
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
+    return metrics.timeMono(Operation.PORT_FIND_BY_ID, () -> delegate.findById(paymentOrderId));
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    return metrics.timeMono(
+        Operation.PORT_FIND_STATUS_BY_ID, () -> delegate.findStatusById(paymentOrderId));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    return metrics.timeFlux(
+        Operation.PORT_SEARCH, () -> delegate.search(criteria, after, limit));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    return metrics.timeFlux(Operation.PORT_TRANSITION_STATUS,
+        () -> delegate.transitionStatus(paymentOrderIds, fromStatus, toStatus));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    return metrics.timeFlux(
+        Operation.PORT_FIND_STATUSES_BY_IDS, () -> delegate.findStatusesByIds(paymentOrderIds));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    return metrics.timeFlux(
+        Operation.PORT_UPDATE_STATUSES, () -> delegate.updateStatuses(updates));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    return metrics.timeFlux(
+        Operation.PORT_FIND_ALL_BY_ID, () -> delegate.findAllById(paymentOrderIds));
+  }
+}
@@ -0,0 +1,86 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.domain.port.out.IdempotencyKeyPort;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * IdempotencyKeyRepositoryAdapter - Adaptador de persistencia para claves de idempotencia.
+ */
+@Component
+public class IdempotencyKeyRepositoryAdapter implements IdempotencyKeyPort {
+
+  /**
+   * Reserva la clave y devuelve el ID asociado en un único round trip. Si la clave ya existe
+   * el INSERT no hace nada y la segunda rama devuelve el ID registrado.
+   */
+  static final String RESERVE_SQL = """
+      WITH inserted AS (
+        INSERT INTO payment_order_idempotency_keys
+          (idempotency_key, payment_order_id, created_date_time)
+        VALUES ($1, $2, $3)
+        ON CONFLICT (idempotency_key) DO NOTHING
+        RETURNING payment_order_id
+      )
+      SELECT payment_order_id FROM inserted
+      UNION ALL
+      SELECT payment_order_id FROM payment_order_idempotency_keys WHERE idempotency_key = $1
+      LIMIT 1""";
+
+  /**
+   * Borra por bloques para no retener bloqueos sobre muchas filas; el índice por fecha de
+   * registro evita recorrer la tabla completa.
+   */
+  static final String PURGE_EXPIRED_SQL = """
+      DELETE FROM payment_order_idempotency_keys
+      WHERE idempotency_key IN (
+        SELECT idempotency_key FROM payment_order_idempotency_keys
+        WHERE created_date_time < $1
+        LIMIT $2
+      )""";
+
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public IdempotencyKeyRepositoryAdapter(
+      DatabaseClient databaseClient, TransactionalOperator transactionalOperator) {
+    this.databaseClient = databaseClient;
+    this.transactionalOperator = transactionalOperator;
+  }
+
+  /**
+   * El INSERT de la orden se une a esta transacción, de modo que la reserva y la orden se
+   * confirman o se deshacen juntas. Una solicitud concurrente con la misma clave espera en
+   * el índice único hasta que la transacción termina.
+   */
+  @Override
+  public Mono<UUID> reserve(String idempotencyKey, UUID paymentOrderId, Mono<?> onReserved) {
+    Mono<UUID> reserveAndPersist = databaseClient.sql(RESERVE_SQL)
+        .bind(0, idempotencyKey)
+        .bind(1, paymentOrderId)
+        .bind(2, OffsetDateTime.now())
+        .map(row -> row.get("payment_order_id", UUID.class))
+        .first()
+        .flatMap(reservedId -> reservedId.equals(paymentOrderId)
+            ? onReserved.thenReturn(reservedId)
+            : Mono.just(reservedId));
+    return transactionalOperator.transactional(reserveAndPersist);
+  }
+
+  @Override
+  public Mono<Integer> purgeExpired(OffsetDateTime before, int limit) {
+    return databaseClient.sql(PURGE_EXPIRED_SQL)
+        .bind(0, before)
+        .bind(1, limit)
+        .fetch()
+        .rowsUpdated()
+        .map(Long::intValue);
+  }
+}
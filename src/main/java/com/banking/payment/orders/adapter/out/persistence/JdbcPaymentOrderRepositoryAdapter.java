@@ -0,0 +1,465 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderIds;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * JdbcPaymentOrderRepositoryAdapter - Adaptador de persistencia JDBC para órdenes de pago.
+ *
+ * <p>Alternativa bloqueante a {@link PaymentOrderRepositoryAdapter}, con las mismas sentencias
+ * y la misma semántica (versión optimista, bandeja de salida en la misma transacción, ids v7
+ * acotados a su partición). Cada operación se ejecuta entera, transacción incluida, en el
+ * {@link Scheduler} recibido; con el perfil Maven {@code jdbc} es un executor de hilos
+ * virtuales, de modo que una consulta en espera no ocupa un hilo de plataforma. Los bloques de
+ * insertAll se envían como batch JDBC, que pgjdbc reescribe en INSERT multi-fila con
+ * {@code reWriteBatchedInserts=true}.
+ */
+public class JdbcPaymentOrderRepositoryAdapter implements PaymentOrderPort {
+
+  static final String INSERT_SQL = "INSERT INTO payment_orders ("
+      + String.join(", ", PaymentOrderRepositoryAdapter.INSERT_COLUMNS) + ") VALUES ("
+      + "?, ".repeat(PaymentOrderRepositoryAdapter.INSERT_COLUMNS.length - 1) + "?)";
+
+  /** Columnas que reescribe el UPDATE de save: todas salvo la clave y la versión. */
+  static final String UPDATE_SQL = buildUpdateSql();
+
+  static final String OUTBOX_INSERT_SQL = "INSERT INTO payment_order_outbox ("
+      + String.join(", ", PaymentOrderOutboxRepositoryAdapter.INSERT_COLUMNS)
+      + ") VALUES (?, ?, ?, ?, ?)";
+
+  static final String FIND_BY_ID_SQL = "SELECT "
+      + String.join(", ", PaymentOrderRepositoryAdapter.INSERT_COLUMNS)
+      + " FROM payment_orders WHERE id = ?";
+
+  static final String FIND_BY_ID_CREATED_BETWEEN_SQL = FIND_BY_ID_SQL
+      + " AND created_date_time >= ? AND created_date_time < ?";
+
+  static final String FIND_STATUS_BY_ID_SQL =
+      "SELECT id, status, last_update_date_time FROM payment_orders WHERE id = ?";
+
+  static final String FIND_STATUS_BY_ID_CREATED_BETWEEN_SQL = FIND_STATUS_BY_ID_SQL
+      + " AND created_date_time >= ? AND created_date_time < ?";
+
+  static final String TRANSITION_STATUS_SQL = "UPDATE payment_orders"
+      + " SET status = ?, last_update_date_time = ?, version = version + 1"
+      + " WHERE id = ANY(?) AND status = ?"
+      + " RETURNING id, status, last_update_date_time";
+
+  static final String UPDATE_STATUSES_SQL = "UPDATE payment_orders AS p"
+      + " SET status = u.status, last_update_date_time = u.last_update_date_time,"
+      + " version = u.version"
+      + " FROM unnest(?::uuid[], ?::smallint[], ?::timestamptz[], ?::bigint[], ?::bigint[])"
+      + " AS u(id, status, last_update_date_time, expected_version, version)"
+      + " WHERE p.id = u.id AND p.version = u.expected_version"
+      + " RETURNING p.id, p.status, p.last_update_date_time";
+
+  private static final Pattern R2DBC_PLACEHOLDER = Pattern.compile("\\$\\d+");
+
+  private static final RowMapper<PaymentOrderEntity> ENTITY_ROW_MAPPER =
+      (resultSet, rowNum) -> toEntity(resultSet);
+
+  private static final RowMapper<PaymentOrderStatusSnapshot> STATUS_ROW_MAPPER =
+      (resultSet, rowNum) -> toStatusSnapshot(resultSet);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final PaymentOrderPersistenceMapper mapper;
+  private final Scheduler scheduler;
+  private final int batchSize;
+  private final boolean outboxEnabled;
+
+  /**
+   * Crea el adaptador.
+   *
+   * @param jdbcTemplate plantilla JDBC sobre el pool de conexiones
+   * @param transactionTemplate transacciones sobre el mismo DataSource
+   * @param mapper mapper de persistencia
+   * @param scheduler scheduler donde se ejecutan las llamadas bloqueantes
+   * @param batchSize filas por batch JDBC en insertAll
+   * @param outboxEnabled si se registran eventos en la bandeja de salida (solo con el relay
+   *     activo, como en {@link PaymentOrderOutboxRepositoryAdapter})
+   */
+  public JdbcPaymentOrderRepositoryAdapter(
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      PaymentOrderPersistenceMapper mapper,
+      Scheduler scheduler,
+      int batchSize,
+      boolean outboxEnabled) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.mapper = mapper;
+    this.scheduler = scheduler;
+    this.batchSize = batchSize;
+    this.outboxEnabled = outboxEnabled;
+  }
+
+  /**
+   * INSERT si la orden aún no tiene versión, o UPDATE condicionado a la versión leída; si
+   * otra escritura ganó la carrera se emite {@link PaymentOrderConflictException}.
+   */
+  @Override
+  public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
+    boolean isNew = paymentOrder.getVersion() == null;
+    return blocking(() -> transactionTemplate.execute(status -> {
+      PaymentOrderEntity entity = mapper.toEntity(paymentOrder, isNew);
+      if (isNew) {
+        entity.setVersion(0L);
+        jdbcTemplate.update(INSERT_SQL, statement -> bindInsert(statement, entity));
+      } else {
+        long expectedVersion = entity.getVersion();
+        entity.setVersion(expectedVersion + 1);
+        int updated = jdbcTemplate.update(UPDATE_SQL,
+            statement -> bindUpdate(statement, entity, expectedVersion));
+        if (updated == 0) {
+          throw new OptimisticLockingFailureException(
+              "Payment order " + entity.getId() + " changed since version " + expectedVersion);
+        }
+      }
+      entity.setNew(false);
+      PaymentOrderProcedure saved = mapper.toDomain(entity);
+      appendEvents(List.of(isNew
+          ? PaymentOrderEvent.initiated(saved)
+          : PaymentOrderEvent.statusChanged(PaymentOrderStatusSnapshot.of(saved))));
+      return saved;
+    })).onErrorMap(
+        ex -> ex instanceof OptimisticLockingFailureException
+            || ex instanceof DuplicateKeyException,
+        ex -> new PaymentOrderConflictException(
+            paymentOrder.getPaymentOrderProcedureInstanceReference(), ex));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    if (paymentOrders.isEmpty()) {
+      return Flux.empty();
+    }
+    return blockingMany(() -> transactionTemplate.execute(status -> {
+      List<PaymentOrderEntity> entities = new ArrayList<>(paymentOrders.size());
+      for (PaymentOrderProcedure paymentOrder : paymentOrders) {
+        PaymentOrderEntity entity = mapper.toEntity(paymentOrder, true);
+        entity.setVersion(0L);
+        entities.add(entity);
+      }
+      jdbcTemplate.batchUpdate(INSERT_SQL, entities, batchSize, this::bindInsert);
+      List<PaymentOrderProcedure> inserted = entities.stream().map(mapper::toDomain).toList();
+      appendEvents(inserted.stream().map(PaymentOrderEvent::initiated).toList());
+      return inserted;
+    }));
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
+    Optional<Instant> created = PaymentOrderIds.timestampOf(paymentOrderId);
+    return blocking(() -> first(created.isPresent()
+        ? jdbcTemplate.query(FIND_BY_ID_CREATED_BETWEEN_SQL,
+            statement -> bindIdCreatedBetween(statement, paymentOrderId, created.get()),
+            ENTITY_ROW_MAPPER)
+        : jdbcTemplate.query(FIND_BY_ID_SQL,
+            statement -> statement.setObject(1, paymentOrderId), ENTITY_ROW_MAPPER)))
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    Optional<Instant> created = PaymentOrderIds.timestampOf(paymentOrderId);
+    return blocking(() -> first(created.isPresent()
+        ? jdbcTemplate.query(FIND_STATUS_BY_ID_CREATED_BETWEEN_SQL,
+            statement -> bindIdCreatedBetween(statement, paymentOrderId, created.get()),
+            STATUS_ROW_MAPPER)
+        : jdbcTemplate.query(FIND_STATUS_BY_ID_SQL,
+            statement -> statement.setObject(1, paymentOrderId), STATUS_ROW_MAPPER)));
+  }
+
+  /**
+   * Misma consulta por keyset que el adaptador R2DBC, con los marcadores {@code $n}
+   * convertidos a {@code ?} (los parámetros se añaden en el orden de sus marcadores).
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    List<Object> parameters = new ArrayList<>();
+    String sql = toJdbcSql(
+        PaymentOrderRepositoryAdapter.buildSearchSql(criteria, after, limit, parameters));
+    return blockingMany(() -> jdbcTemplate.query(sql, statement -> {
+      for (int index = 0; index < parameters.size(); index++) {
+        statement.setObject(index + 1, parameters.get(index));
+      }
+    }, ENTITY_ROW_MAPPER)).map(mapper::toDomain);
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    if (paymentOrderIds.isEmpty()) {
+      return Flux.empty();
+    }
+    return blockingMany(() -> transactionTemplate.execute(status -> {
+      List<PaymentOrderStatusSnapshot> updated = jdbcTemplate.query(TRANSITION_STATUS_SQL,
+          statement -> {
+            statement.setShort(1, PaymentOrderPersistenceMapper.encodeStatus(toStatus));
+            statement.setObject(2, OffsetDateTime.now());
+            statement.setArray(3, statement.getConnection()
+                .createArrayOf("uuid", paymentOrderIds.toArray()));
+            statement.setShort(4, PaymentOrderPersistenceMapper.encodeStatus(fromStatus));
+          }, STATUS_ROW_MAPPER);
+      appendEvents(updated.stream().map(PaymentOrderEvent::statusChanged).toList());
+      return updated;
+    }));
+  }
+
+  /**
+   * Un único UPDATE ... FROM unnest(...). Los instantes viajan como texto ISO-8601 para que
+   * el servidor los convierta a timestamptz sin depender de la zona de la sesión.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    if (updates.isEmpty()) {
+      return Flux.empty();
+    }
+    int size = updates.size();
+    UUID[] ids = new UUID[size];
+    Short[] statuses = new Short[size];
+    String[] lastUpdates = new String[size];
+    Long[] expectedVersions = new Long[size];
+    Long[] versions = new Long[size];
+    for (int index = 0; index < size; index++) {
+      PaymentOrderStatusUpdate update = updates.get(index);
+      ids[index] = update.paymentOrderProcedureInstanceReference();
+      statuses[index] = PaymentOrderPersistenceMapper.encodeStatus(
+          update.paymentOrderProcedureInstanceStatus());
+      lastUpdates[index] = update.lastUpdateDateTime().toString();
+      expectedVersions[index] = update.expectedVersion();
+      versions[index] = update.version();
+    }
+    return blockingMany(() -> transactionTemplate.execute(status -> {
+      List<PaymentOrderStatusSnapshot> updated = jdbcTemplate.query(UPDATE_STATUSES_SQL,
+          statement -> {
+            var connection = statement.getConnection();
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            statement.setArray(2, connection.createArrayOf("smallint", statuses));
+            statement.setArray(3, connection.createArrayOf("text", lastUpdates));
+            statement.setArray(4, connection.createArrayOf("bigint", expectedVersions));
+            statement.setArray(5, connection.createArrayOf("bigint", versions));
+          }, STATUS_ROW_MAPPER);
+      appendEvents(updated.stream().map(PaymentOrderEvent::statusChanged).toList());
+      return updated;
+    }));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    if (paymentOrderIds.isEmpty()) {
+      return Flux.empty();
+    }
+    return blockingMany(() -> jdbcTemplate.query(
+        toJdbcSql(PaymentOrderRepositoryAdapter.FIND_STATUSES_BY_IDS_SQL),
+        statement -> statement.setArray(1, statement.getConnection()
+            .createArrayOf("uuid", paymentOrderIds.toArray())),
+        STATUS_ROW_MAPPER));
+  }
+
+  /**
+   * Un solo {@code WHERE id = ANY(?)}, acotado a las particiones de los ids si todos son v7.
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    if (paymentOrderIds.isEmpty()) {
+      return Flux.empty();
+    }
+    Instant oldest = Instant.MAX;
+    Instant newest = Instant.MIN;
+    for (UUID paymentOrderId : paymentOrderIds) {
+      Optional<Instant> created = PaymentOrderIds.timestampOf(paymentOrderId);
+      if (created.isEmpty()) {
+        oldest = null;
+        break;
+      }
+      oldest = created.get().isBefore(oldest) ? created.get() : oldest;
+      newest = created.get().isAfter(newest) ? created.get() : newest;
+    }
+    Instant from = oldest;
+    Instant to = newest;
+    String sql = toJdbcSql(from == null
+        ? PaymentOrderRepositoryAdapter.FIND_ALL_BY_ID_SQL
+        : PaymentOrderRepositoryAdapter.FIND_ALL_BY_ID_CREATED_BETWEEN_SQL);
+    return blockingMany(() -> jdbcTemplate.query(sql, statement -> {
+      statement.setArray(1, statement.getConnection()
+          .createArrayOf("uuid", paymentOrderIds.toArray()));
+      if (from != null) {
+        statement.setObject(2, createdFrom(from));
+        statement.setObject(3, createdTo(to));
+      }
+    }, ENTITY_ROW_MAPPER)).map(mapper::toDomain);
+  }
+
+  /**
+   * Convierte los marcadores {@code $n} de las consultas R2DBC a marcadores JDBC. Solo es
+   * válido si cada marcador aparece una vez y en orden creciente.
+   */
+  static String toJdbcSql(String r2dbcSql) {
+    return R2DBC_PLACEHOLDER.matcher(r2dbcSql).replaceAll("?");
+  }
+
+  private <T> Mono<T> blocking(Callable<T> call) {
+    return Mono.fromCallable(call).subscribeOn(scheduler);
+  }
+
+  private <T> Flux<T> blockingMany(Callable<List<T>> call) {
+    return blocking(call).flatMapIterable(results -> results);
+  }
+
+  private void appendEvents(List<PaymentOrderEvent> events) {
+    if (!outboxEnabled || events.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(OUTBOX_INSERT_SQL, events, events.size(), (statement, event) -> {
+      statement.setObject(1, event.eventId());
+      statement.setString(2, event.type().getValue());
+      statement.setObject(3, event.paymentOrderId());
+      statement.setString(4, event.status().getValue());
+      statement.setObject(5, event.occurredAt());
+    });
+  }
+
+  private void bindInsert(PreparedStatement statement, PaymentOrderEntity entity)
+      throws SQLException {
+    Object[] values = values(entity);
+    for (int index = 0; index < values.length; index++) {
+      statement.setObject(index + 1, values[index]);
+    }
+  }
+
+  private static void bindUpdate(PreparedStatement statement, PaymentOrderEntity entity,
+      long expectedVersion) throws SQLException {
+    Object[] values = values(entity);
+    int parameter = 1;
+    for (int index = 0; index < values.length; index++) {
+      if (isUpdatable(PaymentOrderRepositoryAdapter.INSERT_COLUMNS[index])) {
+        statement.setObject(parameter++, values[index]);
+      }
+    }
+    statement.setLong(parameter++, entity.getVersion());
+    statement.setObject(parameter++, entity.getId());
+    statement.setLong(parameter, expectedVersion);
+  }
+
+  private static void bindIdCreatedBetween(PreparedStatement statement, UUID paymentOrderId,
+      Instant created) throws SQLException {
+    statement.setObject(1, paymentOrderId);
+    statement.setObject(2, createdFrom(created));
+    statement.setObject(3, createdTo(created));
+  }
+
+  /**
+   * Valores de la entidad en el orden de {@link PaymentOrderRepositoryAdapter#INSERT_COLUMNS}.
+   */
+  private static Object[] values(PaymentOrderEntity entity) {
+    return new Object[] {
+        entity.getId(), entity.getStatus(), entity.getPaymentTransactionInitiatorReference(),
+        entity.getPayerReference(), entity.getPayerBankReference(),
+        entity.getPayerProductInstanceReference(),
+        entity.getPayeeReference(), entity.getPayeeBankReference(),
+        entity.getPayeeProductInstanceReference(),
+        entity.getAmount(), entity.getCurrency(), entity.getPaymentMechanismType(),
+        entity.getDateType(), entity.getDate(), entity.getRemittanceInformation(),
+        entity.getCreatedDateTime(), entity.getLastUpdateDateTime(), entity.getVersion()
+    };
+  }
+
+  private static boolean isUpdatable(String column) {
+    return !"id".equals(column) && !"created_date_time".equals(column)
+        && !"version".equals(column);
+  }
+
+  private static String buildUpdateSql() {
+    StringBuilder sql = new StringBuilder("UPDATE payment_orders SET ");
+    for (String column : PaymentOrderRepositoryAdapter.INSERT_COLUMNS) {
+      if (isUpdatable(column)) {
+        sql.append(column).append(" = ?, ");
+      }
+    }
+    return sql.append("version = ? WHERE id = ? AND version = ?").toString();
+  }
+
+  private static OffsetDateTime createdFrom(Instant idTimestamp) {
+    return idTimestamp.minus(PaymentOrderRepositoryAdapter.ID_TIMESTAMP_TOLERANCE)
+        .atOffset(ZoneOffset.UTC);
+  }
+
+  private static OffsetDateTime createdTo(Instant idTimestamp) {
+    return idTimestamp.plus(PaymentOrderRepositoryAdapter.ID_TIMESTAMP_TOLERANCE)
+        .atOffset(ZoneOffset.UTC);
+  }
+
+  private static <T> T first(List<T> results) {
+    return results.isEmpty() ? null : results.get(0);
+  }
+
+  static PaymentOrderEntity toEntity(ResultSet resultSet) throws SQLException {
+    PaymentOrderEntity entity = new PaymentOrderEntity();
+    entity.setId(resultSet.getObject("id", UUID.class));
+    entity.setNew(false);
+    entity.setStatus(resultSet.getShort("status"));
+    entity.setPaymentTransactionInitiatorReference(
+        resultSet.getString("payment_transaction_initiator_reference"));
+    entity.setPayerReference(resultSet.getString("payer_reference"));
+    entity.setPayerBankReference(resultSet.getString("payer_bank_reference"));
+    entity.setPayerProductInstanceReference(
+        resultSet.getString("payer_product_instance_reference"));
+    entity.setPayeeReference(resultSet.getString("payee_reference"));
+    entity.setPayeeBankReference(resultSet.getString("payee_bank_reference"));
+    entity.setPayeeProductInstanceReference(
+        resultSet.getString("payee_product_instance_reference"));
+    entity.setAmount(resultSet.getLong("amount"));
+    entity.setCurrency(resultSet.getShort("currency"));
+    entity.setPaymentMechanismType(resultSet.getString("payment_mechanism_type"));
+    entity.setDateType(resultSet.getString("date_type"));
+    entity.setDate(resultSet.getObject("date", LocalDate.class));
+    entity.setRemittanceInformation(resultSet.getString("remittance_information"));
+    entity.setCreatedDateTime(resultSet.getObject("created_date_time", OffsetDateTime.class));
+    entity.setLastUpdateDateTime(
+        resultSet.getObject("last_update_date_time", OffsetDateTime.class));
+    entity.setVersion(resultSet.getLong("version"));
+    return entity;
+  }
+
+  private static PaymentOrderStatusSnapshot toStatusSnapshot(ResultSet resultSet)
+      throws SQLException {
+    return new PaymentOrderStatusSnapshot(
+        resultSet.getObject("id", UUID.class),
+        PaymentOrderPersistenceMapper.decodeStatus(resultSet.getShort("status")),
+        resultSet.getObject("last_update_date_time", OffsetDateTime.class));
+  }
+}
@@ -0,0 +1,76 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.adapter.out.routing.ReadWriteRoutingConnectionFactory;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.port.out.PaymentOrderExportPort;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * PaymentOrderExportRepositoryAdapter - Lectura en volumen de órdenes de pago.
+ *
+ * <p>La consulta se ejecuta con un fetch size acotado: el driver abre un portal en el
+ * servidor y pide las filas de {@code fetchSize} en {@code fetchSize} según la demanda del
+ * suscriptor, de modo que la memoria no depende del número de filas exportadas. La conexión
+ * queda ocupada mientras dura la exportación y, con réplica configurada, es de la réplica.
+ */
+@Component
+public class PaymentOrderExportRepositoryAdapter implements PaymentOrderExportPort {
+
+  private final DatabaseClient databaseClient;
+  private final R2dbcConverter converter;
+  private final PaymentOrderPersistenceMapper mapper;
+  private final int fetchSize;
+
+  /**
+   * Constructor con inyección de dependencias.
+   *
+   * @param databaseClient cliente R2DBC
+   * @param converter conversor de filas a entidades
+   * @param mapper mapper de persistencia
+   * @param fetchSize filas pedidas al servidor en cada lectura del portal
+   */
+  public PaymentOrderExportRepositoryAdapter(
+      DatabaseClient databaseClient,
+      R2dbcConverter converter,
+      PaymentOrderPersistenceMapper mapper,
+      @Value("${payment-orders.export.fetch-size:1000}") int fetchSize) {
+    this.databaseClient = databaseClient;
+    this.converter = converter;
+    this.mapper = mapper;
+    this.fetchSize = fetchSize;
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> export(PaymentOrderSearchCriteria criteria) {
+    List<Object> parameters = new ArrayList<>();
+    GenericExecuteSpec spec = databaseClient.sql(buildExportSql(criteria, parameters))
+        .filter(statement -> statement.fetchSize(fetchSize));
+    for (int index = 0; index < parameters.size(); index++) {
+      spec = spec.bind(index, parameters.get(index));
+    }
+    return ReadWriteRoutingConnectionFactory.onReplica(spec
+        .map((row, metadata) -> converter.read(PaymentOrderEntity.class, row, metadata))
+        .all()
+        .map(mapper::toDomain));
+  }
+
+  /**
+   * Construye la consulta de exportación, ordenada por (created_date_time, id) para que una
+   * exportación interrumpida pueda reanudarse desde la última orden recibida.
+   */
+  static String buildExportSql(PaymentOrderSearchCriteria criteria, List<Object> parameters) {
+    return PaymentOrderRepositoryAdapter.buildSelectSql(criteria, null, parameters)
+        .append(" ORDER BY created_date_time, id")
+        .toString();
+  }
+}
@@ -0,0 +1,169 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.port.out.PaymentOrderEventPublisher;
+import com.banking.payment.orders.domain.port.out.PaymentOrderOutboxPort;
+import io.r2dbc.spi.Row;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderOutboxRepositoryAdapter - Adaptador de persistencia para la bandeja de eventos
+ * de órdenes de pago.
+ *
+ * <p>Los eventos se registran en la misma transacción que la escritura de la orden (ver
+ * {@link PaymentOrderRepositoryAdapter}) y se publican después, de modo que un evento existe
+ * si y solo si el cambio que describe quedó confirmado.
+ */
+@Component
+public class PaymentOrderOutboxRepositoryAdapter implements PaymentOrderOutboxPort {
+
+  static final String[] INSERT_COLUMNS = {
+      "event_id", "event_type", "payment_order_id", "status", "occurred_at"
+  };
+
+  static final int MAX_ROWS_PER_INSERT =
+      PaymentOrderRepositoryAdapter.MAX_BIND_PARAMETERS / INSERT_COLUMNS.length;
+
+  /**
+   * Reclama los eventos más antiguos recorriendo la clave primaria. SKIP LOCKED salta las
+   * filas que otra instancia tiene reclamadas en lugar de esperar a que las libere, así que
+   * varias réplicas drenan bloques distintos en paralelo.
+   */
+  static final String CLAIM_SQL = "SELECT id, event_id, event_type, payment_order_id, status,"
+      + " occurred_at FROM payment_order_outbox ORDER BY id LIMIT $1 FOR UPDATE SKIP LOCKED";
+
+  static final String DELETE_SQL = "DELETE FROM payment_order_outbox WHERE id = ANY($1)";
+
+  static final String PURGE_EXPIRED_SQL = "DELETE FROM payment_order_outbox WHERE id IN ("
+      + "SELECT id FROM payment_order_outbox WHERE occurred_at < $1 LIMIT $2"
+      + " FOR UPDATE SKIP LOCKED)";
+
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+  private final boolean enabled;
+
+  /**
+   * Constructor con inyección de dependencias.
+   *
+   * @param databaseClient cliente R2DBC
+   * @param transactionalOperator operador transaccional
+   * @param enabled si se registran eventos; solo tiene sentido con el relay activo, que es
+   *     quien los entrega y los elimina
+   */
+  public PaymentOrderOutboxRepositoryAdapter(
+      DatabaseClient databaseClient,
+      TransactionalOperator transactionalOperator,
+      @Value("${payment-orders.outbox.relay.enabled:false}") boolean enabled) {
+    this.databaseClient = databaseClient;
+    this.transactionalOperator = transactionalOperator;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Registra los eventos con un INSERT multi-fila, repartido en varios si superan el máximo de
+   * parámetros por sentencia. Debe suscribirse dentro de la transacción de la escritura que los
+   * origina. Con el relay deshabilitado no registra nada: nadie entregaría ni eliminaría los
+   * eventos y la bandeja crecería sin límite.
+   *
+   * @param events eventos a registrar
+   * @return Mono que completa cuando los eventos están registrados
+   */
+  public Mono<Void> append(List<PaymentOrderEvent> events) {
+    if (!enabled || events.isEmpty()) {
+      return Mono.empty();
+    }
+    return Flux.fromIterable(events)
+        .buffer(MAX_ROWS_PER_INSERT)
+        .concatMap(this::insertRows)
+        .then();
+  }
+
+  private Mono<Long> insertRows(List<PaymentOrderEvent> events) {
+    GenericExecuteSpec spec = databaseClient.sql(buildInsertSql(events.size()));
+    int index = 0;
+    for (PaymentOrderEvent event : events) {
+      spec = spec
+          .bind(index, event.eventId())
+          .bind(index + 1, event.type().getValue())
+          .bind(index + 2, event.paymentOrderId())
+          .bind(index + 3, event.status().getValue())
+          .bind(index + 4, event.occurredAt());
+      index += INSERT_COLUMNS.length;
+    }
+    return spec.fetch().rowsUpdated();
+  }
+
+  /**
+   * Reclama, publica y elimina el bloque en una sola transacción: los bloqueos de fila se
+   * mantienen mientras dura la entrega, por lo que ninguna otra instancia puede entregar los
+   * mismos eventos, y si la entrega o el borrado fallan el rollback los deja pendientes.
+   */
+  @Override
+  public Mono<Integer> publishPending(int limit, PaymentOrderEventPublisher publisher) {
+    Mono<Integer> claimAndPublish = databaseClient.sql(CLAIM_SQL)
+        .bind(0, limit)
+        .map((row, metadata) -> new ClaimedEvent(row.get("id", Long.class), toEvent(row)))
+        .all()
+        .collectList()
+        .flatMap(claimed -> claimed.isEmpty()
+            ? Mono.just(0)
+            : publisher.publish(claimed.stream().map(ClaimedEvent::event).toList())
+                .then(databaseClient.sql(DELETE_SQL)
+                    .bind(0, claimed.stream().map(ClaimedEvent::id).toArray(Long[]::new))
+                    .fetch()
+                    .rowsUpdated())
+                .thenReturn(claimed.size()));
+    return transactionalOperator.transactional(claimAndPublish);
+  }
+
+  @Override
+  public Mono<Integer> purgeExpired(OffsetDateTime before, int limit) {
+    return databaseClient.sql(PURGE_EXPIRED_SQL)
+        .bind(0, before)
+        .bind(1, limit)
+        .fetch()
+        .rowsUpdated()
+        .map(Long::intValue);
+  }
+
+  /**
+   * Construye un INSERT multi-fila con parámetros consecutivos.
+   */
+  static String buildInsertSql(int rows) {
+    StringBuilder sql = new StringBuilder(64 + rows * INSERT_COLUMNS.length * 5)
+        .append("INSERT INTO payment_order_outbox (")
+        .append(String.join(", ", INSERT_COLUMNS))
+        .append(") VALUES ");
+    int parameter = 1;
+    for (int row = 0; row < rows; row++) {
+      sql.append(row == 0 ? "(" : ", (");
+      for (int column = 0; column < INSERT_COLUMNS.length; column++) {
+        sql.append(column == 0 ? "$" : ", $").append(parameter++);
+      }
+      sql.append(')');
+    }
+    return sql.toString();
+  }
+
+  private static PaymentOrderEvent toEvent(Row row) {
+    return new PaymentOrderEvent(
+        row.get("event_id", UUID.class),
+        PaymentOrderEvent.Type.fromValue(row.get("event_type", String.class)),
+        row.get("payment_order_id", UUID.class),
+        PaymentOrderStatus.fromValue(row.get("status", String.class)),
+        row.get("occurred_at", OffsetDateTime.class));
+  }
+
+  private record ClaimedEvent(Long id, PaymentOrderEvent event) {
+  }
+}
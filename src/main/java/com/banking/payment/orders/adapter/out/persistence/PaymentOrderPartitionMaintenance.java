@@ -0,0 +1,190 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderPartitionMaintenance - Mantiene las particiones mensuales de payment_orders.
+ *
+ * <p>Cada intervalo crea por adelantado las particiones de los próximos meses y retira las
+ * que quedan fuera del periodo de retención. La retirada usa
+ * {@code DETACH PARTITION ... CONCURRENTLY}, que no bloquea las lecturas ni escrituras sobre
+ * la tabla, y después la conserva como tabla independiente para archivarla o, solo si se
+ * configura {@link RetentionAction#DROP}, la elimina. Solo se retiran particiones
+ * {@code payment_orders_pYYYYMM}: la partición heredada de la migración
+ * (payment_orders_legacy) se gestiona a mano.
+ *
+ * <p>Las órdenes retiradas dejan de existir para el servicio, así que antes de separar la
+ * partición se borran las claves de idempotencia que apuntan a ellas; de lo contrario un
+ * reintento con esas claves respondería 409 indefinidamente.
+ */
+@Component
+@ConditionalOnProperty(name = "payment-orders.partitions.maintenance.enabled",
+    havingValue = "true", matchIfMissing = true)
+public class PaymentOrderPartitionMaintenance implements SmartLifecycle {
+
+  static final String CREATE_PARTITIONS_SQL = "SELECT create_payment_order_partitions($1)";
+
+  static final String LIST_PARTITIONS_SQL = "SELECT c.relname, i.inhdetachpending"
+      + " FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+      + " WHERE i.inhparent = 'payment_orders'::regclass";
+
+  private static final Pattern MONTHLY_PARTITION =
+      Pattern.compile("payment_orders_p(\\d{4})(\\d{2})");
+
+  private static final Logger log =
+      LoggerFactory.getLogger(PaymentOrderPartitionMaintenance.class);
+
+  /**
+   * Qué hacer con una partición retirada.
+   */
+  public enum RetentionAction {
+    /** La partición se separa y se conserva como tabla independiente. */
+    DETACH,
+    /** La partición se separa y se elimina. */
+    DROP
+  }
+
+  private final DatabaseClient databaseClient;
+  private final int monthsAhead;
+  private final int retentionMonths;
+  private final RetentionAction retentionAction;
+  private final Duration interval;
+  private volatile Disposable subscription;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public PaymentOrderPartitionMaintenance(
+      DatabaseClient databaseClient,
+      @Value("${payment-orders.partitions.months-ahead:3}") int monthsAhead,
+      @Value("${payment-orders.partitions.retention.months:12}") int retentionMonths,
+      @Value("${payment-orders.partitions.retention.action:DETACH}")
+      RetentionAction retentionAction,
+      @Value("${payment-orders.partitions.maintenance.interval:1h}") Duration interval) {
+    this.databaseClient = databaseClient;
+    this.monthsAhead = monthsAhead;
+    this.retentionMonths = retentionMonths;
+    this.retentionAction = retentionAction;
+    this.interval = interval;
+  }
+
+  /**
+   * Crea las particiones que falten y retira las caducadas.
+   *
+   * @return Mono con el número de particiones retiradas
+   */
+  public Mono<Integer> maintain() {
+    YearMonth oldestRetained = YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths);
+    return createPartitions()
+        .then(databaseClient.sql(LIST_PARTITIONS_SQL)
+            .map((row, metadata) -> new Partition(
+                row.get("relname", String.class),
+                Boolean.TRUE.equals(row.get("inhdetachpending", Boolean.class))))
+            .all()
+            .collectList())
+        .flatMapMany(partitions -> Flux.fromIterable(expired(partitions, oldestRetained)))
+        .concatMap(this::retire)
+        .count()
+        .map(Long::intValue);
+  }
+
+  private Mono<Integer> createPartitions() {
+    return databaseClient.sql(CREATE_PARTITIONS_SQL)
+        .bind(0, monthsAhead)
+        .map((row, metadata) -> row.get(0, Integer.class))
+        .one()
+        .doOnNext(created -> {
+          if (created > 0) {
+            log.info("Created {} payment_orders partitions", created);
+          }
+        });
+  }
+
+  /**
+   * Cada sentencia se ejecuta fuera de transacción: DETACH CONCURRENTLY no la admite. Una
+   * separación interrumpida deja la partición pendiente y se completa con FINALIZE; las claves
+   * y los ids registrados en payment_order_ids se borran antes de separar para que una retirada
+   * interrumpida repita también ese paso.
+   */
+  private Mono<String> retire(Partition partition) {
+    return Flux.fromIterable(retireStatements(partition, retentionAction))
+        .concatMap(statement -> databaseClient.sql(statement).then())
+        .then(Mono.just(partition.name()))
+        .doOnNext(name -> log.info("Retired payment_orders partition {} ({})",
+            name, retentionAction));
+  }
+
+  /**
+   * Particiones mensuales cuyo mes es anterior a {@code oldestRetained}.
+   */
+  static List<Partition> expired(List<Partition> partitions, YearMonth oldestRetained) {
+    return partitions.stream()
+        .filter(partition -> {
+          Matcher matcher = MONTHLY_PARTITION.matcher(partition.name());
+          return matcher.matches() && YearMonth.of(
+              Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+              .isBefore(oldestRetained);
+        })
+        .toList();
+  }
+
+  static List<String> retireStatements(Partition partition, RetentionAction action) {
+    String deleteKeys = "DELETE FROM payment_order_idempotency_keys"
+        + " WHERE payment_order_id IN (SELECT id FROM " + partition.name() + ")";
+    String deleteIds = "DELETE FROM payment_order_ids"
+        + " WHERE id IN (SELECT id FROM " + partition.name() + ")";
+    String detach = "ALTER TABLE payment_orders DETACH PARTITION " + partition.name()
+        + (partition.detachPending() ? " FINALIZE" : " CONCURRENTLY");
+    return action == RetentionAction.DROP
+        ? List.of(deleteKeys, deleteIds, detach, "DROP TABLE " + partition.name())
+        : List.of(deleteKeys, deleteIds, detach);
+  }
+
+  @Override
+  public void start() {
+    subscription = Flux.interval(Duration.ZERO, interval)
+        .onBackpressureDrop()
+        .concatMap(tick -> maintain()
+            .onErrorResume(ex -> {
+              log.warn("Partition maintenance failed, retrying in {}: {}",
+                  interval, ex.getMessage());
+              return Mono.empty();
+            }), 1)
+        .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = subscription;
+    return current != null && !current.isDisposed();
+  }
+
+  /**
+   * Partición de payment_orders y si tiene una separación concurrente sin completar.
+   */
+  record Partition(String name, boolean detachPending) {
+  }
+}
@@ -1,9 +1,13 @@
 package com.banking.payment.orders.adapter.out.persistence;
 
 import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderStatusProjection;
+import java.time.OffsetDateTime;
 import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
 /**
  * PaymentOrderR2dbcRepository - Repositorio R2DBC para órdenes de pago.
@@ -11,4 +15,41 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PaymentOrderR2dbcRepository
     extends ReactiveCrudRepository<PaymentOrderEntity, UUID> {
+
+  /**
+   * Consulta solo las columnas de estado de una orden, resuelta con el índice
+   * idx_payment_orders_status_projection sin leer la fila completa.
+   *
+   * @param id ID de la orden de pago
+   * @return Mono con la proyección de estado o vacío
+   */
+  @Query("SELECT id, status, last_update_date_time FROM payment_orders WHERE id = :id")
+  Mono<PaymentOrderStatusProjection> findStatusById(UUID id);
+
+  /**
+   * Busca una orden acotando su fecha de creación, para que PostgreSQL solo consulte la
+   * partición mensual que la contiene.
+   *
+   * @param id ID de la orden de pago
+   * @param createdFrom inicio (incluido) del rango de creación
+   * @param createdTo fin (excluido) del rango de creación
+   * @return Mono con la orden o vacío
+   */
+  @Query("SELECT * FROM payment_orders WHERE id = :id"
+      + " AND created_date_time >= :createdFrom AND created_date_time < :createdTo")
+  Mono<PaymentOrderEntity> findByIdCreatedBetween(
+      UUID id, OffsetDateTime createdFrom, OffsetDateTime createdTo);
+
+  /**
+   * Consulta las columnas de estado acotando la fecha de creación a una partición.
+   *
+   * @param id ID de la orden de pago
+   * @param createdFrom inicio (incluido) del rango de creación
+   * @param createdTo fin (excluido) del rango de creación
+   * @return Mono con la proyección de estado o vacío
+   */
+  @Query("SELECT id, status, last_update_date_time FROM payment_orders WHERE id = :id"
+      + " AND created_date_time >= :createdFrom AND created_date_time < :createdTo")
+  Mono<PaymentOrderStatusProjection> findStatusByIdCreatedBetween(
+      UUID id, OffsetDateTime createdFrom, OffsetDateTime createdTo);
 }
@@ -1,47 +1,437 @@
 package com.banking.payment.orders.adapter.out.persistence;
 
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
 import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderIds;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
 import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.r2dbc.spi.Row;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * PaymentOrderRepositoryAdapter - Adaptador de persistencia para órdenes de pago.
+ *
+ * <p>Cada escritura registra sus eventos en la bandeja de salida dentro de la misma
+ * transacción.
  */
 @Component
 public class PaymentOrderRepositoryAdapter implements PaymentOrderPort {
 
+  static final String[] INSERT_COLUMNS = {
+      "id", "status", "payment_transaction_initiator_reference",
+      "payer_reference", "payer_bank_reference", "payer_product_instance_reference",
+      "payee_reference", "payee_bank_reference", "payee_product_instance_reference",
+      "amount", "currency", "payment_mechanism_type",
+      "date_type", "date", "remittance_information",
+      "created_date_time", "last_update_date_time", "version"
+  };
+
+  /**
+   * Máximo de parámetros enlazables en una sentencia del protocolo de PostgreSQL (el número de
+   * parámetros viaja como entero de 16 bits sin signo).
+   */
+  static final int MAX_BIND_PARAMETERS = 65535;
+
+  /**
+   * Filas por INSERT multi-fila: un lote mayor se reparte en varias sentencias dentro de la
+   * misma transacción.
+   */
+  static final int MAX_ROWS_PER_INSERT = MAX_BIND_PARAMETERS / INSERT_COLUMNS.length;
+
+  static final String TRANSITION_STATUS_SQL = "UPDATE payment_orders"
+      + " SET status = $3, last_update_date_time = $4, version = version + 1"
+      + " WHERE id = ANY($1) AND status = $2"
+      + " RETURNING id, status, last_update_date_time";
+
+  static final String UPDATE_STATUSES_SQL = "UPDATE payment_orders AS p"
+      + " SET status = u.status, last_update_date_time = u.last_update_date_time,"
+      + " version = u.version"
+      + " FROM unnest($1::uuid[], $2::smallint[], $3::timestamptz[], $4::bigint[], $5::bigint[])"
+      + " AS u(id, status, last_update_date_time, expected_version, version)"
+      + " WHERE p.id = u.id AND p.version = u.expected_version"
+      + " RETURNING p.id, p.status, p.last_update_date_time";
+
+  static final String FIND_STATUSES_BY_IDS_SQL =
+      "SELECT id, status, last_update_date_time FROM payment_orders WHERE id = ANY($1)";
+
+  static final String FIND_ALL_BY_ID_SQL = "SELECT " + String.join(", ", INSERT_COLUMNS)
+      + " FROM payment_orders WHERE id = ANY($1)";
+
+  static final String FIND_ALL_BY_ID_CREATED_BETWEEN_SQL = FIND_ALL_BY_ID_SQL
+      + " AND created_date_time >= $2 AND created_date_time < $3";
+
+  /**
+   * Margen alrededor del instante de un id v7 en el que debe caer su fecha de creación. Cubre
+   * desfases de reloj entre nodos y deja el rango dentro de una o, como mucho, dos particiones.
+   */
+  static final Duration ID_TIMESTAMP_TOLERANCE = Duration.ofDays(1);
+
   private final PaymentOrderR2dbcRepository repository;
   private final PaymentOrderPersistenceMapper mapper;
+  private final DatabaseClient databaseClient;
+  private final R2dbcConverter converter;
+  private final PaymentOrderOutboxRepositoryAdapter outbox;
+  private final TransactionalOperator transactionalOperator;
 
+  /**
+   * Constructor con inyección de dependencias.
+   */
   public PaymentOrderRepositoryAdapter(
       PaymentOrderR2dbcRepository repository,
-      PaymentOrderPersistenceMapper mapper) {
+      PaymentOrderPersistenceMapper mapper,
+      DatabaseClient databaseClient,
+      R2dbcConverter converter,
+      PaymentOrderOutboxRepositoryAdapter outbox,
+      TransactionalOperator transactionalOperator) {
     this.repository = repository;
     this.mapper = mapper;
+    this.databaseClient = databaseClient;
+    this.converter = converter;
+    this.outbox = outbox;
+    this.transactionalOperator = transactionalOperator;
   }
 
+  /**
+   * Persiste la orden sin lectura previa: INSERT si la orden aún no tiene versión,
+   * o UPDATE condicionado a la versión leída ({@code WHERE id = ? AND version = ?}).
+   * Si otra escritura ganó la carrera se emite {@link PaymentOrderConflictException}.
+   */
   @Override
   public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
-    return repository.findById(paymentOrder.getPaymentOrderProcedureInstanceReference())
-        .flatMap(existingEntity -> {
-          // UPDATE: La entidad existe, actualizar
-          var entity = mapper.toEntity(paymentOrder, false);
-          return repository.save(entity);
-        })
-        .switchIfEmpty(Mono.defer(() -> {
-          // INSERT: La entidad no existe, crear nueva
-          var entity = mapper.toEntity(paymentOrder, true);
-          return repository.save(entity);
-        }))
-        .map(mapper::toDomain);
+    boolean isNew = paymentOrder.getVersion() == null;
+    Mono<PaymentOrderProcedure> saveWithEvent = Mono
+        .fromSupplier(() -> mapper.toEntity(paymentOrder, isNew))
+        .flatMap(repository::save)
+        .map(mapper::toDomain)
+        .flatMap(saved -> outbox.append(List.of(isNew
+                ? PaymentOrderEvent.initiated(saved)
+                : PaymentOrderEvent.statusChanged(PaymentOrderStatusSnapshot.of(saved))))
+            .thenReturn(saved));
+    return transactionalOperator.transactional(saveWithEvent)
+        .onErrorMap(
+            ex -> ex instanceof OptimisticLockingFailureException
+                || ex instanceof DuplicateKeyException,
+            ex -> new PaymentOrderConflictException(
+                paymentOrder.getPaymentOrderProcedureInstanceReference(), ex));
   }
 
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    if (paymentOrders.isEmpty()) {
+      return Flux.empty();
+    }
+    List<PaymentOrderEntity> entities = paymentOrders.stream()
+        .map(order -> mapper.toEntity(order, true))
+        .toList();
+    entities.forEach(entity -> entity.setVersion(0L));
+
+    List<PaymentOrderProcedure> inserted = entities.stream().map(mapper::toDomain).toList();
+    Mono<Void> insertWithEvents = Flux.fromIterable(entities)
+        .buffer(MAX_ROWS_PER_INSERT)
+        .concatMap(this::insertRows)
+        .then(outbox.append(inserted.stream().map(PaymentOrderEvent::initiated).toList()));
+    return transactionalOperator.transactional(insertWithEvents)
+        .thenMany(Flux.fromIterable(inserted));
+  }
+
+  private Mono<Long> insertRows(List<PaymentOrderEntity> entities) {
+    GenericExecuteSpec spec = databaseClient.sql(buildInsertSql(entities.size()));
+    int index = 0;
+    for (PaymentOrderEntity entity : entities) {
+      spec = bindEntity(spec, index, entity);
+      index += INSERT_COLUMNS.length;
+    }
+    return spec.fetch().rowsUpdated();
+  }
+
+  /**
+   * Con un id v7 la consulta acota la fecha de creación y solo lee la partición de la orden;
+   * los ids v4 anteriores se buscan en todas las particiones.
+   */
   @Override
   public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
-    return repository.findById(paymentOrderId)
+    return PaymentOrderIds.timestampOf(paymentOrderId)
+        .map(created -> repository.findByIdCreatedBetween(
+            paymentOrderId, createdFrom(created), createdTo(created)))
+        .orElseGet(() -> repository.findById(paymentOrderId))
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    return PaymentOrderIds.timestampOf(paymentOrderId)
+        .map(created -> repository.findStatusByIdCreatedBetween(
+            paymentOrderId, createdFrom(created), createdTo(created)))
+        .orElseGet(() -> repository.findStatusById(paymentOrderId))
+        .map(mapper::toStatusSnapshot);
+  }
+
+  private static OffsetDateTime createdFrom(Instant idTimestamp) {
+    return idTimestamp.minus(ID_TIMESTAMP_TOLERANCE).atOffset(ZoneOffset.UTC);
+  }
+
+  private static OffsetDateTime createdTo(Instant idTimestamp) {
+    return idTimestamp.plus(ID_TIMESTAMP_TOLERANCE).atOffset(ZoneOffset.UTC);
+  }
+
+  /**
+   * Busca por keyset: en lugar de OFFSET, la página siguiente arranca con
+   * {@code (created_date_time, id) < (cursor)}, que los índices compuestos
+   * (..., created_date_time DESC, id DESC) resuelven sin recorrer las páginas previas.
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    List<Object> parameters = new ArrayList<>();
+    GenericExecuteSpec spec =
+        databaseClient.sql(buildSearchSql(criteria, after, limit, parameters));
+    for (int index = 0; index < parameters.size(); index++) {
+      spec = spec.bind(index, parameters.get(index));
+    }
+    return spec.map((row, metadata) -> converter.read(PaymentOrderEntity.class, row, metadata))
+        .all()
         .map(mapper::toDomain);
   }
+
+  /**
+   * Aplica la transición a todo el bloque con una sola sentencia. La condición sobre el
+   * estado hace la actualización atómica frente a escrituras concurrentes: solo se devuelven
+   * (y generan evento) las órdenes que realmente cambiaron.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    if (paymentOrderIds.isEmpty()) {
+      return Flux.empty();
+    }
+    Mono<List<PaymentOrderStatusSnapshot>> transitionWithEvents =
+        databaseClient.sql(TRANSITION_STATUS_SQL)
+            .bind(0, paymentOrderIds.toArray(new UUID[0]))
+            .bind(1, PaymentOrderPersistenceMapper.encodeStatus(fromStatus))
+            .bind(2, PaymentOrderPersistenceMapper.encodeStatus(toStatus))
+            .bind(3, OffsetDateTime.now())
+            .map((row, metadata) -> toStatusSnapshot(row))
+            .all()
+            .collectList()
+            .flatMap(updated -> outbox.append(
+                    updated.stream().map(PaymentOrderEvent::statusChanged).toList())
+                .thenReturn(updated));
+    return transactionalOperator.transactional(transitionWithEvents)
+        .flatMapIterable(updated -> updated);
+  }
+
+  /**
+   * Aplica todos los cambios con un UPDATE ... FROM unnest(...): una fila por orden, cada una
+   * condicionada a su versión esperada. Solo las órdenes modificadas generan evento.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    if (updates.isEmpty()) {
+      return Flux.empty();
+    }
+    int size = updates.size();
+    UUID[] ids = new UUID[size];
+    Short[] statuses = new Short[size];
+    OffsetDateTime[] lastUpdates = new OffsetDateTime[size];
+    Long[] expectedVersions = new Long[size];
+    Long[] versions = new Long[size];
+    for (int index = 0; index < size; index++) {
+      PaymentOrderStatusUpdate update = updates.get(index);
+      ids[index] = update.paymentOrderProcedureInstanceReference();
+      statuses[index] = PaymentOrderPersistenceMapper.encodeStatus(
+          update.paymentOrderProcedureInstanceStatus());
+      lastUpdates[index] = update.lastUpdateDateTime();
+      expectedVersions[index] = update.expectedVersion();
+      versions[index] = update.version();
+    }
+    Mono<List<PaymentOrderStatusSnapshot>> updateWithEvents =
+        databaseClient.sql(UPDATE_STATUSES_SQL)
+            .bind(0, ids)
+            .bind(1, statuses)
+            .bind(2, lastUpdates)
+            .bind(3, expectedVersions)
+            .bind(4, versions)
+            .map((row, metadata) -> toStatusSnapshot(row))
+            .all()
+            .collectList()
+            .flatMap(updated -> outbox.append(
+                    updated.stream().map(PaymentOrderEvent::statusChanged).toList())
+                .thenReturn(updated));
+    return transactionalOperator.transactional(updateWithEvents)
+        .flatMapIterable(updated -> updated);
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    if (paymentOrderIds.isEmpty()) {
+      return Flux.empty();
+    }
+    return databaseClient.sql(FIND_STATUSES_BY_IDS_SQL)
+        .bind(0, paymentOrderIds.toArray(new UUID[0]))
+        .map((row, metadata) -> toStatusSnapshot(row))
+        .all();
+  }
+
+  /**
+   * Lee todas las órdenes con un solo {@code WHERE id = ANY($1)}. Si todos los ids son v7,
+   * acota además la fecha de creación entre el más antiguo y el más reciente para leer solo
+   * las particiones que pueden contenerlos; con algún id v4 se recorren todas.
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    if (paymentOrderIds.isEmpty()) {
+      return Flux.empty();
+    }
+    Instant oldest = Instant.MAX;
+    Instant newest = Instant.MIN;
+    for (UUID paymentOrderId : paymentOrderIds) {
+      Optional<Instant> created = PaymentOrderIds.timestampOf(paymentOrderId);
+      if (created.isEmpty()) {
+        oldest = null;
+        break;
+      }
+      oldest = created.get().isBefore(oldest) ? created.get() : oldest;
+      newest = created.get().isAfter(newest) ? created.get() : newest;
+    }
+    UUID[] ids = paymentOrderIds.toArray(new UUID[0]);
+    GenericExecuteSpec spec = oldest == null
+        ? databaseClient.sql(FIND_ALL_BY_ID_SQL).bind(0, ids)
+        : databaseClient.sql(FIND_ALL_BY_ID_CREATED_BETWEEN_SQL)
+            .bind(0, ids)
+            .bind(1, createdFrom(oldest))
+            .bind(2, createdTo(newest));
+    return spec.map((row, metadata) -> converter.read(PaymentOrderEntity.class, row, metadata))
+        .all()
+        .map(mapper::toDomain);
+  }
+
+  private static PaymentOrderStatusSnapshot toStatusSnapshot(Row row) {
+    return new PaymentOrderStatusSnapshot(
+        row.get("id", UUID.class),
+        PaymentOrderPersistenceMapper.decodeStatus(row.get("status", Short.class)),
+        row.get("last_update_date_time", OffsetDateTime.class));
+  }
+
+  /**
+   * Construye la consulta de búsqueda añadiendo a {@code parameters} los valores de cada
+   * filtro presente, en el orden de sus marcadores $n.
+   */
+  static String buildSearchSql(PaymentOrderSearchCriteria criteria,
+      PaymentOrderSearchCursor after, int limit, List<Object> parameters) {
+    return buildSelectSql(criteria, after, parameters)
+        .append(" ORDER BY created_date_time DESC, id DESC LIMIT ")
+        .append(limit)
+        .toString();
+  }
+
+  /**
+   * Construye el SELECT de todas las columnas con los filtros de {@code criteria} y, si hay
+   * cursor, la condición de keyset {@code (created_date_time, id) < (cursor)}.
+   */
+  static StringBuilder buildSelectSql(PaymentOrderSearchCriteria criteria,
+      PaymentOrderSearchCursor after, List<Object> parameters) {
+    StringBuilder sql = new StringBuilder(512)
+        .append("SELECT ")
+        .append(String.join(", ", INSERT_COLUMNS))
+        .append(" FROM payment_orders");
+    appendFilter(sql, parameters, "payer_product_instance_reference = ",
+        criteria.payerProductInstanceReference());
+    appendFilter(sql, parameters, "payee_product_instance_reference = ",
+        criteria.payeeProductInstanceReference());
+    appendFilter(sql, parameters, "status = ", criteria.status() != null
+        ? PaymentOrderPersistenceMapper.encodeStatus(criteria.status()) : null);
+    appendFilter(sql, parameters, "created_date_time >= ", criteria.createdFrom());
+    appendFilter(sql, parameters, "created_date_time < ", criteria.createdTo());
+    if (after != null) {
+      parameters.add(after.createdDateTime());
+      parameters.add(after.id());
+      sql.append(parameters.size() == 2 ? " WHERE " : " AND ")
+          .append("(created_date_time, id) < ($").append(parameters.size() - 1)
+          .append(", $").append(parameters.size()).append(')');
+    }
+    return sql;
+  }
+
+  private static void appendFilter(
+      StringBuilder sql, List<Object> parameters, String condition, Object value) {
+    if (value == null) {
+      return;
+    }
+    parameters.add(value);
+    sql.append(parameters.size() == 1 ? " WHERE " : " AND ")
+        .append(condition).append('$').append(parameters.size());
+  }
+
+  /**
+   * Construye un INSERT multi-fila: {@code INSERT INTO payment_orders (...) VALUES ($1..$18),
+   * ($19..$36), ...}.
+   */
+  static String buildInsertSql(int rows) {
+    StringBuilder sql = new StringBuilder(64 + rows * INSERT_COLUMNS.length * 5)
+        .append("INSERT INTO payment_orders (")
+        .append(String.join(", ", INSERT_COLUMNS))
+        .append(") VALUES ");
+    int parameter = 1;
+    for (int row = 0; row < rows; row++) {
+      sql.append(row == 0 ? "(" : ", (");
+      for (int column = 0; column < INSERT_COLUMNS.length; column++) {
+        sql.append(column == 0 ? "$" : ", $").append(parameter++);
+      }
+      sql.append(')');
+    }
+    return sql.toString();
+  }
+
+  private static GenericExecuteSpec bindEntity(
+      GenericExecuteSpec spec, int offset, PaymentOrderEntity entity) {
+    GenericExecuteSpec bound = spec
+        .bind(offset, entity.getId())
+        .bind(offset + 1, entity.getStatus())
+        .bind(offset + 2, entity.getPaymentTransactionInitiatorReference());
+    bound = bindNullable(bound, offset + 3, entity.getPayerReference(), String.class);
+    bound = bindNullable(bound, offset + 4, entity.getPayerBankReference(), String.class);
+    bound = bound.bind(offset + 5, entity.getPayerProductInstanceReference());
+    bound = bindNullable(bound, offset + 6, entity.getPayeeReference(), String.class);
+    bound = bindNullable(bound, offset + 7, entity.getPayeeBankReference(), String.class);
+    bound = bound.bind(offset + 8, entity.getPayeeProductInstanceReference());
+    bound = bound.bind(offset + 9, entity.getAmount());
+    bound = bound.bind(offset + 10, entity.getCurrency());
+    bound = bindNullable(bound, offset + 11, entity.getPaymentMechanismType(), String.class);
+    bound = bound.bind(offset + 12, entity.getDateType());
+    bound = bindNullable(bound, offset + 13, entity.getDate(), LocalDate.class);
+    bound = bindNullable(bound, offset + 14, entity.getRemittanceInformation(), String.class);
+    bound = bindNullable(bound, offset + 15, entity.getCreatedDateTime(), OffsetDateTime.class);
+    bound = bindNullable(bound, offset + 16, entity.getLastUpdateDateTime(),
+        OffsetDateTime.class);
+    return bound.bind(offset + 17, entity.getVersion());
+  }
+
+  private static GenericExecuteSpec bindNullable(
+      GenericExecuteSpec spec, int index, Object value, Class<?> type) {
+    return value != null ? spec.bind(index, value) : spec.bindNull(index, type);
+  }
 }
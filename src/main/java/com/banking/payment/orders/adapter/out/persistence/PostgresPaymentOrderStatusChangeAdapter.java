@@ -0,0 +1,95 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.out.PaymentOrderStatusChangePort;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * PostgresPaymentOrderStatusChangeAdapter - Escucha con LISTEN las notificaciones que el
+ * trigger payment_orders_status_notify emite al confirmarse un cambio de estado.
+ *
+ * <p>La escucha usa una conexión propia fuera del pool: queda ocupada mientras dura y
+ * PostgreSQL solo entrega notificaciones a la conexión que ejecutó LISTEN.
+ */
+@Component
+public class PostgresPaymentOrderStatusChangeAdapter implements PaymentOrderStatusChangePort {
+
+  static final String CHANNEL = "payment_order_status";
+
+  private static final Logger log =
+      LoggerFactory.getLogger(PostgresPaymentOrderStatusChangeAdapter.class);
+
+  private final ConnectionFactory connectionFactory;
+  private final Duration minReconnectBackoff;
+  private final Duration maxReconnectBackoff;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public PostgresPaymentOrderStatusChangeAdapter(
+      R2dbcProperties properties,
+      @Value("${payment-orders.status-stream.reconnect.min-backoff:1s}")
+      Duration minReconnectBackoff,
+      @Value("${payment-orders.status-stream.reconnect.max-backoff:30s}")
+      Duration maxReconnectBackoff) {
+    this.connectionFactory = ConnectionFactoryBuilder
+        .withUrl(properties.getUrl())
+        .username(properties.getUsername())
+        .password(properties.getPassword())
+        .build();
+    this.minReconnectBackoff = minReconnectBackoff;
+    this.maxReconnectBackoff = maxReconnectBackoff;
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> statusChanges(Runnable onListening) {
+    return Flux.usingWhen(
+            Mono.from(connectionFactory.create()).cast(PostgresqlConnection.class),
+            connection -> listen(connection, onListening),
+            PostgresqlConnection::close)
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, minReconnectBackoff)
+            .maxBackoff(maxReconnectBackoff)
+            .doBeforeRetry(signal -> log.warn("LISTEN {} lost, reconnecting: {}",
+                CHANNEL, signal.failure().getMessage())));
+  }
+
+  private Flux<PaymentOrderStatusSnapshot> listen(
+      PostgresqlConnection connection, Runnable onListening) {
+    return connection.createStatement("LISTEN " + CHANNEL)
+        .execute()
+        .flatMap(PostgresqlResult::getRowsUpdated)
+        .then(Mono.fromRunnable(onListening))
+        .thenMany(connection.getNotifications())
+        .concatWith(Mono.error(new IllegalStateException("LISTEN connection closed")))
+        .map(Notification::getParameter)
+        .map(PostgresPaymentOrderStatusChangeAdapter::parse);
+  }
+
+  /**
+   * Interpreta la carga de la notificación: {@code id,status,last_update_date_time} con el
+   * código de estado persistido y la fecha en ISO-8601.
+   */
+  static PaymentOrderStatusSnapshot parse(String payload) {
+    String[] fields = payload.split(",", 3);
+    return new PaymentOrderStatusSnapshot(
+        UUID.fromString(fields[0]),
+        PaymentOrderPersistenceMapper.decodeStatus(Short.parseShort(fields[1])),
+        OffsetDateTime.parse(fields[2]));
+  }
+}
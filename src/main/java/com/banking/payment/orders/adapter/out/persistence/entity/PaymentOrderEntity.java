@@ -1,17 +1,21 @@
 package com.banking.payment.orders.adapter.out.persistence.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * PaymentOrderEntity - Entidad de persistencia para órdenes de pago.
+ *
+ * <p>Estado, moneda e importe se guardan codificados (ver PaymentOrderPersistenceMapper):
+ * estado como código smallint, moneda como código numérico ISO 4217 e importe en unidades
+ * menores de la moneda, la misma representación que Money en el dominio.
  */
 @Table("payment_orders")
 public class PaymentOrderEntity implements Persistable<UUID> {
@@ -24,7 +28,7 @@ public class PaymentOrderEntity implements Persistable<UUID> {
   private boolean isNew = true;
 
   @Column("status")
-  private String status;
+  private Short status;
 
   @Column("payment_transaction_initiator_reference")
   private String paymentTransactionInitiatorReference;
@@ -51,10 +55,10 @@ public class PaymentOrderEntity implements Persistable<UUID> {
 
   // Payment Details fields
   @Column("amount")
-  private BigDecimal amount;
+  private Long amount;
 
   @Column("currency")
-  private String currency;
+  private Short currency;
 
   @Column("payment_mechanism_type")
   private String paymentMechanismType;
@@ -75,6 +79,10 @@ public class PaymentOrderEntity implements Persistable<UUID> {
   @Column("last_update_date_time")
   private OffsetDateTime lastUpdateDateTime;
 
+  @Version
+  @Column("version")
+  private Long version;
+
   // Getters and Setters
   public UUID getId() {
     return id;
@@ -84,11 +92,11 @@ public class PaymentOrderEntity implements Persistable<UUID> {
     this.id = id;
   }
 
-  public String getStatus() {
+  public Short getStatus() {
     return status;
   }
 
-  public void setStatus(String status) {
+  public void setStatus(Short status) {
     this.status = status;
   }
 
@@ -148,19 +156,19 @@ public class PaymentOrderEntity implements Persistable<UUID> {
     this.payeeProductInstanceReference = payeeProductInstanceReference;
   }
 
-  public BigDecimal getAmount() {
+  public Long getAmount() {
     return amount;
   }
 
-  public void setAmount(BigDecimal amount) {
+  public void setAmount(Long amount) {
     this.amount = amount;
   }
 
-  public String getCurrency() {
+  public Short getCurrency() {
     return currency;
   }
 
-  public void setCurrency(String currency) {
+  public void setCurrency(Short currency) {
     this.currency = currency;
   }
 
@@ -211,6 +219,14 @@ public class PaymentOrderEntity implements Persistable<UUID> {
   public void setLastUpdateDateTime(OffsetDateTime lastUpdateDateTime) {
     this.lastUpdateDateTime = lastUpdateDateTime;
   }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
   
   // Persistable methods
   @Override
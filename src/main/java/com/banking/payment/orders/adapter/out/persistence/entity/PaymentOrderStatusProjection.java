@@ -0,0 +1,14 @@
+package com.banking.payment.orders.adapter.out.persistence.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.data.relational.core.mapping.Column;
+
+/**
+ * PaymentOrderStatusProjection - Proyección con las columnas necesarias para consultar el estado.
+ */
+public record PaymentOrderStatusProjection(
+    @Column("id") UUID id,
+    @Column("status") short status,
+    @Column("last_update_date_time") OffsetDateTime lastUpdateDateTime) {
+}
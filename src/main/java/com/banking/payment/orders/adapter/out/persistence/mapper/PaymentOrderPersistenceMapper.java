@@ -1,20 +1,68 @@
 package com.banking.payment.orders.adapter.out.persistence.mapper;
 
 import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderStatusProjection;
 import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Money;
 import com.banking.payment.orders.domain.model.Payee;
 import com.banking.payment.orders.domain.model.Payer;
 import com.banking.payment.orders.domain.model.PaymentDetails;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
 import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.util.Currency;
 import org.springframework.stereotype.Component;
 
 /**
  * PaymentOrderPersistenceMapper - Mapper entre entidades de dominio y persistencia.
+ *
+ * <p>Incluye los codecs de las columnas compactas. Los de estado y moneda no reservan memoria:
+ * son accesos a tablas precalculadas. El importe se copia tal cual entre la columna y
+ * {@link Money}, que ya guarda las unidades menores de la moneda.
  */
 @Component
 public class PaymentOrderPersistenceMapper {
 
+  /**
+   * Código persistido de cada estado (posición en el array). Los códigos son estables: un
+   * estado nuevo se añade al final y nunca se reutiliza un código.
+   */
+  private static final PaymentOrderStatus[] STATUS_BY_CODE = {
+      null,
+      PaymentOrderStatus.INITIATED,
+      PaymentOrderStatus.PENDING,
+      PaymentOrderStatus.ACCEPTED,
+      PaymentOrderStatus.IN_PROGRESS,
+      PaymentOrderStatus.COMPLETED,
+      PaymentOrderStatus.SETTLED,
+      PaymentOrderStatus.REJECTED,
+      PaymentOrderStatus.FAILED,
+      PaymentOrderStatus.CANCELLED
+  };
+
+  private static final short[] CODE_BY_STATUS = new short[PaymentOrderStatus.values().length];
+
+  /** Códigos numéricos ISO 4217: van de 1 a 999. */
+  private static final int CURRENCY_CODES = 1000;
+  private static final String[] CURRENCY_BY_CODE = new String[CURRENCY_CODES];
+
+  static {
+    for (short code = 1; code < STATUS_BY_CODE.length; code++) {
+      CODE_BY_STATUS[STATUS_BY_CODE[code].ordinal()] = code;
+    }
+    for (PaymentOrderStatus status : PaymentOrderStatus.values()) {
+      if (CODE_BY_STATUS[status.ordinal()] == 0) {
+        throw new IllegalStateException("No storage code for status " + status);
+      }
+    }
+    for (Currency currency : Currency.getAvailableCurrencies()) {
+      int code = currency.getNumericCode();
+      if (code > 0 && code < CURRENCY_CODES) {
+        CURRENCY_BY_CODE[code] = currency.getCurrencyCode();
+      }
+    }
+  }
+
   /**
    * Convierte PaymentOrderProcedure de dominio a PaymentOrderEntity.
    *
@@ -37,7 +85,7 @@ public class PaymentOrderPersistenceMapper {
 
     entity.setId(domain.getPaymentOrderProcedureInstanceReference());
     entity.setNew(isNew);
-    entity.setStatus(domain.getPaymentOrderProcedureInstanceStatus().getValue());
+    entity.setStatus(encodeStatus(domain.getPaymentOrderProcedureInstanceStatus()));
     entity.setPaymentTransactionInitiatorReference(
         domain.getPaymentTransactionInitiatorReference());
 
@@ -52,8 +100,9 @@ public class PaymentOrderPersistenceMapper {
     entity.setPayeeProductInstanceReference(domain.getPayee().payeeProductInstanceReference());
 
     // Payment Details
-    entity.setAmount(domain.getPaymentDetails().amount());
-    entity.setCurrency(domain.getPaymentDetails().currency());
+    Money amount = domain.getPaymentDetails().amount();
+    entity.setAmount(amount.minorUnits());
+    entity.setCurrency(encodeCurrency(amount.currency()));
     entity.setPaymentMechanismType(domain.getPaymentDetails().paymentMechanismType());
 
     // Date Information
@@ -63,6 +112,7 @@ public class PaymentOrderPersistenceMapper {
     entity.setRemittanceInformation(domain.getRemittanceInformation());
     entity.setCreatedDateTime(domain.getCreatedDateTime());
     entity.setLastUpdateDateTime(domain.getLastUpdateDateTime());
+    entity.setVersion(domain.getVersion());
 
     return entity;
   }
@@ -87,8 +137,7 @@ public class PaymentOrderPersistenceMapper {
     );
 
     PaymentDetails paymentDetails = new PaymentDetails(
-        entity.getAmount(),
-        entity.getCurrency(),
+        new Money(entity.getAmount(), decodeCurrency(entity.getCurrency())),
         entity.getPaymentMechanismType()
     );
 
@@ -97,40 +146,99 @@ public class PaymentOrderPersistenceMapper {
         entity.getDate()
     );
 
-    // Crear la instancia y luego usar reflexión para setear el ID correcto
-    PaymentOrderProcedure procedure = PaymentOrderProcedure.initiate(
+    return PaymentOrderProcedure.rehydrate(
+        entity.getId(),
+        decodeStatus(entity.getStatus()),
         entity.getPaymentTransactionInitiatorReference(),
         payer,
         payee,
         paymentDetails,
         dateInformation,
-        entity.getRemittanceInformation()
+        entity.getRemittanceInformation(),
+        entity.getCreatedDateTime(),
+        entity.getLastUpdateDateTime(),
+        entity.getVersion()
     );
+  }
+
+  /**
+   * Copia de una orden con otra versión de persistencia, para quien registra una escritura
+   * antes de ejecutarla.
+   *
+   * @param domain orden de pago
+   * @param version versión de la copia
+   * @return copia de la orden con la versión indicada
+   */
+  public PaymentOrderProcedure withVersion(PaymentOrderProcedure domain, long version) {
+    PaymentOrderEntity entity = toEntity(domain, false);
+    entity.setVersion(version);
+    return toDomain(entity);
+  }
+
+  /**
+   * Convierte la proyección de estado a PaymentOrderStatusSnapshot de dominio.
+   *
+   * @param projection proyección de estado
+   * @return estado de la orden de pago
+   */
+  public PaymentOrderStatusSnapshot toStatusSnapshot(PaymentOrderStatusProjection projection) {
+    return new PaymentOrderStatusSnapshot(
+        projection.id(),
+        decodeStatus(projection.status()),
+        projection.lastUpdateDateTime());
+  }
 
-    // Usar reflexión para setear el ID de la base de datos
-    try {
-      var idField = PaymentOrderProcedure.class
-          .getDeclaredField("paymentOrderProcedureInstanceReference");
-      idField.setAccessible(true);
-      idField.set(procedure, entity.getId());
-      
-      var createdField = PaymentOrderProcedure.class.getDeclaredField("createdDateTime");
-      createdField.setAccessible(true);
-      createdField.set(procedure, entity.getCreatedDateTime());
-      
-      var updatedField = PaymentOrderProcedure.class.getDeclaredField("lastUpdateDateTime");
-      updatedField.setAccessible(true);
-      updatedField.set(procedure, entity.getLastUpdateDateTime());
-    } catch (Exception e) {
-      throw new RuntimeException("Error setting ID from database", e);
+  /**
+   * Código persistido de un estado.
+   *
+   * @param status estado de dominio
+   * @return código smallint
+   */
+  public static short encodeStatus(PaymentOrderStatus status) {
+    return CODE_BY_STATUS[status.ordinal()];
+  }
+
+  /**
+   * Estado correspondiente a un código persistido.
+   *
+   * @param code código smallint
+   * @return estado de dominio
+   * @throws IllegalArgumentException si el código no corresponde a ningún estado
+   */
+  public static PaymentOrderStatus decodeStatus(short code) {
+    if (code <= 0 || code >= STATUS_BY_CODE.length) {
+      throw new IllegalArgumentException("Unknown PaymentOrderStatus code: " + code);
     }
+    return STATUS_BY_CODE[code];
+  }
 
-    // Actualizar el estado si es diferente de INITIATED
-    PaymentOrderStatus status = PaymentOrderStatus.fromValue(entity.getStatus());
-    if (status != PaymentOrderStatus.INITIATED) {
-      procedure.updateStatus(status);
+  /**
+   * Código numérico ISO 4217 de una moneda.
+   *
+   * @param currency código alfabético ISO 4217
+   * @return código numérico
+   * @throws IllegalArgumentException si la moneda no existe o no tiene código numérico
+   */
+  public static short encodeCurrency(String currency) {
+    int code = Currency.getInstance(currency).getNumericCode();
+    if (code <= 0 || code >= CURRENCY_CODES) {
+      throw new IllegalArgumentException("Currency without ISO 4217 numeric code: " + currency);
     }
+    return (short) code;
+  }
 
-    return procedure;
+  /**
+   * Código alfabético ISO 4217 de un código numérico.
+   *
+   * @param code código numérico
+   * @return código alfabético (instancia compartida)
+   * @throws IllegalArgumentException si el código no corresponde a ninguna moneda
+   */
+  public static String decodeCurrency(short code) {
+    String currency = code > 0 && code < CURRENCY_CODES ? CURRENCY_BY_CODE[code] : null;
+    if (currency == null) {
+      throw new IllegalArgumentException("Unknown ISO 4217 numeric code: " + code);
+    }
+    return currency;
   }
 }
@@ -0,0 +1,72 @@
+package com.banking.payment.orders.adapter.out.routing;
+
+import io.r2dbc.spi.ConnectionFactory;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReadWriteRoutingConnectionFactory - ConnectionFactory que reparte las conexiones entre el
+ * pool primario y el de la réplica.
+ *
+ * <p>La ruta se decide al adquirir la conexión, a partir del contexto de Reactor: solo las
+ * operaciones marcadas con {@link #onReplica(Mono)} o {@link #onReplica(Flux)} usan la réplica,
+ * y únicamente mientras esta acepte lecturas (su retraso está dentro del máximo). Todo lo
+ * demás, incluidas las transacciones y cualquier escritura, va al primario.
+ */
+public class ReadWriteRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+  /** Clave del contexto de Reactor que marca una lectura apta para la réplica. */
+  static final String REPLICA_ROUTE =
+      ReadWriteRoutingConnectionFactory.class.getName() + ".replica";
+
+  private static final Object REPLICA = "replica";
+
+  private final BooleanSupplier replicaAcceptsReads;
+
+  /**
+   * Crea el enrutador.
+   *
+   * @param primary pool del primario, usado por defecto
+   * @param replica pool de la réplica
+   * @param replicaAcceptsReads si la réplica puede servir lecturas en este momento
+   */
+  public ReadWriteRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica,
+      BooleanSupplier replicaAcceptsReads) {
+    this.replicaAcceptsReads = replicaAcceptsReads;
+    setTargetConnectionFactories(Map.of(REPLICA, replica));
+    setDefaultTargetConnectionFactory(primary);
+  }
+
+  /**
+   * Marca una lectura como apta para la réplica. Sin enrutador configurado la marca no tiene
+   * efecto.
+   *
+   * @param read lectura
+   * @param <T> tipo del resultado
+   * @return la misma lectura con la marca en su contexto
+   */
+  public static <T> Mono<T> onReplica(Mono<T> read) {
+    return read.contextWrite(context -> context.put(REPLICA_ROUTE, Boolean.TRUE));
+  }
+
+  /**
+   * Marca una lectura como apta para la réplica. Sin enrutador configurado la marca no tiene
+   * efecto.
+   *
+   * @param read lectura
+   * @param <T> tipo de los elementos
+   * @return la misma lectura con la marca en su contexto
+   */
+  public static <T> Flux<T> onReplica(Flux<T> read) {
+    return read.contextWrite(context -> context.put(REPLICA_ROUTE, Boolean.TRUE));
+  }
+
+  @Override
+  protected Mono<Object> determineCurrentLookupKey() {
+    return Mono.deferContextual(context -> context.hasKey(REPLICA_ROUTE)
+        && replicaAcceptsReads.getAsBoolean() ? Mono.just(REPLICA) : Mono.empty());
+  }
+}
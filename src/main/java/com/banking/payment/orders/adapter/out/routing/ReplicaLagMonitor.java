@@ -0,0 +1,131 @@
+package com.banking.payment.orders.adapter.out.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReplicaLagMonitor - Mide periódicamente el retraso de replicación de la réplica.
+ *
+ * <p>El retraso es cero si la réplica ha aplicado todo el WAL recibido (o si no está en
+ * recuperación); en caso contrario es el tiempo transcurrido desde la última transacción
+ * aplicada. La réplica solo acepta lecturas mientras la última medición sea correcta y no
+ * supere el máximo: antes de la primera medición, o si la consulta falla o tarda más que el
+ * intervalo, las lecturas vuelven al primario.
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+  static final String LAG_GAUGE = "payment.orders.replica.lag";
+
+  static final String LAG_SQL = "SELECT CASE"
+      + " WHEN NOT pg_is_in_recovery()"
+      + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+      + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)"
+      + " END::bigint AS lag_millis";
+
+  /** Retraso desconocido: aún no medido o la última medición falló. */
+  static final long UNKNOWN = -1L;
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  private final DatabaseClient replicaClient;
+  private final Duration interval;
+  private final long maxLagMillis;
+  private volatile long lagMillis = UNKNOWN;
+  private volatile Disposable subscription;
+
+  /**
+   * Crea el monitor y registra el gauge de retraso.
+   *
+   * @param replicaClient cliente R2DBC sobre el pool de la réplica
+   * @param interval intervalo entre mediciones, también tiempo máximo de cada una
+   * @param maxLag retraso máximo con el que la réplica acepta lecturas
+   * @param meterRegistry registro de métricas
+   */
+  public ReplicaLagMonitor(DatabaseClient replicaClient, Duration interval, Duration maxLag,
+      MeterRegistry meterRegistry) {
+    this.replicaClient = replicaClient;
+    this.interval = interval;
+    this.maxLagMillis = maxLag.toMillis();
+    TimeGauge.builder(LAG_GAUGE, this, TimeUnit.MILLISECONDS, ReplicaLagMonitor::lagOrNaN)
+        .description("Retraso de replicación de la réplica de lectura; NaN si es desconocido")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Indica si la réplica puede servir lecturas.
+   *
+   * @return true si el último retraso medido no supera el máximo
+   */
+  public boolean acceptsReads() {
+    long current = lagMillis;
+    return current != UNKNOWN && current <= maxLagMillis;
+  }
+
+  /**
+   * Mide el retraso actual y actualiza el estado del monitor.
+   *
+   * @return Mono con el retraso en milisegundos, o {@link #UNKNOWN} si la medición falla
+   */
+  public Mono<Long> checkLag() {
+    return replicaClient.sql(LAG_SQL)
+        .map((row, metadata) -> row.get("lag_millis", Long.class))
+        .one()
+        .timeout(interval)
+        .defaultIfEmpty(UNKNOWN)
+        .onErrorResume(ex -> {
+          if (lagMillis != UNKNOWN) {
+            log.warn("Replica lag check failed, routing reads to the primary: {}",
+                ex.getMessage());
+          }
+          return Mono.just(UNKNOWN);
+        })
+        .doOnNext(this::record);
+  }
+
+  void record(long measuredLagMillis) {
+    boolean accepted = acceptsReads();
+    lagMillis = measuredLagMillis;
+    if (accepted && measuredLagMillis != UNKNOWN && !acceptsReads()) {
+      log.warn("Replica lag {} ms exceeds {} ms, routing reads to the primary",
+          measuredLagMillis, maxLagMillis);
+    } else if (!accepted && acceptsReads()) {
+      log.info("Replica lag {} ms, routing eligible reads to the replica", measuredLagMillis);
+    }
+  }
+
+  private double lagOrNaN() {
+    long current = lagMillis;
+    return current == UNKNOWN ? Double.NaN : current;
+  }
+
+  @Override
+  public void start() {
+    subscription = Flux.interval(Duration.ZERO, interval)
+        .onBackpressureDrop()
+        .concatMap(tick -> checkLag(), 1)
+        .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = subscription;
+    return current != null && !current.isDisposed();
+  }
+}
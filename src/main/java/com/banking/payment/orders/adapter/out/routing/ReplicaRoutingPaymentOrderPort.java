@@ -0,0 +1,154 @@
+package com.banking.payment.orders.adapter.out.routing;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReplicaRoutingPaymentOrderPort - Decorador de PaymentOrderPort que envía las lecturas a la
+ * réplica garantizando que cada nodo lee sus propias escrituras.
+ *
+ * <p>Las escrituras no se marcan y van siempre al primario. Cada orden escrita se recuerda
+ * durante read-your-writes-window, y mientras tanto sus lecturas por ID (o cualquier lectura
+ * de varias órdenes que la incluya) se hacen en el primario; el resto se marca con
+ * {@link ReadWriteRoutingConnectionFactory#onReplica(Mono)}. Las búsquedas no se refieren a
+ * órdenes concretas y van siempre a la réplica. {@link #findStatusesByIds(List)} no se marca:
+ * la usan el seguimiento en vivo, que relee el estado tras cada LISTEN y se quedaría esperando
+ * si la réplica aún no tiene el cambio notificado, y la resolución de conflictos de las
+ * transiciones, que necesita el estado confirmado. La ventana es local a cada nodo: debe superar el
+ * retraso máximo admitido de la réplica, y con varias instancias la garantía requiere que las
+ * peticiones de un cliente lleguen al mismo nodo.
+ */
+public class ReplicaRoutingPaymentOrderPort implements PaymentOrderPort {
+
+  static final String PRIMARY_READS_COUNTER = "payment.orders.replica.read_your_writes";
+
+  private final PaymentOrderPort delegate;
+  private final Cache<UUID, Boolean> recentWrites;
+  private final Counter primaryReads;
+
+  /**
+   * Crea el decorador y registra sus métricas.
+   *
+   * @param delegate puerto decorado
+   * @param readYourWritesWindow tiempo durante el que se leen del primario las órdenes escritas
+   * @param maximumSize órdenes escritas recordadas como máximo
+   * @param meterRegistry registro de métricas
+   */
+  public ReplicaRoutingPaymentOrderPort(PaymentOrderPort delegate,
+      Duration readYourWritesWindow, long maximumSize, MeterRegistry meterRegistry) {
+    this(delegate, readYourWritesWindow, maximumSize, meterRegistry, Ticker.systemTicker());
+  }
+
+  ReplicaRoutingPaymentOrderPort(PaymentOrderPort delegate, Duration readYourWritesWindow,
+      long maximumSize, MeterRegistry meterRegistry, Ticker ticker) {
+    this.delegate = delegate;
+    this.recentWrites = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(readYourWritesWindow)
+        .ticker(ticker)
+        .build();
+    this.primaryReads = Counter.builder(PRIMARY_READS_COUNTER)
+        .description("Lecturas enviadas al primario por una escritura reciente de la orden")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
+    UUID paymentOrderId = paymentOrder.getPaymentOrderProcedureInstanceReference();
+    return delegate.save(paymentOrder)
+        .doFinally(signal -> written(paymentOrderId));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    return delegate.insertAll(paymentOrders)
+        .doFinally(signal -> paymentOrders.forEach(paymentOrder ->
+            written(paymentOrder.getPaymentOrderProcedureInstanceReference())));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    return delegate.transitionStatus(paymentOrderIds, fromStatus, toStatus)
+        .doFinally(signal -> paymentOrderIds.forEach(this::written));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    return delegate.updateStatuses(updates)
+        .doFinally(signal -> updates.forEach(update ->
+            written(update.paymentOrderProcedureInstanceReference())));
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
+    return Mono.defer(() -> recentlyWritten(paymentOrderId)
+        ? delegate.findById(paymentOrderId)
+        : ReadWriteRoutingConnectionFactory.onReplica(delegate.findById(paymentOrderId)));
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    return Mono.defer(() -> recentlyWritten(paymentOrderId)
+        ? delegate.findStatusById(paymentOrderId)
+        : ReadWriteRoutingConnectionFactory.onReplica(delegate.findStatusById(paymentOrderId)));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    return ReadWriteRoutingConnectionFactory.onReplica(delegate.search(criteria, after, limit));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    return delegate.findStatusesByIds(paymentOrderIds);
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    return Flux.defer(() -> anyRecentlyWritten(paymentOrderIds)
+        ? delegate.findAllById(paymentOrderIds)
+        : ReadWriteRoutingConnectionFactory.onReplica(delegate.findAllById(paymentOrderIds)));
+  }
+
+  /**
+   * Registra la escritura al terminar, también si falla o se cancela: el commit puede haberse
+   * confirmado aunque la respuesta no llegue.
+   */
+  private void written(UUID paymentOrderId) {
+    recentWrites.put(paymentOrderId, Boolean.TRUE);
+  }
+
+  private boolean recentlyWritten(UUID paymentOrderId) {
+    if (recentWrites.getIfPresent(paymentOrderId) == null) {
+      return false;
+    }
+    primaryReads.increment();
+    return true;
+  }
+
+  private boolean anyRecentlyWritten(List<UUID> paymentOrderIds) {
+    for (UUID paymentOrderId : paymentOrderIds) {
+      if (recentlyWritten(paymentOrderId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
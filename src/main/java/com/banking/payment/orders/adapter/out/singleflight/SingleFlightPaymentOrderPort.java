@@ -0,0 +1,191 @@
+package com.banking.payment.orders.adapter.out.singleflight;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * SingleFlightPaymentOrderPort - Decorador de PaymentOrderPort que agrupa las lecturas
+ * concurrentes de una misma orden.
+ *
+ * <p>Mientras hay una lectura por ID en curso, las siguientes del mismo ID se suscriben a
+ * ella en lugar de lanzar otra consulta: todas reciben el mismo resultado, mapeado una sola
+ * vez. El registro de lecturas en curso es un {@link ConcurrentHashMap} que se modifica solo
+ * con operaciones atómicas (putIfAbsent, replace, remove), sin bloqueos. Una lectura que
+ * supera max-lifetime deja de aceptar nuevos participantes y la siguiente abre otra, para que
+ * una consulta atascada no retenga a todos los que llegan después. Cada escritura retira al
+ * terminar las lecturas en curso de sus órdenes, de modo que nadie se une a una lectura
+ * anterior a un cambio ya confirmado. A diferencia de la cache, no guarda nada una vez
+ * resuelta la consulta.
+ */
+public class SingleFlightPaymentOrderPort implements PaymentOrderPort {
+
+  static final String COALESCED_COUNTER = "payment.orders.single_flight.coalesced";
+  static final String IN_FLIGHT_GAUGE = "payment.orders.single_flight.in_flight";
+
+  private final PaymentOrderPort delegate;
+  private final long maxLifetimeNanos;
+  private final LongSupplier nanoTime;
+  private final ConcurrentMap<UUID, InFlight<PaymentOrderProcedure>> orders =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<UUID, InFlight<PaymentOrderStatusSnapshot>> statuses =
+      new ConcurrentHashMap<>();
+  private final Counter coalescedOrders;
+  private final Counter coalescedStatuses;
+
+  /**
+   * Crea el decorador y registra sus métricas.
+   *
+   * @param delegate puerto decorado
+   * @param maxLifetime tiempo durante el que una lectura en curso admite nuevos participantes
+   * @param meterRegistry registro de métricas
+   */
+  public SingleFlightPaymentOrderPort(
+      PaymentOrderPort delegate, Duration maxLifetime, MeterRegistry meterRegistry) {
+    this(delegate, maxLifetime, meterRegistry, System::nanoTime);
+  }
+
+  SingleFlightPaymentOrderPort(PaymentOrderPort delegate, Duration maxLifetime,
+      MeterRegistry meterRegistry, LongSupplier nanoTime) {
+    this.delegate = delegate;
+    this.maxLifetimeNanos = maxLifetime.toNanos();
+    this.nanoTime = nanoTime;
+    this.coalescedOrders = Counter.builder(COALESCED_COUNTER)
+        .description("Lecturas servidas por una consulta ya en curso")
+        .tag("operation", "find_by_id")
+        .register(meterRegistry);
+    this.coalescedStatuses = Counter.builder(COALESCED_COUNTER)
+        .description("Lecturas servidas por una consulta ya en curso")
+        .tag("operation", "find_status_by_id")
+        .register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_GAUGE, this, SingleFlightPaymentOrderPort::inFlightCount)
+        .description("Órdenes con una lectura en curso")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
+    return Mono.defer(() -> join(orders, paymentOrderId, coalescedOrders,
+        () -> delegate.findById(paymentOrderId)));
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    return Mono.defer(() -> join(statuses, paymentOrderId, coalescedStatuses,
+        () -> delegate.findStatusById(paymentOrderId)));
+  }
+
+  /**
+   * Se une a la lectura en curso del ID si sigue dentro de max-lifetime; si no hay ninguna o
+   * ha caducado, instala una nueva con putIfAbsent o replace y reintenta si otro hilo se
+   * adelantó.
+   */
+  private <T> Mono<T> join(ConcurrentMap<UUID, InFlight<T>> inFlight, UUID paymentOrderId,
+      Counter coalesced, Supplier<Mono<T>> lookup) {
+    long now = nanoTime.getAsLong();
+    InFlight<T> current = inFlight.get(paymentOrderId);
+    while (true) {
+      if (current != null && now - current.startedNanos < maxLifetimeNanos) {
+        coalesced.increment();
+        return current.result;
+      }
+      InFlight<T> started = new InFlight<>(lookup.get(), now,
+          finished -> inFlight.remove(paymentOrderId, finished));
+      boolean installed = current == null
+          ? inFlight.putIfAbsent(paymentOrderId, started) == null
+          : inFlight.replace(paymentOrderId, current, started);
+      if (installed) {
+        return started.result;
+      }
+      current = inFlight.get(paymentOrderId);
+    }
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
+    UUID paymentOrderId = paymentOrder.getPaymentOrderProcedureInstanceReference();
+    return delegate.save(paymentOrder)
+        .doFinally(signal -> forget(paymentOrderId));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    return delegate.insertAll(paymentOrders);
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    return delegate.search(criteria, after, limit);
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    return delegate.transitionStatus(paymentOrderIds, fromStatus, toStatus)
+        .doFinally(signal -> paymentOrderIds.forEach(this::forget));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    return delegate.findStatusesByIds(paymentOrderIds);
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    return delegate.updateStatuses(updates)
+        .doFinally(signal -> updates.forEach(update ->
+            forget(update.paymentOrderProcedureInstanceReference())));
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    return delegate.findAllById(paymentOrderIds);
+  }
+
+  /**
+   * Retira las lecturas en curso de la orden; las que ya estén suscritas siguen hasta
+   * terminar, pero nadie más se une a ellas.
+   */
+  private void forget(UUID paymentOrderId) {
+    orders.remove(paymentOrderId);
+    statuses.remove(paymentOrderId);
+  }
+
+  int inFlightCount() {
+    return orders.size() + statuses.size();
+  }
+
+  /**
+   * Lectura en curso: el resultado se comparte entre todos los suscriptores y, al terminar,
+   * la entrada se retira del registro si sigue siendo la instalada.
+   */
+  private static final class InFlight<T> {
+
+    private final Mono<T> result;
+    private final long startedNanos;
+
+    private InFlight(Mono<T> lookup, long startedNanos,
+        Consumer<InFlight<T>> onFinished) {
+      this.startedNanos = startedNanos;
+      this.result = lookup.doFinally(signal -> onFinished.accept(this)).share();
+    }
+  }
+}
@@ -0,0 +1,493 @@
+package com.banking.payment.orders.adapter.out.writebehind;
+
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * WriteBehindPaymentOrderPort - Decorador de PaymentOrderPort que difiere y agrupa los
+ * cambios de estado de órdenes existentes.
+ *
+ * <p>Los cambios en bloque de transitionStatus y el save de una orden ya persistida quedan en
+ * memoria: los cambios sucesivos de una orden dentro de la ventana se funden en uno (último
+ * estado e instante) y se escriben en bloques con un único UPDATE condicionado a la versión.
+ * La orden devuelta lleva la versión que tendrá al persistirse, así que el control optimista
+ * se mantiene: guardar con una versión distinta de la pendiente es un conflicto inmediato.
+ *
+ * <p>Si la versión almacenada cambió por otra vía, el conflicto se detecta al volcar y el
+ * cambio se reintenta sobre el estado almacenado en ese momento, condicionado a él. Solo se
+ * rechaza, con métrica y log de error, si ese estado ya no admite la transición.
+ *
+ * <p>Las lecturas por ID devuelven el cambio pendiente, de modo que el estado nunca retrocede
+ * para un cliente. Con la cola llena, o tras detenerse, el cambio se escribe en línea y el
+ * llamante espera a la base de datos. Al detenerse se vuelca todo lo pendiente.
+ *
+ * <p>Cada volcado genera un único evento por orden con su último estado: los estados
+ * intermedios fundidos no llegan a la bandeja de salida.
+ */
+public class WriteBehindPaymentOrderPort implements PaymentOrderPort, SmartLifecycle {
+
+  static final String PENDING_GAUGE = "payment.orders.write_behind.pending";
+  static final String COALESCED_COUNTER = "payment.orders.write_behind.coalesced";
+  static final String FLUSHED_COUNTER = "payment.orders.write_behind.flushed";
+  static final String CONFLICTS_COUNTER = "payment.orders.write_behind.conflicts";
+  static final String REJECTED_COUNTER = "payment.orders.write_behind.rejected";
+
+  private static final Logger log = LoggerFactory.getLogger(WriteBehindPaymentOrderPort.class);
+
+  private final PaymentOrderPort delegate;
+  private final PaymentOrderPersistenceMapper mapper;
+  private final Duration window;
+  private final int batchSize;
+  private final int maxPending;
+  private final Duration shutdownTimeout;
+  private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+  private final Sinks.Many<Boolean> flushRequests = Sinks.many().multicast().directBestEffort();
+  private final Counter coalesced;
+  private final Counter flushed;
+  private final Counter conflicts;
+  private final Counter rejected;
+  private volatile boolean running;
+  private volatile Disposable subscription;
+
+  /**
+   * Crea el decorador y registra sus métricas.
+   *
+   * @param delegate puerto decorado
+   * @param mapper mapper usado para copiar la orden con su nueva versión
+   * @param window tiempo máximo que un cambio espera en memoria
+   * @param batchSize cambios por UPDATE; alcanzarlo adelanta el volcado
+   * @param maxPending órdenes con cambios pendientes a partir de las cuales se escribe en línea
+   * @param shutdownTimeout tiempo máximo del volcado final al detenerse
+   * @param meterRegistry registro de métricas
+   */
+  public WriteBehindPaymentOrderPort(
+      PaymentOrderPort delegate,
+      PaymentOrderPersistenceMapper mapper,
+      Duration window,
+      int batchSize,
+      int maxPending,
+      Duration shutdownTimeout,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.mapper = mapper;
+    this.window = window;
+    this.batchSize = batchSize;
+    this.maxPending = maxPending;
+    this.shutdownTimeout = shutdownTimeout;
+    meterRegistry.gauge(PENDING_GAUGE, pending, Map::size);
+    this.coalesced = meterRegistry.counter(COALESCED_COUNTER);
+    this.flushed = meterRegistry.counter(FLUSHED_COUNTER);
+    this.conflicts = meterRegistry.counter(CONFLICTS_COUNTER);
+    this.rejected = meterRegistry.counter(REJECTED_COUNTER);
+  }
+
+  /**
+   * Las órdenes nuevas se insertan en línea; los cambios de órdenes existentes se encolan.
+   */
+  @Override
+  public Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder) {
+    if (paymentOrder.getVersion() == null) {
+      return delegate.save(paymentOrder);
+    }
+    return Mono.defer(() -> {
+      UUID paymentOrderId = paymentOrder.getPaymentOrderProcedureInstanceReference();
+      boolean queued = pending.containsKey(paymentOrderId);
+      if (!queued && (!running || pending.size() >= maxPending)) {
+        return delegate.save(paymentOrder);
+      }
+      PaymentOrderProcedure next = mapper.withVersion(paymentOrder, paymentOrder.getVersion() + 1);
+      pending.compute(paymentOrderId, (id, current) -> enqueue(current, paymentOrder, next));
+      if (!running) {
+        return flush(List.of(paymentOrderId)).then(Mono.fromSupplier(() -> copyOf(next)));
+      }
+      if (pending.size() >= batchSize) {
+        flushRequests.tryEmitNext(Boolean.TRUE);
+      }
+      return Mono.just(copyOf(next));
+    });
+  }
+
+  private Pending enqueue(
+      Pending current, PaymentOrderProcedure paymentOrder, PaymentOrderProcedure next) {
+    if (current == null) {
+      return new Pending(next, toUpdate(next, paymentOrder.getVersion()), false);
+    }
+    if (!current.order().getVersion().equals(paymentOrder.getVersion())) {
+      throw new PaymentOrderConflictException(
+          paymentOrder.getPaymentOrderProcedureInstanceReference(), null);
+    }
+    coalesced.increment();
+    return new Pending(
+        next, toUpdate(next, current.update().expectedVersion()), current.inFlight());
+  }
+
+  private static PaymentOrderStatusUpdate toUpdate(
+      PaymentOrderProcedure paymentOrder, long expectedVersion) {
+    return new PaymentOrderStatusUpdate(
+        paymentOrder.getPaymentOrderProcedureInstanceReference(),
+        paymentOrder.getPaymentOrderProcedureInstanceStatus(),
+        paymentOrder.getLastUpdateDateTime(),
+        expectedVersion,
+        paymentOrder.getVersion());
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders) {
+    return delegate.insertAll(paymentOrders);
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> findById(UUID paymentOrderId) {
+    return Mono.defer(() -> {
+      Pending queued = pending.get(paymentOrderId);
+      return queued != null
+          ? Mono.just(copyOf(queued.order()))
+          : delegate.findById(paymentOrderId);
+    });
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId) {
+    return Mono.defer(() -> {
+      Pending queued = pending.get(paymentOrderId);
+      return queued != null
+          ? Mono.just(queued.update().toSnapshot())
+          : delegate.findStatusById(paymentOrderId);
+    });
+  }
+
+  /**
+   * Los filtros se evalúan sobre el estado persistido; cada orden devuelta refleja su cambio
+   * pendiente, si lo tiene.
+   */
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    return delegate.search(criteria, after, limit)
+        .map(this::withPending);
+  }
+
+  /**
+   * La condición sobre el estado de origen se evalúa contra el último estado de cada orden: el
+   * pendiente o, si no lo hay, el leído del puerto decorado. Las órdenes que la cumplen se
+   * encolan como en save; las leídas que no la cumplen se delegan, por si la lectura iba
+   * atrasada. Detenido, o sin sitio en la cola, se vuelcan los pendientes del bloque y el
+   * cambio se escribe en línea.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    return Flux.defer(() -> {
+      if (!running || !fromStatus.canTransitionTo(toStatus)
+          || pending.size() + paymentOrderIds.size() > maxPending) {
+        return flush(paymentOrderIds)
+            .thenMany(Flux.defer(() ->
+                delegate.transitionStatus(paymentOrderIds, fromStatus, toStatus)));
+      }
+      List<UUID> unqueued = paymentOrderIds.stream()
+          .filter(paymentOrderId -> !pending.containsKey(paymentOrderId))
+          .toList();
+      Mono<Map<UUID, PaymentOrderProcedure>> stored = unqueued.isEmpty()
+          ? Mono.just(Map.of())
+          : delegate.findAllById(unqueued)
+              .collectMap(PaymentOrderProcedure::getPaymentOrderProcedureInstanceReference);
+      return stored.flatMapMany(orders ->
+          enqueueTransitions(paymentOrderIds, orders, fromStatus, toStatus));
+    });
+  }
+
+  private Flux<PaymentOrderStatusSnapshot> enqueueTransitions(
+      List<UUID> paymentOrderIds, Map<UUID, PaymentOrderProcedure> stored,
+      PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    List<PaymentOrderStatusSnapshot> applied = new ArrayList<>();
+    List<UUID> unmatched = new ArrayList<>();
+    for (UUID paymentOrderId : paymentOrderIds) {
+      pending.compute(paymentOrderId, (id, current) -> {
+        PaymentOrderProcedure base = current != null ? current.order() : stored.get(id);
+        if (base == null || base.getPaymentOrderProcedureInstanceStatus() != fromStatus) {
+          if (current == null && base != null) {
+            unmatched.add(id);
+          }
+          return current;
+        }
+        PaymentOrderProcedure next = mapper.withVersion(base, base.getVersion() + 1);
+        next.updateStatus(toStatus);
+        applied.add(PaymentOrderStatusSnapshot.of(next));
+        return enqueue(current, base, next);
+      });
+    }
+    if (pending.size() >= batchSize) {
+      flushRequests.tryEmitNext(Boolean.TRUE);
+    }
+    return unmatched.isEmpty()
+        ? Flux.fromIterable(applied)
+        : Flux.fromIterable(applied)
+            .concatWith(delegate.transitionStatus(unmatched, fromStatus, toStatus));
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds) {
+    return delegate.findStatusesByIds(paymentOrderIds)
+        .map(status -> {
+          Pending queued = pending.get(status.paymentOrderProcedureInstanceReference());
+          return queued != null ? queued.update().toSnapshot() : status;
+        });
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds) {
+    return delegate.findAllById(paymentOrderIds)
+        .map(this::withPending);
+  }
+
+  private PaymentOrderProcedure withPending(PaymentOrderProcedure paymentOrder) {
+    Pending queued = pending.get(paymentOrder.getPaymentOrderProcedureInstanceReference());
+    return queued != null ? copyOf(queued.order()) : paymentOrder;
+  }
+
+  /**
+   * La orden pendiente nunca sale del decorador: el llamante recibe una copia que puede
+   * modificar sin alterar el cambio encolado ni lo que ven otras lecturas.
+   */
+  private PaymentOrderProcedure copyOf(PaymentOrderProcedure paymentOrder) {
+    return mapper.withVersion(paymentOrder, paymentOrder.getVersion());
+  }
+
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates) {
+    return flush(updates.stream()
+            .map(PaymentOrderStatusUpdate::paymentOrderProcedureInstanceReference)
+            .toList())
+        .thenMany(Flux.defer(() -> delegate.updateStatuses(updates)));
+  }
+
+  /**
+   * Vuelca en bloques todos los cambios pendientes hasta que uno sale incompleto.
+   *
+   * @return Mono con el número de órdenes volcadas
+   */
+  public Mono<Integer> flush() {
+    return Mono.defer(() -> flushBatch(pending.keySet()))
+        .expand(count -> count == batchSize ? flushBatch(pending.keySet()) : Mono.empty())
+        .reduce(0, Integer::sum);
+  }
+
+  private Mono<Void> flush(List<UUID> paymentOrderIds) {
+    return Flux.fromIterable(paymentOrderIds)
+        .filter(pending::containsKey)
+        .buffer(batchSize)
+        .concatMap(this::flushBatch)
+        .then();
+  }
+
+  /**
+   * Reserva hasta un bloque de cambios que no estén ya en curso y los persiste; los que chocan
+   * con la versión almacenada se reintentan con {@link #reapply}. Un cambio fundido mientras se
+   * escribía queda pendiente con la versión recién almacenada.
+   */
+  private Mono<Integer> flushBatch(Iterable<UUID> paymentOrderIds) {
+    List<Pending> batch = claim(paymentOrderIds);
+    if (batch.isEmpty()) {
+      return Mono.just(0);
+    }
+    return delegate.updateStatuses(batch.stream().map(Pending::update).toList())
+        .map(PaymentOrderStatusSnapshot::paymentOrderProcedureInstanceReference)
+        .collect(HashSet<UUID>::new, Set::add)
+        .flatMap(updated -> {
+          List<Pending> conflicted = new ArrayList<>();
+          for (Pending claimed : batch) {
+            if (updated.contains(idOf(claimed))) {
+              complete(claimed, true);
+            } else {
+              conflicted.add(claimed);
+            }
+          }
+          conflicts.increment(conflicted.size());
+          return reapply(conflicted)
+              .doOnNext(persisted -> conflicted.forEach(
+                  claimed -> complete(claimed, persisted.contains(idOf(claimed)))))
+              .thenReturn(batch.size());
+        })
+        .doOnError(ex -> batch.forEach(this::release))
+        .doOnCancel(() -> batch.forEach(this::release));
+  }
+
+  /**
+   * Reintenta los cambios en conflicto sobre el estado almacenado ahora: si ya es el de
+   * destino no queda nada que escribir, si admite la transición se aplica condicionada a ese
+   * estado y, si no, el cambio no se puede persistir.
+   *
+   * @param conflicted cambios cuya versión esperada ya no era la almacenada
+   * @return Mono con los ids de los cambios que quedan persistidos
+   */
+  private Mono<Set<UUID>> reapply(List<Pending> conflicted) {
+    if (conflicted.isEmpty()) {
+      return Mono.just(Set.of());
+    }
+    Map<UUID, PaymentOrderStatus> targets = new HashMap<>();
+    conflicted.forEach(claimed -> targets.put(
+        idOf(claimed), claimed.update().paymentOrderProcedureInstanceStatus()));
+    return delegate.findStatusesByIds(List.copyOf(targets.keySet()))
+        .collectList()
+        .flatMap(current -> {
+          Set<UUID> persisted = new HashSet<>();
+          Map<Retry, List<UUID>> retries = new LinkedHashMap<>();
+          for (PaymentOrderStatusSnapshot status : current) {
+            UUID paymentOrderId = status.paymentOrderProcedureInstanceReference();
+            PaymentOrderStatus target = targets.get(paymentOrderId);
+            PaymentOrderStatus storedStatus = status.paymentOrderProcedureInstanceStatus();
+            if (storedStatus == target) {
+              persisted.add(paymentOrderId);
+            } else if (storedStatus.canTransitionTo(target)) {
+              retries.computeIfAbsent(new Retry(storedStatus, target), key -> new ArrayList<>())
+                  .add(paymentOrderId);
+            }
+          }
+          return Flux.fromIterable(retries.entrySet())
+              .concatMap(retry -> delegate.transitionStatus(
+                  retry.getValue(), retry.getKey().from(), retry.getKey().to()))
+              .map(PaymentOrderStatusSnapshot::paymentOrderProcedureInstanceReference)
+              .collect(() -> persisted, Set::add);
+        });
+  }
+
+  private List<Pending> claim(Iterable<UUID> paymentOrderIds) {
+    List<Pending> batch = new ArrayList<>();
+    for (UUID paymentOrderId : paymentOrderIds) {
+      if (batch.size() == batchSize) {
+        break;
+      }
+      Pending current = pending.get(paymentOrderId);
+      if (current != null && !current.inFlight()) {
+        Pending claimed = new Pending(current.order(), current.update(), true);
+        if (pending.replace(paymentOrderId, current, claimed)) {
+          batch.add(claimed);
+        }
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * Cierra un cambio volcado. Un cambio fundido mientras se escribía sigue pendiente; si el
+   * volcado no llegó a persistirse, su versión esperada no coincidirá y pasará también por
+   * {@link #reapply}.
+   */
+  private void complete(Pending claimed, boolean persisted) {
+    UUID paymentOrderId = idOf(claimed);
+    if (persisted) {
+      flushed.increment();
+    } else {
+      rejected.increment();
+      log.error("Write-behind status update of payment order {} to {} rejected: the stored "
+          + "status no longer allows it", paymentOrderId,
+          claimed.update().paymentOrderProcedureInstanceStatus());
+    }
+    pending.computeIfPresent(paymentOrderId, (id, current) -> {
+      if (current.update().version() == claimed.update().version()) {
+        return null;
+      }
+      return new Pending(current.order(),
+          toUpdate(current.order(), claimed.update().version()), false);
+    });
+  }
+
+  private static UUID idOf(Pending pending) {
+    return pending.update().paymentOrderProcedureInstanceReference();
+  }
+
+  private void release(Pending claimed) {
+    pending.computeIfPresent(idOf(claimed),
+        (id, current) -> new Pending(current.order(), current.update(), false));
+  }
+
+  int pendingCount() {
+    return pending.size();
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    subscription = Flux.merge(Flux.interval(window, window), flushRequests.asFlux())
+        .onBackpressureDrop()
+        .concatMap(tick -> flush()
+            .onErrorResume(ex -> {
+              log.warn("Write-behind flush failed, retrying in {}: {}", window, ex.getMessage());
+              return Mono.empty();
+            }), 1)
+        .subscribe();
+  }
+
+  /**
+   * Deja de encolar, cancela el volcado periódico y vuelca lo pendiente antes de que se
+   * cierre el pool de conexiones.
+   */
+  @Override
+  public void stop() {
+    running = false;
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+    }
+    try {
+      Integer count = flush().block(shutdownTimeout);
+      log.info("Write-behind flushed {} payment orders on shutdown", count);
+    } catch (RuntimeException ex) {
+      log.warn("Write-behind flush on shutdown failed, {} payment orders not persisted: {}",
+          pending.size(), ex.getMessage());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Se detiene después del servidor web, cuando ya no llegan escrituras nuevas.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  /**
+   * Cambio pendiente de una orden: la orden con la versión que tendrá y la escritura que lo
+   * persiste. {@code inFlight} marca los cambios que un volcado está escribiendo.
+   */
+  private record Pending(
+      PaymentOrderProcedure order, PaymentOrderStatusUpdate update, boolean inFlight) {
+  }
+
+  /**
+   * Transición con la que se reintenta un cambio en conflicto.
+   */
+  private record Retry(PaymentOrderStatus from, PaymentOrderStatus to) {
+  }
+}
@@ -0,0 +1,27 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.port.in.ExportPaymentOrdersUseCase;
+import reactor.core.publisher.Flux;
+
+/**
+ * MeteredExportPaymentOrdersUseCase - Decorador que mide ExportPaymentOrdersUseCase.
+ */
+public class MeteredExportPaymentOrdersUseCase implements ExportPaymentOrdersUseCase {
+
+  private final ExportPaymentOrdersUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredExportPaymentOrdersUseCase(
+      ExportPaymentOrdersUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> export(PaymentOrderSearchCriteria criteria) {
+    return metrics.timeFlux(Operation.EXPORT, () -> delegate.export(criteria));
+  }
+}
@@ -0,0 +1,49 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * MeteredInitiatePaymentOrderUseCase - Decorador que mide InitiatePaymentOrderUseCase.
+ */
+public class MeteredInitiatePaymentOrderUseCase implements InitiatePaymentOrderUseCase {
+
+  private final InitiatePaymentOrderUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredInitiatePaymentOrderUseCase(
+      InitiatePaymentOrderUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> initiate(InitiatePaymentOrderCommand command) {
+    return metrics.timeMono(Operation.INITIATE, () -> delegate.initiate(command));
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> initiate(
+      InitiatePaymentOrderCommand command, String idempotencyKey) {
+    return metrics.timeMono(Operation.INITIATE, () -> delegate.initiate(command, idempotencyKey));
+  }
+
+  /**
+   * Mide el lote completo; las órdenes inválidas se rechazan por elemento sin error, por lo
+   * que se contabilizan al emitirse su resultado.
+   */
+  @Override
+  public Flux<InitiatePaymentOrderResult> initiateBatch(
+      Flux<InitiatePaymentOrderCommand> commands) {
+    return metrics.timeFlux(Operation.INITIATE_BATCH, () -> delegate.initiateBatch(commands))
+        .doOnNext(result -> {
+          if (result.error() instanceof InvalidPaymentOrderException) {
+            metrics.countInvalid(Operation.INITIATE_BATCH);
+          }
+        });
+  }
+}
@@ -0,0 +1,30 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderStatusUseCase;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/**
+ * MeteredRetrievePaymentOrderStatusUseCase - Decorador que mide
+ * RetrievePaymentOrderStatusUseCase.
+ */
+public class MeteredRetrievePaymentOrderStatusUseCase
+    implements RetrievePaymentOrderStatusUseCase {
+
+  private final RetrievePaymentOrderStatusUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredRetrievePaymentOrderStatusUseCase(
+      RetrievePaymentOrderStatusUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Mono<PaymentOrderStatusSnapshot> retrieveStatus(UUID paymentOrderId) {
+    return metrics.timeMono(
+        Operation.RETRIEVE_STATUS, () -> delegate.retrieveStatus(paymentOrderId));
+  }
+}
@@ -0,0 +1,27 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderUseCase;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/**
+ * MeteredRetrievePaymentOrderUseCase - Decorador que mide RetrievePaymentOrderUseCase.
+ */
+public class MeteredRetrievePaymentOrderUseCase implements RetrievePaymentOrderUseCase {
+
+  private final RetrievePaymentOrderUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredRetrievePaymentOrderUseCase(
+      RetrievePaymentOrderUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Mono<PaymentOrderProcedure> retrieve(UUID paymentOrderId) {
+    return metrics.timeMono(Operation.RETRIEVE, () -> delegate.retrieve(paymentOrderId));
+  }
+}
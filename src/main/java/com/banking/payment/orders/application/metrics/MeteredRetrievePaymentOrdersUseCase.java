@@ -0,0 +1,28 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrdersUseCase;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/**
+ * MeteredRetrievePaymentOrdersUseCase - Decorador que mide RetrievePaymentOrdersUseCase.
+ */
+public class MeteredRetrievePaymentOrdersUseCase implements RetrievePaymentOrdersUseCase {
+
+  private final RetrievePaymentOrdersUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredRetrievePaymentOrdersUseCase(
+      RetrievePaymentOrdersUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Mono<RetrievedPaymentOrders> retrieveAll(List<UUID> paymentOrderIds) {
+    return metrics.timeMono(
+        Operation.RETRIEVE_MANY, () -> delegate.retrieveAll(paymentOrderIds));
+  }
+}
@@ -0,0 +1,29 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.port.in.SearchPaymentOrdersUseCase;
+import reactor.core.publisher.Flux;
+
+/**
+ * MeteredSearchPaymentOrdersUseCase - Decorador que mide SearchPaymentOrdersUseCase.
+ */
+public class MeteredSearchPaymentOrdersUseCase implements SearchPaymentOrdersUseCase {
+
+  private final SearchPaymentOrdersUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredSearchPaymentOrdersUseCase(
+      SearchPaymentOrdersUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    return metrics.timeFlux(Operation.SEARCH, () -> delegate.search(criteria, after, limit));
+  }
+}
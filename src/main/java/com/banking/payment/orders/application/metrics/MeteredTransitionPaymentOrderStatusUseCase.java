@@ -0,0 +1,28 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase;
+import java.util.List;
+import reactor.core.publisher.Flux;
+
+/**
+ * MeteredTransitionPaymentOrderStatusUseCase - Decorador que mide
+ * TransitionPaymentOrderStatusUseCase.
+ */
+public class MeteredTransitionPaymentOrderStatusUseCase
+    implements TransitionPaymentOrderStatusUseCase {
+
+  private final TransitionPaymentOrderStatusUseCase delegate;
+  private final PaymentOrderMetrics metrics;
+
+  public MeteredTransitionPaymentOrderStatusUseCase(
+      TransitionPaymentOrderStatusUseCase delegate, PaymentOrderMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Flux<StatusTransitionResult> transition(List<StatusTransitionCommand> commands) {
+    return metrics.timeFlux(Operation.TRANSITION_STATUS, () -> delegate.transition(commands));
+  }
+}
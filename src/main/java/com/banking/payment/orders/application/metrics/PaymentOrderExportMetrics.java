@@ -0,0 +1,103 @@
+package com.banking.payment.orders.application.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+/**
+ * PaymentOrderExportMetrics - Volumen y rendimiento de las exportaciones de órdenes.
+ *
+ * <p>Los contadores de filas y bytes se incrementan mientras la exportación avanza, por lo que
+ * su tasa refleja el caudal actual aunque una exportación dure horas. Al terminar cada
+ * exportación se registra su duración, sus bytes y su caudal medio en filas por segundo.
+ */
+public class PaymentOrderExportMetrics {
+
+  public static final String EXPORT_TIMER = "payment.orders.export";
+  public static final String ROWS_COUNTER = "payment.orders.export.rows";
+  public static final String BYTES_COUNTER = "payment.orders.export.bytes";
+  public static final String BYTES_SUMMARY = "payment.orders.export.size";
+  public static final String THROUGHPUT_SUMMARY = "payment.orders.export.rows.per.second";
+
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+
+  /**
+   * Constructor con el registro de métricas.
+   *
+   * @param meterRegistry registro de métricas
+   */
+  public PaymentOrderExportMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.clock = meterRegistry.config().clock();
+  }
+
+  /**
+   * Mide una exportación cuyo cuerpo se emite como una línea por elemento.
+   *
+   * @param format formato de la exportación (etiqueta {@code format})
+   * @param lines líneas ya codificadas; la primera puede ser una cabecera
+   * @param headerLines número de líneas iniciales que no son órdenes
+   * @param size tamaño en bytes de cada línea
+   * @return Flux instrumentado
+   */
+  public <T> Flux<T> measure(
+      String format, Flux<T> lines, int headerLines, ToIntFunction<T> size) {
+    Counter rowsCounter = Counter.builder(ROWS_COUNTER)
+        .tag("format", format)
+        .register(meterRegistry);
+    Counter bytesCounter = Counter.builder(BYTES_COUNTER)
+        .baseUnit("bytes")
+        .tag("format", format)
+        .register(meterRegistry);
+
+    return Flux.defer(() -> {
+      long start = clock.monotonicTime();
+      AtomicLong lineCount = new AtomicLong();
+      AtomicLong byteCount = new AtomicLong();
+      return lines
+          .doOnNext(line -> {
+            int bytes = size.applyAsInt(line);
+            byteCount.addAndGet(bytes);
+            bytesCounter.increment(bytes);
+            if (lineCount.incrementAndGet() > headerLines) {
+              rowsCounter.increment();
+            }
+          })
+          .doFinally(signal -> record(format, signal, clock.monotonicTime() - start,
+              Math.max(0, lineCount.get() - headerLines), byteCount.get()));
+    });
+  }
+
+  private void record(String format, SignalType signal, long elapsedNanos, long rows,
+      long bytes) {
+    String outcome = switch (signal) {
+      case ON_COMPLETE -> "success";
+      case CANCEL -> "cancelled";
+      default -> "error";
+    };
+    Timer.builder(EXPORT_TIMER)
+        .tag("format", format)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(BYTES_SUMMARY)
+        .baseUnit("bytes")
+        .tag("format", format)
+        .register(meterRegistry)
+        .record(bytes);
+    if (elapsedNanos > 0) {
+      DistributionSummary.builder(THROUGHPUT_SUMMARY)
+          .tag("format", format)
+          .register(meterRegistry)
+          .record(rows * 1_000_000_000d / elapsedNanos);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.domain.exception.IdempotencyKeyInProgressException;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.exception.InvalidStatusTransitionException;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderMetrics - Timers y contadores de los casos de uso y del puerto de persistencia.
+ *
+ * <p>Todos los medidores se registran al construir la instancia; registrar una ejecución solo
+ * indexa un array por operación y resultado, sin búsquedas en el registro ni reflexión.
+ */
+public class PaymentOrderMetrics {
+
+  public static final String USE_CASE_TIMER = "payment.orders.use.case";
+  public static final String PORT_TIMER = "payment.orders.port";
+  public static final String ERRORS_COUNTER = "payment.orders.errors";
+
+  /**
+   * Operación medida y timer al que pertenece.
+   */
+  public enum Operation {
+    INITIATE(USE_CASE_TIMER, "initiate"),
+    INITIATE_BATCH(USE_CASE_TIMER, "initiate_batch"),
+    RETRIEVE(USE_CASE_TIMER, "retrieve"),
+    RETRIEVE_MANY(USE_CASE_TIMER, "retrieve_many"),
+    RETRIEVE_STATUS(USE_CASE_TIMER, "retrieve_status"),
+    SEARCH(USE_CASE_TIMER, "search"),
+    EXPORT(USE_CASE_TIMER, "export"),
+    TRANSITION_STATUS(USE_CASE_TIMER, "transition_status"),
+    PORT_SAVE(PORT_TIMER, "save"),
+    PORT_INSERT_ALL(PORT_TIMER, "insert_all"),
+    PORT_FIND_BY_ID(PORT_TIMER, "find_by_id"),
+    PORT_FIND_STATUS_BY_ID(PORT_TIMER, "find_status_by_id"),
+    PORT_SEARCH(PORT_TIMER, "search"),
+    PORT_TRANSITION_STATUS(PORT_TIMER, "transition_status"),
+    PORT_FIND_STATUSES_BY_IDS(PORT_TIMER, "find_statuses_by_ids"),
+    PORT_UPDATE_STATUSES(PORT_TIMER, "update_statuses"),
+    PORT_FIND_ALL_BY_ID(PORT_TIMER, "find_all_by_id");
+
+    private final String timerName;
+    private final String tag;
+
+    Operation(String timerName, String tag) {
+      this.timerName = timerName;
+      this.tag = tag;
+    }
+
+    public String getTag() {
+      return tag;
+    }
+
+    boolean isUseCase() {
+      return USE_CASE_TIMER.equals(timerName);
+    }
+  }
+
+  /**
+   * Resultado de una ejecución medida.
+   */
+  public enum Outcome {
+    SUCCESS,
+    NOT_FOUND,
+    INVALID,
+    CONFLICT,
+    ERROR,
+    CANCELLED;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String getTag() {
+      return tag;
+    }
+  }
+
+  private final Clock clock;
+  private final Timer[][] timers;
+  private final Counter[] notFoundCounters;
+  private final Counter[] invalidCounters;
+
+  /**
+   * Registra todos los timers y contadores en el registro indicado.
+   *
+   * @param meterRegistry registro de métricas
+   */
+  public PaymentOrderMetrics(MeterRegistry meterRegistry) {
+    this.clock = meterRegistry.config().clock();
+    Operation[] operations = Operation.values();
+    Outcome[] outcomes = Outcome.values();
+    this.timers = new Timer[operations.length][outcomes.length];
+    this.notFoundCounters = new Counter[operations.length];
+    this.invalidCounters = new Counter[operations.length];
+
+    for (Operation operation : operations) {
+      for (Outcome outcome : outcomes) {
+        timers[operation.ordinal()][outcome.ordinal()] = Timer.builder(operation.timerName)
+            .tag("operation", operation.tag)
+            .tag("outcome", outcome.tag)
+            .publishPercentileHistogram()
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+      }
+      if (operation.isUseCase()) {
+        notFoundCounters[operation.ordinal()] = errorCounter(meterRegistry, operation, "not_found");
+        invalidCounters[operation.ordinal()] = errorCounter(meterRegistry, operation, "invalid");
+      }
+    }
+  }
+
+  /**
+   * Mide la ejecución de un Mono desde la suscripción hasta su terminación. Un Mono vacío se
+   * registra como NOT_FOUND.
+   *
+   * @param operation operación medida
+   * @param call invocación diferida del Mono
+   * @return Mono instrumentado
+   */
+  public <T> Mono<T> timeMono(Operation operation, Supplier<? extends Mono<T>> call) {
+    return Mono.defer(() -> {
+      long start = clock.monotonicTime();
+      return Mono.defer(call)
+          .doOnSuccess(value ->
+              record(operation, value != null ? Outcome.SUCCESS : Outcome.NOT_FOUND, start))
+          .doOnError(error -> record(operation, outcomeOf(error), start))
+          .doOnCancel(() -> record(operation, Outcome.CANCELLED, start));
+    });
+  }
+
+  /**
+   * Mide la ejecución completa de un Flux, desde la suscripción hasta su terminación.
+   *
+   * @param operation operación medida
+   * @param call invocación diferida del Flux
+   * @return Flux instrumentado
+   */
+  public <T> Flux<T> timeFlux(Operation operation, Supplier<? extends Flux<T>> call) {
+    return Flux.defer(() -> {
+      long start = clock.monotonicTime();
+      return Flux.defer(call)
+          .doOnComplete(() -> record(operation, Outcome.SUCCESS, start))
+          .doOnError(error -> record(operation, outcomeOf(error), start))
+          .doOnCancel(() -> record(operation, Outcome.CANCELLED, start));
+    });
+  }
+
+  /**
+   * Contabiliza una orden inválida que no se propagó como error (por ejemplo, un elemento
+   * rechazado dentro de un lote).
+   *
+   * @param operation operación de caso de uso
+   */
+  public void countInvalid(Operation operation) {
+    Counter counter = invalidCounters[operation.ordinal()];
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+
+  private void record(Operation operation, Outcome outcome, long start) {
+    timers[operation.ordinal()][outcome.ordinal()]
+        .record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+    if (outcome == Outcome.NOT_FOUND) {
+      Counter counter = notFoundCounters[operation.ordinal()];
+      if (counter != null) {
+        counter.increment();
+      }
+    } else if (outcome == Outcome.INVALID) {
+      countInvalid(operation);
+    }
+  }
+
+  static Outcome outcomeOf(Throwable error) {
+    if (error instanceof PaymentOrderNotFoundException) {
+      return Outcome.NOT_FOUND;
+    }
+    if (error instanceof InvalidPaymentOrderException
+        || error instanceof InvalidSearchCriteriaException) {
+      return Outcome.INVALID;
+    }
+    if (error instanceof PaymentOrderConflictException
+        || error instanceof IdempotencyKeyInProgressException
+        || error instanceof InvalidStatusTransitionException) {
+      return Outcome.CONFLICT;
+    }
+    return Outcome.ERROR;
+  }
+
+  private static Counter errorCounter(
+      MeterRegistry meterRegistry, Operation operation, String error) {
+    return Counter.builder(ERRORS_COUNTER)
+        .tag("operation", operation.tag)
+        .tag("error", error)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,88 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.port.out.PaymentOrderEventPublisher;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaymentOrderOutboxMetrics - Retraso y caudal de la publicación de eventos de la bandeja.
+ *
+ * <p>La tasa de payment.orders.outbox.published da el caudal; payment.orders.outbox.lag mide,
+ * por evento, el tiempo entre el cambio de la orden y su entrega. payment.orders.outbox.expired
+ * cuenta los eventos eliminados sin entregar al superar la retención.
+ */
+public class PaymentOrderOutboxMetrics {
+
+  public static final String PUBLISHED_COUNTER = "payment.orders.outbox.published";
+  public static final String FAILURES_COUNTER = "payment.orders.outbox.failures";
+  public static final String LAG_TIMER = "payment.orders.outbox.lag";
+  public static final String BATCH_SUMMARY = "payment.orders.outbox.batch.size";
+  public static final String EXPIRED_COUNTER = "payment.orders.outbox.expired";
+
+  private final Clock clock;
+  private final Counter published;
+  private final Counter failures;
+  private final Timer lag;
+  private final DistributionSummary batchSize;
+  private final Counter expired;
+
+  /**
+   * Constructor con el registro de métricas.
+   *
+   * @param meterRegistry registro de métricas
+   */
+  public PaymentOrderOutboxMetrics(MeterRegistry meterRegistry) {
+    this.clock = meterRegistry.config().clock();
+    this.published = Counter.builder(PUBLISHED_COUNTER)
+        .baseUnit("events")
+        .register(meterRegistry);
+    this.failures = Counter.builder(FAILURES_COUNTER)
+        .register(meterRegistry);
+    this.lag = Timer.builder(LAG_TIMER)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.batchSize = DistributionSummary.builder(BATCH_SUMMARY)
+        .baseUnit("events")
+        .register(meterRegistry);
+    this.expired = Counter.builder(EXPIRED_COUNTER)
+        .baseUnit("events")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Registra los eventos eliminados sin entregar.
+   *
+   * @param events número de eventos eliminados
+   */
+  public void recordExpired(int events) {
+    expired.increment(events);
+  }
+
+  /**
+   * Envuelve un publicador para medir cada bloque entregado.
+   *
+   * @param delegate publicador real
+   * @return publicador instrumentado
+   */
+  public PaymentOrderEventPublisher measure(PaymentOrderEventPublisher delegate) {
+    return events -> delegate.publish(events)
+        .doOnSuccess(ignored -> recordPublished(events))
+        .doOnError(error -> failures.increment());
+  }
+
+  private void recordPublished(List<PaymentOrderEvent> events) {
+    long now = clock.wallTime();
+    published.increment(events.size());
+    batchSize.record(events.size());
+    for (PaymentOrderEvent event : events) {
+      lag.record(
+          Math.max(0, now - event.occurredAt().toInstant().toEpochMilli()), TimeUnit.MILLISECONDS);
+    }
+  }
+}
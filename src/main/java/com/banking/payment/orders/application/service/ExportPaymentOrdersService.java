@@ -0,0 +1,38 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.port.in.ExportPaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.out.PaymentOrderExportPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * ExportPaymentOrdersService - Servicio para exportar órdenes de pago en streaming.
+ */
+@Service
+public class ExportPaymentOrdersService implements ExportPaymentOrdersUseCase {
+
+  private final PaymentOrderExportPort paymentOrderExportPort;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public ExportPaymentOrdersService(PaymentOrderExportPort paymentOrderExportPort) {
+    this.paymentOrderExportPort = paymentOrderExportPort;
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> export(PaymentOrderSearchCriteria criteria) {
+    if (criteria.createdFrom() == null || criteria.createdTo() == null) {
+      return Flux.error(new InvalidSearchCriteriaException(
+          "createdFrom and createdTo are required"));
+    }
+    if (!criteria.createdFrom().isBefore(criteria.createdTo())) {
+      return Flux.error(new InvalidSearchCriteriaException(
+          "createdFrom must be before createdTo"));
+    }
+    return paymentOrderExportPort.export(criteria);
+  }
+}
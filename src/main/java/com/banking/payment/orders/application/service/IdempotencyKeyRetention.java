@@ -0,0 +1,105 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.port.out.IdempotencyKeyPort;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * IdempotencyKeyRetention - Elimina en segundo plano las claves de idempotencia caducadas.
+ *
+ * <p>Una clave solo protege frente a reintentos durante el periodo de retención; pasado ese
+ * periodo la misma clave vuelve a crear una orden nueva. La retención no puede ser menor que
+ * el tiempo de vida de la caché en memoria, para que un nodo no siga resolviendo una clave
+ * que otro ya puede reutilizar.
+ */
+@Service
+@ConditionalOnProperty(name = "payment-orders.idempotency.purge.enabled",
+    havingValue = "true", matchIfMissing = true)
+public class IdempotencyKeyRetention implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyRetention.class);
+
+  private final IdempotencyKeyPort idempotencyKeyPort;
+  private final Duration retention;
+  private final int batchSize;
+  private final Duration interval;
+  private volatile Disposable subscription;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public IdempotencyKeyRetention(
+      IdempotencyKeyPort idempotencyKeyPort,
+      @Value("${payment-orders.idempotency.retention:24h}") Duration retention,
+      @Value("${payment-orders.idempotency.cache.time-to-live:1h}") Duration cacheTimeToLive,
+      @Value("${payment-orders.idempotency.purge.batch-size:1000}") int batchSize,
+      @Value("${payment-orders.idempotency.purge.interval:10m}") Duration interval) {
+    if (retention.compareTo(cacheTimeToLive) < 0) {
+      throw new IllegalStateException("payment-orders.idempotency.retention (" + retention
+          + ") must not be shorter than payment-orders.idempotency.cache.time-to-live ("
+          + cacheTimeToLive + ")");
+    }
+    this.idempotencyKeyPort = idempotencyKeyPort;
+    this.retention = retention;
+    this.batchSize = batchSize;
+    this.interval = interval;
+  }
+
+  /**
+   * Elimina bloques hasta que uno sale incompleto, lo que indica que no quedan claves
+   * caducadas.
+   *
+   * @return Mono con el número total de claves eliminadas
+   */
+  public Mono<Integer> purge() {
+    return Mono.defer(() -> {
+      OffsetDateTime before = OffsetDateTime.now().minus(retention);
+      return idempotencyKeyPort.purgeExpired(before, batchSize)
+          .expand(purged -> purged == batchSize
+              ? idempotencyKeyPort.purgeExpired(before, batchSize)
+              : Mono.empty())
+          .reduce(0, Integer::sum);
+    });
+  }
+
+  @Override
+  public void start() {
+    subscription = Flux.interval(Duration.ZERO, interval)
+        .onBackpressureDrop()
+        .concatMap(tick -> purge()
+            .doOnNext(purged -> {
+              if (purged > 0) {
+                log.info("Purged {} expired idempotency keys", purged);
+              }
+            })
+            .onErrorResume(ex -> {
+              log.warn("Idempotency key purge failed, retrying in {}: {}",
+                  interval, ex.getMessage());
+              return Mono.empty();
+            }), 1)
+        .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = subscription;
+    return current != null && !current.isDisposed();
+  }
+}
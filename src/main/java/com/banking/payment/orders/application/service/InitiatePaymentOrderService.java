@@ -1,5 +1,8 @@
 package com.banking.payment.orders.application.service;
 
+import com.banking.payment.orders.application.validation.PaymentOrderValidator;
+import com.banking.payment.orders.application.validation.PaymentOrderValidator.Violation;
+import com.banking.payment.orders.domain.exception.IdempotencyKeyInProgressException;
 import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
 import com.banking.payment.orders.domain.model.DateInformation;
 import com.banking.payment.orders.domain.model.Payee;
@@ -7,8 +10,18 @@ import com.banking.payment.orders.domain.model.Payer;
 import com.banking.payment.orders.domain.model.PaymentDetails;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
 import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase;
+import com.banking.payment.orders.domain.port.out.IdempotencyKeyPort;
 import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -18,9 +31,38 @@ import reactor.core.publisher.Mono;
 public class InitiatePaymentOrderService implements InitiatePaymentOrderUseCase {
 
   private final PaymentOrderPort paymentOrderPort;
+  private final IdempotencyKeyPort idempotencyKeyPort;
+  private final PaymentOrderValidator validator;
+  private final int batchChunkSize;
+  private final AsyncCache<String, UUID> idempotencyKeys;
 
-  public InitiatePaymentOrderService(PaymentOrderPort paymentOrderPort) {
+  /**
+   * Constructor con inyección de dependencias.
+   *
+   * @param paymentOrderPort puerto de persistencia
+   * @param idempotencyKeyPort puerto de claves de idempotencia
+   * @param validator validador de los comandos de iniciación
+   * @param batchChunkSize número máximo de órdenes por transacción en lotes
+   * @param idempotencyCacheMaximumSize número máximo de claves resueltas en memoria
+   * @param idempotencyCacheTimeToLive tiempo de vida en memoria de cada clave
+   */
+  public InitiatePaymentOrderService(
+      PaymentOrderPort paymentOrderPort,
+      IdempotencyKeyPort idempotencyKeyPort,
+      PaymentOrderValidator validator,
+      @Value("${payment-orders.batch.chunk-size:500}") int batchChunkSize,
+      @Value("${payment-orders.idempotency.cache.maximum-size:100000}")
+      long idempotencyCacheMaximumSize,
+      @Value("${payment-orders.idempotency.cache.time-to-live:1h}")
+      Duration idempotencyCacheTimeToLive) {
     this.paymentOrderPort = paymentOrderPort;
+    this.idempotencyKeyPort = idempotencyKeyPort;
+    this.validator = validator;
+    this.batchChunkSize = batchChunkSize;
+    this.idempotencyKeys = Caffeine.newBuilder()
+        .maximumSize(idempotencyCacheMaximumSize)
+        .expireAfterWrite(idempotencyCacheTimeToLive)
+        .buildAsync();
   }
 
   @Override
@@ -31,7 +73,118 @@ public class InitiatePaymentOrderService implements InitiatePaymentOrderUseCase
             ex -> new InvalidPaymentOrderException("Invalid payment order data", ex));
   }
 
+  /**
+   * Las solicitudes concurrentes con la misma clave en este nodo comparten una única
+   * resolución; entre nodos, la reserva de la clave en base de datos decide qué solicitud
+   * crea la orden. La reserva y el INSERT de la orden se confirman en la misma transacción:
+   * si el INSERT falla o el proceso cae entre ambos, la clave queda libre para un reintento.
+   */
+  @Override
+  public Mono<PaymentOrderProcedure> initiate(
+      InitiatePaymentOrderCommand command, String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return initiate(command);
+    }
+    return Mono.defer(() -> Mono.fromFuture(idempotencyKeys.get(idempotencyKey,
+            (key, executor) -> resolveIdempotencyKey(command, key).toFuture()), true))
+        .flatMap(paymentOrderPort::findById)
+        .switchIfEmpty(Mono.error(() -> new IdempotencyKeyInProgressException(idempotencyKey)));
+  }
+
+  private Mono<UUID> resolveIdempotencyKey(InitiatePaymentOrderCommand command, String key) {
+    return Mono.fromCallable(() -> createPaymentOrder(command))
+        .onErrorMap(IllegalArgumentException.class,
+            ex -> new InvalidPaymentOrderException("Invalid payment order data", ex))
+        .flatMap(order -> {
+          UUID paymentOrderId = order.getPaymentOrderProcedureInstanceReference();
+          return idempotencyKeyPort.reserve(key, paymentOrderId,
+                  Mono.defer(() -> paymentOrderPort.save(order)))
+              .switchIfEmpty(Mono.error(() -> new IdempotencyKeyInProgressException(key)));
+        });
+  }
+
+  @Override
+  public Flux<InitiatePaymentOrderResult> initiateBatch(
+      Flux<InitiatePaymentOrderCommand> commands) {
+    return commands
+        .map(this::prepare)
+        .buffer(batchChunkSize)
+        .concatMap(this::persistChunk);
+  }
+
+  private InitiatePaymentOrderResult prepare(InitiatePaymentOrderCommand command) {
+    List<Violation> violations = validator.validate(command);
+    if (!violations.isEmpty()) {
+      return InitiatePaymentOrderResult.failure(invalid(violations));
+    }
+    try {
+      return InitiatePaymentOrderResult.success(buildPaymentOrder(command));
+    } catch (IllegalArgumentException ex) {
+      return InitiatePaymentOrderResult.failure(
+          new InvalidPaymentOrderException("Invalid payment order data: " + ex.getMessage(), ex));
+    }
+  }
+
+  /**
+   * Persiste las órdenes válidas del bloque con {@code insertAll} en una transacción. Si el
+   * bloque falla se reintenta orden por orden para aislar solo los elementos problemáticos.
+   */
+  private Flux<InitiatePaymentOrderResult> persistChunk(List<InitiatePaymentOrderResult> chunk) {
+    List<PaymentOrderProcedure> orders = chunk.stream()
+        .filter(InitiatePaymentOrderResult::isSuccess)
+        .map(InitiatePaymentOrderResult::paymentOrder)
+        .toList();
+    if (orders.isEmpty()) {
+      return Flux.fromIterable(chunk);
+    }
+    return paymentOrderPort.insertAll(orders)
+        .map(InitiatePaymentOrderResult::success)
+        .collectList()
+        .onErrorResume(ex -> saveIndividually(orders))
+        .flatMapIterable(persisted -> mergeInOrder(chunk, persisted));
+  }
+
+  private Mono<List<InitiatePaymentOrderResult>> saveIndividually(
+      List<PaymentOrderProcedure> orders) {
+    return Flux.fromIterable(orders)
+        .concatMap(order -> paymentOrderPort.save(order)
+            .map(InitiatePaymentOrderResult::success)
+            .onErrorResume(RuntimeException.class,
+                ex -> Mono.just(InitiatePaymentOrderResult.failure(ex))))
+        .collectList();
+  }
+
+  private static List<InitiatePaymentOrderResult> mergeInOrder(
+      List<InitiatePaymentOrderResult> chunk, List<InitiatePaymentOrderResult> persisted) {
+    List<InitiatePaymentOrderResult> results = new ArrayList<>(chunk.size());
+    Iterator<InitiatePaymentOrderResult> persistedResults = persisted.iterator();
+    for (InitiatePaymentOrderResult prepared : chunk) {
+      results.add(prepared.isSuccess() ? persistedResults.next() : prepared);
+    }
+    return results;
+  }
+
+  private static InvalidPaymentOrderException invalid(List<Violation> violations) {
+    return new InvalidPaymentOrderException(
+        "Invalid payment order data: " + PaymentOrderValidator.describe(violations));
+  }
+
+  /**
+   * Valida el comando con todas las reglas antes de construir la orden; las comprobaciones
+   * de los objetos de dominio quedan como última defensa.
+   */
   private PaymentOrderProcedure createPaymentOrder(InitiatePaymentOrderCommand command) {
+    List<Violation> violations = validator.validate(command);
+    if (!violations.isEmpty()) {
+      throw invalid(violations);
+    }
+    return buildPaymentOrder(command);
+  }
+
+  /**
+   * Construye la orden de un comando ya validado, sin volver a pasar por el validador.
+   */
+  private static PaymentOrderProcedure buildPaymentOrder(InitiatePaymentOrderCommand command) {
     Payer payer = new Payer(
         command.payerReference(),
         command.payerBankReference(),
@@ -0,0 +1,135 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderOutboxMetrics;
+import com.banking.payment.orders.domain.port.out.PaymentOrderEventPublisher;
+import com.banking.payment.orders.domain.port.out.PaymentOrderOutboxPort;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderOutboxRelay - Publica en segundo plano los eventos de la bandeja de salida.
+ *
+ * <p>Cada intervalo drena la bandeja en bloques hasta vaciarla; mientras haya bloques
+ * completos no espera al siguiente intervalo. Cada réplica ejecuta su propio relay y el
+ * reclamo con SKIP LOCKED reparte los bloques sin entregar dos veces el mismo evento.
+ *
+ * <p>Los eventos publicados se eliminan de la bandeja, así que el relay solo se activa con
+ * payment-orders.outbox.relay.enabled=true y exige un bean de
+ * {@link PaymentOrderEventPublisher} que los entregue a un destino duradero; sin él la
+ * aplicación no arranca. Deshabilitado, tampoco se registran eventos.
+ *
+ * <p>Un evento que no se consigue entregar durante payment-orders.outbox.retention se elimina
+ * tras cada ciclo, con un aviso y la métrica payment.orders.outbox.expired, para que un
+ * destino caído no haga crecer la bandeja sin límite.
+ */
+@Service
+@ConditionalOnProperty(name = "payment-orders.outbox.relay.enabled", havingValue = "true")
+public class PaymentOrderOutboxRelay implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(PaymentOrderOutboxRelay.class);
+
+  private final PaymentOrderOutboxPort outboxPort;
+  private final PaymentOrderEventPublisher publisher;
+  private final PaymentOrderOutboxMetrics outboxMetrics;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Duration retention;
+  private volatile Disposable subscription;
+
+  /**
+   * Constructor con inyección de dependencias.
+   */
+  public PaymentOrderOutboxRelay(
+      PaymentOrderOutboxPort outboxPort,
+      PaymentOrderEventPublisher publisher,
+      ObjectProvider<PaymentOrderOutboxMetrics> metrics,
+      @Value("${payment-orders.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${payment-orders.outbox.relay.poll-interval:1s}") Duration pollInterval,
+      @Value("${payment-orders.outbox.retention:7d}") Duration retention) {
+    this.outboxMetrics = metrics.getIfAvailable();
+    this.outboxPort = outboxPort;
+    this.publisher = outboxMetrics != null ? outboxMetrics.measure(publisher) : publisher;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.retention = retention;
+  }
+
+  /**
+   * Publica bloques hasta que uno sale incompleto, lo que indica que la bandeja quedó vacía.
+   *
+   * @return Mono con el número total de eventos publicados
+   */
+  public Mono<Integer> drain() {
+    return Mono.defer(this::publishBatch)
+        .expand(published -> published == batchSize ? publishBatch() : Mono.empty())
+        .reduce(0, Integer::sum);
+  }
+
+  private Mono<Integer> publishBatch() {
+    return outboxPort.publishPending(batchSize, publisher);
+  }
+
+  /**
+   * Elimina en bloques los eventos que siguen sin entregar pasada la retención.
+   *
+   * @return Mono con el número total de eventos eliminados
+   */
+  public Mono<Integer> expire() {
+    return Mono.defer(() -> {
+      OffsetDateTime before = OffsetDateTime.now().minus(retention);
+      return outboxPort.purgeExpired(before, batchSize)
+          .expand(purged -> purged == batchSize
+              ? outboxPort.purgeExpired(before, batchSize)
+              : Mono.empty())
+          .reduce(0, Integer::sum);
+    }).doOnNext(expired -> {
+      if (expired > 0) {
+        log.warn("Discarded {} outbox events undelivered for more than {}", expired, retention);
+        if (outboxMetrics != null) {
+          outboxMetrics.recordExpired(expired);
+        }
+      }
+    });
+  }
+
+  @Override
+  public void start() {
+    subscription = Flux.interval(Duration.ZERO, pollInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> drain()
+            .onErrorResume(ex -> {
+              log.warn("Outbox relay failed, retrying in {}: {}", pollInterval, ex.getMessage());
+              return Mono.empty();
+            })
+            .then(expire())
+            .onErrorResume(ex -> {
+              log.warn("Outbox expiry failed, retrying in {}: {}", pollInterval, ex.getMessage());
+              return Mono.empty();
+            }), 1)
+        .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = subscription;
+    return current != null && !current.isDisposed();
+  }
+}
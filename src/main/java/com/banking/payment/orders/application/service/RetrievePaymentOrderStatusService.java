@@ -1,7 +1,7 @@
 package com.banking.payment.orders.application.service;
 
 import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
-import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
 import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderStatusUseCase;
 import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
 import java.util.UUID;
@@ -21,8 +21,8 @@ public class RetrievePaymentOrderStatusService implements RetrievePaymentOrderSt
   }
 
   @Override
-  public Mono<PaymentOrderProcedure> retrieveStatus(UUID paymentOrderId) {
-    return paymentOrderPort.findById(paymentOrderId)
+  public Mono<PaymentOrderStatusSnapshot> retrieveStatus(UUID paymentOrderId) {
+    return paymentOrderPort.findStatusById(paymentOrderId)
         .switchIfEmpty(Mono.error(new PaymentOrderNotFoundException(paymentOrderId)));
   }
 }
@@ -0,0 +1,78 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderIdsException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * RetrievePaymentOrdersService - Servicio para recuperar varias órdenes de pago a la vez.
+ */
+@Service
+public class RetrievePaymentOrdersService implements RetrievePaymentOrdersUseCase {
+
+  private final PaymentOrderPort paymentOrderPort;
+  private final int maxIds;
+
+  /**
+   * Constructor con inyección de dependencias.
+   *
+   * @param paymentOrderPort puerto de persistencia
+   * @param maxIds número máximo de IDs por consulta, contando los repetidos
+   */
+  public RetrievePaymentOrdersService(
+      PaymentOrderPort paymentOrderPort,
+      @Value("${payment-orders.multi-get.max-ids:500}") int maxIds) {
+    this.paymentOrderPort = paymentOrderPort;
+    this.maxIds = maxIds;
+  }
+
+  /**
+   * Lee todas las órdenes con {@link PaymentOrderPort#findAllById} y las reordena según la
+   * petición; los IDs que la lectura no devuelve se informan como no encontrados. El tamaño
+   * de la lista se valida antes de eliminar repetidos, así que una petición fuera de rango
+   * se rechaza sin recorrerla.
+   */
+  @Override
+  public Mono<RetrievedPaymentOrders> retrieveAll(List<UUID> paymentOrderIds) {
+    if (paymentOrderIds == null || paymentOrderIds.isEmpty()
+        || paymentOrderIds.size() > maxIds) {
+      return Mono.error(new InvalidPaymentOrderIdsException(
+          "paymentOrderIds must contain between 1 and " + maxIds + " ids"));
+    }
+    if (paymentOrderIds.stream().anyMatch(Objects::isNull)) {
+      return Mono.error(new InvalidPaymentOrderIdsException(
+          "paymentOrderIds must not contain null ids"));
+    }
+    List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(paymentOrderIds));
+    return paymentOrderPort.findAllById(distinctIds)
+        .collectMap(PaymentOrderProcedure::getPaymentOrderProcedureInstanceReference,
+            paymentOrder -> paymentOrder, () -> new HashMap<>(distinctIds.size() * 2))
+        .map(found -> toResult(distinctIds, found));
+  }
+
+  private static RetrievedPaymentOrders toResult(
+      List<UUID> paymentOrderIds, Map<UUID, PaymentOrderProcedure> found) {
+    List<PaymentOrderProcedure> paymentOrders = new ArrayList<>(found.size());
+    List<UUID> notFound = new ArrayList<>();
+    for (UUID paymentOrderId : paymentOrderIds) {
+      PaymentOrderProcedure paymentOrder = found.get(paymentOrderId);
+      if (paymentOrder != null) {
+        paymentOrders.add(paymentOrder);
+      } else {
+        notFound.add(paymentOrderId);
+      }
+    }
+    return new RetrievedPaymentOrders(paymentOrders, notFound);
+  }
+}
@@ -0,0 +1,49 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.port.in.SearchPaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * SearchPaymentOrdersService - Servicio para buscar órdenes de pago paginadas.
+ */
+@Service
+public class SearchPaymentOrdersService implements SearchPaymentOrdersUseCase {
+
+  private final PaymentOrderPort paymentOrderPort;
+  private final int maxPageSize;
+
+  /**
+   * Constructor con inyección de dependencias.
+   *
+   * @param paymentOrderPort puerto de persistencia
+   * @param maxPageSize número máximo de órdenes por página
+   */
+  public SearchPaymentOrdersService(
+      PaymentOrderPort paymentOrderPort,
+      @Value("${payment-orders.search.max-page-size:500}") int maxPageSize) {
+    this.paymentOrderPort = paymentOrderPort;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @Override
+  public Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit) {
+    if (limit < 1 || limit > maxPageSize) {
+      return Flux.error(new InvalidSearchCriteriaException(
+          "limit must be between 1 and " + maxPageSize));
+    }
+    if (criteria.createdFrom() != null && criteria.createdTo() != null
+        && !criteria.createdFrom().isBefore(criteria.createdTo())) {
+      return Flux.error(new InvalidSearchCriteriaException(
+          "createdFrom must be before createdTo"));
+    }
+    return paymentOrderPort.search(criteria, after, limit);
+  }
+}
@@ -0,0 +1,161 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.in.StreamPaymentOrderStatusUseCase;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import com.banking.payment.orders.domain.port.out.PaymentOrderStatusChangePort;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * StreamPaymentOrderStatusService - Servicio para seguir el estado de órdenes en vivo.
+ *
+ * <p>Cada nodo mantiene una sola escucha de cambios, abierta mientras haya algún seguimiento
+ * activo, y la reparte entre los seguimientos mediante un registro en memoria por orden. Los
+ * cambios de órdenes que nadie sigue se descartan sin coste.
+ */
+@Service
+public class StreamPaymentOrderStatusService implements StreamPaymentOrderStatusUseCase {
+
+  static final int RESYNC_CHUNK_SIZE = 1000;
+
+  private static final Logger log = LoggerFactory.getLogger(StreamPaymentOrderStatusService.class);
+  private static final Duration EMIT_TIMEOUT = Duration.ofMillis(100);
+
+  private final PaymentOrderPort paymentOrderPort;
+  private final PaymentOrderStatusChangePort statusChangePort;
+  private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+  private int activeStreams;
+  private Disposable listener;
+
+  public StreamPaymentOrderStatusService(
+      PaymentOrderPort paymentOrderPort,
+      PaymentOrderStatusChangePort statusChangePort) {
+    this.paymentOrderPort = paymentOrderPort;
+    this.statusChangePort = statusChangePort;
+  }
+
+  /**
+   * Se registra en el canal antes de leer el estado actual, de modo que ningún cambio
+   * confirmado después de la lectura se pierde. El estado inicial se lee de la base de datos
+   * y no de la cache, que en otro nodo podría estar atrasada. Los estados que no son
+   * estrictamente posteriores al último emitido se descartan.
+   */
+  @Override
+  public Flux<PaymentOrderStatusSnapshot> streamStatus(UUID paymentOrderId) {
+    return Flux.defer(() -> {
+      Channel channel = open(paymentOrderId);
+      AtomicReference<OffsetDateTime> lastEmitted = new AtomicReference<>();
+      Mono<PaymentOrderStatusSnapshot> current = paymentOrderPort
+          .findStatusesByIds(List.of(paymentOrderId))
+          .next()
+          .switchIfEmpty(Mono.error(new PaymentOrderNotFoundException(paymentOrderId)));
+      return Flux.merge(channel.sink.asFlux().onBackpressureLatest(), current)
+          .filter(status -> isNewer(status, lastEmitted))
+          .takeUntil(status -> status.paymentOrderProcedureInstanceStatus().isTerminal())
+          .doFinally(signal -> close(paymentOrderId));
+    });
+  }
+
+  /**
+   * Número de órdenes con algún seguimiento activo en este nodo.
+   */
+  int trackedOrders() {
+    return channels.size();
+  }
+
+  private static boolean isNewer(
+      PaymentOrderStatusSnapshot status, AtomicReference<OffsetDateTime> lastEmitted) {
+    OffsetDateTime updated = status.lastUpdateDateTime();
+    OffsetDateTime previous = lastEmitted.get();
+    if (previous != null && !updated.isAfter(previous)) {
+      return false;
+    }
+    lastEmitted.set(updated);
+    return true;
+  }
+
+  private Channel open(UUID paymentOrderId) {
+    Channel channel = channels.compute(paymentOrderId,
+        (key, existing) -> existing == null ? new Channel() : existing.retain());
+    acquireListener();
+    return channel;
+  }
+
+  private void close(UUID paymentOrderId) {
+    channels.computeIfPresent(paymentOrderId,
+        (key, channel) -> channel.release() == 0 ? null : channel);
+    releaseListener();
+  }
+
+  private synchronized void acquireListener() {
+    if (activeStreams++ == 0) {
+      listener = statusChangePort.statusChanges(this::resync)
+          .subscribe(this::dispatch,
+              ex -> log.error("Payment order status listener stopped", ex));
+    }
+  }
+
+  private synchronized void releaseListener() {
+    if (--activeStreams == 0) {
+      listener.dispose();
+      listener = null;
+    }
+  }
+
+  private void dispatch(PaymentOrderStatusSnapshot status) {
+    Channel channel = channels.get(status.paymentOrderProcedureInstanceReference());
+    if (channel != null) {
+      channel.sink.emitNext(status, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+    }
+  }
+
+  /**
+   * Relee el estado de todas las órdenes seguidas cuando la escucha se (re)establece: los
+   * cambios confirmados mientras no había escucha no se vuelven a notificar.
+   */
+  private void resync() {
+    List<UUID> tracked = List.copyOf(channels.keySet());
+    if (tracked.isEmpty()) {
+      return;
+    }
+    Flux.fromIterable(tracked)
+        .buffer(RESYNC_CHUNK_SIZE)
+        .concatMap(paymentOrderPort::findStatusesByIds)
+        .subscribe(this::dispatch,
+            ex -> log.warn("Payment order status resync failed: {}", ex.getMessage()));
+  }
+
+  /**
+   * Canal de una orden: los seguimientos de la misma orden comparten el sink. El contador
+   * solo se modifica dentro de compute del mapa, que lo serializa por clave.
+   */
+  private static final class Channel {
+
+    private final Sinks.Many<PaymentOrderStatusSnapshot> sink =
+        Sinks.many().multicast().directBestEffort();
+    private int subscribers = 1;
+
+    private Channel retain() {
+      subscribers++;
+      return this;
+    }
+
+    private int release() {
+      return --subscribers;
+    }
+  }
+}
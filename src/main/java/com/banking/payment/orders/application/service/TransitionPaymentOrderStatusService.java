@@ -0,0 +1,110 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * TransitionPaymentOrderStatusService - Servicio para cambiar el estado de órdenes en bloque.
+ *
+ * <p>Agrupa los comandos por par (origen, destino) y aplica cada grupo con una única
+ * actualización condicional. Solo si alguna orden no cambia se lanza una consulta adicional
+ * para distinguir entre orden inexistente y conflicto de estado.
+ */
+@Service
+public class TransitionPaymentOrderStatusService implements TransitionPaymentOrderStatusUseCase {
+
+  private final PaymentOrderPort paymentOrderPort;
+
+  public TransitionPaymentOrderStatusService(PaymentOrderPort paymentOrderPort) {
+    this.paymentOrderPort = paymentOrderPort;
+  }
+
+  @Override
+  public Flux<StatusTransitionResult> transition(List<StatusTransitionCommand> commands) {
+    return Flux.defer(() -> {
+      StatusTransitionResult[] results = new StatusTransitionResult[commands.size()];
+      Map<Transition, List<Integer>> groups = new LinkedHashMap<>();
+      for (int i = 0; i < commands.size(); i++) {
+        StatusTransitionCommand command = commands.get(i);
+        Transition transition = new Transition(command.fromStatus(), command.toStatus());
+        if (transition.isLegal()) {
+          groups.computeIfAbsent(transition, key -> new ArrayList<>()).add(i);
+        } else {
+          results[i] = StatusTransitionResult.invalidTransition(command.paymentOrderId());
+        }
+      }
+      return Flux.fromIterable(groups.entrySet())
+          .concatMap(group -> apply(group.getKey(), group.getValue(), commands, results))
+          .then(Mono.defer(() -> resolveUnapplied(commands, results)))
+          .thenMany(Flux.defer(() -> Flux.fromArray(results)));
+    });
+  }
+
+  /**
+   * Aplica un grupo. Si una orden aparece repetida en el grupo solo el primer comando se
+   * marca como aplicado; los demás quedan como conflicto.
+   */
+  private Mono<Void> apply(Transition transition, List<Integer> indexes,
+      List<StatusTransitionCommand> commands, StatusTransitionResult[] results) {
+    Set<UUID> ids = new LinkedHashSet<>();
+    indexes.forEach(index -> ids.add(commands.get(index).paymentOrderId()));
+    return paymentOrderPort.transitionStatus(List.copyOf(ids), transition.from(), transition.to())
+        .collectMap(PaymentOrderStatusSnapshot::paymentOrderProcedureInstanceReference)
+        .doOnNext(applied -> {
+          for (int index : indexes) {
+            PaymentOrderStatusSnapshot status =
+                applied.remove(commands.get(index).paymentOrderId());
+            if (status != null) {
+              results[index] = StatusTransitionResult.applied(status);
+            }
+          }
+        })
+        .then();
+  }
+
+  private Mono<Void> resolveUnapplied(
+      List<StatusTransitionCommand> commands, StatusTransitionResult[] results) {
+    Set<UUID> ids = new LinkedHashSet<>();
+    for (int i = 0; i < results.length; i++) {
+      if (results[i] == null) {
+        ids.add(commands.get(i).paymentOrderId());
+      }
+    }
+    if (ids.isEmpty()) {
+      return Mono.empty();
+    }
+    return paymentOrderPort.findStatusesByIds(List.copyOf(ids))
+        .collectMap(PaymentOrderStatusSnapshot::paymentOrderProcedureInstanceReference)
+        .doOnNext(current -> {
+          for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+              UUID id = commands.get(i).paymentOrderId();
+              PaymentOrderStatusSnapshot status = current.get(id);
+              results[i] = status == null
+                  ? StatusTransitionResult.notFound(id)
+                  : StatusTransitionResult.conflict(status);
+            }
+          }
+        })
+        .then();
+  }
+
+  private record Transition(PaymentOrderStatus from, PaymentOrderStatus to) {
+
+    boolean isLegal() {
+      return from != null && to != null && from.canTransitionTo(to);
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.banking.payment.orders.application.validation;
+
+import com.banking.payment.orders.domain.model.CurrencyCodes;
+import com.banking.payment.orders.domain.model.Iban;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentOrderValidator - Valida los comandos de iniciación antes de construir la orden.
+ *
+ * <p>Las reglas se compilan una vez al arrancar, según la configuración, en un array que se
+ * recorre entero en cada validación: se recogen todas las infracciones de una pasada y
+ * ninguna regla lanza excepciones. Cada infracción es una constante, y si el comando es válido
+ * no se reserva memoria: IBAN y divisa se comprueban con {@link Iban} y {@link CurrencyCodes}
+ * sobre las cadenas originales, el importe se compara sin crear BigDecimal y la fecha de hoy se
+ * recalcula solo al cambiar de día.
+ */
+@Component
+public class PaymentOrderValidator {
+
+  static final Violation PAYER_ACCOUNT_REQUIRED =
+      new Violation("payerProductInstanceReference", "is required");
+  static final Violation PAYER_IBAN_INVALID =
+      new Violation("payerProductInstanceReference", "is not a valid IBAN");
+  static final Violation PAYEE_ACCOUNT_REQUIRED =
+      new Violation("payeeProductInstanceReference", "is required");
+  static final Violation PAYEE_IBAN_INVALID =
+      new Violation("payeeProductInstanceReference", "is not a valid IBAN");
+  static final Violation CURRENCY_UNKNOWN =
+      new Violation("currency", "must be a valid ISO 4217 code");
+  static final Violation CURRENCY_WITHOUT_MINOR_UNITS =
+      new Violation("currency", "has no minor units");
+  static final Violation AMOUNT_REQUIRED = new Violation("amount", "is required");
+  static final Violation AMOUNT_NOT_POSITIVE =
+      new Violation("amount", "must be greater than zero");
+  static final Violation AMOUNT_TOO_LARGE = new Violation("amount", "exceeds the maximum");
+  static final Violation AMOUNT_SCALE =
+      new Violation("amount", "has more decimals than the currency allows");
+  static final Violation DATE_TYPE_REQUIRED = new Violation("dateType", "is required");
+  static final Violation DATE_REQUIRED = new Violation("date", "is required");
+  static final Violation DATE_TOO_EARLY = new Violation("date", "is before the allowed window");
+  static final Violation DATE_TOO_LATE = new Violation("date", "is after the allowed window");
+
+  private final Rule[] rules;
+  private final BigDecimal maxAmount;
+  private final long maxDaysInPast;
+  private final long maxDaysAhead;
+  private final Clock clock;
+  private volatile Today today;
+
+  /**
+   * Constructor con inyección de dependencias.
+   *
+   * @param ibanCheck si las cuentas de países con IBAN deben ser IBAN válidos
+   * @param maxAmount importe máximo admitido
+   * @param maxDaysInPast días que la fecha puede quedar antes de hoy
+   * @param maxDaysAhead días que la fecha puede quedar después de hoy
+   */
+  @Autowired
+  public PaymentOrderValidator(
+      @Value("${payment-orders.validation.iban-check.enabled:true}") boolean ibanCheck,
+      @Value("${payment-orders.validation.max-amount:999999999.99}") BigDecimal maxAmount,
+      @Value("${payment-orders.validation.date.max-days-in-past:0}") long maxDaysInPast,
+      @Value("${payment-orders.validation.date.max-days-ahead:365}") long maxDaysAhead) {
+    this(ibanCheck, maxAmount, maxDaysInPast, maxDaysAhead, Clock.systemDefaultZone());
+  }
+
+  PaymentOrderValidator(boolean ibanCheck, BigDecimal maxAmount, long maxDaysInPast,
+      long maxDaysAhead, Clock clock) {
+    this.maxAmount = maxAmount;
+    this.maxDaysInPast = maxDaysInPast;
+    this.maxDaysAhead = maxDaysAhead;
+    this.clock = clock;
+    List<Rule> compiled = new ArrayList<>();
+    compiled.add(command -> account(command.payerProductInstanceReference(), ibanCheck,
+        PAYER_ACCOUNT_REQUIRED, PAYER_IBAN_INVALID));
+    compiled.add(command -> account(command.payeeProductInstanceReference(), ibanCheck,
+        PAYEE_ACCOUNT_REQUIRED, PAYEE_IBAN_INVALID));
+    compiled.add(PaymentOrderValidator::currency);
+    compiled.add(this::amount);
+    compiled.add(command -> command.dateType() == null || command.dateType().isBlank()
+        ? DATE_TYPE_REQUIRED : null);
+    compiled.add(this::date);
+    this.rules = compiled.toArray(new Rule[0]);
+  }
+
+  /**
+   * Infracción de una regla sobre un campo del comando.
+   *
+   * @param field campo del comando
+   * @param message descripción de la infracción
+   */
+  public record Violation(String field, String message) {
+
+    @Override
+    public String toString() {
+      return field + ": " + message;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Rule {
+
+    Violation check(InitiatePaymentOrderCommand command);
+  }
+
+  /**
+   * Aplica todas las reglas al comando.
+   *
+   * @param command comando de iniciación
+   * @return infracciones en el orden de las reglas; vacía (y compartida) si es válido
+   */
+  public List<Violation> validate(InitiatePaymentOrderCommand command) {
+    List<Violation> violations = List.of();
+    for (Rule rule : rules) {
+      Violation violation = rule.check(command);
+      if (violation != null) {
+        if (violations.isEmpty()) {
+          violations = new ArrayList<>(4);
+        }
+        violations.add(violation);
+      }
+    }
+    return violations;
+  }
+
+  /**
+   * Describe las infracciones con el mismo formato que los errores de Bean Validation.
+   *
+   * @param violations infracciones
+   * @return "campo: mensaje" separados por comas
+   */
+  public static String describe(List<Violation> violations) {
+    StringBuilder description = new StringBuilder();
+    for (Violation violation : violations) {
+      if (description.length() > 0) {
+        description.append(", ");
+      }
+      description.append(violation.field()).append(": ").append(violation.message());
+    }
+    return description.toString();
+  }
+
+  private static Violation account(String reference, boolean ibanCheck, Violation required,
+      Violation invalidIban) {
+    if (reference == null || reference.isBlank()) {
+      return required;
+    }
+    if (ibanCheck && Iban.hasIbanCountry(reference) && !Iban.isValid(reference)) {
+      return invalidIban;
+    }
+    return null;
+  }
+
+  private static Violation currency(InitiatePaymentOrderCommand command) {
+    int fractionDigits = CurrencyCodes.fractionDigits(command.currency());
+    if (fractionDigits == CurrencyCodes.UNKNOWN) {
+      return CURRENCY_UNKNOWN;
+    }
+    return fractionDigits == CurrencyCodes.NO_MINOR_UNIT ? CURRENCY_WITHOUT_MINOR_UNITS : null;
+  }
+
+  private Violation amount(InitiatePaymentOrderCommand command) {
+    BigDecimal amount = command.amount();
+    if (amount == null) {
+      return AMOUNT_REQUIRED;
+    }
+    if (amount.signum() <= 0) {
+      return AMOUNT_NOT_POSITIVE;
+    }
+    if (amount.compareTo(maxAmount) > 0) {
+      return AMOUNT_TOO_LARGE;
+    }
+    int fractionDigits = CurrencyCodes.fractionDigits(command.currency());
+    if (fractionDigits >= 0 && amount.scale() > fractionDigits
+        && amount.stripTrailingZeros().scale() > fractionDigits) {
+      return AMOUNT_SCALE;
+    }
+    return null;
+  }
+
+  private Violation date(InitiatePaymentOrderCommand command) {
+    LocalDate date = command.date();
+    if (date == null) {
+      return DATE_REQUIRED;
+    }
+    long days = date.toEpochDay() - today();
+    if (days < -maxDaysInPast) {
+      return DATE_TOO_EARLY;
+    }
+    if (days > maxDaysAhead) {
+      return DATE_TOO_LATE;
+    }
+    return null;
+  }
+
+  /**
+   * Día de hoy en la zona del reloj, reutilizado hasta la medianoche siguiente.
+   */
+  private long today() {
+    long now = clock.millis();
+    Today current = today;
+    if (current == null || now < current.startMillis() || now >= current.endMillis()) {
+      ZoneId zone = clock.getZone();
+      LocalDate date = LocalDate.now(clock);
+      current = new Today(date.toEpochDay(),
+          date.atStartOfDay(zone).toInstant().toEpochMilli(),
+          date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+      today = current;
+    }
+    return current.epochDay();
+  }
+
+  private record Today(long epochDay, long startMillis, long endMillis) {
+  }
+}
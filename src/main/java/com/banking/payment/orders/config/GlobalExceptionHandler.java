@@ -1,7 +1,13 @@
 package com.banking.payment.orders.config;
 
+import com.banking.payment.orders.domain.exception.IdempotencyKeyInProgressException;
 import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderIdsException;
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.exception.InvalidStatusTransitionException;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
 import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import jakarta.validation.ConstraintViolationException;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import org.slf4j.Logger;
@@ -12,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 
 /**
  * GlobalExceptionHandler - Manejador global de excepciones según RFC 7807.
@@ -62,6 +69,108 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
   }
 
+  /**
+   * Maneja InvalidSearchCriteriaException.
+   */
+  @ExceptionHandler(InvalidSearchCriteriaException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidSearchCriteria(
+      InvalidSearchCriteriaException ex) {
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.BAD_REQUEST,
+        ex.getMessage()
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/validation-error"));
+    problemDetail.setTitle("Invalid Search Criteria");
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders"));
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+  }
+
+  /**
+   * Maneja InvalidPaymentOrderIdsException.
+   */
+  @ExceptionHandler(InvalidPaymentOrderIdsException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidPaymentOrderIds(
+      InvalidPaymentOrderIdsException ex) {
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.BAD_REQUEST,
+        ex.getMessage()
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/validation-error"));
+    problemDetail.setTitle("Invalid Payment Order Ids");
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders/retrievals"));
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+  }
+
+  /**
+   * Maneja PaymentOrderConflictException.
+   */
+  @ExceptionHandler(PaymentOrderConflictException.class)
+  public ResponseEntity<ProblemDetail> handlePaymentOrderConflict(
+      PaymentOrderConflictException ex) {
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.CONFLICT,
+        ex.getMessage()
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/conflict"));
+    problemDetail.setTitle("Payment Order Conflict");
+    problemDetail.setProperty("paymentOrderId", ex.getPaymentOrderId());
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders/"
+        + ex.getPaymentOrderId()));
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+  }
+
+  /**
+   * Maneja InvalidStatusTransitionException.
+   */
+  @ExceptionHandler(InvalidStatusTransitionException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidStatusTransition(
+      InvalidStatusTransitionException ex) {
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.CONFLICT,
+        ex.getMessage()
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/invalid-status-transition"));
+    problemDetail.setTitle("Invalid Status Transition");
+    problemDetail.setProperty("paymentOrderId", ex.getPaymentOrderId());
+    problemDetail.setProperty("fromStatus", ex.getFromStatus().getValue());
+    problemDetail.setProperty("toStatus", ex.getToStatus().getValue());
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders/"
+        + ex.getPaymentOrderId()));
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+  }
+
+  /**
+   * Maneja IdempotencyKeyInProgressException.
+   */
+  @ExceptionHandler(IdempotencyKeyInProgressException.class)
+  public ResponseEntity<ProblemDetail> handleIdempotencyKeyInProgress(
+      IdempotencyKeyInProgressException ex) {
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.CONFLICT,
+        ex.getMessage()
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/idempotency-key-in-progress"));
+    problemDetail.setTitle("Request In Progress");
+    problemDetail.setProperty("idempotencyKey", ex.getIdempotencyKey());
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders"));
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+  }
+
   /**
    * Maneja errores de validación de Bean Validation.
    */
@@ -87,6 +196,48 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
   }
 
+  /**
+   * Maneja errores de validación de parámetros (cabeceras, path y query).
+   */
+  @ExceptionHandler(ConstraintViolationException.class)
+  public ResponseEntity<ProblemDetail> handleConstraintViolation(
+      ConstraintViolationException ex) {
+
+    String details = ex.getConstraintViolations()
+        .stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .reduce((a, b) -> a + ", " + b)
+        .orElse("Validation error");
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.BAD_REQUEST,
+        details
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/validation-error"));
+    problemDetail.setTitle("Validation Error");
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders"));
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+  }
+
+  /**
+   * Maneja parámetros que no se pueden convertir al tipo esperado (fechas, estados, números).
+   */
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<ProblemDetail> handleServerWebInput(ServerWebInputException ex) {
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+        HttpStatus.BAD_REQUEST,
+        ex.getReason() != null ? ex.getReason() : "Invalid request"
+    );
+    problemDetail.setType(URI.create("https://api.bank.com/errors/validation-error"));
+    problemDetail.setTitle("Validation Error");
+    problemDetail.setProperty("timestamp", OffsetDateTime.now());
+    problemDetail.setInstance(URI.create("/payment-initiation/payment-orders"));
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+  }
+
   /**
    * Maneja excepciones genéricas.
    */
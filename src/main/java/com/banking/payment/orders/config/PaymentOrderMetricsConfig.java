@@ -0,0 +1,107 @@
+package com.banking.payment.orders.config;
+
+import com.banking.payment.orders.application.metrics.MeteredExportPaymentOrdersUseCase;
+import com.banking.payment.orders.application.metrics.MeteredInitiatePaymentOrderUseCase;
+import com.banking.payment.orders.application.metrics.MeteredRetrievePaymentOrderStatusUseCase;
+import com.banking.payment.orders.application.metrics.MeteredRetrievePaymentOrderUseCase;
+import com.banking.payment.orders.application.metrics.MeteredRetrievePaymentOrdersUseCase;
+import com.banking.payment.orders.application.metrics.MeteredSearchPaymentOrdersUseCase;
+import com.banking.payment.orders.application.metrics.MeteredTransitionPaymentOrderStatusUseCase;
+import com.banking.payment.orders.application.metrics.PaymentOrderExportMetrics;
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics;
+import com.banking.payment.orders.application.metrics.PaymentOrderOutboxMetrics;
+import com.banking.payment.orders.application.service.ExportPaymentOrdersService;
+import com.banking.payment.orders.application.service.InitiatePaymentOrderService;
+import com.banking.payment.orders.application.service.RetrievePaymentOrderService;
+import com.banking.payment.orders.application.service.RetrievePaymentOrderStatusService;
+import com.banking.payment.orders.application.service.RetrievePaymentOrdersService;
+import com.banking.payment.orders.application.service.SearchPaymentOrdersService;
+import com.banking.payment.orders.application.service.TransitionPaymentOrderStatusService;
+import com.banking.payment.orders.domain.port.in.ExportPaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderStatusUseCase;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrderUseCase;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.in.SearchPaymentOrdersUseCase;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * PaymentOrderMetricsConfig - Instrumentación de casos de uso y del puerto de persistencia.
+ *
+ * <p>Con payment-orders.metrics.enabled=false no se registra ningún decorador y los servicios
+ * se inyectan sin instrumentar.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "payment-orders.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentOrderMetricsConfig {
+
+  @Bean
+  public PaymentOrderMetrics paymentOrderMetrics(MeterRegistry meterRegistry) {
+    return new PaymentOrderMetrics(meterRegistry);
+  }
+
+  @Bean
+  public PaymentOrderExportMetrics paymentOrderExportMetrics(MeterRegistry meterRegistry) {
+    return new PaymentOrderExportMetrics(meterRegistry);
+  }
+
+  @Bean
+  public PaymentOrderOutboxMetrics paymentOrderOutboxMetrics(MeterRegistry meterRegistry) {
+    return new PaymentOrderOutboxMetrics(meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public InitiatePaymentOrderUseCase meteredInitiatePaymentOrderUseCase(
+      InitiatePaymentOrderService service, PaymentOrderMetrics metrics) {
+    return new MeteredInitiatePaymentOrderUseCase(service, metrics);
+  }
+
+  @Bean
+  @Primary
+  public RetrievePaymentOrderUseCase meteredRetrievePaymentOrderUseCase(
+      RetrievePaymentOrderService service, PaymentOrderMetrics metrics) {
+    return new MeteredRetrievePaymentOrderUseCase(service, metrics);
+  }
+
+  @Bean
+  @Primary
+  public RetrievePaymentOrdersUseCase meteredRetrievePaymentOrdersUseCase(
+      RetrievePaymentOrdersService service, PaymentOrderMetrics metrics) {
+    return new MeteredRetrievePaymentOrdersUseCase(service, metrics);
+  }
+
+  @Bean
+  @Primary
+  public RetrievePaymentOrderStatusUseCase meteredRetrievePaymentOrderStatusUseCase(
+      RetrievePaymentOrderStatusService service, PaymentOrderMetrics metrics) {
+    return new MeteredRetrievePaymentOrderStatusUseCase(service, metrics);
+  }
+
+  @Bean
+  @Primary
+  public SearchPaymentOrdersUseCase meteredSearchPaymentOrdersUseCase(
+      SearchPaymentOrdersService service, PaymentOrderMetrics metrics) {
+    return new MeteredSearchPaymentOrdersUseCase(service, metrics);
+  }
+
+  @Bean
+  @Primary
+  public ExportPaymentOrdersUseCase meteredExportPaymentOrdersUseCase(
+      ExportPaymentOrdersService service, PaymentOrderMetrics metrics) {
+    return new MeteredExportPaymentOrdersUseCase(service, metrics);
+  }
+
+  @Bean
+  @Primary
+  public TransitionPaymentOrderStatusUseCase meteredTransitionPaymentOrderStatusUseCase(
+      TransitionPaymentOrderStatusService service, PaymentOrderMetrics metrics) {
+    return new MeteredTransitionPaymentOrderStatusUseCase(service, metrics);
+  }
+}
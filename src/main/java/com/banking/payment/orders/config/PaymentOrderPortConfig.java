@@ -0,0 +1,107 @@
+package com.banking.payment.orders.config;
+
+import com.banking.payment.orders.adapter.out.cache.CachingPaymentOrderPort;
+import com.banking.payment.orders.adapter.out.metrics.MeteredPaymentOrderPort;
+import com.banking.payment.orders.adapter.out.persistence.JdbcPaymentOrderRepositoryAdapter;
+import com.banking.payment.orders.adapter.out.persistence.PaymentOrderRepositoryAdapter;
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.adapter.out.routing.ReplicaRoutingPaymentOrderPort;
+import com.banking.payment.orders.adapter.out.singleflight.SingleFlightPaymentOrderPort;
+import com.banking.payment.orders.adapter.out.writebehind.WriteBehindPaymentOrderPort;
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * PaymentOrderPortConfig - Compone el PaymentOrderPort que usan los casos de uso,
+ * envolviendo el adaptador de persistencia con los decoradores habilitados.
+ */
+@Configuration
+public class PaymentOrderPortConfig {
+
+  /**
+   * PaymentOrderPort principal inyectado en los servicios de aplicación.
+   *
+   * @param repositoryAdapter adaptador R2DBC
+   * @param persistenceAdapter adaptador de persistencia: r2dbc o jdbc
+   * @param jdbcAdapter adaptador JDBC, presente solo en builds con el perfil jdbc
+   * @param replicaEnabled envía las lecturas a la réplica de lectura (solo con r2dbc)
+   * @param readYourWritesWindow tiempo durante el que se leen del primario las órdenes escritas
+   * @param readYourWritesMaximumSize órdenes escritas recordadas como máximo
+   * @param singleFlightEnabled habilita la agrupación de lecturas concurrentes por ID
+   * @param singleFlightMaxLifetime tiempo durante el que una lectura en curso admite otras
+   * @param cacheEnabled habilita la cache read-through
+   * @param cacheMaximumSize número máximo de órdenes cacheadas
+   * @param cacheTimeToLive tiempo de vida de cada entrada
+   * @param writeBehindEnabled habilita el write-behind de cambios de estado
+   * @param writeBehindWindow tiempo máximo que un cambio espera en memoria
+   * @param writeBehindBatchSize cambios por UPDATE
+   * @param writeBehindMaxPending órdenes pendientes a partir de las cuales se escribe en línea
+   * @param writeBehindShutdownTimeout tiempo máximo del volcado final al detenerse
+   * @param mapper mapper de persistencia
+   * @param meterRegistry registro de métricas
+   * @param metrics métricas de operaciones, ausentes si la instrumentación está deshabilitada
+   * @return puerto decorado; con write-behind, también ciclo de vida del volcado periódico
+   */
+  @Bean
+  @Primary
+  public PaymentOrderPort paymentOrderPort(
+      PaymentOrderRepositoryAdapter repositoryAdapter,
+      @Value("${payment-orders.persistence.adapter:r2dbc}") String persistenceAdapter,
+      ObjectProvider<JdbcPaymentOrderRepositoryAdapter> jdbcAdapter,
+      @Value("${payment-orders.r2dbc.replica.enabled:false}") boolean replicaEnabled,
+      @Value("${payment-orders.r2dbc.replica.read-your-writes.window:5s}")
+      Duration readYourWritesWindow,
+      @Value("${payment-orders.r2dbc.replica.read-your-writes.maximum-size:100000}")
+      long readYourWritesMaximumSize,
+      @Value("${payment-orders.single-flight.enabled:true}") boolean singleFlightEnabled,
+      @Value("${payment-orders.single-flight.max-lifetime:5s}") Duration singleFlightMaxLifetime,
+      @Value("${payment-orders.cache.enabled:true}") boolean cacheEnabled,
+      @Value("${payment-orders.cache.maximum-size:10000}") long cacheMaximumSize,
+      @Value("${payment-orders.cache.time-to-live:30s}") Duration cacheTimeToLive,
+      @Value("${payment-orders.write-behind.enabled:false}") boolean writeBehindEnabled,
+      @Value("${payment-orders.write-behind.window:200ms}") Duration writeBehindWindow,
+      @Value("${payment-orders.write-behind.batch-size:500}") int writeBehindBatchSize,
+      @Value("${payment-orders.write-behind.max-pending:10000}") int writeBehindMaxPending,
+      @Value("${payment-orders.write-behind.shutdown-timeout:10s}")
+      Duration writeBehindShutdownTimeout,
+      PaymentOrderPersistenceMapper mapper,
+      MeterRegistry meterRegistry,
+      ObjectProvider<PaymentOrderMetrics> metrics) {
+
+    PaymentOrderPort port = switch (persistenceAdapter) {
+      case "r2dbc" -> repositoryAdapter;
+      case "jdbc" -> jdbcAdapter.getIfAvailable(() -> {
+        throw new IllegalStateException("payment-orders.persistence.adapter=jdbc requires"
+            + " a build with the Maven profile -Pjdbc");
+      });
+      default -> throw new IllegalStateException(
+          "Unknown payment-orders.persistence.adapter: " + persistenceAdapter);
+    };
+    if (replicaEnabled && port == repositoryAdapter) {
+      port = new ReplicaRoutingPaymentOrderPort(
+          port, readYourWritesWindow, readYourWritesMaximumSize, meterRegistry);
+    }
+    PaymentOrderMetrics paymentOrderMetrics = metrics.getIfAvailable();
+    if (paymentOrderMetrics != null) {
+      port = new MeteredPaymentOrderPort(port, paymentOrderMetrics);
+    }
+    if (singleFlightEnabled) {
+      port = new SingleFlightPaymentOrderPort(port, singleFlightMaxLifetime, meterRegistry);
+    }
+    if (cacheEnabled) {
+      port = new CachingPaymentOrderPort(port, cacheMaximumSize, cacheTimeToLive, meterRegistry);
+    }
+    if (writeBehindEnabled) {
+      port = new WriteBehindPaymentOrderPort(port, mapper, writeBehindWindow,
+          writeBehindBatchSize, writeBehindMaxPending, writeBehindShutdownTimeout, meterRegistry);
+    }
+    return port;
+  }
+}
@@ -0,0 +1,118 @@
+package com.banking.payment.orders.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * R2dbcPoolConfig - Pool de conexiones R2DBC dimensionado según el número de event loops.
+ *
+ * <p>Sustituye al pool autoconfigurado por Spring Boot; las métricas r2dbc.pool.* de Actuator
+ * se siguen publicando porque el bean expuesto es un ConnectionPool. Con réplica de lectura,
+ * {@link R2dbcReplicaConfig} añade un segundo pool con el mismo dimensionado.
+ */
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcPoolConfig {
+
+  static final String POOL_NAME = "payment-orders";
+
+  private static final Logger log = LoggerFactory.getLogger(R2dbcPoolConfig.class);
+
+  /**
+   * Pool de conexiones usado por Spring Data R2DBC y DatabaseClient.
+   *
+   * @param properties URL y credenciales de spring.r2dbc
+   * @param connectionsPerEventLoop conexiones máximas por event loop de Reactor Netty
+   * @param minIdle conexiones ociosas mínimas que el pool mantiene abiertas
+   * @param maxAcquireTime tiempo máximo de espera para obtener una conexión
+   * @param maxCreateConnectionTime tiempo máximo para abrir una conexión nueva
+   * @param maxIdleTime tiempo máximo que una conexión puede permanecer ociosa
+   * @param maxLifeTime vida máxima de una conexión
+   * @return pool de conexiones
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool connectionFactory(
+      R2dbcProperties properties,
+      @Value("${payment-orders.r2dbc.pool.connections-per-event-loop:2}")
+      int connectionsPerEventLoop,
+      @Value("${payment-orders.r2dbc.pool.min-idle:4}") int minIdle,
+      @Value("${payment-orders.r2dbc.pool.max-acquire-time:2s}") Duration maxAcquireTime,
+      @Value("${payment-orders.r2dbc.pool.max-create-connection-time:5s}")
+      Duration maxCreateConnectionTime,
+      @Value("${payment-orders.r2dbc.pool.max-idle-time:10m}") Duration maxIdleTime,
+      @Value("${payment-orders.r2dbc.pool.max-life-time:30m}") Duration maxLifeTime) {
+
+    return pool(POOL_NAME, properties.getUrl(), properties.getUsername(),
+        properties.getPassword(), connectionsPerEventLoop, minIdle, maxAcquireTime,
+        maxCreateConnectionTime, maxIdleTime, maxLifeTime);
+  }
+
+  /**
+   * Abre las conexiones iniciales de cada pool al arrancar, sin bloquear el arranque: si la
+   * base de datos aún no está disponible el pool las abrirá bajo demanda.
+   *
+   * @param connectionPools pools de conexiones por nombre de bean
+   * @return tarea de arranque
+   */
+  @Bean
+  @ConditionalOnProperty(
+      name = "payment-orders.r2dbc.pool.warm-up", havingValue = "true", matchIfMissing = true)
+  public ApplicationRunner r2dbcPoolWarmUp(Map<String, ConnectionPool> connectionPools) {
+    return args -> connectionPools.forEach((name, connectionPool) ->
+        connectionPool.warmup().subscribe(
+            connections -> log.info("R2DBC pool '{}' warmed up with {} connections",
+                name, connections),
+            error -> log.warn("R2DBC pool '{}' warm-up failed: {}", name, error.getMessage())));
+  }
+
+  /**
+   * Pool dimensionado según los event loops sobre la URL y credenciales indicadas.
+   */
+  static ConnectionPool pool(String name, String url, String username, String password,
+      int connectionsPerEventLoop, int minIdle, Duration maxAcquireTime,
+      Duration maxCreateConnectionTime, Duration maxIdleTime, Duration maxLifeTime) {
+    ConnectionFactory connectionFactory = ConnectionFactoryBuilder
+        .withUrl(url)
+        .username(username)
+        .password(password)
+        .build();
+
+    int maxSize = maxSize(LoopResources.DEFAULT_IO_WORKER_COUNT, connectionsPerEventLoop);
+    int idle = Math.min(minIdle, maxSize);
+    log.info("R2DBC pool '{}': maxSize={}, minIdle={}, maxAcquireTime={}",
+        name, maxSize, idle, maxAcquireTime);
+
+    return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+        .name(name)
+        .initialSize(idle)
+        .minIdle(idle)
+        .maxSize(maxSize)
+        .maxAcquireTime(maxAcquireTime)
+        .maxCreateConnectionTime(maxCreateConnectionTime)
+        .maxIdleTime(maxIdleTime)
+        .maxLifeTime(maxLifeTime)
+        .build());
+  }
+
+  /**
+   * Tamaño máximo del pool: conexiones por event loop multiplicadas por el número de event
+   * loops, que en Reactor Netty es el número de núcleos con un mínimo de 4.
+   */
+  static int maxSize(int eventLoops, int connectionsPerEventLoop) {
+    return Math.max(1, eventLoops * connectionsPerEventLoop);
+  }
+}
@@ -0,0 +1,67 @@
+package com.banking.payment.orders.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import java.util.Map;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2dbcPoolHealthIndicator - Estado de los pools R2DBC a partir de sus métricas internas.
+ *
+ * <p>A diferencia del indicador r2dbc de Spring Boot, no adquiere ni valida ninguna conexión,
+ * por lo que los sondeos de salud no compiten con las peticiones cuando el pool está saturado.
+ * Con un único pool sus métricas son los detalles del indicador; con réplica de lectura cada
+ * pool aparece bajo el nombre de su bean y basta uno cerrado para reportar DOWN.
+ */
+@Component("r2dbcPool")
+public class R2dbcPoolHealthIndicator implements ReactiveHealthIndicator {
+
+  private final Map<String, ConnectionPool> connectionPools;
+
+  public R2dbcPoolHealthIndicator(Map<String, ConnectionPool> connectionPools) {
+    this.connectionPools = connectionPools;
+  }
+
+  @Override
+  public Mono<Health> health() {
+    return Mono.fromSupplier(this::currentHealth);
+  }
+
+  private Health currentHealth() {
+    if (connectionPools.size() == 1) {
+      return poolHealth(connectionPools.values().iterator().next());
+    }
+    Health.Builder builder = Health.up();
+    connectionPools.forEach((name, connectionPool) -> {
+      Health health = poolHealth(connectionPool);
+      if (!Status.UP.equals(health.getStatus())) {
+        builder.down();
+      }
+      builder.withDetail(name, health.getDetails());
+    });
+    return builder.build();
+  }
+
+  private static Health poolHealth(ConnectionPool connectionPool) {
+    if (connectionPool.isDisposed()) {
+      return Health.down().withDetail("reason", "Connection pool is disposed").build();
+    }
+    Health.Builder builder = Health.up();
+    connectionPool.getMetrics().ifPresent(metrics -> withMetrics(builder, metrics));
+    return builder.build();
+  }
+
+  private static void withMetrics(Health.Builder builder, PoolMetrics metrics) {
+    builder.withDetail("acquired", metrics.acquiredSize())
+        .withDetail("allocated", metrics.allocatedSize())
+        .withDetail("idle", metrics.idleSize())
+        .withDetail("pending", metrics.pendingAcquireSize())
+        .withDetail("maxAllocated", metrics.getMaxAllocatedSize())
+        .withDetail("saturated", metrics.acquiredSize() >= metrics.getMaxAllocatedSize()
+            && metrics.pendingAcquireSize() > 0);
+  }
+}
@@ -0,0 +1,104 @@
+package com.banking.payment.orders.config;
+
+import com.banking.payment.orders.adapter.out.routing.ReadWriteRoutingConnectionFactory;
+import com.banking.payment.orders.adapter.out.routing.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2dbcReplicaConfig - Separación de lecturas y escrituras entre el primario y una réplica.
+ *
+ * <p>Añade el pool de la réplica y un {@link ReadWriteRoutingConnectionFactory} marcado como
+ * principal, de modo que Spring Data R2DBC, DatabaseClient y el gestor de transacciones lo
+ * usan sin cambios. Los dos pools siguen siendo beans y publican sus métricas r2dbc.pool.*
+ * por separado. Solo se activa con payment-orders.r2dbc.replica.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "payment-orders.r2dbc.replica.enabled", havingValue = "true")
+public class R2dbcReplicaConfig {
+
+  static final String REPLICA_POOL_NAME = "payment-orders-replica";
+
+  /**
+   * Pool de conexiones de la réplica, con el mismo dimensionado que el del primario.
+   *
+   * @param properties credenciales de spring.r2dbc, usadas si la réplica no define otras
+   * @param url URL R2DBC de la réplica
+   * @param username usuario de la réplica
+   * @param password contraseña de la réplica
+   * @param connectionsPerEventLoop conexiones máximas por event loop de Reactor Netty
+   * @param minIdle conexiones ociosas mínimas que el pool mantiene abiertas
+   * @param maxAcquireTime tiempo máximo de espera para obtener una conexión
+   * @param maxCreateConnectionTime tiempo máximo para abrir una conexión nueva
+   * @param maxIdleTime tiempo máximo que una conexión puede permanecer ociosa
+   * @param maxLifeTime vida máxima de una conexión
+   * @return pool de conexiones de la réplica
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool replicaConnectionFactory(
+      R2dbcProperties properties,
+      @Value("${payment-orders.r2dbc.replica.url}") String url,
+      @Value("${payment-orders.r2dbc.replica.username:}") String username,
+      @Value("${payment-orders.r2dbc.replica.password:}") String password,
+      @Value("${payment-orders.r2dbc.pool.connections-per-event-loop:2}")
+      int connectionsPerEventLoop,
+      @Value("${payment-orders.r2dbc.pool.min-idle:4}") int minIdle,
+      @Value("${payment-orders.r2dbc.pool.max-acquire-time:2s}") Duration maxAcquireTime,
+      @Value("${payment-orders.r2dbc.pool.max-create-connection-time:5s}")
+      Duration maxCreateConnectionTime,
+      @Value("${payment-orders.r2dbc.pool.max-idle-time:10m}") Duration maxIdleTime,
+      @Value("${payment-orders.r2dbc.pool.max-life-time:30m}") Duration maxLifeTime) {
+
+    return R2dbcPoolConfig.pool(REPLICA_POOL_NAME, url,
+        username.isEmpty() ? properties.getUsername() : username,
+        password.isEmpty() ? properties.getPassword() : password,
+        connectionsPerEventLoop, minIdle, maxAcquireTime, maxCreateConnectionTime,
+        maxIdleTime, maxLifeTime);
+  }
+
+  /**
+   * Monitor del retraso de replicación.
+   *
+   * @param replicaConnectionFactory pool de la réplica
+   * @param interval intervalo entre mediciones
+   * @param maxLag retraso máximo con el que la réplica acepta lecturas
+   * @param meterRegistry registro de métricas
+   * @return monitor, arrancado con el contexto
+   */
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaConnectionFactory") ConnectionPool replicaConnectionFactory,
+      @Value("${payment-orders.r2dbc.replica.lag-check-interval:1s}") Duration interval,
+      @Value("${payment-orders.r2dbc.replica.max-lag:1s}") Duration maxLag,
+      MeterRegistry meterRegistry) {
+    return new ReplicaLagMonitor(DatabaseClient.create(replicaConnectionFactory),
+        interval, maxLag, meterRegistry);
+  }
+
+  /**
+   * ConnectionFactory principal: el primario por defecto y la réplica para las lecturas
+   * marcadas mientras su retraso lo permita.
+   *
+   * @param primary pool del primario
+   * @param replica pool de la réplica
+   * @param lagMonitor monitor del retraso de replicación
+   * @return enrutador de conexiones
+   */
+  @Bean
+  @Primary
+  public ReadWriteRoutingConnectionFactory routingConnectionFactory(
+      @Qualifier("connectionFactory") ConnectionPool primary,
+      @Qualifier("replicaConnectionFactory") ConnectionPool replica,
+      ReplicaLagMonitor lagMonitor) {
+    return new ReadWriteRoutingConnectionFactory(primary, replica, lagMonitor::acceptsReads);
+  }
+}
@@ -0,0 +1,19 @@
+package com.banking.payment.orders.config;
+
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatus;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFluxConfig - Conversión de parámetros de consulta a los enums de la API generada,
+ * que se identifican por su valor ({@code Initiated}) y no por el nombre de la constante.
+ */
+@Configuration
+public class WebFluxConfig implements WebFluxConfigurer {
+
+  @Override
+  public void addFormatters(FormatterRegistry registry) {
+    registry.addConverter(String.class, PaymentOrderStatus.class, PaymentOrderStatus::fromValue);
+  }
+}
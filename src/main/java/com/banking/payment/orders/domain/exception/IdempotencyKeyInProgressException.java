@@ -0,0 +1,19 @@
+package com.banking.payment.orders.domain.exception;
+
+/**
+ * IdempotencyKeyInProgressException - Excepción cuando otra solicitud con la misma
+ * Idempotency-Key todavía no ha terminado de crear la orden de pago.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+  private final String idempotencyKey;
+
+  public IdempotencyKeyInProgressException(String idempotencyKey) {
+    super("A request with the same Idempotency-Key is still in progress: " + idempotencyKey);
+    this.idempotencyKey = idempotencyKey;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+}
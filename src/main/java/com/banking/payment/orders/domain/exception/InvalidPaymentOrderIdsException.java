@@ -0,0 +1,12 @@
+package com.banking.payment.orders.domain.exception;
+
+/**
+ * InvalidPaymentOrderIdsException - Excepción cuando la lista de IDs de una consulta de
+ * varias órdenes de pago no es válida.
+ */
+public class InvalidPaymentOrderIdsException extends RuntimeException {
+
+  public InvalidPaymentOrderIdsException(String message) {
+    super(message);
+  }
+}
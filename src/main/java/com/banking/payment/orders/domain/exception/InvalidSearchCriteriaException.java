@@ -0,0 +1,16 @@
+package com.banking.payment.orders.domain.exception;
+
+/**
+ * InvalidSearchCriteriaException - Excepción cuando los filtros o el cursor de una búsqueda
+ * de órdenes de pago no son válidos.
+ */
+public class InvalidSearchCriteriaException extends RuntimeException {
+
+  public InvalidSearchCriteriaException(String message) {
+    super(message);
+  }
+
+  public InvalidSearchCriteriaException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
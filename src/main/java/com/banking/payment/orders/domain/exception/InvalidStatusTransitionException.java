@@ -0,0 +1,43 @@
+package com.banking.payment.orders.domain.exception;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import java.util.UUID;
+
+/**
+ * InvalidStatusTransitionException - Excepción cuando el ciclo de vida de la orden no admite
+ * el cambio de estado solicitado.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+  private final UUID paymentOrderId;
+  private final PaymentOrderStatus fromStatus;
+  private final PaymentOrderStatus toStatus;
+
+  /**
+   * Constructor con la transición rechazada.
+   *
+   * @param paymentOrderId ID de la orden de pago
+   * @param fromStatus estado actual
+   * @param toStatus estado solicitado
+   */
+  public InvalidStatusTransitionException(
+      UUID paymentOrderId, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus) {
+    super("Payment order " + paymentOrderId + " cannot transition from "
+        + fromStatus.getValue() + " to " + toStatus.getValue());
+    this.paymentOrderId = paymentOrderId;
+    this.fromStatus = fromStatus;
+    this.toStatus = toStatus;
+  }
+
+  public UUID getPaymentOrderId() {
+    return paymentOrderId;
+  }
+
+  public PaymentOrderStatus getFromStatus() {
+    return fromStatus;
+  }
+
+  public PaymentOrderStatus getToStatus() {
+    return toStatus;
+  }
+}
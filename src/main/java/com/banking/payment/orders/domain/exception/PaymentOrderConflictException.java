@@ -0,0 +1,21 @@
+package com.banking.payment.orders.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * PaymentOrderConflictException - Excepción cuando una orden de pago fue modificada
+ * concurrentemente o ya existe.
+ */
+public class PaymentOrderConflictException extends RuntimeException {
+
+  private final UUID paymentOrderId;
+
+  public PaymentOrderConflictException(UUID paymentOrderId, Throwable cause) {
+    super("Payment order was modified concurrently: " + paymentOrderId, cause);
+    this.paymentOrderId = paymentOrderId;
+  }
+
+  public UUID getPaymentOrderId() {
+    return paymentOrderId;
+  }
+}
@@ -0,0 +1,91 @@
+package com.banking.payment.orders.domain.model;
+
+import java.util.Currency;
+
+/**
+ * CurrencyCodes - Tabla de códigos ISO 4217 con sus decimales.
+ *
+ * <p>Cada código de tres letras mayúsculas se traduce a un índice único (base 26) de una tabla
+ * de 26³ entradas, un hash perfecto sin colisiones ni comparaciones de cadenas. La tabla se
+ * rellena una vez con las divisas que conoce {@link Currency}; las consultas no reservan
+ * memoria ni lanzan excepciones. Cada código conocido tiene además una instancia compartida,
+ * para que los importes no retengan la cadena de cada petición.
+ */
+public final class CurrencyCodes {
+
+  /** Resultado de {@link #fractionDigits} para códigos que no son ISO 4217. */
+  public static final int UNKNOWN = Integer.MIN_VALUE;
+
+  /** Decimales de las divisas sin unidad menor (oro, DEG...), igual que {@link Currency}. */
+  public static final int NO_MINOR_UNIT = -1;
+
+  private static final int LETTERS = 26;
+  private static final byte ABSENT = 0;
+  /** Desplazamiento para que -1 (sin unidad menor) no coincida con ABSENT. */
+  private static final int OFFSET = 2;
+  private static final byte[] TABLE = new byte[LETTERS * LETTERS * LETTERS];
+  private static final String[] CODES = new String[LETTERS * LETTERS * LETTERS];
+
+  static {
+    for (Currency currency : Currency.getAvailableCurrencies()) {
+      int index = index(currency.getCurrencyCode());
+      if (index >= 0) {
+        TABLE[index] = (byte) (currency.getDefaultFractionDigits() + OFFSET);
+        CODES[index] = currency.getCurrencyCode();
+      }
+    }
+  }
+
+  private CurrencyCodes() {
+  }
+
+  /**
+   * Indica si el código es una divisa ISO 4217.
+   *
+   * @param code código de tres letras
+   * @return true si es un código conocido
+   */
+  public static boolean isKnown(String code) {
+    return fractionDigits(code) != UNKNOWN;
+  }
+
+  /**
+   * Decimales por defecto de la divisa.
+   *
+   * @param code código de tres letras
+   * @return decimales, {@link #NO_MINOR_UNIT} o {@link #UNKNOWN}
+   */
+  public static int fractionDigits(String code) {
+    int index = index(code);
+    if (index < 0 || TABLE[index] == ABSENT) {
+      return UNKNOWN;
+    }
+    return TABLE[index] - OFFSET;
+  }
+
+  /**
+   * Instancia compartida del código.
+   *
+   * @param code código de tres letras
+   * @return el mismo código como cadena compartida, o null si no es ISO 4217
+   */
+  public static String canonical(String code) {
+    int index = index(code);
+    return index < 0 ? null : CODES[index];
+  }
+
+  private static int index(String code) {
+    if (code == null || code.length() != 3) {
+      return -1;
+    }
+    int index = 0;
+    for (int position = 0; position < 3; position++) {
+      int letter = code.charAt(position) - 'A';
+      if (letter < 0 || letter >= LETTERS) {
+        return -1;
+      }
+      index = index * LETTERS + letter;
+    }
+    return index;
+  }
+}
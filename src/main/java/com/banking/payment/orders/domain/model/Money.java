@@ -0,0 +1,119 @@
+package com.banking.payment.orders.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Money - Value Object de importe en unidades menores de su moneda.
+ *
+ * <p>El importe es un long de unidades menores (céntimos para EUR, yenes para JPY) y la moneda
+ * es la instancia compartida de {@link CurrencyCodes}. Las conversiones desde y hacia decimal
+ * son exactas: nunca pasan por double y rechazan los decimales que la moneda no admite.
+ */
+public record Money(long minorUnits, String currency) {
+
+  private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+
+  /**
+   * Constructor con validaciones.
+   */
+  public Money {
+    checkedFractionDigits(currency);
+    currency = CurrencyCodes.canonical(currency);
+  }
+
+  /**
+   * Importe a partir de su valor decimal.
+   *
+   * @param amount valor decimal
+   * @param currency código ISO 4217
+   * @return importe en unidades menores
+   * @throws IllegalArgumentException si falta el importe, la moneda no es válida, el importe
+   *     tiene más decimales de los que admite la moneda o no cabe en un long
+   */
+  public static Money of(BigDecimal amount, String currency) {
+    if (amount == null) {
+      throw new IllegalArgumentException("amount is required");
+    }
+    int fractionDigits = checkedFractionDigits(currency);
+    if (amount.scale() > fractionDigits
+        && amount.stripTrailingZeros().scale() > fractionDigits) {
+      throw new IllegalArgumentException(
+          "amount has more decimals than " + currency + " allows");
+    }
+    try {
+      return new Money(amount.movePointRight(fractionDigits).longValueExact(), currency);
+    } catch (ArithmeticException ex) {
+      throw new IllegalArgumentException("amount is out of range", ex);
+    }
+  }
+
+  /**
+   * Decimales de la moneda (escala del importe).
+   *
+   * @return decimales ISO 4217
+   */
+  public int fractionDigits() {
+    return CurrencyCodes.fractionDigits(currency);
+  }
+
+  /**
+   * Signo del importe.
+   *
+   * @return -1, 0 o 1
+   */
+  public int signum() {
+    return Long.signum(minorUnits);
+  }
+
+  /**
+   * Valor decimal con la escala de la moneda.
+   *
+   * @return importe como BigDecimal
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, fractionDigits());
+  }
+
+  /**
+   * Valor decimal con la escala de la moneda, sin notación científica ("150.00", "1500").
+   *
+   * @return importe como texto
+   */
+  public String toPlainString() {
+    int fractionDigits = fractionDigits();
+    if (fractionDigits == 0) {
+      return Long.toString(minorUnits);
+    }
+    long scale = POWERS_OF_TEN[fractionDigits];
+    long units = Math.abs(minorUnits / scale);
+    long fraction = Math.abs(minorUnits % scale);
+    StringBuilder text = new StringBuilder(24);
+    if (minorUnits < 0) {
+      text.append('-');
+    }
+    text.append(units).append('.');
+    for (long digit = scale / 10; digit > fraction && digit > 1; digit /= 10) {
+      text.append('0');
+    }
+    return text.append(fraction).toString();
+  }
+
+  private static int checkedFractionDigits(String currency) {
+    if (currency == null || currency.isBlank()) {
+      throw new IllegalArgumentException("currency is required");
+    }
+    int fractionDigits = CurrencyCodes.fractionDigits(currency);
+    if (fractionDigits == CurrencyCodes.UNKNOWN) {
+      throw new IllegalArgumentException("currency must be a valid ISO 4217 code");
+    }
+    if (fractionDigits == CurrencyCodes.NO_MINOR_UNIT) {
+      throw new IllegalArgumentException("currency " + currency + " has no minor units");
+    }
+    return fractionDigits;
+  }
+
+  @Override
+  public String toString() {
+    return toPlainString() + " " + currency;
+  }
+}
@@ -6,22 +6,35 @@ import java.math.BigDecimal;
  * PaymentDetails - Value Object para detalles del pago según BIAN.
  */
 public record PaymentDetails(
-    BigDecimal amount,
-    String currency,
+    Money amount,
     String paymentMechanismType) {
 
   /**
    * Constructor con validaciones.
    */
   public PaymentDetails {
-    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    if (amount == null || amount.signum() <= 0) {
       throw new IllegalArgumentException("amount must be greater than zero");
     }
-    if (currency == null || currency.isBlank()) {
-      throw new IllegalArgumentException("currency is required");
-    }
-    if (!currency.matches("^[A-Z]{3}$")) {
-      throw new IllegalArgumentException("currency must be a valid ISO 4217 code");
-    }
+  }
+
+  /**
+   * Constructor a partir del importe decimal y su moneda.
+   *
+   * @param amount importe decimal
+   * @param currency código ISO 4217
+   * @param paymentMechanismType tipo de mecanismo de pago
+   */
+  public PaymentDetails(BigDecimal amount, String currency, String paymentMechanismType) {
+    this(Money.of(amount, currency), paymentMechanismType);
+  }
+
+  /**
+   * Moneda del importe.
+   *
+   * @return código ISO 4217
+   */
+  public String currency() {
+    return amount.currency();
   }
 }
@@ -0,0 +1,85 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * PaymentOrderEvent - Evento de dominio emitido cuando se crea una orden de pago o cambia
+ * su estado.
+ *
+ * @param eventId ID único del evento, para que los consumidores descarten duplicados
+ * @param type tipo de evento
+ * @param paymentOrderId ID de la orden de pago
+ * @param status estado de la orden tras el evento
+ * @param occurredAt fecha y hora del cambio
+ */
+public record PaymentOrderEvent(
+    UUID eventId,
+    Type type,
+    UUID paymentOrderId,
+    PaymentOrderStatus status,
+    OffsetDateTime occurredAt) {
+
+  /**
+   * Evento de creación de una orden.
+   *
+   * @param paymentOrder orden creada
+   * @return evento PaymentOrderInitiated
+   */
+  public static PaymentOrderEvent initiated(PaymentOrderProcedure paymentOrder) {
+    return new PaymentOrderEvent(
+        PaymentOrderIds.next(),
+        Type.INITIATED,
+        paymentOrder.getPaymentOrderProcedureInstanceReference(),
+        paymentOrder.getPaymentOrderProcedureInstanceStatus(),
+        paymentOrder.getLastUpdateDateTime());
+  }
+
+  /**
+   * Evento de cambio de estado de una orden.
+   *
+   * @param status estado resultante de la orden
+   * @return evento PaymentOrderStatusChanged
+   */
+  public static PaymentOrderEvent statusChanged(PaymentOrderStatusSnapshot status) {
+    return new PaymentOrderEvent(
+        PaymentOrderIds.next(),
+        Type.STATUS_CHANGED,
+        status.paymentOrderProcedureInstanceReference(),
+        status.paymentOrderProcedureInstanceStatus(),
+        status.lastUpdateDateTime());
+  }
+
+  /**
+   * Tipos de evento de una orden de pago.
+   */
+  public enum Type {
+    INITIATED("PaymentOrderInitiated"),
+    STATUS_CHANGED("PaymentOrderStatusChanged");
+
+    private final String value;
+
+    Type(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Convierte un string a Type.
+     *
+     * @param value valor del tipo de evento
+     * @return Type correspondiente
+     */
+    public static Type fromValue(String value) {
+      for (Type type : Type.values()) {
+        if (type.value.equals(value)) {
+          return type;
+        }
+      }
+      throw new IllegalArgumentException("Unknown PaymentOrderEvent type: " + value);
+    }
+  }
+}
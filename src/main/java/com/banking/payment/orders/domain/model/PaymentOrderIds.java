@@ -0,0 +1,67 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PaymentOrderIds - Generador de identificadores UUIDv7 (RFC 9562) ordenados por tiempo.
+ *
+ * <p>Los 48 bits altos son el instante Unix en milisegundos y los 12 bits de rand_a un
+ * contador que se reinicia en cada milisegundo, así que los ids de un nodo son estrictamente
+ * crecientes aunque se generen varios en el mismo milisegundo o el reloj retroceda. Si el
+ * contador se agota dentro de un milisegundo, el id pasa al milisegundo siguiente. Los 62 bits
+ * aleatorios salen de {@link ThreadLocalRandom}: no bloquea ni comparte estado entre hilos, y
+ * estos ids no necesitan ser impredecibles.
+ */
+public final class PaymentOrderIds {
+
+  private static final int VERSION = 7;
+  private static final int COUNTER_BITS = 12;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  /** Último valor emitido: milisegundo en los bits altos y contador en los 12 bajos. */
+  private static final AtomicLong LAST = new AtomicLong();
+
+  private PaymentOrderIds() {
+  }
+
+  /**
+   * Genera el siguiente identificador UUIDv7 de este nodo.
+   *
+   * @return UUID versión 7, mayor que cualquiera generado antes en el proceso
+   */
+  public static UUID next() {
+    long now = System.currentTimeMillis() << COUNTER_BITS;
+    long previous;
+    long current;
+    do {
+      previous = LAST.get();
+      current = Math.max(now, previous + 1);
+    } while (!LAST.compareAndSet(previous, current));
+    return build(current >>> COUNTER_BITS, current & 0xFFF,
+        ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Instante de creación codificado en un UUIDv7.
+   *
+   * @param id identificador
+   * @return instante de creación, o vacío si el id no es versión 7 (p. ej. ids v4 anteriores)
+   */
+  public static Optional<Instant> timestampOf(UUID id) {
+    if (id.version() != VERSION) {
+      return Optional.empty();
+    }
+    return Optional.of(Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16));
+  }
+
+  static UUID build(long unixMillis, long counter, long random) {
+    long mostSignificant = (unixMillis << 16) | ((long) VERSION << 12) | counter;
+    long leastSignificant = VARIANT | (random & RAND_B_MASK);
+    return new UUID(mostSignificant, leastSignificant);
+  }
+}
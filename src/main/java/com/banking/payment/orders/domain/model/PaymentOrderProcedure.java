@@ -1,5 +1,6 @@
 package com.banking.payment.orders.domain.model;
 
+import com.banking.payment.orders.domain.exception.InvalidStatusTransitionException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -20,6 +21,7 @@ public class PaymentOrderProcedure {
   private String remittanceInformation;
   private OffsetDateTime createdDateTime;
   private OffsetDateTime lastUpdateDateTime;
+  private Long version;
 
   /**
    * Constructor privado para uso del Builder.
@@ -47,7 +49,7 @@ public class PaymentOrderProcedure {
       String remittanceInformation) {
 
     PaymentOrderProcedure procedure = new PaymentOrderProcedure();
-    procedure.paymentOrderProcedureInstanceReference = UUID.randomUUID();
+    procedure.paymentOrderProcedureInstanceReference = PaymentOrderIds.next();
     procedure.paymentOrderProcedureInstanceStatus = PaymentOrderStatus.INITIATED;
     procedure.paymentTransactionInitiatorReference = paymentTransactionInitiatorReference;
     procedure.payer = payer;
@@ -62,15 +64,88 @@ public class PaymentOrderProcedure {
   }
 
   /**
-   * Actualiza el estado de la orden de pago.
+   * Reconstruye una orden persistida con su id, estado, fechas y versión. No genera id ni pasa
+   * por las reglas de transición de {@link #updateStatus}.
+   *
+   * @param paymentOrderProcedureInstanceReference id persistido
+   * @param status estado persistido
+   * @param paymentTransactionInitiatorReference referencia del iniciador
+   * @param payer información del pagador
+   * @param payee información del beneficiario
+   * @param paymentDetails detalles del pago
+   * @param dateInformation información de fechas
+   * @param remittanceInformation información de remesa
+   * @param createdDateTime fecha de creación
+   * @param lastUpdateDateTime fecha de última actualización
+   * @param version versión de persistencia
+   * @return orden de pago reconstruida
+   */
+  public static PaymentOrderProcedure rehydrate(
+      UUID paymentOrderProcedureInstanceReference,
+      PaymentOrderStatus status,
+      String paymentTransactionInitiatorReference,
+      Payer payer,
+      Payee payee,
+      PaymentDetails paymentDetails,
+      DateInformation dateInformation,
+      String remittanceInformation,
+      OffsetDateTime createdDateTime,
+      OffsetDateTime lastUpdateDateTime,
+      Long version) {
+
+    PaymentOrderProcedure procedure = new PaymentOrderProcedure();
+    procedure.paymentOrderProcedureInstanceReference = paymentOrderProcedureInstanceReference;
+    procedure.paymentOrderProcedureInstanceStatus = status;
+    procedure.paymentTransactionInitiatorReference = paymentTransactionInitiatorReference;
+    procedure.payer = payer;
+    procedure.payee = payee;
+    procedure.paymentDetails = paymentDetails;
+    procedure.dateInformation = dateInformation;
+    procedure.remittanceInformation = remittanceInformation;
+    procedure.createdDateTime = createdDateTime;
+    procedure.lastUpdateDateTime = lastUpdateDateTime;
+    procedure.version = version;
+
+    return procedure;
+  }
+
+  /**
+   * Actualiza el estado de la orden de pago respetando el ciclo de vida.
    *
    * @param newStatus nuevo estado
+   * @throws InvalidStatusTransitionException si el estado actual no admite la transición
    */
   public void updateStatus(PaymentOrderStatus newStatus) {
+    if (!paymentOrderProcedureInstanceStatus.canTransitionTo(newStatus)) {
+      throw new InvalidStatusTransitionException(
+          paymentOrderProcedureInstanceReference, paymentOrderProcedureInstanceStatus, newStatus);
+    }
     this.paymentOrderProcedureInstanceStatus = newStatus;
     this.lastUpdateDateTime = OffsetDateTime.now();
   }
 
+  /**
+   * Copia independiente de la orden: un cambio de estado en la copia no afecta al original.
+   * Los demás componentes son inmutables y se comparten.
+   *
+   * @return copia de la orden con el mismo estado y versión
+   */
+  public PaymentOrderProcedure copy() {
+    PaymentOrderProcedure copy = new PaymentOrderProcedure();
+    copy.paymentOrderProcedureInstanceReference = paymentOrderProcedureInstanceReference;
+    copy.paymentOrderProcedureInstanceStatus = paymentOrderProcedureInstanceStatus;
+    copy.paymentTransactionInitiatorReference = paymentTransactionInitiatorReference;
+    copy.payer = payer;
+    copy.payee = payee;
+    copy.paymentDetails = paymentDetails;
+    copy.dateInformation = dateInformation;
+    copy.remittanceInformation = remittanceInformation;
+    copy.createdDateTime = createdDateTime;
+    copy.lastUpdateDateTime = lastUpdateDateTime;
+    copy.version = version;
+    return copy;
+  }
+
   // Getters
   public UUID getPaymentOrderProcedureInstanceReference() {
     return paymentOrderProcedureInstanceReference;
@@ -111,4 +186,13 @@ public class PaymentOrderProcedure {
   public OffsetDateTime getLastUpdateDateTime() {
     return lastUpdateDateTime;
   }
+
+  /**
+   * Versión de persistencia para control de concurrencia optimista.
+   *
+   * @return versión almacenada o null si la orden aún no ha sido persistida
+   */
+  public Long getVersion() {
+    return version;
+  }
 }
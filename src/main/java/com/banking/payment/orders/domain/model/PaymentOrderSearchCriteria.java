@@ -0,0 +1,15 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * PaymentOrderSearchCriteria - Filtros de búsqueda de órdenes de pago. Los filtros nulos no
+ * se aplican; el rango de creación es [createdFrom, createdTo).
+ */
+public record PaymentOrderSearchCriteria(
+    String payerProductInstanceReference,
+    String payeeProductInstanceReference,
+    PaymentOrderStatus status,
+    OffsetDateTime createdFrom,
+    OffsetDateTime createdTo) {
+}
@@ -0,0 +1,24 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * PaymentOrderSearchCursor - Posición de la última orden devuelta en una búsqueda paginada.
+ * La siguiente página empieza en la orden inmediatamente anterior según
+ * (createdDateTime, id) descendente.
+ */
+public record PaymentOrderSearchCursor(OffsetDateTime createdDateTime, UUID id) {
+
+  /**
+   * Obtiene el cursor que apunta a la orden indicada.
+   *
+   * @param paymentOrder orden de pago
+   * @return cursor de la orden
+   */
+  public static PaymentOrderSearchCursor of(PaymentOrderProcedure paymentOrder) {
+    return new PaymentOrderSearchCursor(
+        paymentOrder.getCreatedDateTime(),
+        paymentOrder.getPaymentOrderProcedureInstanceReference());
+  }
+}
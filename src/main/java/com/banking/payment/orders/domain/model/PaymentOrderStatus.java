@@ -1,7 +1,15 @@
 package com.banking.payment.orders.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * PaymentOrderStatus - Estados de una orden de pago según BIAN 12.0.
+ *
+ * <p>Ciclo de vida: INITIATED → PENDING → ACCEPTED → IN_PROGRESS → COMPLETED → SETTLED
+ * (IN_PROGRESS también puede liquidarse directamente). Hasta ACCEPTED la orden puede
+ * rechazarse o cancelarse, y en IN_PROGRESS puede fallar. SETTLED, REJECTED, FAILED y
+ * CANCELLED son terminales.
  */
 public enum PaymentOrderStatus {
   INITIATED("Initiated"),
@@ -14,7 +22,16 @@ public enum PaymentOrderStatus {
   FAILED("Failed"),
   CANCELLED("Cancelled");
 
+  static {
+    INITIATED.successors = EnumSet.of(PENDING, REJECTED, CANCELLED);
+    PENDING.successors = EnumSet.of(ACCEPTED, REJECTED, CANCELLED);
+    ACCEPTED.successors = EnumSet.of(IN_PROGRESS, REJECTED, CANCELLED);
+    IN_PROGRESS.successors = EnumSet.of(COMPLETED, SETTLED, FAILED);
+    COMPLETED.successors = EnumSet.of(SETTLED);
+  }
+
   private final String value;
+  private Set<PaymentOrderStatus> successors = Set.of();
 
   PaymentOrderStatus(String value) {
     this.value = value;
@@ -24,6 +41,25 @@ public enum PaymentOrderStatus {
     return value;
   }
 
+  /**
+   * Indica si el ciclo de vida permite pasar de este estado al indicado.
+   *
+   * @param target estado destino
+   * @return true si la transición es legal
+   */
+  public boolean canTransitionTo(PaymentOrderStatus target) {
+    return successors.contains(target);
+  }
+
+  /**
+   * Indica si el estado es terminal, es decir, no admite más transiciones.
+   *
+   * @return true si no hay transiciones desde este estado
+   */
+  public boolean isTerminal() {
+    return successors.isEmpty();
+  }
+
   /**
    * Convierte un string a PaymentOrderStatus.
    *
@@ -0,0 +1,26 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * PaymentOrderStatusSnapshot - Vista de solo lectura del estado actual de una orden de pago.
+ */
+public record PaymentOrderStatusSnapshot(
+    UUID paymentOrderProcedureInstanceReference,
+    PaymentOrderStatus paymentOrderProcedureInstanceStatus,
+    OffsetDateTime lastUpdateDateTime) {
+
+  /**
+   * Obtiene el estado actual de una orden de pago completa.
+   *
+   * @param paymentOrder orden de pago
+   * @return vista del estado de la orden
+   */
+  public static PaymentOrderStatusSnapshot of(PaymentOrderProcedure paymentOrder) {
+    return new PaymentOrderStatusSnapshot(
+        paymentOrder.getPaymentOrderProcedureInstanceReference(),
+        paymentOrder.getPaymentOrderProcedureInstanceStatus(),
+        paymentOrder.getLastUpdateDateTime());
+  }
+}
@@ -0,0 +1,34 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * PaymentOrderStatusUpdate - Cambio de estado pendiente de persistir, condicionado a la
+ * versión almacenada de la orden.
+ *
+ * @param paymentOrderProcedureInstanceReference ID de la orden de pago
+ * @param paymentOrderProcedureInstanceStatus nuevo estado
+ * @param lastUpdateDateTime instante del cambio
+ * @param expectedVersion versión que debe tener la orden almacenada
+ * @param version versión con la que queda la orden tras el cambio
+ */
+public record PaymentOrderStatusUpdate(
+    UUID paymentOrderProcedureInstanceReference,
+    PaymentOrderStatus paymentOrderProcedureInstanceStatus,
+    OffsetDateTime lastUpdateDateTime,
+    long expectedVersion,
+    long version) {
+
+  /**
+   * Vista del estado que deja el cambio.
+   *
+   * @return estado de la orden tras el cambio
+   */
+  public PaymentOrderStatusSnapshot toSnapshot() {
+    return new PaymentOrderStatusSnapshot(
+        paymentOrderProcedureInstanceReference,
+        paymentOrderProcedureInstanceStatus,
+        lastUpdateDateTime);
+  }
+}
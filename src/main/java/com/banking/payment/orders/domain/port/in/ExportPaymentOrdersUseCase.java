@@ -0,0 +1,19 @@
+package com.banking.payment.orders.domain.port.in;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import reactor.core.publisher.Flux;
+
+/**
+ * ExportPaymentOrdersUseCase - Puerto de entrada para exportar órdenes de pago en streaming.
+ */
+public interface ExportPaymentOrdersUseCase {
+
+  /**
+   * Exporta todas las órdenes que cumplen los filtros, de la más antigua a la más reciente.
+   *
+   * @param criteria filtros de exportación; el rango de creación es obligatorio
+   * @return Flux con las órdenes, emitidas según la demanda del consumidor
+   */
+  Flux<PaymentOrderProcedure> export(PaymentOrderSearchCriteria criteria);
+}
@@ -3,6 +3,7 @@ package com.banking.payment.orders.domain.port.in;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -18,6 +19,26 @@ public interface InitiatePaymentOrderUseCase {
    */
   Mono<PaymentOrderProcedure> initiate(InitiatePaymentOrderCommand command);
 
+  /**
+   * Inicia una orden de pago de forma idempotente: las solicitudes con la misma clave
+   * devuelven la orden creada por la primera, sin volver a crearla.
+   *
+   * @param command comando con los datos de la orden de pago
+   * @param idempotencyKey clave de idempotencia enviada por el cliente, o null
+   * @return Mono con la orden de pago creada o la creada previamente con la misma clave
+   */
+  Mono<PaymentOrderProcedure> initiate(InitiatePaymentOrderCommand command, String idempotencyKey);
+
+  /**
+   * Inicia un lote de órdenes de pago persistiéndolas en bloques.
+   * Emite un resultado por comando, en el mismo orden de entrada; un comando inválido
+   * o que no pudo persistirse produce un resultado fallido sin interrumpir el lote.
+   *
+   * @param commands flujo de comandos con los datos de cada orden de pago
+   * @return Flux con el resultado de cada comando
+   */
+  Flux<InitiatePaymentOrderResult> initiateBatch(Flux<InitiatePaymentOrderCommand> commands);
+
   /**
    * InitiatePaymentOrderCommand - Comando para iniciar una orden de pago.
    */
@@ -37,4 +58,25 @@ public interface InitiatePaymentOrderUseCase {
       String remittanceInformation
   ) {
   }
+
+  /**
+   * InitiatePaymentOrderResult - Resultado de iniciar una orden dentro de un lote.
+   */
+  record InitiatePaymentOrderResult(
+      PaymentOrderProcedure paymentOrder,
+      RuntimeException error
+  ) {
+
+    public static InitiatePaymentOrderResult success(PaymentOrderProcedure paymentOrder) {
+      return new InitiatePaymentOrderResult(paymentOrder, null);
+    }
+
+    public static InitiatePaymentOrderResult failure(RuntimeException error) {
+      return new InitiatePaymentOrderResult(null, error);
+    }
+
+    public boolean isSuccess() {
+      return error == null;
+    }
+  }
 }
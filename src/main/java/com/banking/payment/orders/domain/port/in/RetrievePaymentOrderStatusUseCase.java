@@ -1,6 +1,6 @@
 package com.banking.payment.orders.domain.port.in;
 
-import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
 import java.util.UUID;
 import reactor.core.publisher.Mono;
 
@@ -13,7 +13,7 @@ public interface RetrievePaymentOrderStatusUseCase {
    * Recupera el estado de una orden de pago por su ID.
    *
    * @param paymentOrderId ID de la orden de pago
-   * @return Mono con la orden de pago (solo para obtener el estado)
+   * @return Mono con el estado actual de la orden de pago
    */
-  Mono<PaymentOrderProcedure> retrieveStatus(UUID paymentOrderId);
+  Mono<PaymentOrderStatusSnapshot> retrieveStatus(UUID paymentOrderId);
 }
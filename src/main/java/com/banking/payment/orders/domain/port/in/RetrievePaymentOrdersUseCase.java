@@ -0,0 +1,34 @@
+package com.banking.payment.orders.domain.port.in;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/**
+ * RetrievePaymentOrdersUseCase - Puerto de entrada para recuperar varias órdenes de pago en
+ * una sola llamada.
+ */
+public interface RetrievePaymentOrdersUseCase {
+
+  /**
+   * Recupera las órdenes de pago indicadas con una única lectura. Los IDs repetidos se
+   * consultan una sola vez.
+   *
+   * @param paymentOrderIds IDs de las órdenes de pago
+   * @return Mono con las órdenes encontradas y los IDs que no existen
+   */
+  Mono<RetrievedPaymentOrders> retrieveAll(List<UUID> paymentOrderIds);
+
+  /**
+   * RetrievedPaymentOrders - Resultado de una consulta de varias órdenes.
+   *
+   * @param paymentOrders órdenes encontradas, en el orden en que se pidieron
+   * @param notFound IDs sin orden, en el orden en que se pidieron
+   */
+  record RetrievedPaymentOrders(
+      List<PaymentOrderProcedure> paymentOrders,
+      List<UUID> notFound
+  ) {
+  }
+}
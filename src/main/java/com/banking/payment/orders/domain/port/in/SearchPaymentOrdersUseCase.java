@@ -0,0 +1,23 @@
+package com.banking.payment.orders.domain.port.in;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import reactor.core.publisher.Flux;
+
+/**
+ * SearchPaymentOrdersUseCase - Puerto de entrada para buscar órdenes de pago paginadas.
+ */
+public interface SearchPaymentOrdersUseCase {
+
+  /**
+   * Busca una página de órdenes de pago, de la más reciente a la más antigua.
+   *
+   * @param criteria filtros de búsqueda
+   * @param after cursor de la última orden de la página anterior, o null para la primera
+   * @param limit número máximo de órdenes de la página
+   * @return Flux con las órdenes de la página
+   */
+  Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit);
+}
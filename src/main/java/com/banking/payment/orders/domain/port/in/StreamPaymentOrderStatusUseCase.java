@@ -0,0 +1,21 @@
+package com.banking.payment.orders.domain.port.in;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+
+/**
+ * StreamPaymentOrderStatusUseCase - Puerto de entrada para seguir el estado de una orden de
+ * pago a medida que cambia.
+ */
+public interface StreamPaymentOrderStatusUseCase {
+
+  /**
+   * Emite el estado actual de la orden y después cada cambio de estado, en orden y sin
+   * repetidos. Completa cuando la orden alcanza un estado terminal.
+   *
+   * @param paymentOrderId ID de la orden de pago
+   * @return Flux de estados; error PaymentOrderNotFoundException si la orden no existe
+   */
+  Flux<PaymentOrderStatusSnapshot> streamStatus(UUID paymentOrderId);
+}
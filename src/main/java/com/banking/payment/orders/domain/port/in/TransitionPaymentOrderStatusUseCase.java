@@ -0,0 +1,81 @@
+package com.banking.payment.orders.domain.port.in;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+
+/**
+ * TransitionPaymentOrderStatusUseCase - Puerto de entrada para cambiar el estado de órdenes
+ * de pago en bloque.
+ */
+public interface TransitionPaymentOrderStatusUseCase {
+
+  /**
+   * Aplica un bloque de transiciones de estado. Cada transición solo se aplica si es legal
+   * según el ciclo de vida y si la orden sigue en el estado de origen indicado. Las
+   * transiciones con el mismo origen y destino se aplican juntas en una sola sentencia.
+   *
+   * @param commands transiciones solicitadas
+   * @return Flux con un resultado por comando, en el mismo orden de entrada
+   */
+  Flux<StatusTransitionResult> transition(List<StatusTransitionCommand> commands);
+
+  /**
+   * StatusTransitionCommand - Solicitud de pasar una orden de un estado a otro.
+   */
+  record StatusTransitionCommand(
+      UUID paymentOrderId,
+      PaymentOrderStatus fromStatus,
+      PaymentOrderStatus toStatus
+  ) {
+  }
+
+  /**
+   * StatusTransitionResult - Resultado de una transición de estado.
+   *
+   * @param paymentOrderId ID de la orden de pago
+   * @param outcome resultado de la transición
+   * @param status estado de la orden tras la transición (APPLIED) o estado actual que impidió
+   *     aplicarla (CONFLICT); null en el resto de casos
+   */
+  record StatusTransitionResult(
+      UUID paymentOrderId,
+      Outcome outcome,
+      PaymentOrderStatusSnapshot status
+  ) {
+
+    public static StatusTransitionResult applied(PaymentOrderStatusSnapshot status) {
+      return new StatusTransitionResult(
+          status.paymentOrderProcedureInstanceReference(), Outcome.APPLIED, status);
+    }
+
+    public static StatusTransitionResult conflict(PaymentOrderStatusSnapshot current) {
+      return new StatusTransitionResult(
+          current.paymentOrderProcedureInstanceReference(), Outcome.CONFLICT, current);
+    }
+
+    public static StatusTransitionResult notFound(UUID paymentOrderId) {
+      return new StatusTransitionResult(paymentOrderId, Outcome.NOT_FOUND, null);
+    }
+
+    public static StatusTransitionResult invalidTransition(UUID paymentOrderId) {
+      return new StatusTransitionResult(paymentOrderId, Outcome.INVALID_TRANSITION, null);
+    }
+  }
+
+  /**
+   * Resultado de una transición de estado.
+   */
+  enum Outcome {
+    /** La orden estaba en el estado de origen y pasó al de destino. */
+    APPLIED,
+    /** La orden ya no estaba en el estado de origen. */
+    CONFLICT,
+    /** La orden no existe. */
+    NOT_FOUND,
+    /** El ciclo de vida no permite pasar del estado de origen al de destino. */
+    INVALID_TRANSITION
+  }
+}
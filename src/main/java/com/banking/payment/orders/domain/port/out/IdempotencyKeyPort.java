@@ -0,0 +1,34 @@
+package com.banking.payment.orders.domain.port.out;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/**
+ * IdempotencyKeyPort - Puerto de salida para registrar claves de idempotencia.
+ */
+public interface IdempotencyKeyPort {
+
+  /**
+   * Asocia la clave a la orden indicada si la clave aún no está registrada y, en ese caso,
+   * ejecuta {@code onReserved} en la misma transacción: si falla, la reserva se deshace con
+   * ella y la clave nunca queda apuntando a una orden que no existe.
+   *
+   * @param idempotencyKey clave de idempotencia enviada por el cliente
+   * @param paymentOrderId ID de la orden que se va a crear
+   * @param onReserved operación que persiste la orden
+   * @return Mono con el ID de la orden asociada a la clave: el indicado si la reserva tuvo
+   *     éxito o el registrado previamente; vacío si la clave pertenece a una reserva aún no
+   *     visible
+   */
+  Mono<UUID> reserve(String idempotencyKey, UUID paymentOrderId, Mono<?> onReserved);
+
+  /**
+   * Elimina un bloque de claves registradas antes del instante indicado.
+   *
+   * @param before instante límite de registro
+   * @param limit número máximo de claves a eliminar
+   * @return Mono con el número de claves eliminadas
+   */
+  Mono<Integer> purgeExpired(OffsetDateTime before, int limit);
+}
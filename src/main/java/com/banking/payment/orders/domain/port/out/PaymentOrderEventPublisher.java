@@ -0,0 +1,21 @@
+package com.banking.payment.orders.domain.port.out;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderEventPublisher - Puerto de salida para entregar eventos de órdenes de pago a
+ * otros sistemas.
+ */
+public interface PaymentOrderEventPublisher {
+
+  /**
+   * Entrega un bloque de eventos. Solo debe completar cuando todos han sido aceptados por el
+   * destino; si falla, el bloque se volverá a entregar más tarde.
+   *
+   * @param events eventos en orden de registro
+   * @return Mono que completa cuando el bloque ha sido entregado
+   */
+  Mono<Void> publish(List<PaymentOrderEvent> events);
+}
@@ -0,0 +1,20 @@
+package com.banking.payment.orders.domain.port.out;
+
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import reactor.core.publisher.Flux;
+
+/**
+ * PaymentOrderExportPort - Puerto de salida para leer órdenes de pago en volumen.
+ */
+public interface PaymentOrderExportPort {
+
+  /**
+   * Lee las órdenes que cumplen los filtros ordenadas por (createdDateTime, id) ascendente.
+   * Las filas se leen por bloques a medida que el suscriptor las solicita.
+   *
+   * @param criteria filtros de exportación
+   * @return Flux con las órdenes
+   */
+  Flux<PaymentOrderProcedure> export(PaymentOrderSearchCriteria criteria);
+}
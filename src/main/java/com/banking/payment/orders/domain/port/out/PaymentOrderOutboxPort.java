@@ -0,0 +1,32 @@
+package com.banking.payment.orders.domain.port.out;
+
+import java.time.OffsetDateTime;
+import reactor.core.publisher.Mono;
+
+/**
+ * PaymentOrderOutboxPort - Puerto de salida sobre la bandeja de eventos pendientes de
+ * publicar (transactional outbox).
+ */
+public interface PaymentOrderOutboxPort {
+
+  /**
+   * Reclama un bloque de eventos pendientes que ninguna otra instancia tenga reclamado, lo
+   * entrega al publicador y lo elimina de la bandeja si la entrega completa. Si la entrega
+   * falla, los eventos siguen pendientes.
+   *
+   * @param limit número máximo de eventos del bloque
+   * @param publisher publicador al que se entregan
+   * @return Mono con el número de eventos publicados (0 si no había pendientes)
+   */
+  Mono<Integer> publishPending(int limit, PaymentOrderEventPublisher publisher);
+
+  /**
+   * Elimina un bloque de eventos registrados antes de {@code before} que siguen sin
+   * entregarse. Los eventos que otra instancia tiene reclamados se saltan.
+   *
+   * @param before instante límite de registro
+   * @param limit número máximo de eventos a eliminar
+   * @return Mono con el número de eventos eliminados
+   */
+  Mono<Integer> purgeExpired(OffsetDateTime before, int limit);
+}
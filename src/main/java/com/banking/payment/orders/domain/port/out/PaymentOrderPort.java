@@ -1,7 +1,14 @@
 package com.banking.payment.orders.domain.port.out;
 
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import java.util.List;
 import java.util.UUID;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -11,12 +18,22 @@ public interface PaymentOrderPort {
 
   /**
    * Guarda una orden de pago.
+   * Las órdenes sin versión se insertan; las existentes se actualizan solo si su versión
+   * coincide con la almacenada, en caso contrario se emite PaymentOrderConflictException.
    *
    * @param paymentOrder orden de pago a guardar
    * @return Mono con la orden de pago guardada
    */
   Mono<PaymentOrderProcedure> save(PaymentOrderProcedure paymentOrder);
 
+  /**
+   * Inserta un bloque de órdenes de pago nuevas en una única sentencia.
+   *
+   * @param paymentOrders órdenes de pago nuevas (sin versión)
+   * @return Flux con las órdenes insertadas, en el mismo orden recibido
+   */
+  Flux<PaymentOrderProcedure> insertAll(List<PaymentOrderProcedure> paymentOrders);
+
   /**
    * Busca una orden de pago por su ID.
    *
@@ -24,4 +41,61 @@ public interface PaymentOrderPort {
    * @return Mono con la orden de pago encontrada o vacío
    */
   Mono<PaymentOrderProcedure> findById(UUID paymentOrderId);
+
+  /**
+   * Busca únicamente el estado actual de una orden de pago.
+   *
+   * @param paymentOrderId ID de la orden de pago
+   * @return Mono con el estado de la orden o vacío
+   */
+  Mono<PaymentOrderStatusSnapshot> findStatusById(UUID paymentOrderId);
+
+  /**
+   * Busca órdenes de pago con paginación por keyset sobre (createdDateTime, id) descendente.
+   *
+   * @param criteria filtros de búsqueda
+   * @param after cursor de la última orden de la página anterior, o null para la primera
+   * @param limit número máximo de órdenes a devolver
+   * @return Flux con las órdenes, emitidas a medida que se leen
+   */
+  Flux<PaymentOrderProcedure> search(
+      PaymentOrderSearchCriteria criteria, PaymentOrderSearchCursor after, int limit);
+
+  /**
+   * Cambia en una única sentencia el estado de las órdenes indicadas que sigan en el estado
+   * de origen; el resto no se modifica.
+   *
+   * @param paymentOrderIds IDs de las órdenes de pago, sin repetidos
+   * @param fromStatus estado que deben tener las órdenes para cambiar
+   * @param toStatus nuevo estado
+   * @return Flux con el estado resultante de cada orden modificada
+   */
+  Flux<PaymentOrderStatusSnapshot> transitionStatus(
+      List<UUID> paymentOrderIds, PaymentOrderStatus fromStatus, PaymentOrderStatus toStatus);
+
+  /**
+   * Busca en una única consulta el estado actual de varias órdenes de pago. Lee siempre el
+   * último estado confirmado, nunca una copia en cache o en réplica que pueda ir atrasada.
+   *
+   * @param paymentOrderIds IDs de las órdenes de pago
+   * @return Flux con el estado de cada orden existente, en cualquier orden
+   */
+  Flux<PaymentOrderStatusSnapshot> findStatusesByIds(List<UUID> paymentOrderIds);
+
+  /**
+   * Persiste en una única sentencia varios cambios de estado, cada uno condicionado a la
+   * versión esperada de su orden; los que no coinciden no se modifican.
+   *
+   * @param updates cambios de estado, como mucho uno por orden
+   * @return Flux con el estado resultante de cada orden modificada
+   */
+  Flux<PaymentOrderStatusSnapshot> updateStatuses(List<PaymentOrderStatusUpdate> updates);
+
+  /**
+   * Busca en una única consulta varias órdenes de pago completas.
+   *
+   * @param paymentOrderIds IDs de las órdenes de pago, sin repetidos
+   * @return Flux con cada orden existente, en cualquier orden
+   */
+  Flux<PaymentOrderProcedure> findAllById(List<UUID> paymentOrderIds);
 }
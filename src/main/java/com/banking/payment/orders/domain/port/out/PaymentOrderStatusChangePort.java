@@ -0,0 +1,21 @@
+package com.banking.payment.orders.domain.port.out;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import reactor.core.publisher.Flux;
+
+/**
+ * PaymentOrderStatusChangePort - Puerto de salida para recibir los cambios de estado de todas
+ * las órdenes de pago a medida que se confirman.
+ */
+public interface PaymentOrderStatusChangePort {
+
+  /**
+   * Abre una escucha de cambios de estado. Cada suscripción mantiene su propia conexión de
+   * escucha y la restablece si se pierde; el flujo solo termina al cancelarlo.
+   *
+   * @param onListening se invoca cada vez que la escucha queda (re)establecida, para que el
+   *     consumidor recupere los cambios que pudo perder mientras no había escucha
+   * @return Flux de estados resultantes de cada cambio
+   */
+  Flux<PaymentOrderStatusSnapshot> statusChanges(Runnable onListening);
+}
@@ -0,0 +1,91 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.adapter.in.rest.PaymentOrderBatchItemReader.BatchItem;
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderBatchItemReaderTest - Tests unitarios para PaymentOrderBatchItemReader.
+ */
+class PaymentOrderBatchItemReaderTest {
+
+  private ObjectMapper objectMapper;
+  private PaymentOrderBatchItemReader reader;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    reader = new PaymentOrderBatchItemReader(
+        objectMapper,
+        Validation.buildDefaultValidatorFactory().getValidator(),
+        new PaymentOrderRestMapper());
+  }
+
+  @Test
+  @DisplayName("Debe aceptar un elemento válido y convertirlo a comando")
+  void shouldAcceptItemWhenValid() throws Exception {
+    // Given
+    JsonNode item = objectMapper.readTree(itemJson("ES9121000418450200051332", "EUR"));
+
+    // When
+    BatchItem result = reader.read(3, item);
+
+    // Then
+    assertThat(result.isAccepted()).isTrue();
+    assertThat(result.itemIndex()).isEqualTo(3);
+    assertThat(result.command().payerProductInstanceReference())
+        .isEqualTo("ES9121000418450200051332");
+    assertThat(result.command().currency()).isEqualTo("EUR");
+  }
+
+  @Test
+  @DisplayName("Debe rechazar un elemento que no cumple las validaciones del contrato")
+  void shouldRejectItemWhenBeanValidationFails() throws Exception {
+    // Given
+    JsonNode item = objectMapper.readTree(itemJson("not-an-iban", "EUR"));
+
+    // When
+    BatchItem result = reader.read(0, item);
+
+    // Then
+    assertThat(result.isAccepted()).isFalse();
+    assertThat(result.rejectionDetail())
+        .contains("paymentOrderProcedure.payer.payerProductInstanceReference");
+  }
+
+  @Test
+  @DisplayName("Debe rechazar un elemento con valores no convertibles")
+  void shouldRejectItemWhenMalformed() throws Exception {
+    // Given
+    JsonNode item = objectMapper.readTree(itemJson("ES9121000418450200051332", "XXX"));
+
+    // When
+    BatchItem result = reader.read(1, item);
+
+    // Then
+    assertThat(result.isAccepted()).isFalse();
+    assertThat(result.rejectionDetail()).startsWith("Malformed payment order");
+  }
+
+  private String itemJson(String payerIban, String currency) {
+    return """
+        {
+          "paymentOrderProcedure": {
+            "paymentTransactionInitiatorReference": "TXN-12345",
+            "payer": { "payerProductInstanceReference": "%s" },
+            "payee": { "payeeProductInstanceReference": "ES9121000418450200051333" },
+            "paymentDetails": { "amount": 150.00, "currency": "%s" },
+            "dateInformation": { "dateType": "RequestedExecutionDate", "date": "2025-11-20" }
+          }
+        }
+        """.formatted(payerIban, currency);
+  }
+}
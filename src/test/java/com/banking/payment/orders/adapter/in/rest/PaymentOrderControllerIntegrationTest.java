@@ -1,9 +1,21 @@
 package com.banking.payment.orders.adapter.in.rest;
 
 import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderBatchResult;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderSearchResult;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
+import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusTransitionResult;
+import com.banking.payment.orders.adapter.in.rest.model.RetrievePaymentOrdersResponse;
 
+import com.banking.payment.orders.adapter.out.event.InProcessPaymentOrderEventPublisher;
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +24,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -20,16 +37,31 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * PaymentOrderControllerIntegrationTest - Tests de integración para endpoints REST.
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "payment-orders.outbox.relay.enabled=true")
 @Testcontainers
 class PaymentOrderControllerIntegrationTest {
 
+    /**
+     * Publicador en proceso para observar los eventos que entrega el relay.
+     */
+    @TestConfiguration
+    static class EventPublisherConfig {
+
+        @Bean
+        InProcessPaymentOrderEventPublisher paymentOrderEventPublisher() {
+            return new InProcessPaymentOrderEventPublisher();
+        }
+    }
+
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("testdb")
@@ -49,6 +81,12 @@ class PaymentOrderControllerIntegrationTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private InProcessPaymentOrderEventPublisher eventPublisher;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
     private String validRequestJson;
 
     @BeforeEach
@@ -65,7 +103,7 @@ class PaymentOrderControllerIntegrationTest {
                     "payee": {
                       "payeeReference": "Jane Smith",
                       "payeeBankReference": "BANK002",
-                      "payeeProductInstanceReference": "ES9121000418450200051333"
+                      "payeeProductInstanceReference": "ES6421000418450200051333"
                     },
                     "paymentDetails": {
                       "amount": 150.00,
@@ -74,12 +112,12 @@ class PaymentOrderControllerIntegrationTest {
                     },
                     "dateInformation": {
                       "dateType": "RequestedExecutionDate",
-                      "date": "2025-11-20"
+                      "date": "%s"
                     },
                     "remittanceInformation": "Payment for invoice INV-001"
                   }
                 }
-                """;
+                """.formatted(LocalDate.now().plusDays(1));
     }
 
     @Test
@@ -112,6 +150,64 @@ class PaymentOrderControllerIntegrationTest {
         assertThat(response.getLinks().getStatus()).isNotNull();
     }
 
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders - Debe devolver la misma orden al repetir la Idempotency-Key")
+    void testInitiatePaymentOrder_IdempotentReplay() {
+        // Given
+        String idempotencyKey = "retry-" + UUID.randomUUID();
+
+        // When
+        InitiatePaymentOrderResponse first = initiateWithIdempotencyKey(idempotencyKey);
+        InitiatePaymentOrderResponse replay = initiateWithIdempotencyKey(idempotencyKey);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(replay).isNotNull();
+        assertThat(replay.getPaymentOrderProcedure().getPaymentOrderProcedureInstanceReference())
+                .isEqualTo(first.getPaymentOrderProcedure().getPaymentOrderProcedureInstanceReference());
+    }
+
+    @Test
+    @DisplayName("payment_orders - Debe rechazar un id ya registrado aunque sea de otro mes")
+    void testDuplicateIdInAnotherPartitionIsRejected() {
+        // Given
+        UUID id = initiateWithIdempotencyKey("dup-" + UUID.randomUUID())
+                .getPaymentOrderProcedure().getPaymentOrderProcedureInstanceReference();
+
+        // When
+        StepVerifier.create(databaseClient.sql("""
+                        INSERT INTO payment_orders (id, status,
+                            payment_transaction_initiator_reference,
+                            payer_reference, payer_bank_reference,
+                            payer_product_instance_reference,
+                            payee_reference, payee_bank_reference,
+                            payee_product_instance_reference,
+                            amount, currency, date_type, date, created_date_time)
+                        VALUES (:id, 1, 'TXN-DUP', 'John Doe', 'BANK001',
+                            'ES9121000418450200051332', 'Jane Smith', 'BANK002',
+                            'ES6421000418450200051333', 15000, 978, 'RequestedExecutionDate',
+                            CURRENT_DATE, now() + INTERVAL '1 month')
+                        """)
+                        .bind("id", id)
+                        .then())
+                // Then
+                .expectError(DuplicateKeyException.class)
+                .verify(Duration.ofSeconds(10));
+    }
+
+    private InitiatePaymentOrderResponse initiateWithIdempotencyKey(String idempotencyKey) {
+        return webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .bodyValue(validRequestJson)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
     @Test
     @DisplayName("GET /payment-initiation/payment-orders/{id} - Debe recuperar orden existente")
     void testRetrievePaymentOrder_Success() {
@@ -165,6 +261,69 @@ class PaymentOrderControllerIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders/retrievals - Debe recuperar varias órdenes e informar las inexistentes")
+    void testRetrievePaymentOrders() {
+        // Given
+        UUID orderId = webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validRequestJson)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getPaymentOrderProcedure()
+                .getPaymentOrderProcedureInstanceReference();
+        UUID missingId = UUID.randomUUID();
+
+        // When
+        RetrievePaymentOrdersResponse response = webTestClient.post()
+                .uri("/payment-initiation/payment-orders/retrievals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"paymentOrderIds\": [\"" + missingId + "\", \"" + orderId + "\"]}")
+                .exchange()
+                // Then
+                .expectStatus().isOk()
+                .expectBody(RetrievePaymentOrdersResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Verify
+        assertThat(response).isNotNull();
+        assertThat(response.getPaymentOrders()).hasSize(1);
+        assertThat(response.getPaymentOrders().get(0).getPaymentOrderProcedure()
+                .getPaymentOrderProcedureInstanceReference()).isEqualTo(orderId);
+        assertThat(response.getNotFound()).containsExactly(missingId);
+    }
+
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders/retrievals - Debe retornar 400 sin IDs")
+    void testRetrievePaymentOrders_Empty() {
+        // When/Then
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders/retrievals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"paymentOrderIds\": []}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders/retrievals - Debe retornar 400 con IDs nulos")
+    void testRetrievePaymentOrders_NullId() {
+        // When/Then
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders/retrievals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"paymentOrderIds\": [\"" + UUID.randomUUID() + "\", null]}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Payment Order Ids");
+    }
+
     @Test
     @DisplayName("GET /payment-initiation/payment-orders/{id}/status - Debe recuperar estado")
     void testRetrievePaymentOrderStatus_Success() {
@@ -230,4 +389,268 @@ class PaymentOrderControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isBadRequest();
     }
+
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders/batch - Debe crear válidas y rechazar inválidas")
+    void testInitiatePaymentOrderBatch_PartialSuccess() {
+        // Given - Un elemento válido, uno inválido y otro válido
+        String batchJson = "[" + validRequestJson + ", {\"paymentOrderProcedure\":{}}, "
+                + validRequestJson + "]";
+
+        // When
+        List<PaymentOrderBatchResult> results = webTestClient.post()
+                .uri("/payment-initiation/payment-orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(batchJson)
+                .exchange()
+                // Then
+                .expectStatus().isOk()
+                .returnResult(PaymentOrderBatchResult.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Verify
+        assertThat(results).hasSize(3);
+        assertThat(results)
+                .filteredOn(result -> result.getOutcome() == PaymentOrderBatchResult.OutcomeEnum.CREATED)
+                .extracting(PaymentOrderBatchResult::getItemIndex)
+                .containsExactlyInAnyOrder(0L, 2L);
+        assertThat(results)
+                .filteredOn(result -> result.getOutcome() == PaymentOrderBatchResult.OutcomeEnum.REJECTED)
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.getItemIndex()).isEqualTo(1L);
+                    assertThat(result.getError().getStatus()).isEqualTo(400);
+                });
+    }
+    @Test
+    @DisplayName("GET /payment-initiation/payment-orders - Debe paginar por cursor sin repetir órdenes")
+    void testSearchPaymentOrders_KeysetPagination() {
+        // Given - Tres órdenes de un pagador exclusivo de este test
+        String payer = "EC12" + Math.abs(UUID.randomUUID().getMostSignificantBits());
+        String requestJson = validRequestJson.replace("ES9121000418450200051332", payer);
+        for (int i = 0; i < 3; i++) {
+            webTestClient.post()
+                    .uri("/payment-initiation/payment-orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestJson)
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        // When
+        List<PaymentOrderSearchResult> firstPage = search(payer, null);
+        List<PaymentOrderSearchResult> secondPage =
+                search(payer, firstPage.get(firstPage.size() - 1).getCursor());
+
+        // Then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getPaymentOrder().getMetadata().getCreatedDateTime())
+                .isBeforeOrEqualTo(firstPage.get(1).getPaymentOrder().getMetadata().getCreatedDateTime());
+        assertThat(secondPage.get(0).getCursor()).isNotIn(firstPage.get(0).getCursor(),
+                firstPage.get(1).getCursor());
+    }
+
+    @Test
+    @DisplayName("GET /payment-initiation/payment-orders - Debe retornar 400 con un cursor inválido")
+    void testSearchPaymentOrders_InvalidCursor() {
+        // When/Then
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders?cursor={cursor}", "not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /payment-initiation/payment-orders/export - Debe exportar en CSV con cabecera")
+    void testExportPaymentOrders_Csv() {
+        // Given
+        OffsetDateTime from = OffsetDateTime.now().minusMinutes(1);
+        webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validRequestJson)
+                .exchange()
+                .expectStatus().isCreated();
+
+        // When
+        String csv = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/payment-initiation/payment-orders/export")
+                        .queryParam("createdFrom", from.toString())
+                        .queryParam("createdTo", OffsetDateTime.now().plusMinutes(1).toString())
+                        .build())
+                .accept(MediaType.parseMediaType("text/csv"))
+                .exchange()
+                // Then
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.parseMediaType("text/csv"))
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Verify
+        assertThat(csv).startsWith("paymentOrderProcedureInstanceReference,");
+        assertThat(csv.lines().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /payment-initiation/payment-orders/export - Debe exigir el rango de creación")
+    void testExportPaymentOrders_MissingRange() {
+        // When/Then
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/export")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders/status-transitions - Debe aplicar y detectar conflictos")
+    void testTransitionPaymentOrderStatuses() {
+        // Given
+        UUID orderId = webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validRequestJson)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getPaymentOrderProcedure()
+                .getPaymentOrderProcedureInstanceReference();
+        String transitions = """
+                {"paymentOrderProcedureInstanceReference": "%1$s", "fromStatus": "Initiated", "toStatus": "Pending"}
+                {"paymentOrderProcedureInstanceReference": "%1$s", "fromStatus": "Initiated", "toStatus": "Pending"}
+                {"paymentOrderProcedureInstanceReference": "%2$s", "fromStatus": "Initiated", "toStatus": "Pending"}
+                {"paymentOrderProcedureInstanceReference": "%1$s", "fromStatus": "Initiated", "toStatus": "Settled"}
+                """.formatted(orderId, UUID.randomUUID());
+
+        // When
+        List<PaymentOrderStatusTransitionResult> results = webTestClient.post()
+                .uri("/payment-initiation/payment-orders/status-transitions")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(transitions)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PaymentOrderStatusTransitionResult.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(results).extracting(PaymentOrderStatusTransitionResult::getOutcome).containsExactly(
+                PaymentOrderStatusTransitionResult.OutcomeEnum.APPLIED,
+                PaymentOrderStatusTransitionResult.OutcomeEnum.CONFLICT,
+                PaymentOrderStatusTransitionResult.OutcomeEnum.NOTFOUND,
+                PaymentOrderStatusTransitionResult.OutcomeEnum.INVALIDTRANSITION);
+        webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status", orderId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.paymentOrderProcedure.paymentOrderProcedureInstanceStatus").isEqualTo("Pending");
+    }
+
+    @Test
+    @DisplayName("POST /payment-initiation/payment-orders - Debe publicar el evento de creación desde el outbox")
+    void testInitiatePaymentOrder_PublishesOutboxEvent() {
+        // Given
+        var events = eventPublisher.events()
+                .filter(event -> event.type() == PaymentOrderEvent.Type.INITIATED)
+                .map(PaymentOrderEvent::paymentOrderId)
+                .replay();
+        var subscription = events.connect();
+
+        try {
+            // When
+            UUID orderId = webTestClient.post()
+                    .uri("/payment-initiation/payment-orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(validRequestJson)
+                    .exchange()
+                    .expectStatus().isCreated()
+                    .expectBody(InitiatePaymentOrderResponse.class)
+                    .returnResult()
+                    .getResponseBody()
+                    .getPaymentOrderProcedure()
+                    .getPaymentOrderProcedureInstanceReference();
+
+            // Then
+            assertThat(events.filter(orderId::equals).blockFirst(Duration.ofSeconds(10)))
+                    .isEqualTo(orderId);
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("GET /payment-initiation/payment-orders/{id}/status/stream - Debe emitir los cambios hasta el estado terminal")
+    void testStreamPaymentOrderStatus() {
+        // Given
+        UUID orderId = webTestClient.post()
+                .uri("/payment-initiation/payment-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validRequestJson)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(InitiatePaymentOrderResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getPaymentOrderProcedure()
+                .getPaymentOrderProcedureInstanceReference();
+        String cancel = """
+                {"paymentOrderProcedureInstanceReference": "%s", "fromStatus": "Initiated", "toStatus": "Cancelled"}
+                """.formatted(orderId);
+
+        // When
+        Flux<String> statuses = webTestClient.get()
+                .uri("/payment-initiation/payment-orders/{id}/status/stream", orderId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<PaymentOrderStatusResponse>>() { })
+                .getResponseBody()
+                .filter(event -> event.data() != null)
+                .map(event -> event.data().getPaymentOrderProcedure()
+                        .getPaymentOrderProcedureInstanceStatus().getValue());
+
+        // Then
+        StepVerifier.create(statuses)
+                .expectNext("Initiated")
+                .then(() -> webTestClient.post()
+                        .uri("/payment-initiation/payment-orders/status-transitions")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .bodyValue(cancel)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(PaymentOrderStatusTransitionResult.class)
+                        .getResponseBody()
+                        .blockLast())
+                .expectNext("Cancelled")
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    private List<PaymentOrderSearchResult> search(String payer, String cursor) {
+        return webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/payment-initiation/payment-orders")
+                        .queryParam("payerProductInstanceReference", payer)
+                        .queryParam("limit", 2)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PaymentOrderSearchResult.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+    }
 }
@@ -0,0 +1,116 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.adapter.in.rest.PaymentOrderExportWriter.Format;
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderExportWriterTest - Tests unitarios para PaymentOrderExportWriter.
+ */
+class PaymentOrderExportWriterTest {
+
+  private ObjectMapper objectMapper;
+  private PaymentOrderExportWriter writer;
+  private PaymentOrderProcedure paymentOrder;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    writer = new PaymentOrderExportWriter(objectMapper, new PaymentOrderRestMapper());
+    paymentOrder = PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("Doe, \"John\"", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.of(2025, 11, 20)),
+        null);
+  }
+
+  @Test
+  @DisplayName("Debe emitir la cabecera CSV y escapar campos según RFC 4180")
+  void shouldWriteCsvHeaderAndQuoteFields() {
+    // When
+    List<String> lines = writer.lines(Format.CSV, Flux.just(paymentOrder))
+        .map(line -> new String(line, StandardCharsets.UTF_8))
+        .collectList()
+        .block();
+
+    // Then
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0)).isEqualTo(PaymentOrderExportWriter.CSV_HEADER);
+    assertThat(lines.get(1))
+        .startsWith(paymentOrder.getPaymentOrderProcedureInstanceReference()
+            + ",Initiated,TXN-12345,\"Doe, \"\"John\"\"\",BANK001,")
+        .contains(",150.00,EUR,CreditTransfer,RequestedExecutionDate,2025-11-20,,")
+        .endsWith("\n");
+    assertThat(lines.get(1).split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1)).hasSize(17);
+  }
+
+  @Test
+  @DisplayName("Debe emitir una PaymentOrderResponse por línea en NDJSON")
+  void shouldWriteOneJsonDocumentPerLine() throws Exception {
+    // When
+    List<byte[]> lines = writer.lines(Format.NDJSON, Flux.just(paymentOrder, paymentOrder))
+        .collectList()
+        .block();
+
+    // Then
+    assertThat(lines).hasSize(2);
+    byte[] line = lines.get(0);
+    assertThat(line[line.length - 1]).isEqualTo((byte) '\n');
+    JsonNode json = objectMapper.readTree(line);
+    assertThat(json.at("/paymentOrderProcedure/paymentTransactionInitiatorReference").asText())
+        .isEqualTo("TXN-12345");
+  }
+
+  @Test
+  @DisplayName("Debe propagar el error sin escribir la cabecera CSV")
+  void shouldPropagateErrorBeforeCsvHeader() {
+    // When / Then
+    StepVerifier.create(writer.lines(Format.CSV,
+            Flux.error(new InvalidSearchCriteriaException("createdFrom must be before createdTo"))))
+        .expectError(InvalidSearchCriteriaException.class)
+        .verify();
+  }
+
+  @Test
+  @DisplayName("Debe emitir solo la cabecera CSV cuando no hay órdenes")
+  void shouldWriteOnlyHeaderWhenNoOrders() {
+    // When / Then
+    StepVerifier.create(writer.lines(Format.CSV, Flux.empty()))
+        .expectNextMatches(line ->
+            new String(line, StandardCharsets.UTF_8).equals(PaymentOrderExportWriter.CSV_HEADER))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe elegir el formato según la cabecera Accept")
+  void shouldSelectFormatFromAcceptHeader() {
+    // When / Then
+    assertThat(writer.select(List.of(MediaType.parseMediaType("text/csv"))))
+        .isEqualTo(Format.CSV);
+    assertThat(writer.select(List.of(MediaType.APPLICATION_NDJSON))).isEqualTo(Format.NDJSON);
+    assertThat(writer.select(List.of(MediaType.ALL))).isEqualTo(Format.NDJSON);
+    assertThat(writer.select(List.of())).isEqualTo(Format.NDJSON);
+  }
+}
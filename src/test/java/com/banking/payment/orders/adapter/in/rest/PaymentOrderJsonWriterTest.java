@@ -0,0 +1,179 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.adapter.in.rest.mapper.PaymentOrderRestMapper;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderJsonWriterTest - Comprueba que PaymentOrderJsonWriter produce exactamente los
+ * mismos bytes que Jackson con los DTO de PaymentOrderRestMapper.
+ */
+class PaymentOrderJsonWriterTest {
+
+  private ObjectMapper objectMapper;
+  private PaymentOrderRestMapper mapper;
+  private PaymentOrderJsonWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    // Igual que el ObjectMapper de Spring Boot: módulos java.time y fechas en ISO-8601
+    objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    mapper = new PaymentOrderRestMapper();
+    writer = new PaymentOrderJsonWriter();
+  }
+
+  @Test
+  @DisplayName("Debe escribir la orden igual que Jackson")
+  void shouldWritePaymentOrderLikeJackson() throws Exception {
+    // Given
+    PaymentOrderProcedure paymentOrder = paymentOrder(
+        "Payment for invoice INV-001", new BigDecimal("150.00"), "CreditTransfer");
+
+    // When / Then
+    assertSameAsJackson(paymentOrder);
+  }
+
+  @Test
+  @DisplayName("Debe escribir los campos nulos como null igual que Jackson")
+  void shouldWriteNullFieldsLikeJackson() throws Exception {
+    // Given
+    PaymentOrderProcedure paymentOrder = PaymentOrderProcedure.initiate(
+        "TXN-1",
+        new Payer(null, null, "ES9121000418450200051332"),
+        new Payee(null, null, "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("1.5"), "USD", null),
+        new DateInformation("ValueDate", LocalDate.of(2025, 11, 20)),
+        null);
+    ReflectionTestUtils.setField(paymentOrder, "lastUpdateDateTime", null);
+
+    // When / Then
+    assertSameAsJackson(paymentOrder);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Pago \"urgente\" \\ barra / y\ttab\nlínea\r\b\f",
+      "control \u0000 \u0001 \u001f \u007f",
+      "Señor Müller € 日本 💶  ",
+      ""})
+  @DisplayName("Debe escapar y codificar las cadenas igual que Jackson")
+  void shouldEscapeStringsLikeJackson(String remittanceInformation) throws Exception {
+    // Given
+    PaymentOrderProcedure paymentOrder = paymentOrder(
+        remittanceInformation, new BigDecimal("150.00"), "CreditTransfer");
+
+    // When / Then
+    assertSameAsJackson(paymentOrder);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0.01, EUR", "150.00, EUR", "150.5, GBP", "1234567.89, USD", "999999999.99, EUR",
+      "10000000, EUR", "1, JPY", "1500, JPY", "90210.00, JPY"})
+  @DisplayName("Debe escribir el importe con la escala de la moneda igual que Jackson")
+  void shouldWriteAmountLikeJackson(String amount, String currency) throws Exception {
+    // Given
+    PaymentOrderProcedure paymentOrder = paymentOrder(
+        "INV-001", new PaymentDetails(new BigDecimal(amount), currency, null));
+
+    // When / Then
+    assertSameAsJackson(paymentOrder);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2025-11-20T10:15:30Z",
+      "2025-11-20T10:15:00+01:00",
+      "2025-01-02T03:04:05.1-05:30",
+      "2025-01-02T03:04:05.123456789+14:00",
+      "2025-01-02T03:04:05.000100Z",
+      "2025-01-02T00:00:00.120-00:30",
+      "0999-12-31T23:59:59+02:00",
+      "+10000-01-01T00:00:00Z",
+      "2025-01-02T03:04:05+01:02:03"})
+  @DisplayName("Debe escribir las fechas y horas igual que Jackson")
+  void shouldWriteDateTimesLikeJackson(String dateTime) throws Exception {
+    // Given
+    OffsetDateTime timestamp = OffsetDateTime.parse(dateTime);
+    PaymentOrderProcedure paymentOrder = paymentOrder(
+        "INV-001", new BigDecimal("10.00"), "DirectDebit");
+    ReflectionTestUtils.setField(paymentOrder, "createdDateTime", timestamp);
+    ReflectionTestUtils.setField(paymentOrder, "lastUpdateDateTime",
+        timestamp.withOffsetSameInstant(ZoneOffset.UTC));
+
+    // When / Then
+    assertSameAsJackson(paymentOrder);
+    assertStatusSameAsJackson(PaymentOrderStatusSnapshot.of(paymentOrder));
+  }
+
+  @Test
+  @DisplayName("Debe escribir el estado igual que Jackson")
+  void shouldWriteStatusLikeJackson() throws Exception {
+    // Given
+    PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+        UUID.fromString("0190a3e2-7b1c-7def-8a00-00000000000f"),
+        PaymentOrderStatus.SETTLED,
+        OffsetDateTime.parse("2025-11-20T10:15:30.5+01:00"));
+
+    // When / Then
+    assertStatusSameAsJackson(snapshot);
+  }
+
+  private void assertSameAsJackson(PaymentOrderProcedure paymentOrder) throws Exception {
+    byte[] expected = objectMapper.writeValueAsBytes(mapper.toPaymentOrderResponse(paymentOrder));
+    byte[] actual = writer.writePaymentOrder(paymentOrder);
+    assertThat(new String(actual, StandardCharsets.UTF_8))
+        .isEqualTo(new String(expected, StandardCharsets.UTF_8));
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  private void assertStatusSameAsJackson(PaymentOrderStatusSnapshot snapshot) throws Exception {
+    byte[] expected = objectMapper.writeValueAsBytes(mapper.toStatusResponse(snapshot));
+    byte[] actual = writer.writeStatus(snapshot);
+    assertThat(new String(actual, StandardCharsets.UTF_8))
+        .isEqualTo(new String(expected, StandardCharsets.UTF_8));
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  private static PaymentOrderProcedure paymentOrder(
+      String remittanceInformation, BigDecimal amount, String paymentMechanismType) {
+    return paymentOrder(
+        remittanceInformation, new PaymentDetails(amount, "EUR", paymentMechanismType));
+  }
+
+  private static PaymentOrderProcedure paymentOrder(
+      String remittanceInformation, PaymentDetails paymentDetails) {
+    return PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        paymentDetails,
+        new DateInformation("RequestedExecutionDate", LocalDate.of(2025, 11, 20)),
+        remittanceInformation);
+  }
+}
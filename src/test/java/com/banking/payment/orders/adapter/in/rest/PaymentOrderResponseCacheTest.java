@@ -0,0 +1,144 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PaymentOrderResponseCacheTest - Tests unitarios para PaymentOrderResponseCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentOrderResponseCacheTest {
+
+  private static final DataBufferFactory BUFFERS = DefaultDataBufferFactory.sharedInstance;
+
+  @Spy
+  private PaymentOrderJsonWriter jsonWriter;
+
+  private SimpleMeterRegistry meterRegistry;
+  private PaymentOrderResponseCache cache;
+  private PaymentOrderProcedure paymentOrder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new PaymentOrderResponseCache(
+        jsonWriter, meterRegistry, true, DataSize.ofMegabytes(1));
+    paymentOrder = PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.of(2025, 11, 20)),
+        "Payment for invoice INV-001");
+  }
+
+  @Test
+  @DisplayName("Debe codificar la orden una sola vez mientras no cambie")
+  void shouldEncodePaymentOrderOnceWhileUnchanged() {
+    // When
+    DataBuffer first = cache.paymentOrder(paymentOrder, BUFFERS);
+    DataBuffer second = cache.paymentOrder(paymentOrder, BUFFERS);
+
+    // Then
+    assertThat(json(second)).isEqualTo(json(first))
+        .isEqualTo(new PaymentOrderJsonWriter().writePaymentOrder(paymentOrder));
+    verify(jsonWriter, times(1)).writePaymentOrder(paymentOrder);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", PaymentOrderResponseCache.CACHE_NAME)
+        .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Debe volver a codificar la orden cuando cambia su estado")
+  void shouldEncodeAgainAfterStatusChange() {
+    // Given
+    byte[] before = json(cache.paymentOrder(paymentOrder, BUFFERS));
+
+    // When
+    paymentOrder.updateStatus(PaymentOrderStatus.PENDING);
+    byte[] after = json(cache.paymentOrder(paymentOrder, BUFFERS));
+
+    // Then
+    assertThat(after).isNotEqualTo(before)
+        .isEqualTo(new PaymentOrderJsonWriter().writePaymentOrder(paymentOrder));
+  }
+
+  @Test
+  @DisplayName("Debe guardar por separado la orden y su estado")
+  void shouldKeepPaymentOrderAndStatusApart() {
+    // Given
+    PaymentOrderStatusSnapshot snapshot = PaymentOrderStatusSnapshot.of(paymentOrder);
+
+    // When
+    DataBuffer order = cache.paymentOrder(paymentOrder, BUFFERS);
+    DataBuffer status = cache.status(snapshot, BUFFERS);
+    cache.status(snapshot, BUFFERS);
+
+    // Then
+    assertThat(json(status)).isEqualTo(new PaymentOrderJsonWriter().writeStatus(snapshot))
+        .isNotEqualTo(json(order));
+    verify(jsonWriter, times(1)).writeStatus(snapshot);
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Debe codificar en cada llamada si la cache está desactivada")
+  void shouldEncodeEveryTimeWhenDisabled() {
+    // Given
+    PaymentOrderResponseCache disabled = new PaymentOrderResponseCache(
+        jsonWriter, meterRegistry, false, DataSize.ofMegabytes(1));
+
+    // When
+    disabled.paymentOrder(paymentOrder, BUFFERS);
+    DataBuffer response = disabled.paymentOrder(paymentOrder, BUFFERS);
+
+    // Then
+    assertThat(json(response))
+        .isEqualTo(new PaymentOrderJsonWriter().writePaymentOrder(paymentOrder));
+    verify(jsonWriter, times(2)).writePaymentOrder(paymentOrder);
+    assertThat(disabled.estimatedSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe entregar el JSON cacheado en un buffer de solo lectura")
+  void shouldServeCachedJsonReadOnly() {
+    // Given
+    DataBuffer first = cache.paymentOrder(paymentOrder, BUFFERS);
+
+    // When / Then
+    assertThatThrownBy(() -> first.writePosition(0).write("{}".getBytes(StandardCharsets.UTF_8)))
+        .isInstanceOf(ReadOnlyBufferException.class);
+    assertThat(json(cache.paymentOrder(paymentOrder, BUFFERS)))
+        .isEqualTo(new PaymentOrderJsonWriter().writePaymentOrder(paymentOrder));
+  }
+
+  private static byte[] json(DataBuffer buffer) {
+    byte[] json = new byte[buffer.readableByteCount()];
+    buffer.read(json);
+    return json;
+  }
+}
@@ -0,0 +1,55 @@
+package com.banking.payment.orders.adapter.in.rest;
+
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PaymentOrderSearchCursorCodecTest - Tests unitarios para PaymentOrderSearchCursorCodec.
+ */
+class PaymentOrderSearchCursorCodecTest {
+
+  private final PaymentOrderSearchCursorCodec codec = new PaymentOrderSearchCursorCodec();
+
+  @Test
+  @DisplayName("Debe recuperar el mismo instante e id al decodificar un cursor codificado")
+  void shouldRoundTripCursor() {
+    // Given
+    PaymentOrderSearchCursor cursor = new PaymentOrderSearchCursor(
+        OffsetDateTime.parse("2025-10-30T09:30:00.123456-05:00"), UUID.randomUUID());
+
+    // When
+    String encoded = codec.encode(cursor);
+    PaymentOrderSearchCursor decoded = codec.decode(encoded);
+
+    // Then
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    assertThat(decoded.createdDateTime().toInstant())
+        .isEqualTo(cursor.createdDateTime().toInstant());
+    assertThat(decoded.id()).isEqualTo(cursor.id());
+  }
+
+  @Test
+  @DisplayName("Debe devolver nulo cuando no se envía cursor")
+  void shouldReturnNullWhenCursorIsAbsent() {
+    // When / Then
+    assertThat(codec.decode(null)).isNull();
+    assertThat(codec.decode("")).isNull();
+  }
+
+  @Test
+  @DisplayName("Debe rechazar cursores mal formados")
+  void shouldRejectMalformedCursor() {
+    // When / Then
+    assertThatThrownBy(() -> codec.decode("not a cursor!"))
+        .isInstanceOf(InvalidSearchCriteriaException.class);
+    assertThatThrownBy(() -> codec.decode("AAAA"))
+        .isInstanceOf(InvalidSearchCriteriaException.class);
+  }
+}
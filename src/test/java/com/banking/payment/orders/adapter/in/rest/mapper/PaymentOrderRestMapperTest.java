@@ -4,15 +4,19 @@ import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderRequ
 import com.banking.payment.orders.adapter.in.rest.model.InitiatePaymentOrderResponse;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderResponse;
 import com.banking.payment.orders.adapter.in.rest.model.PaymentOrderStatusResponse;
+import com.banking.payment.orders.adapter.in.rest.model.RetrievePaymentOrdersResponse;
 import com.banking.payment.orders.domain.model.DateInformation;
 import com.banking.payment.orders.domain.model.Payee;
 import com.banking.payment.orders.domain.model.Payer;
 import com.banking.payment.orders.domain.model.PaymentDetails;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
 import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import com.banking.payment.orders.domain.port.in.RetrievePaymentOrdersUseCase.RetrievedPaymentOrders;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -77,7 +81,8 @@ class PaymentOrderRestMapperTest {
     assertThat(command.paymentTransactionInitiatorReference()).isEqualTo("TXN-12345");
     assertThat(command.payerReference()).isEqualTo("John Doe");
     assertThat(command.payeeReference()).isEqualTo("Jane Smith");
-    assertThat(command.amount()).isEqualByComparingTo(new BigDecimal("150.00"));
+    // El importe llega tal cual se escribió, sin pasar por double
+    assertThat(command.amount()).isEqualTo(new BigDecimal("150.00"));
     assertThat(command.currency()).isEqualTo("EUR");
   }
 
@@ -118,12 +123,32 @@ class PaymentOrderRestMapperTest {
         .isEqualTo(domain.getPaymentOrderProcedureInstanceReference());
     assertThat(response.getPaymentOrderProcedure().getPayer()).isNotNull();
     assertThat(response.getPaymentOrderProcedure().getPayee()).isNotNull();
-    assertThat(response.getPaymentOrderProcedure().getPaymentDetails()).isNotNull();
+    assertThat(response.getPaymentOrderProcedure().getPaymentDetails().getAmount())
+        .isEqualTo(new BigDecimal("150.00"));
     assertThat(response.getPaymentOrderProcedure().getDateInformation()).isNotNull();
     assertThat(response.getMetadata()).isNotNull();
     assertThat(response.getLinks()).isNotNull();
   }
 
+  @Test
+  @DisplayName("Debe mapear la consulta de varias órdenes con los IDs no encontrados")
+  void shouldMapRetrievedOrdersWithMissingIds() {
+    // Given
+    PaymentOrderProcedure domain = createDomainObject();
+    UUID missingId = UUID.randomUUID();
+
+    // When
+    RetrievePaymentOrdersResponse response = mapper.toRetrievePaymentOrdersResponse(
+        new RetrievedPaymentOrders(List.of(domain), List.of(missingId)));
+
+    // Then
+    assertThat(response.getPaymentOrders()).hasSize(1);
+    assertThat(response.getPaymentOrders().get(0).getPaymentOrderProcedure()
+        .getPaymentOrderProcedureInstanceReference())
+        .isEqualTo(domain.getPaymentOrderProcedureInstanceReference());
+    assertThat(response.getNotFound()).containsExactly(missingId);
+  }
+
   @Test
   @DisplayName("Debe mapear domain a StatusResponse correctamente")
   void shouldMapDomainToStatusResponseWhenDomainProvided() {
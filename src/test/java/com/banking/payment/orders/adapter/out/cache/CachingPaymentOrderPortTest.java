@@ -0,0 +1,306 @@
+package com.banking.payment.orders.adapter.out.cache;
+
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CachingPaymentOrderPortTest - Tests unitarios para CachingPaymentOrderPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingPaymentOrderPortTest {
+
+  @Mock
+  private PaymentOrderPort delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AtomicLong nanos;
+  private CachingPaymentOrderPort port;
+  private PaymentOrderProcedure order;
+  private UUID orderId;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    nanos = new AtomicLong();
+    port = new CachingPaymentOrderPort(
+        delegate, 100, Duration.ofSeconds(30), meterRegistry, nanos::get);
+    order = PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001"
+    );
+    orderId = order.getPaymentOrderProcedureInstanceReference();
+  }
+
+  @Test
+  @DisplayName("Debe servir lecturas repetidas desde memoria")
+  void shouldServeRepeatedReadsFromMemoryWhenOrderIsCached() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+
+    verify(delegate, times(1)).findById(orderId);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Debe servir la primera consulta de una orden recién iniciada desde memoria")
+  void shouldServeFirstReadFromMemoryWhenOrderWasJustSaved() {
+    // Given
+    when(delegate.save(order)).thenReturn(Mono.just(order));
+
+    // When
+    StepVerifier.create(port.save(order)).expectNext(order).verifyComplete();
+
+    // Then
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+    verify(delegate, never()).findById(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Debe aislar la entrada cacheada de las modificaciones de los llamantes")
+  void shouldNotExposeCachedOrderToCallerMutations() {
+    // Given
+    when(delegate.save(order)).thenReturn(Mono.just(order));
+    port.save(order).block();
+
+    // When
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    port.findById(orderId).block().updateStatus(PaymentOrderStatus.CANCELLED);
+    port.findAllById(List.of(orderId)).blockFirst().updateStatus(PaymentOrderStatus.REJECTED);
+
+    // Then
+    StepVerifier.create(port.findById(orderId))
+        .assertNext(found -> assertThat(found.getPaymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.INITIATED))
+        .verifyComplete();
+    StepVerifier.create(port.findStatusById(orderId))
+        .assertNext(status -> assertThat(status.paymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.INITIATED))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe reemplazar la entrada cuando se persiste un cambio de estado")
+  void shouldReplaceEntryWhenStatusUpdateIsPersisted() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+    PaymentOrderPersistenceMapper mapper = new PaymentOrderPersistenceMapper();
+    PaymentOrderProcedure updated = mapper.toDomain(mapper.toEntity(order));
+    updated.updateStatus(PaymentOrderStatus.PENDING);
+    when(delegate.save(order)).thenReturn(Mono.just(updated));
+
+    // When
+    StepVerifier.create(port.save(order)).expectNext(updated).verifyComplete();
+
+    // Then
+    StepVerifier.create(port.findById(orderId))
+        .assertNext(found -> assertThat(found.getPaymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.PENDING))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe invalidar la entrada cuando la escritura falla")
+  void shouldEvictEntryWhenSaveFails() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+    when(delegate.save(order)).thenReturn(Mono.error(new IllegalStateException("conflict")));
+
+    // When
+    StepVerifier.create(port.save(order)).expectError(IllegalStateException.class).verify();
+
+    // Then
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+    verify(delegate, times(2)).findById(orderId);
+  }
+
+  @Test
+  @DisplayName("Debe volver a la base de datos cuando expira el TTL")
+  void shouldReloadWhenTimeToLiveElapses() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+
+    // When
+    nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+    // Then
+    StepVerifier.create(port.findById(orderId)).assertNext(copyOf(order)).verifyComplete();
+    verify(delegate, times(2)).findById(orderId);
+  }
+
+  @Test
+  @DisplayName("No debe cachear órdenes inexistentes")
+  void shouldNotCacheMissingOrders() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.empty());
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId)).verifyComplete();
+    StepVerifier.create(port.findById(orderId)).verifyComplete();
+
+    verify(delegate, times(2)).findById(orderId);
+    assertThat(port.estimatedSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe invalidar las órdenes cuyo estado cambia en bloque")
+  void shouldEvictOrdersWhenStatusIsTransitionedInBatch() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    port.findById(orderId).block();
+    PaymentOrderStatusSnapshot pending = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.PENDING, OffsetDateTime.now());
+    when(delegate.transitionStatus(
+        List.of(orderId), PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .thenReturn(Flux.just(pending));
+
+    // When
+    StepVerifier.create(port.transitionStatus(
+            List.of(orderId), PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .expectNext(pending)
+        .verifyComplete();
+
+    // Then
+    assertThat(port.estimatedSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe invalidar las órdenes cuyos cambios de estado agrupados se persisten")
+  void shouldEvictOrdersWhenGroupedStatusUpdatesArePersisted() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    port.findById(orderId).block();
+    PaymentOrderStatusUpdate update = new PaymentOrderStatusUpdate(
+        orderId, PaymentOrderStatus.PENDING, OffsetDateTime.now(), 0L, 1L);
+    when(delegate.updateStatuses(List.of(update))).thenReturn(Flux.just(update.toSnapshot()));
+
+    // When
+    StepVerifier.create(port.updateStatuses(List.of(update)))
+        .expectNext(update.toSnapshot())
+        .verifyComplete();
+
+    // Then
+    assertThat(port.estimatedSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe resolver el estado desde la orden cacheada sin consultar la proyección")
+  void shouldServeStatusFromCachedOrderWhenPresent() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    port.findById(orderId).block();
+
+    // When / Then
+    StepVerifier.create(port.findStatusById(orderId))
+        .expectNext(PaymentOrderStatusSnapshot.of(order))
+        .verifyComplete();
+
+    verify(delegate, never()).findStatusById(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Debe delegar la consulta de estado sin poblar la cache cuando no está cargada")
+  void shouldDelegateStatusLookupWhenOrderIsNotCached() {
+    // Given
+    PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.ACCEPTED, OffsetDateTime.now());
+    when(delegate.findStatusById(orderId)).thenReturn(Mono.just(snapshot));
+
+    // When / Then
+    StepVerifier.create(port.findStatusById(orderId)).expectNext(snapshot).verifyComplete();
+
+    assertThat(port.estimatedSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe consultar en bloque solo las órdenes que no están en memoria y cachearlas")
+  void shouldLoadOnlyMissingOrdersWhenReadingMany() {
+    // Given
+    PaymentOrderProcedure other = PaymentOrderProcedure.initiate(
+        "TXN-67890", order.getPayer(), order.getPayee(), order.getPaymentDetails(),
+        order.getDateInformation(), null);
+    UUID otherId = other.getPaymentOrderProcedureInstanceReference();
+    UUID missingId = UUID.randomUUID();
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    port.findById(orderId).block();
+    when(delegate.findAllById(List.of(otherId, missingId))).thenReturn(Flux.just(other));
+
+    // When / Then
+    StepVerifier.create(port.findAllById(List.of(orderId, otherId, missingId)))
+        .assertNext(copyOf(order))
+        .expectNext(other)
+        .verifyComplete();
+    StepVerifier.create(port.findById(otherId)).assertNext(copyOf(other)).verifyComplete();
+
+    verify(delegate, never()).findById(otherId);
+    assertThat(port.estimatedSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("No debe consultar el delegado cuando todas las órdenes están en memoria")
+  void shouldNotQueryDelegateWhenAllOrdersAreCached() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+    port.findById(orderId).block();
+
+    // When / Then
+    StepVerifier.create(port.findAllById(List.of(orderId)))
+        .assertNext(copyOf(order))
+        .verifyComplete();
+
+    verify(delegate, never()).findAllById(any());
+  }
+
+  private static Consumer<PaymentOrderProcedure> copyOf(PaymentOrderProcedure expected) {
+    return found -> assertThat(found)
+        .isNotSameAs(expected)
+        .usingRecursiveComparison()
+        .isEqualTo(expected);
+  }
+}
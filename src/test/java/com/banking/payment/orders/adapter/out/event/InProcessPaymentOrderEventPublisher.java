@@ -0,0 +1,38 @@
+package com.banking.payment.orders.adapter.out.event;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.port.out.PaymentOrderEventPublisher;
+import java.time.Duration;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * InProcessPaymentOrderEventPublisher - Publicador que entrega los eventos a suscriptores
+ * dentro del propio proceso.
+ *
+ * <p>Solo para tests: el relay elimina de la bandeja cada evento publicado, así que en
+ * producción el publicador debe entregarlos a un destino duradero (por ejemplo, un broker de
+ * mensajería). Los suscriptores lentos pierden eventos en lugar de frenar al relay.
+ */
+public class InProcessPaymentOrderEventPublisher implements PaymentOrderEventPublisher {
+
+  private final Sinks.Many<PaymentOrderEvent> sink =
+      Sinks.many().multicast().directBestEffort();
+
+  @Override
+  public Mono<Void> publish(List<PaymentOrderEvent> events) {
+    return Mono.fromRunnable(() -> events.forEach(event ->
+        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)))));
+  }
+
+  /**
+   * Eventos publicados a partir del momento de la suscripción.
+   *
+   * @return Flux de eventos
+   */
+  public Flux<PaymentOrderEvent> events() {
+    return sink.asFlux();
+  }
+}
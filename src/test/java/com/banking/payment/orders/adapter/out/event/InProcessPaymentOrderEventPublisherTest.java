@@ -0,0 +1,48 @@
+package com.banking.payment.orders.adapter.out.event;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+/**
+ * InProcessPaymentOrderEventPublisherTest - Tests unitarios para
+ * InProcessPaymentOrderEventPublisher.
+ */
+class InProcessPaymentOrderEventPublisherTest {
+
+  private final InProcessPaymentOrderEventPublisher publisher =
+      new InProcessPaymentOrderEventPublisher();
+
+  @Test
+  @DisplayName("Debe entregar los eventos publicados a los suscriptores activos")
+  void shouldDeliverPublishedEventsToSubscribers() {
+    // Given
+    PaymentOrderEvent first = event(PaymentOrderStatus.PENDING);
+    PaymentOrderEvent second = event(PaymentOrderStatus.ACCEPTED);
+
+    // When / Then
+    StepVerifier.create(publisher.events().take(2))
+        .then(() -> publisher.publish(List.of(first, second)).block())
+        .expectNext(first, second)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe completar la publicación aunque no haya suscriptores")
+  void shouldCompleteWithoutSubscribers() {
+    // When / Then
+    StepVerifier.create(publisher.publish(List.of(event(PaymentOrderStatus.PENDING))))
+        .verifyComplete();
+  }
+
+  private static PaymentOrderEvent event(PaymentOrderStatus status) {
+    return PaymentOrderEvent.statusChanged(
+        new PaymentOrderStatusSnapshot(UUID.randomUUID(), status, OffsetDateTime.now()));
+  }
+}
@@ -0,0 +1,125 @@
+package com.banking.payment.orders.adapter.out.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MeteredPaymentOrderPortTest - Tests unitarios para MeteredPaymentOrderPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class MeteredPaymentOrderPortTest {
+
+  @Mock
+  private PaymentOrderPort delegate;
+
+  @Mock
+  private PaymentOrderProcedure order;
+
+  private SimpleMeterRegistry meterRegistry;
+  private MeteredPaymentOrderPort port;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    port = new MeteredPaymentOrderPort(delegate, new PaymentOrderMetrics(meterRegistry));
+  }
+
+  @Test
+  @DisplayName("Debe etiquetar los conflictos de escritura")
+  void shouldTagConflictWhenSaveFails() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(delegate.save(order))
+        .thenReturn(Mono.error(new PaymentOrderConflictException(orderId, null)));
+
+    // When / Then
+    StepVerifier.create(port.save(order))
+        .expectError(PaymentOrderConflictException.class)
+        .verify();
+
+    assertThat(portTimerCount("save", "conflict")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe etiquetar búsquedas sin resultado")
+  void shouldTagNotFoundWhenLookupIsEmpty() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(delegate.findById(orderId)).thenReturn(Mono.empty());
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId)).verifyComplete();
+
+    verify(delegate).findById(orderId);
+    assertThat(portTimerCount("find_by_id", "not_found")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe medir el cambio de estado en bloque")
+  void shouldTimeBatchStatusTransition() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(delegate.transitionStatus(
+        List.of(orderId), PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .thenReturn(Flux.empty());
+
+    // When / Then
+    StepVerifier.create(port.transitionStatus(
+            List.of(orderId), PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .verifyComplete();
+
+    assertThat(portTimerCount("transition_status", "success")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe medir los cambios de estado agrupados")
+  void shouldTimeGroupedStatusUpdates() {
+    // Given
+    when(delegate.updateStatuses(List.of())).thenReturn(Flux.empty());
+
+    // When / Then
+    StepVerifier.create(port.updateStatuses(List.of())).verifyComplete();
+
+    assertThat(portTimerCount("update_statuses", "success")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe medir la lectura de varias órdenes")
+  void shouldTimeMultiOrderLookup() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(delegate.findAllById(List.of(orderId))).thenReturn(Flux.just(order));
+
+    // When / Then
+    StepVerifier.create(port.findAllById(List.of(orderId))).expectNext(order).verifyComplete();
+
+    assertThat(portTimerCount("find_all_by_id", "success")).isEqualTo(1);
+  }
+
+  private long portTimerCount(String operation, String outcome) {
+    return meterRegistry.get(PaymentOrderMetrics.PORT_TIMER)
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+}
@@ -0,0 +1,231 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderIds;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JdbcPaymentOrderRepositoryAdapterTest - Tests unitarios para JdbcPaymentOrderRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class JdbcPaymentOrderRepositoryAdapterTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final PaymentOrderPersistenceMapper mapper = new PaymentOrderPersistenceMapper();
+
+  private JdbcPaymentOrderRepositoryAdapter adapter;
+  private PaymentOrderProcedure domainObject;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new JdbcPaymentOrderRepositoryAdapter(jdbcTemplate,
+        new TransactionTemplate(transactionManager), mapper, Schedulers.immediate(), 500, true);
+    domainObject = PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001"
+    );
+  }
+
+  @Test
+  @DisplayName("Debe insertar una orden nueva con versión 0 y registrar su evento")
+  void shouldInsertNewPaymentOrderWithInitiatedEvent() {
+    // Given
+    when(jdbcTemplate.update(eq(JdbcPaymentOrderRepositoryAdapter.INSERT_SQL),
+        any(PreparedStatementSetter.class))).thenReturn(1);
+
+    // When / Then
+    StepVerifier.create(adapter.save(domainObject))
+        .assertNext(saved -> assertThat(saved.getVersion()).isZero())
+        .verifyComplete();
+
+    verify(jdbcTemplate).batchUpdate(eq(JdbcPaymentOrderRepositoryAdapter.OUTBOX_INSERT_SQL),
+        argThat((List<PaymentOrderEvent> events) -> events.size() == 1
+            && events.get(0).type() == PaymentOrderEvent.Type.INITIATED),
+        eq(1), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("No debe registrar eventos cuando el relay de la bandeja está deshabilitado")
+  void shouldNotAppendEventsWhenOutboxIsDisabled() {
+    // Given
+    adapter = new JdbcPaymentOrderRepositoryAdapter(jdbcTemplate,
+        new TransactionTemplate(transactionManager), mapper, Schedulers.immediate(), 500, false);
+    when(jdbcTemplate.update(eq(JdbcPaymentOrderRepositoryAdapter.INSERT_SQL),
+        any(PreparedStatementSetter.class))).thenReturn(1);
+
+    // When / Then
+    StepVerifier.create(adapter.save(domainObject))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("Debe retornar conflicto cuando el UPDATE no encuentra la versión leída")
+  void shouldReturnConflictWhenVersionDoesNotMatch() {
+    // Given
+    PaymentOrderProcedure persistedOrder = persistedOrder(3L);
+    when(jdbcTemplate.update(eq(JdbcPaymentOrderRepositoryAdapter.UPDATE_SQL),
+        any(PreparedStatementSetter.class))).thenReturn(0);
+
+    // When / Then
+    StepVerifier.create(adapter.save(persistedOrder))
+        .expectErrorSatisfies(error -> {
+          assertThat(error).isInstanceOf(PaymentOrderConflictException.class);
+          assertThat(((PaymentOrderConflictException) error).getPaymentOrderId())
+              .isEqualTo(persistedOrder.getPaymentOrderProcedureInstanceReference());
+        })
+        .verify();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("Debe condicionar el UPDATE a la versión leída sin reescribir la creación")
+  void shouldBuildUpdateConditionedOnVersion() {
+    // When
+    String sql = JdbcPaymentOrderRepositoryAdapter.UPDATE_SQL;
+
+    // Then
+    assertThat(sql)
+        .startsWith("UPDATE payment_orders SET status = ?, ")
+        .endsWith("last_update_date_time = ?, version = ? WHERE id = ? AND version = ?")
+        .doesNotContain("created_date_time")
+        .doesNotContain("SET id");
+  }
+
+  @Test
+  @DisplayName("Debe acotar la búsqueda de un id v7 a su fecha de creación")
+  @SuppressWarnings("unchecked")
+  void shouldBoundLookupToCreationTimeWhenIdIsVersion7() {
+    // Given
+    PaymentOrderEntity stored = mapper.toEntity(persistedOrder(2L), false);
+    UUID orderId = PaymentOrderIds.next();
+    when(jdbcTemplate.query(
+        eq(JdbcPaymentOrderRepositoryAdapter.FIND_BY_ID_CREATED_BETWEEN_SQL),
+        any(PreparedStatementSetter.class), any(RowMapper.class)))
+        .thenReturn(List.of(stored));
+
+    // When / Then
+    StepVerifier.create(adapter.findById(orderId))
+        .assertNext(found -> assertThat(found.getVersion()).isEqualTo(2L))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe retornar vacío si la orden no existe")
+  @SuppressWarnings("unchecked")
+  void shouldReturnEmptyWhenPaymentOrderNotFound() {
+    // Given
+    when(jdbcTemplate.query(eq(JdbcPaymentOrderRepositoryAdapter.FIND_BY_ID_SQL),
+        any(PreparedStatementSetter.class), any(RowMapper.class)))
+        .thenReturn(List.of());
+
+    // When / Then
+    StepVerifier.create(adapter.findById(UUID.randomUUID()))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe registrar un evento por cada orden cuyo estado cambia en bloque")
+  @SuppressWarnings("unchecked")
+  void shouldAppendEventPerTransitionedOrder() {
+    // Given
+    UUID orderId = PaymentOrderIds.next();
+    PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.PENDING, OffsetDateTime.now());
+    when(jdbcTemplate.query(eq(JdbcPaymentOrderRepositoryAdapter.TRANSITION_STATUS_SQL),
+        any(PreparedStatementSetter.class), any(RowMapper.class)))
+        .thenReturn(List.of(snapshot));
+
+    // When / Then
+    StepVerifier.create(adapter.transitionStatus(List.of(orderId, UUID.randomUUID()),
+            PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .expectNext(snapshot)
+        .verifyComplete();
+
+    verify(jdbcTemplate).batchUpdate(eq(JdbcPaymentOrderRepositoryAdapter.OUTBOX_INSERT_SQL),
+        argThat((List<PaymentOrderEvent> events) -> events.size() == 1
+            && events.get(0).paymentOrderId().equals(orderId)),
+        eq(1), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("Debe convertir los marcadores $n de la búsqueda en marcadores JDBC")
+  void shouldConvertSearchPlaceholdersToJdbc() {
+    // Given
+    List<Object> parameters = new ArrayList<>();
+    String r2dbcSql = PaymentOrderRepositoryAdapter.buildSearchSql(
+        new PaymentOrderSearchCriteria("ES01", "ES02", PaymentOrderStatus.INITIATED, null, null),
+        null, 10, parameters);
+
+    // When
+    String sql = JdbcPaymentOrderRepositoryAdapter.toJdbcSql(r2dbcSql);
+
+    // Then
+    assertThat(sql)
+        .contains("payer_product_instance_reference = ? AND payee_product_instance_reference = ?"
+            + " AND status = ?")
+        .doesNotContain("$");
+    assertThat(parameters).hasSize(3);
+  }
+
+  private PaymentOrderProcedure persistedOrder(long version) {
+    PaymentOrderEntity stored = mapper.toEntity(domainObject, false);
+    stored.setVersion(version);
+    return mapper.toDomain(stored);
+  }
+}
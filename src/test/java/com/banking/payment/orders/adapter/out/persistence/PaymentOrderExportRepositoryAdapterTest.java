@@ -0,0 +1,39 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderExportRepositoryAdapterTest - Tests unitarios para
+ * PaymentOrderExportRepositoryAdapter.
+ */
+class PaymentOrderExportRepositoryAdapterTest {
+
+  @Test
+  @DisplayName("Debe construir la exportación por rango y estado en orden ascendente sin LIMIT")
+  void shouldBuildExportSqlOrderedAscendingWithoutLimit() {
+    // Given
+    OffsetDateTime from = OffsetDateTime.parse("2025-10-30T00:00:00Z");
+    OffsetDateTime to = OffsetDateTime.parse("2025-10-31T00:00:00Z");
+    List<Object> parameters = new ArrayList<>();
+
+    // When
+    String sql = PaymentOrderExportRepositoryAdapter.buildExportSql(
+        new PaymentOrderSearchCriteria(null, null, PaymentOrderStatus.SETTLED, from, to),
+        parameters);
+
+    // Then
+    assertThat(sql).startsWith("SELECT id, status, ");
+    assertThat(sql).endsWith(" FROM payment_orders WHERE status = $1"
+        + " AND created_date_time >= $2 AND created_date_time < $3"
+        + " ORDER BY created_date_time, id");
+    assertThat(parameters).containsExactly((short) 6, from, to);
+  }
+}
@@ -0,0 +1,143 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * PaymentOrderOutboxRepositoryAdapterTest - Tests unitarios para
+ * PaymentOrderOutboxRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentOrderOutboxRepositoryAdapterTest {
+
+  @Mock
+  private DatabaseClient databaseClient;
+
+  @Mock
+  private TransactionalOperator transactionalOperator;
+
+  private PaymentOrderOutboxRepositoryAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new PaymentOrderOutboxRepositoryAdapter(databaseClient, transactionalOperator, true);
+  }
+
+  @Test
+  @DisplayName("Debe construir un INSERT multi-fila de eventos con parámetros consecutivos")
+  void shouldBuildMultiRowInsertWithSequentialPlaceholders() {
+    // When
+    String sql = PaymentOrderOutboxRepositoryAdapter.buildInsertSql(2);
+
+    // Then
+    assertThat(sql).isEqualTo("INSERT INTO payment_order_outbox"
+        + " (event_id, event_type, payment_order_id, status, occurred_at)"
+        + " VALUES ($1, $2, $3, $4, $5), ($6, $7, $8, $9, $10)");
+  }
+
+  @Test
+  @DisplayName("Debe reclamar en orden de registro saltando las filas bloqueadas")
+  void shouldClaimOldestEventsSkippingLockedRows() {
+    // When
+    String sql = PaymentOrderOutboxRepositoryAdapter.CLAIM_SQL;
+
+    // Then
+    assertThat(sql).contains("FROM payment_order_outbox ORDER BY id LIMIT $1");
+    assertThat(sql).endsWith("FOR UPDATE SKIP LOCKED");
+    assertThat(PaymentOrderOutboxRepositoryAdapter.DELETE_SQL).endsWith("WHERE id = ANY($1)");
+  }
+
+  @Test
+  @DisplayName("Debe repartir en varios INSERT los eventos que superan el máximo de parámetros")
+  @SuppressWarnings("unchecked")
+  void shouldSplitInsertWhenEventsExceedBindParameterLimit() {
+    // Given
+    GenericExecuteSpec spec = mock(GenericExecuteSpec.class, withSettings().stubOnly());
+    FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+    when(databaseClient.sql(anyString())).thenReturn(spec);
+    when(spec.bind(anyInt(), any())).thenReturn(spec);
+    when(spec.fetch()).thenReturn(fetchSpec);
+    when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+    int maxRows = PaymentOrderOutboxRepositoryAdapter.MAX_ROWS_PER_INSERT;
+    PaymentOrderEvent event = PaymentOrderEvent.statusChanged(new PaymentOrderStatusSnapshot(
+        UUID.randomUUID(), PaymentOrderStatus.ACCEPTED, OffsetDateTime.now()));
+
+    // When
+    StepVerifier.create(adapter.append(Collections.nCopies(maxRows + 1, event)))
+        .verifyComplete();
+
+    // Then
+    assertThat(maxRows * PaymentOrderOutboxRepositoryAdapter.INSERT_COLUMNS.length)
+        .isLessThanOrEqualTo(PaymentOrderRepositoryAdapter.MAX_BIND_PARAMETERS);
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(databaseClient, times(2)).sql(sql.capture());
+    assertThat(sql.getAllValues()).containsExactly(
+        PaymentOrderOutboxRepositoryAdapter.buildInsertSql(maxRows),
+        PaymentOrderOutboxRepositoryAdapter.buildInsertSql(1));
+  }
+
+  @Test
+  @DisplayName("No debe registrar eventos cuando el relay está deshabilitado")
+  void shouldNotAppendEventsWhenRelayIsDisabled() {
+    // Given
+    adapter = new PaymentOrderOutboxRepositoryAdapter(databaseClient, transactionalOperator, false);
+    PaymentOrderEvent event = PaymentOrderEvent.statusChanged(new PaymentOrderStatusSnapshot(
+        UUID.randomUUID(), PaymentOrderStatus.ACCEPTED, OffsetDateTime.now()));
+
+    // When / Then
+    StepVerifier.create(adapter.append(List.of(event)))
+        .verifyComplete();
+    verifyNoInteractions(databaseClient);
+  }
+
+  @Test
+  @DisplayName("Debe purgar eventos caducados por bloques sin esperar a los reclamados")
+  void shouldPurgeExpiredEventsSkippingClaimedRows() {
+    // When
+    String sql = PaymentOrderOutboxRepositoryAdapter.PURGE_EXPIRED_SQL;
+
+    // Then
+    assertThat(sql).startsWith("DELETE FROM payment_order_outbox WHERE id IN (");
+    assertThat(sql).contains("WHERE occurred_at < $1 LIMIT $2");
+    assertThat(sql).endsWith("FOR UPDATE SKIP LOCKED)");
+  }
+
+  @Test
+  @DisplayName("Debe omitir el INSERT cuando no hay eventos")
+  void shouldSkipInsertWhenThereAreNoEvents() {
+    // When / Then
+    StepVerifier.create(adapter.append(List.of()))
+        .verifyComplete();
+    verifyNoInteractions(databaseClient);
+  }
+}
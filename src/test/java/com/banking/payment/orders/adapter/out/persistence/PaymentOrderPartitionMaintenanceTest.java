@@ -0,0 +1,67 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.adapter.out.persistence.PaymentOrderPartitionMaintenance.Partition;
+import com.banking.payment.orders.adapter.out.persistence.PaymentOrderPartitionMaintenance.RetentionAction;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderPartitionMaintenanceTest - Tests unitarios para PaymentOrderPartitionMaintenance.
+ */
+class PaymentOrderPartitionMaintenanceTest {
+
+  @Test
+  @DisplayName("Debe retirar solo las particiones mensuales anteriores al periodo retenido")
+  void shouldSelectOnlyMonthlyPartitionsBeforeRetainedPeriod() {
+    // Given
+    List<Partition> partitions = List.of(
+        new Partition("payment_orders_p202509", false),
+        new Partition("payment_orders_p202510", false),
+        new Partition("payment_orders_p202611", false),
+        new Partition("payment_orders_legacy", false));
+
+    // When
+    List<Partition> expired =
+        PaymentOrderPartitionMaintenance.expired(partitions, YearMonth.of(2025, 10));
+
+    // Then
+    assertThat(expired).extracting(Partition::name).containsExactly("payment_orders_p202509");
+  }
+
+  @Test
+  @DisplayName("Debe borrar las claves y los ids, separar y eliminar la partición con DROP")
+  void shouldDetachConcurrentlyAndDropPartition() {
+    // When
+    List<String> statements = PaymentOrderPartitionMaintenance.retireStatements(
+        new Partition("payment_orders_p202509", false), RetentionAction.DROP);
+
+    // Then
+    assertThat(statements).containsExactly(
+        "DELETE FROM payment_order_idempotency_keys"
+            + " WHERE payment_order_id IN (SELECT id FROM payment_orders_p202509)",
+        "DELETE FROM payment_order_ids"
+            + " WHERE id IN (SELECT id FROM payment_orders_p202509)",
+        "ALTER TABLE payment_orders DETACH PARTITION payment_orders_p202509 CONCURRENTLY",
+        "DROP TABLE payment_orders_p202509");
+  }
+
+  @Test
+  @DisplayName("Debe completar una separación pendiente y conservar la tabla con DETACH")
+  void shouldFinalizePendingDetachAndKeepTable() {
+    // When
+    List<String> statements = PaymentOrderPartitionMaintenance.retireStatements(
+        new Partition("payment_orders_p202509", true), RetentionAction.DETACH);
+
+    // Then
+    assertThat(statements).containsExactly(
+        "DELETE FROM payment_order_idempotency_keys"
+            + " WHERE payment_order_id IN (SELECT id FROM payment_orders_p202509)",
+        "DELETE FROM payment_order_ids"
+            + " WHERE id IN (SELECT id FROM payment_orders_p202509)",
+        "ALTER TABLE payment_orders DETACH PARTITION payment_orders_p202509 FINALIZE");
+  }
+}
@@ -1,28 +1,58 @@
 package com.banking.payment.orders.adapter.out.persistence;
 
 import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderStatusProjection;
 import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
 import com.banking.payment.orders.domain.model.DateInformation;
 import com.banking.payment.orders.domain.model.Payee;
 import com.banking.payment.orders.domain.model.Payer;
 import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderIds;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 import static org.mockito.Mockito.when;
 
 /**
@@ -37,6 +67,15 @@ class PaymentOrderRepositoryAdapterTest {
   @Mock
   private PaymentOrderPersistenceMapper mapper;
 
+  @Mock
+  private PaymentOrderOutboxRepositoryAdapter outbox;
+
+  @Mock
+  private TransactionalOperator transactionalOperator;
+
+  @Mock
+  private DatabaseClient databaseClient;
+
   @InjectMocks
   private PaymentOrderRepositoryAdapter adapter;
 
@@ -56,21 +95,21 @@ class PaymentOrderRepositoryAdapterTest {
 
     entity = new PaymentOrderEntity();
     entity.setId(UUID.randomUUID());
-    entity.setStatus("INITIATED");
+    entity.setStatus((short) 1);
   }
 
   @Test
-  @DisplayName("Debe guardar nueva orden (INSERT)")
-  void shouldInsertNewPaymentOrderWhenOrderDoesNotExist() {
+  @DisplayName("Debe guardar nueva orden (INSERT) sin consultar previamente")
+  void shouldInsertNewPaymentOrderWhenOrderHasNoVersion() {
     // Given
-    when(repository.findById(any(UUID.class)))
-        .thenReturn(Mono.empty());
-    when(mapper.toEntity(any(PaymentOrderProcedure.class), any(Boolean.class)))
+    when(mapper.toEntity(any(PaymentOrderProcedure.class), eq(true)))
         .thenReturn(entity);
     when(repository.save(any(PaymentOrderEntity.class)))
         .thenReturn(Mono.just(entity));
     when(mapper.toDomain(any(PaymentOrderEntity.class)))
         .thenReturn(domainObject);
+    when(outbox.append(anyList())).thenReturn(Mono.empty());
+    givenTransaction();
 
     // When
     Mono<PaymentOrderProcedure> result = adapter.save(domainObject);
@@ -83,38 +122,84 @@ class PaymentOrderRepositoryAdapterTest {
         })
         .verifyComplete();
 
-    verify(repository).findById(any(UUID.class));
-    verify(mapper).toEntity(any(PaymentOrderProcedure.class), any(Boolean.class));
+    verify(repository, never()).findById(any(UUID.class));
+    verify(mapper).toEntity(any(PaymentOrderProcedure.class), eq(true));
     verify(repository).save(any(PaymentOrderEntity.class));
     verify(mapper).toDomain(any(PaymentOrderEntity.class));
+    verify(outbox).append(argThat(events -> events.size() == 1
+        && events.get(0).type() == PaymentOrderEvent.Type.INITIATED));
   }
 
   @Test
-  @DisplayName("Debe actualizar orden existente (UPDATE)")
-  void shouldUpdateExistingPaymentOrderWhenOrderExists() {
+  @DisplayName("Debe actualizar orden existente (UPDATE) sin consultar previamente")
+  void shouldUpdateExistingPaymentOrderWhenOrderHasVersion() {
     // Given
-    when(repository.findById(any(UUID.class)))
-        .thenReturn(Mono.just(entity));
-    when(mapper.toEntity(any(PaymentOrderProcedure.class), any(Boolean.class)))
+    PaymentOrderProcedure persistedOrder = persistedOrder(3L);
+    when(mapper.toEntity(any(PaymentOrderProcedure.class), eq(false)))
         .thenReturn(entity);
     when(repository.save(any(PaymentOrderEntity.class)))
         .thenReturn(Mono.just(entity));
     when(mapper.toDomain(any(PaymentOrderEntity.class)))
-        .thenReturn(domainObject);
+        .thenReturn(persistedOrder);
+    when(outbox.append(anyList())).thenReturn(Mono.empty());
+    givenTransaction();
 
     // When
-    Mono<PaymentOrderProcedure> result = adapter.save(domainObject);
+    Mono<PaymentOrderProcedure> result = adapter.save(persistedOrder);
 
     // Then
     StepVerifier.create(result)
-        .assertNext(saved -> {
-          assertThat(saved).isNotNull();
-          assertThat(saved).isEqualTo(domainObject);
-        })
+        .assertNext(saved -> assertThat(saved).isEqualTo(persistedOrder))
         .verifyComplete();
 
-    verify(repository).findById(any(UUID.class));
+    verify(repository, never()).findById(any(UUID.class));
+    verify(mapper).toEntity(any(PaymentOrderProcedure.class), eq(false));
     verify(repository).save(any(PaymentOrderEntity.class));
+    verify(outbox).append(argThat(events -> events.size() == 1
+        && events.get(0).type() == PaymentOrderEvent.Type.STATUS_CHANGED));
+  }
+
+  @Test
+  @DisplayName("Debe retornar conflicto cuando la versión no coincide")
+  void shouldReturnConflictWhenVersionDoesNotMatch() {
+    // Given
+    PaymentOrderProcedure persistedOrder = persistedOrder(3L);
+    when(mapper.toEntity(any(PaymentOrderProcedure.class), eq(false)))
+        .thenReturn(entity);
+    when(repository.save(any(PaymentOrderEntity.class)))
+        .thenReturn(Mono.error(new OptimisticLockingFailureException("Version mismatch")));
+    givenTransaction();
+
+    // When
+    Mono<PaymentOrderProcedure> result = adapter.save(persistedOrder);
+
+    // Then
+    StepVerifier.create(result)
+        .expectErrorSatisfies(error -> {
+          assertThat(error).isInstanceOf(PaymentOrderConflictException.class);
+          assertThat(((PaymentOrderConflictException) error).getPaymentOrderId())
+              .isEqualTo(persistedOrder.getPaymentOrderProcedureInstanceReference());
+        })
+        .verify();
+  }
+
+  @Test
+  @DisplayName("Debe retornar conflicto cuando el ID ya existe en un INSERT")
+  void shouldReturnConflictWhenInsertHitsDuplicateKey() {
+    // Given
+    when(mapper.toEntity(any(PaymentOrderProcedure.class), eq(true)))
+        .thenReturn(entity);
+    when(repository.save(any(PaymentOrderEntity.class)))
+        .thenReturn(Mono.error(new DuplicateKeyException("duplicate key")));
+    givenTransaction();
+
+    // When
+    Mono<PaymentOrderProcedure> result = adapter.save(domainObject);
+
+    // Then
+    StepVerifier.create(result)
+        .expectError(PaymentOrderConflictException.class)
+        .verify();
   }
 
   @Test
@@ -159,4 +244,269 @@ class PaymentOrderRepositoryAdapterTest {
 
     verify(repository).findById(orderId);
   }
+
+  @Test
+  @DisplayName("Debe acotar la búsqueda de un id v7 a su fecha de creación")
+  void shouldBoundLookupToCreationTimeWhenIdIsVersion7() {
+    // Given
+    UUID orderId = PaymentOrderIds.next();
+    OffsetDateTime created = PaymentOrderIds.timestampOf(orderId).orElseThrow()
+        .atOffset(ZoneOffset.UTC);
+    when(repository.findByIdCreatedBetween(orderId,
+        created.minus(PaymentOrderRepositoryAdapter.ID_TIMESTAMP_TOLERANCE),
+        created.plus(PaymentOrderRepositoryAdapter.ID_TIMESTAMP_TOLERANCE)))
+        .thenReturn(Mono.just(entity));
+    when(mapper.toDomain(entity))
+        .thenReturn(domainObject);
+
+    // When
+    Mono<PaymentOrderProcedure> result = adapter.findById(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(domainObject)
+        .verifyComplete();
+
+    verify(repository, never()).findById(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Debe acotar la consulta de estado de un id v7 a su fecha de creación")
+  void shouldBoundStatusLookupToCreationTimeWhenIdIsVersion7() {
+    // Given
+    UUID orderId = PaymentOrderIds.next();
+    OffsetDateTime created = PaymentOrderIds.timestampOf(orderId).orElseThrow()
+        .atOffset(ZoneOffset.UTC);
+    PaymentOrderStatusProjection projection =
+        new PaymentOrderStatusProjection(orderId, (short) 2, created);
+    PaymentOrderStatusSnapshot snapshot =
+        new PaymentOrderStatusSnapshot(orderId, PaymentOrderStatus.PENDING, created);
+    when(repository.findStatusByIdCreatedBetween(orderId,
+        created.minus(PaymentOrderRepositoryAdapter.ID_TIMESTAMP_TOLERANCE),
+        created.plus(PaymentOrderRepositoryAdapter.ID_TIMESTAMP_TOLERANCE)))
+        .thenReturn(Mono.just(projection));
+    when(mapper.toStatusSnapshot(projection))
+        .thenReturn(snapshot);
+
+    // When
+    Mono<PaymentOrderStatusSnapshot> result = adapter.findStatusById(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(snapshot)
+        .verifyComplete();
+
+    verify(repository, never()).findStatusById(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Debe buscar solo el estado mediante la proyección")
+  void shouldFindStatusThroughProjectionWhenIdExists() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    PaymentOrderStatusProjection projection =
+        new PaymentOrderStatusProjection(orderId, (short) 2, OffsetDateTime.now());
+    PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.PENDING, projection.lastUpdateDateTime());
+    when(repository.findStatusById(orderId))
+        .thenReturn(Mono.just(projection));
+    when(mapper.toStatusSnapshot(projection))
+        .thenReturn(snapshot);
+
+    // When
+    Mono<PaymentOrderStatusSnapshot> result = adapter.findStatusById(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(snapshot)
+        .verifyComplete();
+
+    verify(repository, never()).findById(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Debe construir un INSERT multi-fila con parámetros consecutivos")
+  void shouldBuildMultiRowInsertWithSequentialPlaceholders() {
+    // When
+    String sql = PaymentOrderRepositoryAdapter.buildInsertSql(2);
+
+    // Then
+    int columns = PaymentOrderRepositoryAdapter.INSERT_COLUMNS.length;
+    assertThat(sql).startsWith("INSERT INTO payment_orders (id, status, ");
+    assertThat(sql).contains("VALUES ($1, $2, ");
+    assertThat(sql).contains("$" + columns + "), ($" + (columns + 1) + ", ");
+    assertThat(sql).endsWith("$" + (2 * columns) + ")");
+  }
+
+  @Test
+  @DisplayName("Debe repartir en varios INSERT el lote que supera el máximo de parámetros")
+  @SuppressWarnings("unchecked")
+  void shouldSplitInsertWhenBatchExceedsBindParameterLimit() {
+    // Given
+    givenTransaction();
+    GenericExecuteSpec spec = mock(GenericExecuteSpec.class, withSettings().stubOnly());
+    FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+    when(databaseClient.sql(anyString())).thenReturn(spec);
+    when(spec.bind(anyInt(), any())).thenReturn(spec);
+    when(spec.bindNull(anyInt(), any(Class.class))).thenReturn(spec);
+    when(spec.fetch()).thenReturn(fetchSpec);
+    when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+    when(mapper.toEntity(any(PaymentOrderProcedure.class), eq(true))).thenReturn(entity);
+    when(mapper.toDomain(any(PaymentOrderEntity.class))).thenReturn(domainObject);
+    when(outbox.append(anyList())).thenReturn(Mono.empty());
+    int maxRows = PaymentOrderRepositoryAdapter.MAX_ROWS_PER_INSERT;
+    List<PaymentOrderProcedure> orders = Collections.nCopies(maxRows + 1, domainObject);
+
+    // When
+    StepVerifier.create(adapter.insertAll(orders))
+        .expectNextCount(orders.size())
+        .verifyComplete();
+
+    // Then
+    assertThat(maxRows * PaymentOrderRepositoryAdapter.INSERT_COLUMNS.length)
+        .isLessThanOrEqualTo(PaymentOrderRepositoryAdapter.MAX_BIND_PARAMETERS);
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(databaseClient, times(2)).sql(sql.capture());
+    assertThat(sql.getAllValues()).containsExactly(
+        PaymentOrderRepositoryAdapter.buildInsertSql(maxRows),
+        PaymentOrderRepositoryAdapter.buildInsertSql(1));
+    verify(outbox).append(argThat(events -> events.size() == orders.size()));
+  }
+
+  @Test
+  @DisplayName("Debe omitir el INSERT multi-fila cuando no hay órdenes")
+  void shouldSkipInsertWhenBatchIsEmpty() {
+    // When / Then
+    StepVerifier.create(adapter.insertAll(List.of()))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe condicionar el cambio de estado en bloque al estado de origen")
+  void shouldConditionBatchTransitionOnSourceStatus() {
+    // When
+    String sql = PaymentOrderRepositoryAdapter.TRANSITION_STATUS_SQL;
+
+    // Then
+    assertThat(sql).startsWith("UPDATE payment_orders SET status = $3");
+    assertThat(sql).contains("version = version + 1");
+    assertThat(sql).contains("WHERE id = ANY($1) AND status = $2");
+    assertThat(sql).endsWith("RETURNING id, status, last_update_date_time");
+  }
+
+  @Test
+  @DisplayName("Debe condicionar cada cambio de estado agrupado a su versión esperada")
+  void shouldConditionGroupedStatusUpdatesOnExpectedVersion() {
+    // When
+    String sql = PaymentOrderRepositoryAdapter.UPDATE_STATUSES_SQL;
+
+    // Then
+    assertThat(sql).startsWith("UPDATE payment_orders AS p SET status = u.status");
+    assertThat(sql).contains("version = u.version");
+    assertThat(sql).contains("FROM unnest($1::uuid[], $2::smallint[], $3::timestamptz[],");
+    assertThat(sql).contains("WHERE p.id = u.id AND p.version = u.expected_version");
+    assertThat(sql).endsWith("RETURNING p.id, p.status, p.last_update_date_time");
+  }
+
+  @Test
+  @DisplayName("Debe omitir el cambio de estado y la consulta cuando no hay órdenes")
+  void shouldSkipTransitionAndLookupWhenNoIds() {
+    // When / Then
+    StepVerifier.create(adapter.transitionStatus(
+            List.of(), PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .verifyComplete();
+    StepVerifier.create(adapter.findStatusesByIds(List.of()))
+        .verifyComplete();
+    StepVerifier.create(adapter.updateStatuses(List.of()))
+        .verifyComplete();
+    StepVerifier.create(adapter.findAllById(List.of()))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe leer varias órdenes completas con una única consulta por ANY")
+  void shouldReadManyOrdersWithSingleAnyQuery() {
+    // When
+    String sql = PaymentOrderRepositoryAdapter.FIND_ALL_BY_ID_SQL;
+    String prunedSql = PaymentOrderRepositoryAdapter.FIND_ALL_BY_ID_CREATED_BETWEEN_SQL;
+
+    // Then
+    assertThat(sql).startsWith("SELECT id, status, ");
+    assertThat(sql).endsWith(" FROM payment_orders WHERE id = ANY($1)");
+    assertThat(prunedSql).isEqualTo(
+        sql + " AND created_date_time >= $2 AND created_date_time < $3");
+  }
+
+  @Test
+  @DisplayName("Debe construir la búsqueda sin filtros ordenada por keyset")
+  void shouldBuildSearchWithoutFilters() {
+    // Given
+    List<Object> parameters = new ArrayList<>();
+
+    // When
+    String sql = PaymentOrderRepositoryAdapter.buildSearchSql(
+        new PaymentOrderSearchCriteria(null, null, null, null, null), null, 50, parameters);
+
+    // Then
+    assertThat(sql).startsWith("SELECT id, status, ");
+    assertThat(sql).doesNotContain("WHERE");
+    assertThat(sql).endsWith(
+        " FROM payment_orders ORDER BY created_date_time DESC, id DESC LIMIT 50");
+    assertThat(parameters).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Debe construir la búsqueda con filtros y cursor en el orden de sus parámetros")
+  void shouldBuildSearchWithFiltersAndCursor() {
+    // Given
+    OffsetDateTime from = OffsetDateTime.parse("2025-10-01T00:00:00Z");
+    OffsetDateTime to = OffsetDateTime.parse("2025-11-01T00:00:00Z");
+    PaymentOrderSearchCursor cursor = new PaymentOrderSearchCursor(
+        OffsetDateTime.parse("2025-10-15T12:00:00Z"), UUID.randomUUID());
+    List<Object> parameters = new ArrayList<>();
+
+    // When
+    String sql = PaymentOrderRepositoryAdapter.buildSearchSql(
+        new PaymentOrderSearchCriteria(
+            "ES9121000418450200051332", null, PaymentOrderStatus.INITIATED, from, to),
+        cursor, 20, parameters);
+
+    // Then
+    assertThat(sql).contains(" FROM payment_orders WHERE payer_product_instance_reference = $1"
+        + " AND status = $2 AND created_date_time >= $3 AND created_date_time < $4"
+        + " AND (created_date_time, id) < ($5, $6)"
+        + " ORDER BY created_date_time DESC, id DESC LIMIT 20");
+    assertThat(parameters).containsExactly(
+        "ES9121000418450200051332", (short) 1, from, to,
+        cursor.createdDateTime(), cursor.id());
+  }
+
+  @Test
+  @DisplayName("Debe usar el cursor como única condición cuando no hay filtros")
+  void shouldBuildSearchWithOnlyCursor() {
+    // Given
+    PaymentOrderSearchCursor cursor = new PaymentOrderSearchCursor(
+        OffsetDateTime.parse("2025-10-15T12:00:00Z"), UUID.randomUUID());
+    List<Object> parameters = new ArrayList<>();
+
+    // When
+    String sql = PaymentOrderRepositoryAdapter.buildSearchSql(
+        new PaymentOrderSearchCriteria(null, null, null, null, null), cursor, 10, parameters);
+
+    // Then
+    assertThat(sql).contains(" WHERE (created_date_time, id) < ($1, $2) ORDER BY");
+    assertThat(parameters).hasSize(2);
+  }
+
+  private PaymentOrderProcedure persistedOrder(long version) {
+    PaymentOrderEntity stored = new PaymentOrderPersistenceMapper().toEntity(domainObject, false);
+    stored.setVersion(version);
+    return new PaymentOrderPersistenceMapper().toDomain(stored);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenTransaction() {
+    when(transactionalOperator.transactional(any(Mono.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
 }
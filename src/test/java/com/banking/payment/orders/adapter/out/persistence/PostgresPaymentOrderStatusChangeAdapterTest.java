@@ -0,0 +1,47 @@
+package com.banking.payment.orders.adapter.out.persistence;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostgresPaymentOrderStatusChangeAdapterTest - Tests unitarios para
+ * PostgresPaymentOrderStatusChangeAdapter.
+ */
+class PostgresPaymentOrderStatusChangeAdapterTest {
+
+  @Test
+  @DisplayName("Debe interpretar la carga de la notificación del trigger")
+  void shouldParseTriggerPayload() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    String payload = orderId + ",3,2026-01-01T10:00:00.123456+01:00";
+
+    // When
+    PaymentOrderStatusSnapshot snapshot = PostgresPaymentOrderStatusChangeAdapter.parse(payload);
+
+    // Then
+    assertThat(snapshot.paymentOrderProcedureInstanceReference()).isEqualTo(orderId);
+    assertThat(snapshot.paymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.ACCEPTED);
+    assertThat(snapshot.lastUpdateDateTime())
+        .isEqualTo(OffsetDateTime.parse("2026-01-01T10:00:00.123456+01:00"));
+  }
+
+  @Test
+  @DisplayName("Debe rechazar una carga con código de estado desconocido")
+  void shouldRejectUnknownStatus() {
+    // Given
+    String payload = UUID.randomUUID() + ",99,2026-01-01T10:00:00Z";
+
+    // When / Then
+    assertThatThrownBy(() -> PostgresPaymentOrderStatusChangeAdapter.parse(payload))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
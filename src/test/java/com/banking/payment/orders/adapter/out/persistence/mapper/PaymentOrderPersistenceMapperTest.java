@@ -1,20 +1,36 @@
 package com.banking.payment.orders.adapter.out.persistence.mapper;
 
 import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderEntity;
+import com.banking.payment.orders.adapter.out.persistence.entity.PaymentOrderStatusProjection;
+import com.banking.payment.orders.domain.model.CurrencyCodes;
 import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Money;
 import com.banking.payment.orders.domain.model.Payee;
 import com.banking.payment.orders.domain.model.Payer;
 import com.banking.payment.orders.domain.model.PaymentDetails;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * PaymentOrderPersistenceMapperTest - Tests unitarios para PaymentOrderPersistenceMapper.
@@ -41,12 +57,12 @@ class PaymentOrderPersistenceMapperTest {
     assertThat(entity).isNotNull();
     assertThat(entity.getId()).isEqualTo(domain.getPaymentOrderProcedureInstanceReference());
     assertThat(entity.isNew()).isTrue();
-    assertThat(entity.getStatus()).isEqualTo("Initiated");
+    assertThat(entity.getStatus()).isEqualTo((short) 1);
     assertThat(entity.getPaymentTransactionInitiatorReference()).isEqualTo("TXN-12345");
     assertThat(entity.getPayerReference()).isEqualTo("John Doe");
     assertThat(entity.getPayeeReference()).isEqualTo("Jane Smith");
-    assertThat(entity.getAmount()).isEqualByComparingTo(new BigDecimal("150.00"));
-    assertThat(entity.getCurrency()).isEqualTo("EUR");
+    assertThat(entity.getAmount()).isEqualTo(15000L);
+    assertThat(entity.getCurrency()).isEqualTo((short) 978);
   }
 
   @Test
@@ -79,14 +95,14 @@ class PaymentOrderPersistenceMapperTest {
         .isEqualTo(entity.getPaymentTransactionInitiatorReference());
     assertThat(domain.getPayer().payerReference()).isEqualTo(entity.getPayerReference());
     assertThat(domain.getPayee().payeeReference()).isEqualTo(entity.getPayeeReference());
-    assertThat(domain.getPaymentDetails().amount()).isEqualByComparingTo(entity.getAmount());
-    assertThat(domain.getPaymentDetails().currency()).isEqualTo(entity.getCurrency());
+    assertThat(domain.getPaymentDetails().amount()).isEqualTo(new Money(15000L, "EUR"));
+    assertThat(domain.getPaymentDetails().currency()).isEqualTo("EUR");
     assertThat(domain.getDateInformation().dateType()).isEqualTo(entity.getDateType());
     assertThat(domain.getDateInformation().date()).isEqualTo(entity.getDate());
   }
 
   @Test
-  @DisplayName("Debe usar reflexión para setear ID correcto desde BD")
+  @DisplayName("Debe restaurar el ID persistido desde BD")
   void shouldSetCorrectIdFromDatabaseWhenMappingToDomain() {
     // Given
     UUID databaseId = UUID.randomUUID();
@@ -101,6 +117,157 @@ class PaymentOrderPersistenceMapperTest {
         .isEqualTo(databaseId);
   }
 
+  @Test
+  @DisplayName("Debe propagar la versión de persistencia en ambos sentidos")
+  void shouldRoundTripVersionWhenMapping() {
+    // Given
+    PaymentOrderEntity entity = createEntity();
+    entity.setVersion(7L);
+
+    // When
+    PaymentOrderProcedure domain = mapper.toDomain(entity);
+    PaymentOrderEntity mappedBack = mapper.toEntity(domain, false);
+
+    // Then
+    assertThat(domain.getVersion()).isEqualTo(7L);
+    assertThat(mappedBack.getVersion()).isEqualTo(7L);
+    assertThat(mapper.toEntity(createDomainObject(), true).getVersion()).isNull();
+  }
+
+  @Test
+  @DisplayName("Debe copiar la orden con otra versión conservando su estado")
+  void shouldCopyOrderWithVersionWhenRequested() {
+    // Given
+    PaymentOrderEntity entity = createEntity();
+    entity.setStatus((short) 2);
+    entity.setVersion(3L);
+    PaymentOrderProcedure domain = mapper.toDomain(entity);
+
+    // When
+    PaymentOrderProcedure copy = mapper.withVersion(domain, 4L);
+
+    // Then
+    assertThat(copy).isNotSameAs(domain);
+    assertThat(copy.getVersion()).isEqualTo(4L);
+    assertThat(domain.getVersion()).isEqualTo(3L);
+    assertThat(copy.getPaymentOrderProcedureInstanceReference())
+        .isEqualTo(domain.getPaymentOrderProcedureInstanceReference());
+    assertThat(copy.getPaymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.PENDING);
+    assertThat(copy.getLastUpdateDateTime()).isEqualTo(domain.getLastUpdateDateTime());
+  }
+
+  @Test
+  @DisplayName("Debe conservar la fecha de actualización persistida al restaurar el estado")
+  void shouldKeepPersistedLastUpdateWhenStatusIsNotInitiated() {
+    // Given
+    PaymentOrderEntity entity = createEntity();
+    entity.setStatus((short) 2);
+    OffsetDateTime lastUpdate = OffsetDateTime.now().minusDays(2);
+    entity.setLastUpdateDateTime(lastUpdate);
+
+    // When
+    PaymentOrderProcedure domain = mapper.toDomain(entity);
+
+    // Then
+    assertThat(domain.getPaymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.PENDING);
+    assertThat(domain.getLastUpdateDateTime()).isEqualTo(lastUpdate);
+  }
+
+  @Test
+  @DisplayName("Debe mapear la proyección de estado a snapshot de dominio")
+  void shouldMapStatusProjectionToSnapshot() {
+    // Given
+    UUID id = UUID.randomUUID();
+    OffsetDateTime lastUpdate = OffsetDateTime.now();
+    PaymentOrderStatusProjection projection =
+        new PaymentOrderStatusProjection(id, (short) 3, lastUpdate);
+
+    // When
+    PaymentOrderStatusSnapshot snapshot = mapper.toStatusSnapshot(projection);
+
+    // Then
+    assertThat(snapshot.paymentOrderProcedureInstanceReference()).isEqualTo(id);
+    assertThat(snapshot.paymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.ACCEPTED);
+    assertThat(snapshot.lastUpdateDateTime()).isEqualTo(lastUpdate);
+  }
+
+  @Test
+  @DisplayName("Debe asignar a cada estado un código único que se decodifica al mismo estado")
+  void shouldRoundTripEveryStatusThroughUniqueCode() {
+    // When
+    Set<Short> codes = new HashSet<>();
+    for (PaymentOrderStatus status : PaymentOrderStatus.values()) {
+      short code = PaymentOrderPersistenceMapper.encodeStatus(status);
+      codes.add(code);
+
+      // Then
+      assertThat(PaymentOrderPersistenceMapper.decodeStatus(code)).isEqualTo(status);
+    }
+    assertThat(codes).hasSize(PaymentOrderStatus.values().length);
+    assertThatThrownBy(() -> PaymentOrderPersistenceMapper.decodeStatus((short) 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Debe codificar la moneda con su código numérico ISO 4217")
+  void shouldEncodeCurrencyAsIsoNumericCode() {
+    // When / Then
+    assertThat(PaymentOrderPersistenceMapper.encodeCurrency("EUR")).isEqualTo((short) 978);
+    assertThat(PaymentOrderPersistenceMapper.encodeCurrency("JPY")).isEqualTo((short) 392);
+    assertThat(PaymentOrderPersistenceMapper.decodeCurrency((short) 840)).isEqualTo("USD");
+    assertThatThrownBy(() -> PaymentOrderPersistenceMapper.decodeCurrency((short) 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Debe guardar el importe en las unidades menores de Money y restaurarlo igual")
+  void shouldStoreAmountAsMoneyMinorUnits() {
+    // Given
+    PaymentOrderProcedure domain = PaymentOrderProcedure.initiate(
+        "TXN-JPY",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("1500"), "JPY", null),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        null);
+
+    // When
+    PaymentOrderEntity entity = mapper.toEntity(domain);
+    PaymentOrderProcedure restored = mapper.toDomain(entity);
+
+    // Then
+    assertThat(entity.getAmount()).isEqualTo(1500L);
+    assertThat(entity.getCurrency()).isEqualTo((short) 392);
+    assertThat(restored.getPaymentDetails()).isEqualTo(domain.getPaymentDetails());
+    assertThat(restored.getPaymentDetails().currency()).isSameAs(CurrencyCodes.canonical("JPY"));
+  }
+
+  @Test
+  @DisplayName("Debe tener en el diccionario currencies cada divisa que codifica el mapper")
+  void shouldSeedEveryEncodableCurrencyInSchemaDictionary() throws IOException {
+    // Given
+    Map<Integer, Integer> minorUnitsByCode = new HashMap<>();
+    Matcher row = Pattern.compile("\\((\\d+), '[A-Z]{3}', (\\d+)\\)")
+        .matcher(Files.readString(Path.of("src/main/resources/schema.sql")));
+    while (row.find()) {
+      minorUnitsByCode.put(Integer.parseInt(row.group(1)), Integer.parseInt(row.group(2)));
+    }
+
+    // When / Then
+    for (Currency currency : Currency.getAvailableCurrencies()) {
+      int code = currency.getNumericCode();
+      if (code > 0 && code < 1000 && currency.getDefaultFractionDigits() >= 0) {
+        assertThat(minorUnitsByCode)
+            .as(currency.getCurrencyCode())
+            .containsEntry((int) PaymentOrderPersistenceMapper.encodeCurrency(
+                currency.getCurrencyCode()), currency.getDefaultFractionDigits());
+      }
+    }
+  }
+
   private PaymentOrderProcedure createDomainObject() {
     return PaymentOrderProcedure.initiate(
         "TXN-12345",
@@ -115,7 +282,7 @@ class PaymentOrderPersistenceMapperTest {
   private PaymentOrderEntity createEntity() {
     PaymentOrderEntity entity = new PaymentOrderEntity();
     entity.setId(UUID.randomUUID());
-    entity.setStatus("Initiated");
+    entity.setStatus((short) 1);
     entity.setPaymentTransactionInitiatorReference("TXN-12345");
     entity.setPayerReference("John Doe");
     entity.setPayerBankReference("BANK001");
@@ -123,8 +290,8 @@ class PaymentOrderPersistenceMapperTest {
     entity.setPayeeReference("Jane Smith");
     entity.setPayeeBankReference("BANK002");
     entity.setPayeeProductInstanceReference("ES9121000418450200051333");
-    entity.setAmount(new BigDecimal("150.00"));
-    entity.setCurrency("EUR");
+    entity.setAmount(15000L);
+    entity.setCurrency((short) 978);
     entity.setPaymentMechanismType("CreditTransfer");
     entity.setDateType("RequestedExecutionDate");
     entity.setDate(LocalDate.now().plusDays(1));
@@ -0,0 +1,83 @@
+package com.banking.payment.orders.adapter.out.routing;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * ReadWriteRoutingConnectionFactoryTest - Tests unitarios para ReadWriteRoutingConnectionFactory.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingConnectionFactoryTest {
+
+  @Mock
+  private ConnectionFactory primary;
+
+  @Mock
+  private ConnectionFactory replica;
+
+  @Mock
+  private Connection primaryConnection;
+
+  @Mock
+  private Connection replicaConnection;
+
+  private AtomicBoolean replicaAcceptsReads;
+  private ReadWriteRoutingConnectionFactory routing;
+
+  @BeforeEach
+  void setUp() {
+    lenient().doReturn(Mono.just(primaryConnection)).when(primary).create();
+    lenient().doReturn(Mono.just(replicaConnection)).when(replica).create();
+    replicaAcceptsReads = new AtomicBoolean(true);
+    routing = new ReadWriteRoutingConnectionFactory(primary, replica, replicaAcceptsReads::get);
+    routing.afterPropertiesSet();
+  }
+
+  @Test
+  @DisplayName("Debe usar el primario para las operaciones sin marcar")
+  void shouldUsePrimaryForUnmarkedOperations() {
+    // When / Then
+    StepVerifier.create(create())
+        .expectNext(primaryConnection)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe usar la réplica para las lecturas marcadas")
+  void shouldUseReplicaForMarkedReads() {
+    // When / Then
+    StepVerifier.create(ReadWriteRoutingConnectionFactory.onReplica(create()))
+        .expectNext(replicaConnection)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe volver al primario si la réplica no acepta lecturas")
+  void shouldFallBackToPrimaryWhenReplicaDoesNotAcceptReads() {
+    // Given
+    replicaAcceptsReads.set(false);
+
+    // When / Then
+    StepVerifier.create(ReadWriteRoutingConnectionFactory.onReplica(create()))
+        .expectNext(primaryConnection)
+        .verifyComplete();
+  }
+
+  private Mono<Connection> create() {
+    Publisher<? extends Connection> connection = routing.create();
+    return Mono.from(connection);
+  }
+}
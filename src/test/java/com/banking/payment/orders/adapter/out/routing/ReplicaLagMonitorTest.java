@@ -0,0 +1,70 @@
+package com.banking.payment.orders.adapter.out.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicaLagMonitorTest - Tests unitarios para ReplicaLagMonitor.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+  @Mock
+  private DatabaseClient replicaClient;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ReplicaLagMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    monitor = new ReplicaLagMonitor(
+        replicaClient, Duration.ofSeconds(1), Duration.ofMillis(500), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("No debe aceptar lecturas antes de la primera medición")
+  void shouldNotAcceptReadsBeforeFirstCheck() {
+    // Then
+    assertThat(monitor.acceptsReads()).isFalse();
+    assertThat(meterRegistry.get(ReplicaLagMonitor.LAG_GAUGE).timeGauge()
+        .value(TimeUnit.MILLISECONDS)).isNaN();
+  }
+
+  @Test
+  @DisplayName("Debe aceptar lecturas mientras el retraso no supere el máximo")
+  void shouldAcceptReadsWhileLagIsWithinMaximum() {
+    // When
+    monitor.record(500);
+
+    // Then
+    assertThat(monitor.acceptsReads()).isTrue();
+    assertThat(meterRegistry.get(ReplicaLagMonitor.LAG_GAUGE).timeGauge()
+        .value(TimeUnit.MILLISECONDS)).isEqualTo(500);
+  }
+
+  @Test
+  @DisplayName("Debe dejar de aceptar lecturas si el retraso supera el máximo o es desconocido")
+  void shouldStopAcceptingReadsWhenLagExceedsMaximumOrIsUnknown() {
+    // Given
+    monitor.record(0);
+
+    // When / Then
+    monitor.record(501);
+    assertThat(monitor.acceptsReads()).isFalse();
+
+    monitor.record(0);
+    monitor.record(ReplicaLagMonitor.UNKNOWN);
+    assertThat(monitor.acceptsReads()).isFalse();
+  }
+}
@@ -0,0 +1,178 @@
+package com.banking.payment.orders.adapter.out.routing;
+
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.ContextView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaRoutingPaymentOrderPortTest - Tests unitarios para ReplicaRoutingPaymentOrderPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingPaymentOrderPortTest {
+
+  @Mock
+  private PaymentOrderPort delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AtomicLong nanos;
+  private ReplicaRoutingPaymentOrderPort port;
+  private PaymentOrderProcedure order;
+  private UUID orderId;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    nanos = new AtomicLong();
+    port = new ReplicaRoutingPaymentOrderPort(
+        delegate, Duration.ofSeconds(5), 1000, meterRegistry, nanos::get);
+    order = PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES6421000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001"
+    );
+    orderId = order.getPaymentOrderProcedureInstanceReference();
+  }
+
+  @Test
+  @DisplayName("Debe marcar para la réplica las lecturas de órdenes no escritas recientemente")
+  void shouldRouteReadsOfUnwrittenOrdersToReplica() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(routed(order));
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId)
+            .map(PaymentOrderProcedure::getPaymentTransactionInitiatorReference))
+        .expectNext("replica:TXN-12345")
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe leer del primario una orden escrita dentro de la ventana")
+  void shouldReadOwnWriteFromPrimaryWithinWindow() {
+    // Given
+    when(delegate.save(order)).thenReturn(Mono.just(order));
+    when(delegate.findStatusById(orderId)).thenReturn(routedStatus());
+    StepVerifier.create(port.save(order)).expectNext(order).verifyComplete();
+
+    // When / Then
+    StepVerifier.create(port.findStatusById(orderId))
+        .expectNextMatches(snapshot -> snapshot.paymentOrderProcedureInstanceStatus()
+            == PaymentOrderStatus.INITIATED)
+        .verifyComplete();
+    assertThat(meterRegistry.get(ReplicaRoutingPaymentOrderPort.PRIMARY_READS_COUNTER)
+        .counter().count()).isEqualTo(1.0);
+
+    nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+    StepVerifier.create(port.findStatusById(orderId))
+        .expectNextMatches(snapshot -> snapshot.paymentOrderProcedureInstanceStatus()
+            == PaymentOrderStatus.ACCEPTED)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe leer del primario cualquier lectura múltiple que incluya una orden escrita")
+  void shouldReadMultiGetFromPrimaryWhenAnyOrderWasWritten() {
+    // Given
+    UUID otherId = UUID.randomUUID();
+    List<UUID> ids = List.of(otherId, orderId);
+    when(delegate.transitionStatus(List.of(orderId), PaymentOrderStatus.INITIATED,
+        PaymentOrderStatus.ACCEPTED)).thenReturn(Flux.empty());
+    when(delegate.findAllById(ids)).thenReturn(Flux.from(routed(order)));
+    StepVerifier.create(port.transitionStatus(List.of(orderId), PaymentOrderStatus.INITIATED,
+        PaymentOrderStatus.ACCEPTED)).verifyComplete();
+
+    // When / Then
+    StepVerifier.create(port.findAllById(ids)
+            .map(PaymentOrderProcedure::getPaymentTransactionInitiatorReference))
+        .expectNext("primary:TXN-12345")
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe leer siempre del primario los estados que relee el seguimiento en vivo")
+  void shouldReadStatusesByIdsFromPrimaryEvenWhenNotWritten() {
+    // Given
+    when(delegate.findStatusesByIds(List.of(orderId))).thenReturn(Flux.from(routedStatus()));
+
+    // When / Then
+    StepVerifier.create(port.findStatusesByIds(List.of(orderId)))
+        .expectNextMatches(snapshot -> snapshot.paymentOrderProcedureInstanceStatus()
+            == PaymentOrderStatus.INITIATED)
+        .verifyComplete();
+    assertThat(meterRegistry.get(ReplicaRoutingPaymentOrderPort.PRIMARY_READS_COUNTER)
+        .counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe enviar siempre las búsquedas a la réplica")
+  void shouldRouteSearchToReplica() {
+    // Given
+    PaymentOrderSearchCriteria criteria =
+        new PaymentOrderSearchCriteria(null, null, null, null, null);
+    when(delegate.search(criteria, null, 10)).thenReturn(Flux.from(routed(order)));
+    when(delegate.save(order)).thenReturn(Mono.just(order));
+    StepVerifier.create(port.save(order)).expectNext(order).verifyComplete();
+
+    // When / Then
+    StepVerifier.create(port.search(criteria, null, 10)
+            .map(PaymentOrderProcedure::getPaymentTransactionInitiatorReference))
+        .expectNext("replica:TXN-12345")
+        .verifyComplete();
+  }
+
+  /**
+   * Lectura simulada que antepone al initiator reference la ruta recibida en el contexto.
+   */
+  private static Mono<PaymentOrderProcedure> routed(PaymentOrderProcedure paymentOrder) {
+    return Mono.deferContextual(context -> Mono.just(PaymentOrderProcedure.initiate(
+        route(context) + ":" + paymentOrder.getPaymentTransactionInitiatorReference(),
+        paymentOrder.getPayer(),
+        paymentOrder.getPayee(),
+        paymentOrder.getPaymentDetails(),
+        paymentOrder.getDateInformation(),
+        paymentOrder.getRemittanceInformation())));
+  }
+
+  /**
+   * Estado simulado: INITIATED en el primario y ACCEPTED (desactualizado) en la réplica.
+   */
+  private Mono<PaymentOrderStatusSnapshot> routedStatus() {
+    return Mono.deferContextual(context -> Mono.just(new PaymentOrderStatusSnapshot(orderId,
+        "replica".equals(route(context))
+            ? PaymentOrderStatus.ACCEPTED : PaymentOrderStatus.INITIATED,
+        order.getLastUpdateDateTime())));
+  }
+
+  private static String route(ContextView context) {
+    return context.hasKey(ReadWriteRoutingConnectionFactory.REPLICA_ROUTE) ? "replica" : "primary";
+  }
+}
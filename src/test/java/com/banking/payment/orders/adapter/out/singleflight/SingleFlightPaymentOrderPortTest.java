@@ -0,0 +1,183 @@
+package com.banking.payment.orders.adapter.out.singleflight;
+
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SingleFlightPaymentOrderPortTest - Tests unitarios para SingleFlightPaymentOrderPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightPaymentOrderPortTest {
+
+  @Mock
+  private PaymentOrderPort delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AtomicLong nanos;
+  private SingleFlightPaymentOrderPort port;
+  private PaymentOrderProcedure order;
+  private UUID orderId;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    nanos = new AtomicLong();
+    port = new SingleFlightPaymentOrderPort(
+        delegate, Duration.ofSeconds(5), meterRegistry, nanos::get);
+    order = PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001"
+    );
+    orderId = order.getPaymentOrderProcedureInstanceReference();
+  }
+
+  @Test
+  @DisplayName("Debe compartir una única consulta entre lecturas concurrentes del mismo ID")
+  void shouldShareSingleQueryBetweenConcurrentLookups() {
+    // Given
+    Sinks.One<PaymentOrderProcedure> query = Sinks.one();
+    when(delegate.findById(orderId)).thenReturn(query.asMono());
+
+    // When
+    StepVerifier first = StepVerifier.create(port.findById(orderId))
+        .expectNext(order).expectComplete().verifyLater();
+    StepVerifier second = StepVerifier.create(port.findById(orderId))
+        .expectNext(order).expectComplete().verifyLater();
+    assertThat(port.inFlightCount()).isEqualTo(1);
+    query.tryEmitValue(order);
+
+    // Then
+    first.verify();
+    second.verify();
+    verify(delegate, times(1)).findById(orderId);
+    assertThat(coalesced("find_by_id")).isEqualTo(1.0);
+    assertThat(port.inFlightCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe consultar de nuevo una vez terminada la lectura anterior")
+  void shouldQueryAgainOnceLookupHasFinished() {
+    // Given
+    when(delegate.findById(orderId)).thenReturn(Mono.just(order));
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId)).expectNext(order).verifyComplete();
+    StepVerifier.create(port.findById(orderId)).expectNext(order).verifyComplete();
+
+    verify(delegate, times(2)).findById(orderId);
+    assertThat(coalesced("find_by_id")).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe abrir otra consulta cuando la lectura en curso supera su vida máxima")
+  void shouldStartNewQueryWhenInFlightLookupExpired() {
+    // Given
+    Sinks.One<PaymentOrderProcedure> stuck = Sinks.one();
+    when(delegate.findById(orderId)).thenReturn(stuck.asMono(), Mono.just(order));
+    port.findById(orderId).subscribe();
+    nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId)).expectNext(order).verifyComplete();
+    verify(delegate, times(2)).findById(orderId);
+    assertThat(coalesced("find_by_id")).isZero();
+  }
+
+  @Test
+  @DisplayName("No debe unir nuevas lecturas a una consulta anterior a una escritura")
+  void shouldNotJoinLookupStartedBeforeWrite() {
+    // Given
+    Sinks.One<PaymentOrderProcedure> beforeWrite = Sinks.one();
+    when(delegate.findById(orderId)).thenReturn(beforeWrite.asMono(), Mono.just(order));
+    when(delegate.save(order)).thenReturn(Mono.just(order));
+    port.findById(orderId).subscribe();
+
+    // When
+    StepVerifier.create(port.save(order)).expectNext(order).verifyComplete();
+
+    // Then
+    StepVerifier.create(port.findById(orderId)).expectNext(order).verifyComplete();
+    verify(delegate, times(2)).findById(orderId);
+  }
+
+  @Test
+  @DisplayName("Debe propagar el error a todos los participantes y retirar la lectura")
+  void shouldShareErrorAndForgetLookup() {
+    // Given
+    Sinks.One<PaymentOrderProcedure> query = Sinks.one();
+    when(delegate.findById(orderId)).thenReturn(query.asMono());
+    StepVerifier first = StepVerifier.create(port.findById(orderId))
+        .expectError(IllegalStateException.class).verifyLater();
+    StepVerifier second = StepVerifier.create(port.findById(orderId))
+        .expectError(IllegalStateException.class).verifyLater();
+
+    // When
+    query.tryEmitError(new IllegalStateException("connection refused"));
+
+    // Then
+    first.verify();
+    second.verify();
+    assertThat(port.inFlightCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe agrupar también las consultas de estado concurrentes")
+  void shouldCoalesceConcurrentStatusLookups() {
+    // Given
+    PaymentOrderStatusSnapshot status = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.PENDING, OffsetDateTime.now());
+    Sinks.One<PaymentOrderStatusSnapshot> query = Sinks.one();
+    when(delegate.findStatusById(orderId)).thenReturn(query.asMono());
+    StepVerifier first = StepVerifier.create(port.findStatusById(orderId))
+        .expectNext(status).expectComplete().verifyLater();
+    StepVerifier second = StepVerifier.create(port.findStatusById(orderId))
+        .expectNext(status).expectComplete().verifyLater();
+
+    // When
+    query.tryEmitValue(status);
+
+    // Then
+    first.verify();
+    second.verify();
+    verify(delegate, times(1)).findStatusById(orderId);
+    assertThat(coalesced("find_status_by_id")).isEqualTo(1.0);
+  }
+
+  private double coalesced(String operation) {
+    return meterRegistry.get(SingleFlightPaymentOrderPort.COALESCED_COUNTER)
+        .tag("operation", operation)
+        .counter()
+        .count();
+  }
+}
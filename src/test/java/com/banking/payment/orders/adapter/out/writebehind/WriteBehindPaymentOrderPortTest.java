@@ -0,0 +1,432 @@
+package com.banking.payment.orders.adapter.out.writebehind;
+
+import com.banking.payment.orders.adapter.out.persistence.mapper.PaymentOrderPersistenceMapper;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusUpdate;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WriteBehindPaymentOrderPortTest - Tests unitarios para WriteBehindPaymentOrderPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindPaymentOrderPortTest {
+
+  @Mock
+  private PaymentOrderPort delegate;
+
+  private final PaymentOrderPersistenceMapper mapper = new PaymentOrderPersistenceMapper();
+  private SimpleMeterRegistry meterRegistry;
+  private WriteBehindPaymentOrderPort port;
+  private PaymentOrderProcedure order;
+  private UUID orderId;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    port = writeBehindPort(100);
+    order = mapper.withVersion(PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001"
+    ), 3L);
+    orderId = order.getPaymentOrderProcedureInstanceReference();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (port.isRunning()) {
+      port.stop();
+    }
+    assertThat(port.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe fundir los cambios sucesivos de una orden en un único UPDATE")
+  void shouldCoalesceSuccessiveStatusChangesIntoSingleUpdate() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    PaymentOrderProcedure pending = port.save(order).block();
+    pending.updateStatus(PaymentOrderStatus.ACCEPTED);
+
+    // When
+    PaymentOrderProcedure accepted = port.save(pending).block();
+    StepVerifier.create(port.flush()).expectNext(1).verifyComplete();
+
+    // Then
+    assertThat(pending.getVersion()).isEqualTo(4L);
+    assertThat(accepted.getVersion()).isEqualTo(5L);
+    verify(delegate, never()).save(any(PaymentOrderProcedure.class));
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PaymentOrderStatusUpdate>> updates = ArgumentCaptor.forClass(List.class);
+    verify(delegate).updateStatuses(updates.capture());
+    assertThat(updates.getValue()).containsExactly(new PaymentOrderStatusUpdate(
+        orderId, PaymentOrderStatus.ACCEPTED, accepted.getLastUpdateDateTime(), 3L, 5L));
+    assertThat(port.pendingCount()).isZero();
+    assertThat(meterRegistry.get(WriteBehindPaymentOrderPort.COALESCED_COUNTER).counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Debe servir el cambio pendiente en las lecturas por ID")
+  void shouldServePendingStatusWhenReadingById() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    PaymentOrderProcedure pending = port.save(order).block();
+    PaymentOrderStatusSnapshot persisted = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.INITIATED, OffsetDateTime.now().minusMinutes(1));
+    when(delegate.findStatusesByIds(List.of(orderId))).thenReturn(Flux.just(persisted));
+
+    // When / Then
+    StepVerifier.create(port.findById(orderId))
+        .assertNext(found -> assertThat(found).usingRecursiveComparison().isEqualTo(pending))
+        .verifyComplete();
+    StepVerifier.create(port.findStatusById(orderId))
+        .expectNext(PaymentOrderStatusSnapshot.of(pending))
+        .verifyComplete();
+    StepVerifier.create(port.findStatusesByIds(List.of(orderId)))
+        .expectNext(PaymentOrderStatusSnapshot.of(pending))
+        .verifyComplete();
+    verify(delegate, never()).findById(orderId);
+    verify(delegate, never()).findStatusById(orderId);
+    thenPendingChangesAreFlushedOnStop();
+  }
+
+  @Test
+  @DisplayName("Debe aislar el cambio pendiente de las modificaciones de la orden devuelta")
+  void shouldNotExposePendingOrderToCallerMutations() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    PaymentOrderProcedure pending = port.save(order).block();
+
+    // When
+    pending.updateStatus(PaymentOrderStatus.CANCELLED);
+    port.findById(orderId).block().updateStatus(PaymentOrderStatus.REJECTED);
+
+    // Then
+    StepVerifier.create(port.findById(orderId))
+        .assertNext(found -> assertThat(found.getPaymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.PENDING))
+        .verifyComplete();
+    StepVerifier.create(port.findStatusById(orderId))
+        .assertNext(status -> assertThat(status.paymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.PENDING))
+        .verifyComplete();
+    thenPendingChangesAreFlushedOnStop();
+  }
+
+  @Test
+  @DisplayName("Debe servir el cambio pendiente en la lectura de varias órdenes")
+  void shouldServePendingChangeWhenReadingMany() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    PaymentOrderProcedure persisted = mapper.withVersion(order, 3L);
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    PaymentOrderProcedure pending = port.save(order).block();
+    when(delegate.findAllById(List.of(orderId))).thenReturn(Flux.just(persisted));
+
+    // When / Then
+    StepVerifier.create(port.findAllById(List.of(orderId)))
+        .assertNext(found -> assertThat(found).usingRecursiveComparison().isEqualTo(pending))
+        .verifyComplete();
+    thenPendingChangesAreFlushedOnStop();
+  }
+
+  @Test
+  @DisplayName("Debe rechazar el guardado de una versión anterior a la pendiente")
+  void shouldRejectSaveWhenVersionIsBehindPendingChange() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    PaymentOrderProcedure stale = mapper.withVersion(order, 3L);
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    port.save(order).block();
+    stale.updateStatus(PaymentOrderStatus.CANCELLED);
+
+    // When / Then
+    StepVerifier.create(port.save(stale))
+        .expectError(PaymentOrderConflictException.class)
+        .verify();
+    StepVerifier.create(port.findStatusById(orderId))
+        .assertNext(status -> assertThat(status.paymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.PENDING))
+        .verifyComplete();
+    thenPendingChangesAreFlushedOnStop();
+  }
+
+  @Test
+  @DisplayName("Debe escribir en línea cuando se alcanza el máximo de órdenes pendientes")
+  void shouldWriteThroughWhenPendingLimitIsReached() {
+    // Given
+    port = writeBehindPort(1);
+    port.start();
+    givenUpdatesSucceed();
+    PaymentOrderProcedure other = mapper.withVersion(PaymentOrderProcedure.initiate(
+        "TXN-67890", order.getPayer(), order.getPayee(), order.getPaymentDetails(),
+        order.getDateInformation(), null), 0L);
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    other.updateStatus(PaymentOrderStatus.PENDING);
+    port.save(order).block();
+    when(delegate.save(other)).thenReturn(Mono.just(other));
+
+    // When
+    StepVerifier.create(port.save(other)).expectNext(other).verifyComplete();
+
+    // Then
+    verify(delegate).save(other);
+    assertThat(port.pendingCount()).isEqualTo(1);
+    thenPendingChangesAreFlushedOnStop();
+  }
+
+  @Test
+  @DisplayName("Debe volcar los cambios pendientes al detenerse")
+  void shouldFlushPendingChangesWhenStopped() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    port.save(order).block();
+
+    // When
+    port.stop();
+
+    // Then
+    verify(delegate).updateStatuses(anyList());
+    assertThat(port.pendingCount()).isZero();
+    assertThat(port.isRunning()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Debe encolar y fundir los cambios de estado en bloque sobre el último estado")
+  void shouldEnqueueAndCoalesceBatchTransitions() {
+    // Given
+    port.start();
+    givenUpdatesSucceed();
+    when(delegate.findAllById(List.of(orderId))).thenReturn(Flux.just(order));
+
+    // When
+    StepVerifier.create(port.transitionStatus(
+            List.of(orderId), PaymentOrderStatus.INITIATED, PaymentOrderStatus.PENDING))
+        .assertNext(status -> assertThat(status.paymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.PENDING))
+        .verifyComplete();
+    StepVerifier.create(port.transitionStatus(
+            List.of(orderId), PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED))
+        .assertNext(status -> assertThat(status.paymentOrderProcedureInstanceStatus())
+            .isEqualTo(PaymentOrderStatus.ACCEPTED))
+        .verifyComplete();
+    StepVerifier.create(port.flush()).expectNext(1).verifyComplete();
+
+    // Then
+    verify(delegate).findAllById(List.of(orderId));
+    verify(delegate, never()).transitionStatus(anyList(), any(), any());
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PaymentOrderStatusUpdate>> updates = ArgumentCaptor.forClass(List.class);
+    verify(delegate).updateStatuses(updates.capture());
+    assertThat(updates.getValue()).singleElement().satisfies(update -> {
+      assertThat(update.paymentOrderProcedureInstanceStatus())
+          .isEqualTo(PaymentOrderStatus.ACCEPTED);
+      assertThat(update.expectedVersion()).isEqualTo(3L);
+      assertThat(update.version()).isEqualTo(5L);
+    });
+    assertThat(meterRegistry.get(WriteBehindPaymentOrderPort.COALESCED_COUNTER).counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Debe delegar el cambio en bloque de las órdenes leídas en otro estado")
+  void shouldDelegateBatchTransitionWhenStoredStatusDoesNotMatch() {
+    // Given
+    port.start();
+    when(delegate.findAllById(List.of(orderId))).thenReturn(Flux.just(order));
+    when(delegate.transitionStatus(
+        List.of(orderId), PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED))
+        .thenReturn(Flux.empty());
+
+    // When / Then
+    StepVerifier.create(port.transitionStatus(
+            List.of(orderId), PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED))
+        .verifyComplete();
+    assertThat(port.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe volcar los pendientes y escribir en línea el bloque con la cola llena")
+  void shouldFlushPendingChangesBeforeBatchTransitionWhenQueueIsFull() {
+    // Given
+    port = writeBehindPort(1);
+    port.start();
+    givenUpdatesSucceed();
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    port.save(order).block();
+    UUID otherId = UUID.randomUUID();
+    List<UUID> ids = List.of(orderId, otherId);
+    when(delegate.transitionStatus(ids, PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED))
+        .thenReturn(Flux.empty());
+
+    // When
+    StepVerifier.create(port.transitionStatus(
+            ids, PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED))
+        .verifyComplete();
+
+    // Then
+    InOrder writes = inOrder(delegate);
+    writes.verify(delegate).updateStatuses(anyList());
+    writes.verify(delegate).transitionStatus(
+        ids, PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED);
+    verify(delegate, never()).findAllById(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe reintentar sobre el estado almacenado el cambio cuya versión ya no coincide")
+  void shouldReapplyChangeWhenStoredVersionMovedOn() {
+    // Given
+    port.start();
+    when(delegate.updateStatuses(anyList())).thenReturn(Flux.empty());
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    PaymentOrderProcedure pending = port.save(order).block();
+    pending.updateStatus(PaymentOrderStatus.ACCEPTED);
+    port.save(pending).block();
+    when(delegate.findStatusesByIds(List.of(orderId))).thenReturn(Flux.just(
+        new PaymentOrderStatusSnapshot(orderId, PaymentOrderStatus.PENDING, OffsetDateTime.now())));
+    PaymentOrderStatusSnapshot accepted = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.ACCEPTED, OffsetDateTime.now());
+    when(delegate.transitionStatus(
+        List.of(orderId), PaymentOrderStatus.PENDING, PaymentOrderStatus.ACCEPTED))
+        .thenReturn(Flux.just(accepted));
+
+    // When
+    StepVerifier.create(port.flush()).expectNext(1).verifyComplete();
+
+    // Then
+    assertThat(port.pendingCount()).isZero();
+    assertThat(meterRegistry.get(WriteBehindPaymentOrderPort.CONFLICTS_COUNTER).counter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get(WriteBehindPaymentOrderPort.FLUSHED_COUNTER).counter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get(WriteBehindPaymentOrderPort.REJECTED_COUNTER).counter().count())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("Debe rechazar y contar el cambio que el estado almacenado ya no admite")
+  void shouldRejectChangeWhenStoredStatusNoLongerAllowsIt() {
+    // Given
+    port.start();
+    when(delegate.updateStatuses(anyList())).thenReturn(Flux.empty());
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    port.save(order).block();
+    when(delegate.findStatusesByIds(List.of(orderId))).thenReturn(Flux.just(
+        new PaymentOrderStatusSnapshot(
+            orderId, PaymentOrderStatus.CANCELLED, OffsetDateTime.now())));
+
+    // When
+    StepVerifier.create(port.flush()).expectNext(1).verifyComplete();
+
+    // Then
+    verify(delegate, never()).transitionStatus(anyList(), any(), any());
+    assertThat(port.pendingCount()).isZero();
+    assertThat(meterRegistry.get(WriteBehindPaymentOrderPort.REJECTED_COUNTER).counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Debe conservar los cambios pendientes cuando el volcado falla")
+  void shouldKeepPendingChangesWhenFlushFails() {
+    // Given
+    port.start();
+    when(delegate.updateStatuses(anyList()))
+        .thenReturn(Flux.error(new IllegalStateException("connection refused")));
+    order.updateStatus(PaymentOrderStatus.PENDING);
+    port.save(order).block();
+
+    // When / Then
+    StepVerifier.create(port.flush()).expectError(IllegalStateException.class).verify();
+    assertThat(port.pendingCount()).isEqualTo(1);
+
+    givenUpdatesSucceed();
+    StepVerifier.create(port.flush()).expectNext(1).verifyComplete();
+    assertThat(port.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe insertar las órdenes nuevas sin diferirlas")
+  void shouldInsertNewOrdersImmediately() {
+    // Given
+    port.start();
+    PaymentOrderProcedure initiated = PaymentOrderProcedure.initiate(
+        "TXN-67890", order.getPayer(), order.getPayee(), order.getPaymentDetails(),
+        order.getDateInformation(), null);
+    when(delegate.save(initiated)).thenReturn(Mono.just(initiated));
+
+    // When / Then
+    StepVerifier.create(port.save(initiated)).expectNext(initiated).verifyComplete();
+    assertThat(port.pendingCount()).isZero();
+  }
+
+  private WriteBehindPaymentOrderPort writeBehindPort(int maxPending) {
+    return new WriteBehindPaymentOrderPort(delegate, mapper, Duration.ofHours(1), 500,
+        maxPending, Duration.ofSeconds(5), meterRegistry);
+  }
+
+  private void thenPendingChangesAreFlushedOnStop() {
+    port.stop();
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PaymentOrderStatusUpdate>> updates = ArgumentCaptor.forClass(List.class);
+    verify(delegate).updateStatuses(updates.capture());
+    assertThat(updates.getValue())
+        .extracting(PaymentOrderStatusUpdate::paymentOrderProcedureInstanceReference)
+        .containsExactly(orderId);
+    assertThat(port.pendingCount()).isZero();
+  }
+
+  private void givenUpdatesSucceed() {
+    when(delegate.updateStatuses(anyList())).thenAnswer(invocation -> {
+      List<PaymentOrderStatusUpdate> updates = invocation.getArgument(0);
+      return Flux.fromIterable(updates).map(PaymentOrderStatusUpdate::toSnapshot);
+    });
+  }
+}
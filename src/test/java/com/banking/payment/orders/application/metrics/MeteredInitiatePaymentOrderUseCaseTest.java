@@ -0,0 +1,98 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * MeteredInitiatePaymentOrderUseCaseTest - Tests unitarios para
+ * MeteredInitiatePaymentOrderUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class MeteredInitiatePaymentOrderUseCaseTest {
+
+  @Mock
+  private InitiatePaymentOrderUseCase delegate;
+
+  @Mock
+  private InitiatePaymentOrderCommand command;
+
+  private SimpleMeterRegistry meterRegistry;
+  private MeteredInitiatePaymentOrderUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    useCase = new MeteredInitiatePaymentOrderUseCase(
+        delegate, new PaymentOrderMetrics(meterRegistry));
+  }
+
+  @Test
+  @DisplayName("Debe medir la iniciación y devolver la orden del delegado")
+  void shouldTimeInitiateWhenDelegateSucceeds() {
+    // Given
+    PaymentOrderProcedure order = createOrder();
+    when(delegate.initiate(command)).thenReturn(Mono.just(order));
+
+    // When / Then
+    StepVerifier.create(useCase.initiate(command)).expectNext(order).verifyComplete();
+
+    assertThat(meterRegistry.get(PaymentOrderMetrics.USE_CASE_TIMER)
+        .tag("operation", "initiate").tag("outcome", "success").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe contar los elementos inválidos de un lote")
+  void shouldCountInvalidItemsWhenBatchRejectsThem() {
+    // Given
+    when(delegate.initiateBatch(any())).thenReturn(Flux.just(
+        InitiatePaymentOrderResult.success(createOrder()),
+        InitiatePaymentOrderResult.failure(new InvalidPaymentOrderException("invalid"))));
+
+    // When / Then
+    StepVerifier.create(useCase.initiateBatch(Flux.just(command, command)))
+        .expectNextCount(2)
+        .verifyComplete();
+
+    assertThat(meterRegistry.get(PaymentOrderMetrics.ERRORS_COUNTER)
+        .tag("operation", "initiate_batch").tag("error", "invalid").counter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get(PaymentOrderMetrics.USE_CASE_TIMER)
+        .tag("operation", "initiate_batch").tag("outcome", "success").timer().count())
+        .isEqualTo(1);
+  }
+
+  private PaymentOrderProcedure createOrder() {
+    return PaymentOrderProcedure.initiate(
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        "Payment for invoice INV-001"
+    );
+  }
+}
@@ -0,0 +1,73 @@
+package com.banking.payment.orders.application.metrics;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderExportMetricsTest - Tests unitarios para PaymentOrderExportMetrics.
+ */
+class PaymentOrderExportMetricsTest {
+
+  private MockClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private PaymentOrderExportMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MockClock();
+    meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    metrics = new PaymentOrderExportMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Debe contar filas, bytes y caudal de una exportación completa")
+  void shouldRecordRowsBytesAndThroughput() {
+    // Given - Cabecera de 10 bytes y dos filas de 20 bytes emitidas en 2 segundos
+    Flux<String> lines = Flux.just("h".repeat(10), "r".repeat(20), "r".repeat(20))
+        .doOnComplete(() -> clock.add(Duration.ofSeconds(2)));
+
+    // When
+    StepVerifier.create(metrics.measure("csv", lines, 1, String::length))
+        .expectNextCount(3)
+        .verifyComplete();
+
+    // Then
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.ROWS_COUNTER)
+        .tag("format", "csv").counter().count()).isEqualTo(2.0);
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.BYTES_COUNTER)
+        .tag("format", "csv").counter().count()).isEqualTo(50.0);
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.BYTES_SUMMARY)
+        .tag("format", "csv").summary().totalAmount()).isEqualTo(50.0);
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.THROUGHPUT_SUMMARY)
+        .tag("format", "csv").summary().max()).isEqualTo(1.0);
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.EXPORT_TIMER)
+        .tag("format", "csv").tag("outcome", "success").timer()
+        .totalTime(TimeUnit.SECONDS)).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("Debe etiquetar como cancelada una exportación interrumpida por el cliente")
+  void shouldTagCancelledExport() {
+    // When
+    StepVerifier.create(metrics.measure("ndjson", Flux.just("a", "b", "c"), 0, String::length))
+        .expectNext("a")
+        .thenCancel()
+        .verify();
+
+    // Then
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.EXPORT_TIMER)
+        .tag("format", "ndjson").tag("outcome", "cancelled").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(PaymentOrderExportMetrics.ROWS_COUNTER)
+        .tag("format", "ndjson").counter().count()).isEqualTo(1.0);
+  }
+}
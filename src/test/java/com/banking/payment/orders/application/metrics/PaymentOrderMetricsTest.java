@@ -0,0 +1,139 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderMetrics.Operation;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderMetricsTest - Tests unitarios para PaymentOrderMetrics.
+ */
+class PaymentOrderMetricsTest {
+
+  private MockClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private PaymentOrderMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MockClock();
+    meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    metrics = new PaymentOrderMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Debe registrar todos los timers al construirse")
+  void shouldRegisterAllTimersUpFront() {
+    // Then
+    int expected = Operation.values().length * PaymentOrderMetrics.Outcome.values().length;
+    assertThat(meterRegistry.find(PaymentOrderMetrics.USE_CASE_TIMER).timers().size()
+        + meterRegistry.find(PaymentOrderMetrics.PORT_TIMER).timers().size())
+        .isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("Debe medir desde la suscripción y etiquetar el resultado exitoso")
+  void shouldTimeFromSubscriptionAndTagSuccess() {
+    // Given
+    Mono<String> timed = metrics.timeMono(Operation.RETRIEVE,
+        () -> Mono.fromSupplier(() -> {
+          clock.add(Duration.ofMillis(25));
+          return "ok";
+        }));
+
+    // When
+    StepVerifier.create(timed).expectNext("ok").verifyComplete();
+
+    // Then
+    Timer timer = timer(Operation.RETRIEVE, "success");
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(25.0);
+  }
+
+  @Test
+  @DisplayName("Debe contar órdenes no encontradas e inválidas")
+  void shouldCountNotFoundAndInvalidErrors() {
+    // When
+    StepVerifier.create(metrics.timeMono(Operation.RETRIEVE,
+            () -> Mono.error(new PaymentOrderNotFoundException(UUID.randomUUID()))))
+        .expectError(PaymentOrderNotFoundException.class)
+        .verify();
+    StepVerifier.create(metrics.timeMono(Operation.INITIATE,
+            () -> Mono.error(new InvalidPaymentOrderException("invalid"))))
+        .expectError(InvalidPaymentOrderException.class)
+        .verify();
+
+    // Then
+    assertThat(timer(Operation.RETRIEVE, "not_found").count()).isEqualTo(1);
+    assertThat(timer(Operation.INITIATE, "invalid").count()).isEqualTo(1);
+    assertThat(errorCount(Operation.RETRIEVE, "not_found")).isEqualTo(1.0);
+    assertThat(errorCount(Operation.INITIATE, "invalid")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Debe registrar un Mono vacío del puerto como not_found sin contarlo como error")
+  void shouldTagEmptyPortLookupAsNotFoundWithoutErrorCounter() {
+    // When
+    StepVerifier.create(metrics.timeMono(Operation.PORT_FIND_BY_ID, Mono::empty))
+        .verifyComplete();
+
+    // Then
+    assertThat(timer(Operation.PORT_FIND_BY_ID, "not_found").count()).isEqualTo(1);
+    assertThat(meterRegistry.find(PaymentOrderMetrics.ERRORS_COUNTER)
+        .tag("operation", Operation.PORT_FIND_BY_ID.getTag()).counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("Debe medir un Flux hasta su finalización")
+  void shouldTimeFluxUntilCompletion() {
+    // When
+    StepVerifier.create(metrics.timeFlux(Operation.PORT_INSERT_ALL, () -> Flux.just(1, 2, 3)))
+        .expectNextCount(3)
+        .verifyComplete();
+
+    // Then
+    assertThat(timer(Operation.PORT_INSERT_ALL, "success").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe registrar cancelaciones")
+  void shouldRecordCancellation() {
+    // When
+    StepVerifier.create(metrics.timeMono(Operation.RETRIEVE_STATUS, Mono::never))
+        .thenCancel()
+        .verify();
+
+    // Then
+    assertThat(timer(Operation.RETRIEVE_STATUS, "cancelled").count()).isEqualTo(1);
+  }
+
+  private Timer timer(Operation operation, String outcome) {
+    return meterRegistry.get(operation.isUseCase()
+            ? PaymentOrderMetrics.USE_CASE_TIMER : PaymentOrderMetrics.PORT_TIMER)
+        .tag("operation", operation.getTag())
+        .tag("outcome", outcome)
+        .timer();
+  }
+
+  private double errorCount(Operation operation, String error) {
+    return meterRegistry.get(PaymentOrderMetrics.ERRORS_COUNTER)
+        .tag("operation", operation.getTag())
+        .tag("error", error)
+        .counter()
+        .count();
+  }
+}
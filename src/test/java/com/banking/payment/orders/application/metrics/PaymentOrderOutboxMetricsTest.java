@@ -0,0 +1,85 @@
+package com.banking.payment.orders.application.metrics;
+
+import com.banking.payment.orders.domain.model.PaymentOrderEvent;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.out.PaymentOrderEventPublisher;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderOutboxMetricsTest - Tests unitarios para PaymentOrderOutboxMetrics.
+ */
+class PaymentOrderOutboxMetricsTest {
+
+  private MockClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private PaymentOrderOutboxMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MockClock();
+    meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    metrics = new PaymentOrderOutboxMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Debe registrar caudal, tamaño de bloque y retraso de los eventos entregados")
+  void shouldRecordThroughputBatchSizeAndLag() {
+    // Given
+    OffsetDateTime occurredAt =
+        OffsetDateTime.ofInstant(Instant.ofEpochMilli(clock.wallTime()), ZoneOffset.UTC);
+    clock.add(250, TimeUnit.MILLISECONDS);
+    PaymentOrderEventPublisher publisher = metrics.measure(events -> Mono.empty());
+
+    // When
+    StepVerifier.create(publisher.publish(List.of(event(occurredAt), event(occurredAt))))
+        .verifyComplete();
+
+    // Then
+    assertThat(meterRegistry.get(PaymentOrderOutboxMetrics.PUBLISHED_COUNTER).counter().count())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(PaymentOrderOutboxMetrics.BATCH_SUMMARY).summary().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get(PaymentOrderOutboxMetrics.LAG_TIMER).timer()
+        .max(TimeUnit.MILLISECONDS)).isEqualTo(250);
+  }
+
+  @Test
+  @DisplayName("Debe contar los fallos de entrega sin contarlos como publicados")
+  void shouldCountFailuresWithoutCountingPublished() {
+    // Given
+    PaymentOrderEventPublisher publisher =
+        metrics.measure(events -> Mono.error(new IllegalStateException("broker down")));
+
+    // When
+    StepVerifier.create(publisher.publish(List.of(event(OffsetDateTime.now()))))
+        .expectError(IllegalStateException.class)
+        .verify();
+
+    // Then
+    assertThat(meterRegistry.get(PaymentOrderOutboxMetrics.FAILURES_COUNTER).counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get(PaymentOrderOutboxMetrics.PUBLISHED_COUNTER).counter().count())
+        .isZero();
+  }
+
+  private static PaymentOrderEvent event(OffsetDateTime occurredAt) {
+    return PaymentOrderEvent.statusChanged(new PaymentOrderStatusSnapshot(
+        UUID.randomUUID(), PaymentOrderStatus.PENDING, occurredAt));
+  }
+}
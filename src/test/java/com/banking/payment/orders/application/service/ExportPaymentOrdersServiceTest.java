@@ -0,0 +1,77 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.port.out.PaymentOrderExportPort;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExportPaymentOrdersServiceTest - Tests unitarios para ExportPaymentOrdersService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportPaymentOrdersServiceTest {
+
+  private static final OffsetDateTime FROM = OffsetDateTime.parse("2025-10-30T00:00:00Z");
+  private static final OffsetDateTime TO = OffsetDateTime.parse("2025-10-31T00:00:00Z");
+
+  @Mock
+  private PaymentOrderExportPort paymentOrderExportPort;
+
+  @InjectMocks
+  private ExportPaymentOrdersService service;
+
+  @Test
+  @DisplayName("Debe delegar la exportación en el puerto")
+  void shouldDelegateExportToPort() {
+    // Given
+    PaymentOrderSearchCriteria criteria =
+        new PaymentOrderSearchCriteria(null, null, PaymentOrderStatus.SETTLED, FROM, TO);
+    PaymentOrderProcedure paymentOrder = mock(PaymentOrderProcedure.class);
+    when(paymentOrderExportPort.export(criteria)).thenReturn(Flux.just(paymentOrder));
+
+    // When / Then
+    StepVerifier.create(service.export(criteria))
+        .expectNext(paymentOrder)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe exigir el rango de creación completo")
+  void shouldRequireCreatedRange() {
+    // When / Then
+    StepVerifier.create(service.export(
+            new PaymentOrderSearchCriteria(null, null, null, FROM, null)))
+        .expectError(InvalidSearchCriteriaException.class)
+        .verify();
+
+    verify(paymentOrderExportPort, never()).export(any());
+  }
+
+  @Test
+  @DisplayName("Debe rechazar un rango de creación invertido")
+  void shouldRejectInvertedRange() {
+    // When / Then
+    StepVerifier.create(service.export(
+            new PaymentOrderSearchCriteria(null, null, null, TO, FROM)))
+        .expectError(InvalidSearchCriteriaException.class)
+        .verify();
+
+    verify(paymentOrderExportPort, never()).export(any());
+  }
+}
@@ -0,0 +1,61 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.port.out.IdempotencyKeyPort;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * IdempotencyKeyRetentionTest - Tests unitarios para IdempotencyKeyRetention.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyRetentionTest {
+
+  @Mock
+  private IdempotencyKeyPort idempotencyKeyPort;
+
+  @Test
+  @DisplayName("Debe seguir eliminando mientras los bloques salen completos")
+  void shouldKeepPurgingWhileBatchesAreFull() {
+    // Given
+    IdempotencyKeyRetention retention = new IdempotencyKeyRetention(idempotencyKeyPort,
+        Duration.ofHours(24), Duration.ofHours(1), 100, Duration.ofHours(1));
+    when(idempotencyKeyPort.purgeExpired(any(OffsetDateTime.class), eq(100)))
+        .thenReturn(Mono.just(100), Mono.just(100), Mono.just(3));
+
+    // When / Then
+    StepVerifier.create(retention.purge())
+        .expectNext(203)
+        .verifyComplete();
+    ArgumentCaptor<OffsetDateTime> before = ArgumentCaptor.forClass(OffsetDateTime.class);
+    verify(idempotencyKeyPort, times(3)).purgeExpired(before.capture(), eq(100));
+    assertThat(before.getAllValues()).containsOnly(before.getValue())
+        .allSatisfy(instant -> assertThat(instant)
+            .isBefore(OffsetDateTime.now().minusHours(23)));
+  }
+
+  @Test
+  @DisplayName("Debe rechazar una retención menor que la vida de la caché en memoria")
+  void shouldRejectRetentionShorterThanCacheTimeToLive() {
+    // When / Then
+    assertThatThrownBy(() -> new IdempotencyKeyRetention(idempotencyKeyPort,
+        Duration.ofMinutes(30), Duration.ofHours(1), 100, Duration.ofHours(1)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("payment-orders.idempotency.retention");
+  }
+}
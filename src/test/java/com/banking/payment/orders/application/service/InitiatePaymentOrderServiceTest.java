@@ -1,26 +1,41 @@
 package com.banking.payment.orders.application.service;
 
+import com.banking.payment.orders.application.validation.PaymentOrderValidator;
 import com.banking.payment.orders.domain.model.DateInformation;
 import com.banking.payment.orders.domain.model.Payee;
 import com.banking.payment.orders.domain.model.Payer;
 import com.banking.payment.orders.domain.model.PaymentDetails;
 import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
 import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderResult;
+import com.banking.payment.orders.domain.port.out.IdempotencyKeyPort;
 import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,13 +48,19 @@ class InitiatePaymentOrderServiceTest {
   @Mock
   private PaymentOrderPort paymentOrderPort;
 
-  @InjectMocks
+  @Mock
+  private IdempotencyKeyPort idempotencyKeyPort;
+
   private InitiatePaymentOrderService service;
 
   private InitiatePaymentOrderCommand validCommand;
 
   @BeforeEach
   void setUp() {
+    service = new InitiatePaymentOrderService(
+        paymentOrderPort, idempotencyKeyPort,
+        new PaymentOrderValidator(true, new BigDecimal("999999999.99"), 0, 365),
+        2, 100, Duration.ofMinutes(5));
     validCommand = new InitiatePaymentOrderCommand(
         "TXN-12345",
         "John Doe",
@@ -47,7 +68,7 @@ class InitiatePaymentOrderServiceTest {
         "ES9121000418450200051332",
         "Jane Smith",
         "BANK002",
-        "ES9121000418450200051333",
+        "ES6421000418450200051333",
         new BigDecimal("150.00"),
         "EUR",
         "CreditTransfer",
@@ -102,7 +123,7 @@ class InitiatePaymentOrderServiceTest {
               .isEqualTo(validCommand.payerReference());
           assertThat(order.getPayee().payeeReference())
               .isEqualTo(validCommand.payeeReference());
-          assertThat(order.getPaymentDetails().amount())
+          assertThat(order.getPaymentDetails().amount().toBigDecimal())
               .isEqualByComparingTo(validCommand.amount());
           assertThat(order.getPaymentDetails().currency())
               .isEqualTo(validCommand.currency());
@@ -129,4 +150,250 @@ class InitiatePaymentOrderServiceTest {
             && throwable.getMessage().equals("Database error"))
         .verify();
   }
+
+  @Test
+  @DisplayName("Debe rechazar el comando con todas sus infracciones sin llamar al puerto")
+  void shouldRejectWithAllViolationsWhenCommandIsInvalid() {
+    // Given
+    InitiatePaymentOrderCommand invalidCommand = new InitiatePaymentOrderCommand(
+        "TXN-BAD", null, null, "ES0021000418450200051332", null, null,
+        "ES6421000418450200051333", new BigDecimal("10.001"), "EUR", null,
+        "RequestedExecutionDate", LocalDate.now().minusDays(1), null);
+
+    // When
+    Mono<PaymentOrderProcedure> result = service.initiate(invalidCommand);
+
+    // Then
+    StepVerifier.create(result)
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(InvalidPaymentOrderException.class)
+            .hasMessage("Invalid payment order data: "
+                + "payerProductInstanceReference: is not a valid IBAN, "
+                + "amount: has more decimals than the currency allows, "
+                + "date: is before the allowed window"))
+        .verify();
+
+    verify(paymentOrderPort, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Debe persistir el lote en bloques y conservar el orden de los resultados")
+  void shouldInsertBatchInChunksAndKeepOrderWhenCommandsAreValid() {
+    // Given
+    when(paymentOrderPort.insertAll(anyList()))
+        .thenAnswer(invocation -> Flux.fromIterable(
+            invocation.<List<PaymentOrderProcedure>>getArgument(0)));
+
+    // When
+    Flux<InitiatePaymentOrderResult> result = service.initiateBatch(
+        Flux.just(commandWithReference("TXN-1"), commandWithReference("TXN-2"),
+            commandWithReference("TXN-3")));
+
+    // Then
+    StepVerifier.create(result)
+        .assertNext(item -> assertThat(item.paymentOrder().getPaymentTransactionInitiatorReference())
+            .isEqualTo("TXN-1"))
+        .assertNext(item -> assertThat(item.paymentOrder().getPaymentTransactionInitiatorReference())
+            .isEqualTo("TXN-2"))
+        .assertNext(item -> assertThat(item.paymentOrder().getPaymentTransactionInitiatorReference())
+            .isEqualTo("TXN-3"))
+        .verifyComplete();
+
+    verify(paymentOrderPort, times(2)).insertAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe rechazar solo el comando inválido del lote")
+  void shouldRejectOnlyInvalidCommandWhenBatchContainsInvalidItem() {
+    // Given
+    InitiatePaymentOrderCommand invalidCommand = new InitiatePaymentOrderCommand(
+        "TXN-BAD", null, null, "ES9121000418450200051332", null, null,
+        "ES6421000418450200051333", BigDecimal.ZERO, "EUR", null,
+        "RequestedExecutionDate", LocalDate.now(), null);
+    when(paymentOrderPort.insertAll(anyList()))
+        .thenAnswer(invocation -> Flux.fromIterable(
+            invocation.<List<PaymentOrderProcedure>>getArgument(0)));
+
+    // When
+    Flux<InitiatePaymentOrderResult> result = service.initiateBatch(
+        Flux.just(invalidCommand, validCommand));
+
+    // Then
+    StepVerifier.create(result)
+        .assertNext(item -> {
+          assertThat(item.isSuccess()).isFalse();
+          assertThat(item.error()).isInstanceOf(InvalidPaymentOrderException.class)
+              .hasMessageContaining("amount: must be greater than zero");
+        })
+        .assertNext(item -> assertThat(item.isSuccess()).isTrue())
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe validar cada comando del lote una sola vez")
+  void shouldValidateEachBatchCommandOnce() {
+    // Given
+    PaymentOrderValidator validator =
+        spy(new PaymentOrderValidator(true, new BigDecimal("999999999.99"), 0, 365));
+    InitiatePaymentOrderService batchService = new InitiatePaymentOrderService(
+        paymentOrderPort, idempotencyKeyPort, validator, 2, 100, Duration.ofMinutes(5));
+    InitiatePaymentOrderCommand first = commandWithReference("TXN-1");
+    InitiatePaymentOrderCommand second = commandWithReference("TXN-2");
+    when(paymentOrderPort.insertAll(anyList()))
+        .thenAnswer(invocation -> Flux.fromIterable(
+            invocation.<List<PaymentOrderProcedure>>getArgument(0)));
+
+    // When
+    Flux<InitiatePaymentOrderResult> result = batchService.initiateBatch(Flux.just(first, second));
+
+    // Then
+    StepVerifier.create(result)
+        .expectNextCount(2)
+        .verifyComplete();
+
+    verify(validator, times(1)).validate(first);
+    verify(validator, times(1)).validate(second);
+  }
+
+  @Test
+  @DisplayName("Debe reintentar orden por orden cuando falla el INSERT multi-fila")
+  void shouldFallBackToIndividualSavesWhenChunkInsertFails() {
+    // Given
+    when(paymentOrderPort.insertAll(anyList()))
+        .thenReturn(Flux.error(new RuntimeException("value too long")));
+    when(paymentOrderPort.save(any(PaymentOrderProcedure.class)))
+        .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)))
+        .thenReturn(Mono.error(new RuntimeException("value too long")));
+
+    // When
+    Flux<InitiatePaymentOrderResult> result = service.initiateBatch(
+        Flux.just(commandWithReference("TXN-1"), commandWithReference("TXN-2")));
+
+    // Then
+    StepVerifier.create(result)
+        .assertNext(item -> assertThat(item.isSuccess()).isTrue())
+        .assertNext(item -> assertThat(item.error()).hasMessage("value too long"))
+        .verifyComplete();
+
+    verify(paymentOrderPort, times(2)).save(any(PaymentOrderProcedure.class));
+  }
+
+  @Test
+  @DisplayName("Debe devolver la orden original al repetir la Idempotency-Key sin volver a crearla")
+  void shouldReplayOriginalOrderWhenIdempotencyKeyIsRepeated() {
+    // Given
+    when(idempotencyKeyPort.reserve(eq("key-1"), any(UUID.class), any()))
+        .thenAnswer(this::reserveAndPersist);
+    when(paymentOrderPort.save(any(PaymentOrderProcedure.class)))
+        .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    when(paymentOrderPort.findById(any(UUID.class)))
+        .thenAnswer(invocation -> Mono.just(orderWithId(invocation.getArgument(0))));
+
+    // When
+    PaymentOrderProcedure first = service.initiate(validCommand, "key-1").block();
+    PaymentOrderProcedure replay = service.initiate(validCommand, "key-1").block();
+
+    // Then
+    assertThat(replay.getPaymentOrderProcedureInstanceReference())
+        .isEqualTo(first.getPaymentOrderProcedureInstanceReference());
+    verify(idempotencyKeyPort, times(1)).reserve(eq("key-1"), any(UUID.class), any());
+    verify(paymentOrderPort, times(1)).save(any(PaymentOrderProcedure.class));
+  }
+
+  @Test
+  @DisplayName("Debe agrupar solicitudes concurrentes con la misma clave en un único INSERT")
+  void shouldCoalesceConcurrentRequestsWithSameIdempotencyKey() {
+    // Given
+    Sinks.Empty<Void> pendingSave = Sinks.empty();
+    when(idempotencyKeyPort.reserve(eq("key-2"), any(UUID.class), any()))
+        .thenAnswer(this::reserveAndPersist);
+    when(paymentOrderPort.save(any(PaymentOrderProcedure.class)))
+        .thenAnswer(invocation -> {
+          PaymentOrderProcedure order = invocation.getArgument(0);
+          return pendingSave.asMono().thenReturn(order);
+        });
+    when(paymentOrderPort.findById(any(UUID.class)))
+        .thenAnswer(invocation -> Mono.just(orderWithId(invocation.getArgument(0))));
+
+    // When
+    Mono<List<PaymentOrderProcedure>> both = Mono.zip(
+            service.initiate(validCommand, "key-2"), service.initiate(validCommand, "key-2"))
+        .map(tuple -> List.of(tuple.getT1(), tuple.getT2()));
+
+    // Then
+    StepVerifier.create(both)
+        .then(pendingSave::tryEmitEmpty)
+        .assertNext(orders -> assertThat(orders.get(0).getPaymentOrderProcedureInstanceReference())
+            .isEqualTo(orders.get(1).getPaymentOrderProcedureInstanceReference()))
+        .verifyComplete();
+    verify(paymentOrderPort, times(1)).save(any(PaymentOrderProcedure.class));
+  }
+
+  @Test
+  @DisplayName("Debe devolver la orden registrada por otra solicitud con la misma clave")
+  void shouldReturnExistingOrderWhenKeyWasReservedElsewhere() {
+    // Given
+    UUID existingId = UUID.randomUUID();
+    when(idempotencyKeyPort.reserve(eq("key-3"), any(UUID.class), any()))
+        .thenReturn(Mono.just(existingId));
+    PaymentOrderProcedure existingOrder = orderWithId(existingId);
+    when(paymentOrderPort.findById(existingId))
+        .thenReturn(Mono.just(existingOrder));
+
+    // When / Then
+    StepVerifier.create(service.initiate(validCommand, "key-3"))
+        .assertNext(order -> assertThat(order.getPaymentOrderProcedureInstanceReference())
+            .isEqualTo(existingId))
+        .verifyComplete();
+    verify(paymentOrderPort, never()).save(any(PaymentOrderProcedure.class));
+  }
+
+  @Test
+  @DisplayName("Debe persistir la orden dentro de la reserva y reintentarla si falla")
+  void shouldPersistOrderWithinReservationAndRetryWhenSaveFails() {
+    // Given
+    when(idempotencyKeyPort.reserve(eq("key-4"), any(UUID.class), any()))
+        .thenAnswer(this::reserveAndPersist);
+    when(paymentOrderPort.save(any(PaymentOrderProcedure.class)))
+        .thenReturn(Mono.error(new RuntimeException("Database error")));
+
+    // When / Then
+    StepVerifier.create(service.initiate(validCommand, "key-4"))
+        .expectErrorMessage("Database error")
+        .verify();
+    StepVerifier.create(service.initiate(validCommand, "key-4"))
+        .expectErrorMessage("Database error")
+        .verify();
+    verify(idempotencyKeyPort, times(2)).reserve(eq("key-4"), any(UUID.class), any());
+    verify(paymentOrderPort, times(2)).save(any(PaymentOrderProcedure.class));
+  }
+
+  private Mono<UUID> reserveAndPersist(InvocationOnMock invocation) {
+    Mono<?> onReserved = invocation.getArgument(2);
+    return onReserved.thenReturn(invocation.<UUID>getArgument(1));
+  }
+
+  private PaymentOrderProcedure orderWithId(UUID id) {
+    PaymentOrderProcedure order = mock(PaymentOrderProcedure.class);
+    when(order.getPaymentOrderProcedureInstanceReference()).thenReturn(id);
+    return order;
+  }
+
+  private InitiatePaymentOrderCommand commandWithReference(String reference) {
+    return new InitiatePaymentOrderCommand(
+        reference,
+        validCommand.payerReference(),
+        validCommand.payerBankReference(),
+        validCommand.payerProductInstanceReference(),
+        validCommand.payeeReference(),
+        validCommand.payeeBankReference(),
+        validCommand.payeeProductInstanceReference(),
+        validCommand.amount(),
+        validCommand.currency(),
+        validCommand.paymentMechanismType(),
+        validCommand.dateType(),
+        validCommand.date(),
+        validCommand.remittanceInformation()
+    );
+  }
 }
@@ -0,0 +1,116 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.application.metrics.PaymentOrderOutboxMetrics;
+import com.banking.payment.orders.domain.port.out.PaymentOrderEventPublisher;
+import com.banking.payment.orders.domain.port.out.PaymentOrderOutboxPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PaymentOrderOutboxRelayTest - Tests unitarios para PaymentOrderOutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentOrderOutboxRelayTest {
+
+  @Mock
+  private PaymentOrderOutboxPort outboxPort;
+
+  @Mock
+  private PaymentOrderEventPublisher publisher;
+
+  @Mock
+  private ObjectProvider<PaymentOrderOutboxMetrics> metrics;
+
+  private PaymentOrderOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay = new PaymentOrderOutboxRelay(
+        outboxPort, publisher, metrics, 100, Duration.ofHours(1), Duration.ofDays(7));
+  }
+
+  @Test
+  @DisplayName("Debe seguir drenando mientras los bloques salen completos")
+  void shouldKeepDrainingWhileBatchesAreFull() {
+    // Given
+    when(outboxPort.publishPending(eq(100), any(PaymentOrderEventPublisher.class)))
+        .thenReturn(Mono.just(100), Mono.just(100), Mono.just(7));
+
+    // When / Then
+    StepVerifier.create(relay.drain())
+        .expectNext(207)
+        .verifyComplete();
+    verify(outboxPort, times(3)).publishPending(100, publisher);
+  }
+
+  @Test
+  @DisplayName("Debe hacer un único reclamo cuando la bandeja está vacía")
+  void shouldClaimOnceWhenOutboxIsEmpty() {
+    // Given
+    when(outboxPort.publishPending(100, publisher)).thenReturn(Mono.just(0));
+
+    // When / Then
+    StepVerifier.create(relay.drain())
+        .expectNext(0)
+        .verifyComplete();
+    verify(outboxPort, times(1)).publishPending(100, publisher);
+  }
+
+  @Test
+  @DisplayName("Debe eliminar por bloques los eventos sin entregar pasada la retención")
+  void shouldExpireUndeliveredEventsPastRetention() {
+    // Given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    when(metrics.getIfAvailable()).thenReturn(new PaymentOrderOutboxMetrics(meterRegistry));
+    relay = new PaymentOrderOutboxRelay(
+        outboxPort, publisher, metrics, 100, Duration.ofHours(1), Duration.ofDays(7));
+    when(outboxPort.purgeExpired(any(OffsetDateTime.class), eq(100)))
+        .thenReturn(Mono.just(100), Mono.just(3));
+    OffsetDateTime limit = OffsetDateTime.now().minusDays(7);
+
+    // When / Then
+    StepVerifier.create(relay.expire())
+        .expectNext(103)
+        .verifyComplete();
+    ArgumentCaptor<OffsetDateTime> before = ArgumentCaptor.forClass(OffsetDateTime.class);
+    verify(outboxPort, times(2)).purgeExpired(before.capture(), eq(100));
+    assertThat(before.getValue()).isBetween(limit, limit.plusMinutes(1));
+    assertThat(meterRegistry.get(PaymentOrderOutboxMetrics.EXPIRED_COUNTER).counter().count())
+        .isEqualTo(103.0);
+  }
+
+  @Test
+  @DisplayName("Debe detener el sondeo al parar el ciclo de vida")
+  void shouldStopPollingWhenStopped() {
+    // Given
+    lenient().when(outboxPort.publishPending(100, publisher)).thenReturn(Mono.just(0));
+    lenient().when(outboxPort.purgeExpired(any(OffsetDateTime.class), eq(100)))
+        .thenReturn(Mono.just(0));
+
+    // When
+    relay.start();
+    relay.stop();
+
+    // Then
+    assertThat(relay.isRunning()).isFalse();
+  }
+}
@@ -0,0 +1,73 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RetrievePaymentOrderStatusServiceTest - Tests unitarios para RetrievePaymentOrderStatusService.
+ */
+@ExtendWith(MockitoExtension.class)
+class RetrievePaymentOrderStatusServiceTest {
+
+  @Mock
+  private PaymentOrderPort paymentOrderPort;
+
+  @InjectMocks
+  private RetrievePaymentOrderStatusService service;
+
+  @Test
+  @DisplayName("Debe recuperar el estado usando la proyección de estado")
+  void shouldRetrieveStatusFromProjectionWhenOrderExists() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    PaymentOrderStatusSnapshot snapshot = new PaymentOrderStatusSnapshot(
+        orderId, PaymentOrderStatus.PENDING, OffsetDateTime.now());
+    when(paymentOrderPort.findStatusById(orderId))
+        .thenReturn(Mono.just(snapshot));
+
+    // When
+    Mono<PaymentOrderStatusSnapshot> result = service.retrieveStatus(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(snapshot)
+        .verifyComplete();
+
+    verify(paymentOrderPort).findStatusById(orderId);
+    verify(paymentOrderPort, never()).findById(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Debe lanzar excepción si orden no existe")
+  void shouldThrowNotFoundExceptionWhenOrderDoesNotExist() {
+    // Given
+    UUID nonExistentId = UUID.randomUUID();
+    when(paymentOrderPort.findStatusById(nonExistentId))
+        .thenReturn(Mono.empty());
+
+    // When
+    Mono<PaymentOrderStatusSnapshot> result = service.retrieveStatus(nonExistentId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectError(PaymentOrderNotFoundException.class)
+        .verify();
+  }
+}
@@ -0,0 +1,136 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderIdsException;
+import com.banking.payment.orders.domain.model.DateInformation;
+import com.banking.payment.orders.domain.model.Payee;
+import com.banking.payment.orders.domain.model.Payer;
+import com.banking.payment.orders.domain.model.PaymentDetails;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RetrievePaymentOrdersServiceTest - Tests unitarios para RetrievePaymentOrdersService.
+ */
+@ExtendWith(MockitoExtension.class)
+class RetrievePaymentOrdersServiceTest {
+
+  @Mock
+  private PaymentOrderPort paymentOrderPort;
+
+  private RetrievePaymentOrdersService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new RetrievePaymentOrdersService(paymentOrderPort, 3);
+  }
+
+  @Test
+  @DisplayName("Debe devolver las órdenes en el orden pedido e informar las inexistentes")
+  void shouldReturnOrdersInRequestedOrderAndReportMissingIds() {
+    // Given
+    PaymentOrderProcedure first = order("TXN-1");
+    PaymentOrderProcedure second = order("TXN-2");
+    UUID firstId = first.getPaymentOrderProcedureInstanceReference();
+    UUID secondId = second.getPaymentOrderProcedureInstanceReference();
+    UUID missingId = UUID.randomUUID();
+    when(paymentOrderPort.findAllById(List.of(secondId, missingId, firstId)))
+        .thenReturn(Flux.just(first, second));
+
+    // When / Then
+    StepVerifier.create(service.retrieveAll(List.of(secondId, missingId, firstId)))
+        .assertNext(retrieved -> {
+          assertThat(retrieved.paymentOrders()).containsExactly(second, first);
+          assertThat(retrieved.notFound()).containsExactly(missingId);
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe consultar una sola vez los IDs repetidos")
+  void shouldQueryRepeatedIdsOnce() {
+    // Given
+    PaymentOrderProcedure existing = order("TXN-1");
+    UUID orderId = existing.getPaymentOrderProcedureInstanceReference();
+    when(paymentOrderPort.findAllById(List.of(orderId))).thenReturn(Flux.just(existing));
+
+    // When / Then
+    StepVerifier.create(service.retrieveAll(List.of(orderId, orderId, orderId)))
+        .assertNext(retrieved -> {
+          assertThat(retrieved.paymentOrders()).containsExactly(existing);
+          assertThat(retrieved.notFound()).isEmpty();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe rechazar una petición vacía o con más IDs que el máximo")
+  void shouldRejectEmptyOrOversizedRequest() {
+    // When / Then
+    StepVerifier.create(service.retrieveAll(List.of()))
+        .expectError(InvalidPaymentOrderIdsException.class)
+        .verify();
+    StepVerifier.create(service.retrieveAll(List.of(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID())))
+        .expectError(InvalidPaymentOrderIdsException.class)
+        .verify();
+
+    verify(paymentOrderPort, never()).findAllById(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe aplicar el máximo de IDs antes de eliminar los repetidos")
+  void shouldRejectOversizedRequestEvenWhenIdsRepeat() {
+    // Given
+    List<UUID> repeated = Collections.nCopies(4, UUID.randomUUID());
+
+    // When / Then
+    StepVerifier.create(service.retrieveAll(repeated))
+        .expectError(InvalidPaymentOrderIdsException.class)
+        .verify();
+
+    verify(paymentOrderPort, never()).findAllById(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe rechazar una petición con IDs nulos")
+  void shouldRejectNullIds() {
+    // When / Then
+    StepVerifier.create(service.retrieveAll(Arrays.asList(UUID.randomUUID(), null)))
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(InvalidPaymentOrderIdsException.class)
+            .hasMessage("paymentOrderIds must not contain null ids"))
+        .verify();
+
+    verify(paymentOrderPort, never()).findAllById(anyList());
+  }
+
+  private static PaymentOrderProcedure order(String reference) {
+    return PaymentOrderProcedure.initiate(
+        reference,
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        new PaymentDetails(new BigDecimal("150.00"), "EUR", "CreditTransfer"),
+        new DateInformation("RequestedExecutionDate", LocalDate.now().plusDays(1)),
+        null);
+  }
+}
@@ -0,0 +1,90 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.model.PaymentOrderProcedure;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCriteria;
+import com.banking.payment.orders.domain.model.PaymentOrderSearchCursor;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SearchPaymentOrdersServiceTest - Tests unitarios para SearchPaymentOrdersService.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchPaymentOrdersServiceTest {
+
+  private static final PaymentOrderSearchCriteria NO_FILTERS =
+      new PaymentOrderSearchCriteria(null, null, null, null, null);
+
+  @Mock
+  private PaymentOrderPort paymentOrderPort;
+
+  private SearchPaymentOrdersService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new SearchPaymentOrdersService(paymentOrderPort, 500);
+  }
+
+  @Test
+  @DisplayName("Debe delegar la búsqueda en el puerto con cursor y límite")
+  void shouldDelegateSearchToPort() {
+    // Given
+    PaymentOrderSearchCursor cursor =
+        new PaymentOrderSearchCursor(OffsetDateTime.now(), UUID.randomUUID());
+    PaymentOrderProcedure paymentOrder = mock(PaymentOrderProcedure.class);
+    when(paymentOrderPort.search(NO_FILTERS, cursor, 50)).thenReturn(Flux.just(paymentOrder));
+
+    // When / Then
+    StepVerifier.create(service.search(NO_FILTERS, cursor, 50))
+        .expectNext(paymentOrder)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe rechazar un límite fuera de rango sin consultar el puerto")
+  void shouldRejectLimitOutOfRange() {
+    // When / Then
+    StepVerifier.create(service.search(NO_FILTERS, null, 0))
+        .expectError(InvalidSearchCriteriaException.class)
+        .verify();
+    StepVerifier.create(service.search(NO_FILTERS, null, 501))
+        .expectError(InvalidSearchCriteriaException.class)
+        .verify();
+
+    verify(paymentOrderPort, never()).search(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Debe rechazar un rango de creación vacío o invertido")
+  void shouldRejectEmptyCreatedRange() {
+    // Given
+    OffsetDateTime instant = OffsetDateTime.parse("2025-10-30T14:30:00Z");
+    PaymentOrderSearchCriteria criteria =
+        new PaymentOrderSearchCriteria(null, null, null, instant, instant);
+
+    // When / Then
+    StepVerifier.create(service.search(criteria, null, 10))
+        .expectErrorMatches(error -> error instanceof InvalidSearchCriteriaException
+            && error.getMessage().contains("createdFrom"))
+        .verify();
+
+    verify(paymentOrderPort, never()).search(any(), any(), anyInt());
+  }
+}
@@ -0,0 +1,197 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import com.banking.payment.orders.domain.port.out.PaymentOrderStatusChangePort;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * StreamPaymentOrderStatusServiceTest - Tests unitarios para StreamPaymentOrderStatusService.
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamPaymentOrderStatusServiceTest {
+
+  private static final OffsetDateTime CREATED = OffsetDateTime.parse("2026-01-01T10:00:00Z");
+
+  @Mock
+  private PaymentOrderPort paymentOrderPort;
+
+  private FakeStatusChangePort statusChangePort;
+  private StreamPaymentOrderStatusService service;
+
+  @BeforeEach
+  void setUp() {
+    statusChangePort = new FakeStatusChangePort();
+    service = new StreamPaymentOrderStatusService(paymentOrderPort, statusChangePort);
+  }
+
+  @Test
+  @DisplayName("Debe emitir el estado actual y los cambios hasta un estado terminal")
+  void shouldEmitCurrentStatusAndChangesUntilTerminal() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(paymentOrderPort.findStatusesByIds(List.of(orderId)))
+        .thenReturn(Flux.just(snapshot(orderId, PaymentOrderStatus.INITIATED, 0)));
+
+    // When
+    Flux<PaymentOrderStatusSnapshot> result = service.streamStatus(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(snapshot(orderId, PaymentOrderStatus.INITIATED, 0))
+        .then(() -> statusChangePort.emit(snapshot(orderId, PaymentOrderStatus.PENDING, 1)))
+        .expectNext(snapshot(orderId, PaymentOrderStatus.PENDING, 1))
+        .then(() -> statusChangePort.emit(snapshot(orderId, PaymentOrderStatus.CANCELLED, 2)))
+        .expectNext(snapshot(orderId, PaymentOrderStatus.CANCELLED, 2))
+        .verifyComplete();
+
+    assertThat(service.trackedOrders()).isZero();
+    assertThat(statusChangePort.active.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe ignorar cambios de otras órdenes y estados no posteriores")
+  void shouldIgnoreOtherOrdersAndStaleStatuses() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(paymentOrderPort.findStatusesByIds(List.of(orderId)))
+        .thenReturn(Flux.just(snapshot(orderId, PaymentOrderStatus.PENDING, 1)));
+
+    // When
+    Flux<PaymentOrderStatusSnapshot> result = service.streamStatus(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(snapshot(orderId, PaymentOrderStatus.PENDING, 1))
+        .then(() -> {
+          statusChangePort.emit(snapshot(UUID.randomUUID(), PaymentOrderStatus.ACCEPTED, 2));
+          statusChangePort.emit(snapshot(orderId, PaymentOrderStatus.PENDING, 1));
+          statusChangePort.emit(snapshot(orderId, PaymentOrderStatus.ACCEPTED, 3));
+        })
+        .expectNext(snapshot(orderId, PaymentOrderStatus.ACCEPTED, 3))
+        .thenCancel()
+        .verify();
+
+    assertThat(service.trackedOrders()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe compartir una única escucha entre seguimientos")
+  void shouldShareSingleListenerAcrossStreams() {
+    // Given
+    UUID firstId = UUID.randomUUID();
+    UUID secondId = UUID.randomUUID();
+    when(paymentOrderPort.findStatusesByIds(List.of(firstId)))
+        .thenReturn(Flux.just(snapshot(firstId, PaymentOrderStatus.PENDING, 0)));
+    when(paymentOrderPort.findStatusesByIds(List.of(secondId)))
+        .thenReturn(Flux.just(snapshot(secondId, PaymentOrderStatus.PENDING, 0)));
+
+    // When
+    var first = service.streamStatus(firstId).subscribe();
+    var second = service.streamStatus(secondId).subscribe();
+    var sameOrder = service.streamStatus(firstId).subscribe();
+
+    // Then
+    assertThat(statusChangePort.subscriptions.get()).isEqualTo(1);
+    assertThat(service.trackedOrders()).isEqualTo(2);
+
+    first.dispose();
+    second.dispose();
+    assertThat(service.trackedOrders()).isEqualTo(1);
+    assertThat(statusChangePort.active.get()).isEqualTo(1);
+
+    sameOrder.dispose();
+    assertThat(service.trackedOrders()).isZero();
+    assertThat(statusChangePort.active.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("Debe releer las órdenes seguidas cuando la escucha se restablece")
+  void shouldResyncTrackedOrdersWhenListeningResumes() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(paymentOrderPort.findStatusesByIds(List.of(orderId)))
+        .thenReturn(Flux.just(snapshot(orderId, PaymentOrderStatus.PENDING, 1)))
+        .thenReturn(Flux.just(snapshot(orderId, PaymentOrderStatus.COMPLETED, 4)));
+
+    // When
+    Flux<PaymentOrderStatusSnapshot> result = service.streamStatus(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectNext(snapshot(orderId, PaymentOrderStatus.PENDING, 1))
+        .then(() -> statusChangePort.onListening.get().run())
+        .expectNext(snapshot(orderId, PaymentOrderStatus.COMPLETED, 4))
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  @DisplayName("Debe fallar y liberar el registro si la orden no existe")
+  void shouldFailAndReleaseWhenOrderDoesNotExist() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    when(paymentOrderPort.findStatusesByIds(List.of(orderId))).thenReturn(Flux.empty());
+
+    // When
+    Flux<PaymentOrderStatusSnapshot> result = service.streamStatus(orderId);
+
+    // Then
+    StepVerifier.create(result)
+        .expectError(PaymentOrderNotFoundException.class)
+        .verify();
+
+    assertThat(service.trackedOrders()).isZero();
+    assertThat(statusChangePort.active.get()).isZero();
+  }
+
+  private static PaymentOrderStatusSnapshot snapshot(
+      UUID orderId, PaymentOrderStatus status, int minutes) {
+    return new PaymentOrderStatusSnapshot(orderId, status, CREATED.plusMinutes(minutes));
+  }
+
+  /**
+   * Puerto de cambios en memoria: cuenta las escuchas abiertas y permite emitir cambios.
+   */
+  private static final class FakeStatusChangePort implements PaymentOrderStatusChangePort {
+
+    private final Sinks.Many<PaymentOrderStatusSnapshot> changes =
+        Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscriptions = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicReference<Runnable> onListening = new AtomicReference<>();
+
+    @Override
+    public Flux<PaymentOrderStatusSnapshot> statusChanges(Runnable onListening) {
+      return changes.asFlux()
+          .doOnSubscribe(subscription -> {
+            subscriptions.incrementAndGet();
+            active.incrementAndGet();
+            this.onListening.set(onListening);
+          })
+          .doOnCancel(active::decrementAndGet);
+    }
+
+    void emit(PaymentOrderStatusSnapshot status) {
+      changes.tryEmitNext(status);
+    }
+  }
+}
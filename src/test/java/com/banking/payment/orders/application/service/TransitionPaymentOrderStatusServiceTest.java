@@ -0,0 +1,154 @@
+package com.banking.payment.orders.application.service;
+
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import com.banking.payment.orders.domain.model.PaymentOrderStatusSnapshot;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase.Outcome;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase.StatusTransitionCommand;
+import com.banking.payment.orders.domain.port.in.TransitionPaymentOrderStatusUseCase.StatusTransitionResult;
+import com.banking.payment.orders.domain.port.out.PaymentOrderPort;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TransitionPaymentOrderStatusServiceTest - Tests unitarios para
+ * TransitionPaymentOrderStatusService.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransitionPaymentOrderStatusServiceTest {
+
+  private static final PaymentOrderStatus INITIATED = PaymentOrderStatus.INITIATED;
+  private static final PaymentOrderStatus PENDING = PaymentOrderStatus.PENDING;
+  private static final PaymentOrderStatus ACCEPTED = PaymentOrderStatus.ACCEPTED;
+
+  @Mock
+  private PaymentOrderPort paymentOrderPort;
+
+  private TransitionPaymentOrderStatusService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new TransitionPaymentOrderStatusService(paymentOrderPort);
+  }
+
+  @Test
+  @DisplayName("Debe aplicar con una sentencia por par origen/destino y mantener el orden")
+  void shouldApplyOneStatementPerTransitionPairInInputOrder() {
+    // Given
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    when(paymentOrderPort.transitionStatus(List.of(first, third), INITIATED, PENDING))
+        .thenReturn(Flux.just(snapshot(third, PENDING), snapshot(first, PENDING)));
+    when(paymentOrderPort.transitionStatus(List.of(second), PENDING, ACCEPTED))
+        .thenReturn(Flux.just(snapshot(second, ACCEPTED)));
+
+    // When / Then
+    StepVerifier.create(service.transition(List.of(
+            new StatusTransitionCommand(first, INITIATED, PENDING),
+            new StatusTransitionCommand(second, PENDING, ACCEPTED),
+            new StatusTransitionCommand(third, INITIATED, PENDING))))
+        .assertNext(result -> assertApplied(result, first, PENDING))
+        .assertNext(result -> assertApplied(result, second, ACCEPTED))
+        .assertNext(result -> assertApplied(result, third, PENDING))
+        .verifyComplete();
+    InOrder order = inOrder(paymentOrderPort);
+    order.verify(paymentOrderPort).transitionStatus(List.of(first, third), INITIATED, PENDING);
+    order.verify(paymentOrderPort).transitionStatus(List.of(second), PENDING, ACCEPTED);
+    verify(paymentOrderPort, never()).findStatusesByIds(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe distinguir conflicto de orden inexistente con una única consulta")
+  void shouldResolveConflictAndNotFoundWithSingleLookup() {
+    // Given
+    UUID applied = UUID.randomUUID();
+    UUID moved = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    when(paymentOrderPort.transitionStatus(List.of(applied, moved, missing), INITIATED, PENDING))
+        .thenReturn(Flux.just(snapshot(applied, PENDING)));
+    when(paymentOrderPort.findStatusesByIds(List.of(moved, missing)))
+        .thenReturn(Flux.just(snapshot(moved, ACCEPTED)));
+
+    // When / Then
+    StepVerifier.create(service.transition(List.of(
+            new StatusTransitionCommand(applied, INITIATED, PENDING),
+            new StatusTransitionCommand(moved, INITIATED, PENDING),
+            new StatusTransitionCommand(missing, INITIATED, PENDING))))
+        .assertNext(result -> assertApplied(result, applied, PENDING))
+        .assertNext(result -> {
+          assertThat(result.outcome()).isEqualTo(Outcome.CONFLICT);
+          assertThat(result.status().paymentOrderProcedureInstanceStatus()).isEqualTo(ACCEPTED);
+        })
+        .assertNext(result -> {
+          assertThat(result.paymentOrderId()).isEqualTo(missing);
+          assertThat(result.outcome()).isEqualTo(Outcome.NOT_FOUND);
+          assertThat(result.status()).isNull();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe rechazar transiciones ilegales sin acceder a la base de datos")
+  void shouldRejectIllegalTransitionsWithoutTouchingDatabase() {
+    // Given
+    UUID paymentOrderId = UUID.randomUUID();
+
+    // When / Then
+    StepVerifier.create(service.transition(List.of(
+            new StatusTransitionCommand(paymentOrderId, INITIATED, PaymentOrderStatus.SETTLED),
+            new StatusTransitionCommand(paymentOrderId, null, PENDING))))
+        .assertNext(result -> assertThat(result.outcome()).isEqualTo(Outcome.INVALID_TRANSITION))
+        .assertNext(result -> assertThat(result.outcome()).isEqualTo(Outcome.INVALID_TRANSITION))
+        .verifyComplete();
+    verify(paymentOrderPort, never()).transitionStatus(anyList(), any(), any());
+    verify(paymentOrderPort, never()).findStatusesByIds(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe aplicar una sola vez una orden repetida en el mismo grupo")
+  void shouldApplyDuplicatedOrderOnlyOnce() {
+    // Given
+    UUID paymentOrderId = UUID.randomUUID();
+    when(paymentOrderPort.transitionStatus(List.of(paymentOrderId), INITIATED, PENDING))
+        .thenReturn(Flux.just(snapshot(paymentOrderId, PENDING)));
+    when(paymentOrderPort.findStatusesByIds(List.of(paymentOrderId)))
+        .thenReturn(Flux.just(snapshot(paymentOrderId, PENDING)));
+
+    // When / Then
+    StepVerifier.create(service.transition(List.of(
+            new StatusTransitionCommand(paymentOrderId, INITIATED, PENDING),
+            new StatusTransitionCommand(paymentOrderId, INITIATED, PENDING))))
+        .assertNext(result -> assertApplied(result, paymentOrderId, PENDING))
+        .assertNext(result -> assertThat(result.outcome()).isEqualTo(Outcome.CONFLICT))
+        .verifyComplete();
+  }
+
+  private static PaymentOrderStatusSnapshot snapshot(UUID id, PaymentOrderStatus status) {
+    return new PaymentOrderStatusSnapshot(id, status, OffsetDateTime.now());
+  }
+
+  private static void assertApplied(
+      StatusTransitionResult result, UUID paymentOrderId, PaymentOrderStatus status) {
+    assertThat(result.paymentOrderId()).isEqualTo(paymentOrderId);
+    assertThat(result.outcome()).isEqualTo(Outcome.APPLIED);
+    assertThat(result.status().paymentOrderProcedureInstanceStatus()).isEqualTo(status);
+  }
+}
@@ -0,0 +1,175 @@
+package com.banking.payment.orders.application.validation;
+
+import com.banking.payment.orders.application.validation.PaymentOrderValidator.Violation;
+import com.banking.payment.orders.domain.port.in.InitiatePaymentOrderUseCase.InitiatePaymentOrderCommand;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderValidatorTest - Tests unitarios para PaymentOrderValidator.
+ */
+class PaymentOrderValidatorTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2025, 11, 20);
+  private static final BigDecimal MAX_AMOUNT = new BigDecimal("1000000.00");
+
+  private PaymentOrderValidator validator;
+
+  @BeforeEach
+  void setUp() {
+    validator = new PaymentOrderValidator(true, MAX_AMOUNT, 0, 30,
+        Clock.fixed(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("Debe devolver la lista vacía compartida cuando el comando es válido")
+  void shouldReturnSharedEmptyListWhenCommandIsValid() {
+    // When
+    List<Violation> violations = validator.validate(command(
+        "ES6421000418450200051333", new BigDecimal("150.00"), "EUR", TODAY));
+
+    // Then
+    assertThat(violations).isSameAs(List.of());
+  }
+
+  @Test
+  @DisplayName("Debe recoger todas las infracciones en una sola pasada")
+  void shouldCollectAllViolationsInOnePass() {
+    // Given
+    InitiatePaymentOrderCommand command = new InitiatePaymentOrderCommand(
+        "TXN-1", null, null, " ", null, null, "ES9121000418450200051333",
+        BigDecimal.ZERO, "ABC", null, null, null, null);
+
+    // When
+    List<Violation> violations = validator.validate(command);
+
+    // Then
+    assertThat(violations).containsExactly(
+        PaymentOrderValidator.PAYER_ACCOUNT_REQUIRED,
+        PaymentOrderValidator.PAYEE_IBAN_INVALID,
+        PaymentOrderValidator.CURRENCY_UNKNOWN,
+        PaymentOrderValidator.AMOUNT_NOT_POSITIVE,
+        PaymentOrderValidator.DATE_TYPE_REQUIRED,
+        PaymentOrderValidator.DATE_REQUIRED);
+    assertThat(PaymentOrderValidator.describe(violations)).startsWith(
+        "payerProductInstanceReference: is required, "
+            + "payeeProductInstanceReference: is not a valid IBAN, currency: ");
+  }
+
+  @Test
+  @DisplayName("Debe aceptar cuentas de países sin IBAN y omitir el IBAN si está desactivado")
+  void shouldSkipIbanCheckWhenCountryHasNoIbanOrCheckDisabled() {
+    // Given
+    PaymentOrderValidator withoutIbanCheck = new PaymentOrderValidator(false, MAX_AMOUNT, 0, 30,
+        Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    // When / Then
+    assertThat(validator.validate(command("EC12DEBTOR", BigDecimal.TEN, "USD", TODAY)))
+        .isEmpty();
+    assertThat(withoutIbanCheck.validate(
+        command("ES9121000418450200051333", BigDecimal.TEN, "USD", TODAY))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Debe validar límite e importe según los decimales de la divisa")
+  void shouldValidateAmountLimitAndScale() {
+    // When / Then
+    assertThat(validate(new BigDecimal("1000000.001"), "EUR"))
+        .containsExactly(PaymentOrderValidator.AMOUNT_TOO_LARGE);
+    assertThat(validate(new BigDecimal("10.001"), "EUR"))
+        .containsExactly(PaymentOrderValidator.AMOUNT_SCALE);
+    assertThat(validate(new BigDecimal("10.50"), "JPY"))
+        .containsExactly(PaymentOrderValidator.AMOUNT_SCALE);
+    assertThat(validate(new BigDecimal("10.00"), "JPY")).isEmpty();
+    assertThat(validate(new BigDecimal("10.125"), "BHD")).isEmpty();
+    assertThat(validate(new BigDecimal("-1"), "EUR"))
+        .containsExactly(PaymentOrderValidator.AMOUNT_NOT_POSITIVE);
+    assertThat(validate(null, "EUR")).containsExactly(PaymentOrderValidator.AMOUNT_REQUIRED);
+    assertThat(validate(BigDecimal.ONE, "XAU"))
+        .containsExactly(PaymentOrderValidator.CURRENCY_WITHOUT_MINOR_UNITS);
+  }
+
+  @Test
+  @DisplayName("Debe limitar la fecha a la ventana configurada")
+  void shouldValidateDateWindow() {
+    // When / Then
+    assertThat(validateDate(TODAY.minusDays(1)))
+        .containsExactly(PaymentOrderValidator.DATE_TOO_EARLY);
+    assertThat(validateDate(TODAY)).isEmpty();
+    assertThat(validateDate(TODAY.plusDays(30))).isEmpty();
+    assertThat(validateDate(TODAY.plusDays(31)))
+        .containsExactly(PaymentOrderValidator.DATE_TOO_LATE);
+  }
+
+  @Test
+  @DisplayName("Debe recalcular el día de hoy al pasar la medianoche de la zona del reloj")
+  void shouldRecomputeTodayAfterMidnight() {
+    // Given
+    ZoneId zone = ZoneId.of("Europe/Madrid");
+    MutableClock clock = new MutableClock(
+        TODAY.atTime(23, 59).atZone(zone).toInstant(), zone);
+    PaymentOrderValidator zoned = new PaymentOrderValidator(true, MAX_AMOUNT, 0, 30, clock);
+    InitiatePaymentOrderCommand command = command(
+        "ES6421000418450200051333", BigDecimal.TEN, "EUR", TODAY);
+    assertThat(zoned.validate(command)).isEmpty();
+
+    // When
+    clock.instant = TODAY.plusDays(1).atStartOfDay(zone).toInstant();
+
+    // Then
+    assertThat(zoned.validate(command)).containsExactly(PaymentOrderValidator.DATE_TOO_EARLY);
+  }
+
+  private List<Violation> validate(BigDecimal amount, String currency) {
+    return validator.validate(command("ES6421000418450200051333", amount, currency, TODAY));
+  }
+
+  private List<Violation> validateDate(LocalDate date) {
+    return validator.validate(command(
+        "ES6421000418450200051333", BigDecimal.TEN, "EUR", date));
+  }
+
+  private static InitiatePaymentOrderCommand command(
+      String payeeAccount, BigDecimal amount, String currency, LocalDate date) {
+    return new InitiatePaymentOrderCommand(
+        "TXN-12345", "John Doe", "BANK001", "ES9121000418450200051332",
+        "Jane Smith", "BANK002", payeeAccount, amount, currency, "CreditTransfer",
+        "RequestedExecutionDate", date, "Payment for invoice INV-001");
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private Instant instant;
+
+    MutableClock(Instant instant, ZoneId zone) {
+      this.instant = instant;
+      this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return new MutableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -1,7 +1,15 @@
 package com.banking.payment.orders.config;
 
+import com.banking.payment.orders.domain.exception.IdempotencyKeyInProgressException;
 import com.banking.payment.orders.domain.exception.InvalidPaymentOrderException;
+import com.banking.payment.orders.domain.exception.InvalidPaymentOrderIdsException;
+import com.banking.payment.orders.domain.exception.InvalidSearchCriteriaException;
+import com.banking.payment.orders.domain.exception.InvalidStatusTransitionException;
+import com.banking.payment.orders.domain.exception.PaymentOrderConflictException;
 import com.banking.payment.orders.domain.exception.PaymentOrderNotFoundException;
+import com.banking.payment.orders.domain.model.PaymentOrderStatus;
+import jakarta.validation.ConstraintViolationException;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ServerWebInputException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -65,6 +74,128 @@ class GlobalExceptionHandlerTest {
     assertThat(response.getBody().getProperties()).containsKey("timestamp");
   }
 
+  @Test
+  @DisplayName("Debe retornar 409 cuando otra solicitud con la misma clave está en curso")
+  void shouldReturn409WhenHandlingIdempotencyKeyInProgressException() {
+    // Given
+    IdempotencyKeyInProgressException exception =
+        new IdempotencyKeyInProgressException("retry-key-1");
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handleIdempotencyKeyInProgress(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getTitle()).isEqualTo("Request In Progress");
+    assertThat(response.getBody().getProperties()).containsEntry("idempotencyKey", "retry-key-1");
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando los criterios de búsqueda son inválidos")
+  void shouldReturn400WhenHandlingInvalidSearchCriteriaException() {
+    // Given
+    InvalidSearchCriteriaException exception =
+        new InvalidSearchCriteriaException("cursor is not valid");
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handleInvalidSearchCriteria(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getTitle()).isEqualTo("Invalid Search Criteria");
+    assertThat(response.getBody().getDetail()).isEqualTo("cursor is not valid");
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando los IDs de una consulta múltiple son inválidos")
+  void shouldReturn400WhenHandlingInvalidPaymentOrderIdsException() {
+    // Given
+    InvalidPaymentOrderIdsException exception =
+        new InvalidPaymentOrderIdsException("paymentOrderIds must not contain null ids");
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handleInvalidPaymentOrderIds(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getTitle()).isEqualTo("Invalid Payment Order Ids");
+    assertThat(response.getBody().getDetail())
+        .isEqualTo("paymentOrderIds must not contain null ids");
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando un parámetro no se puede convertir")
+  void shouldReturn400WhenHandlingServerWebInputException() {
+    // Given
+    ServerWebInputException exception = new ServerWebInputException("Type mismatch.");
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handleServerWebInput(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getDetail()).isEqualTo("Type mismatch.");
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando un parámetro no cumple las restricciones")
+  void shouldReturn400WhenHandlingConstraintViolationException() {
+    // Given
+    ConstraintViolationException exception =
+        new ConstraintViolationException("size must be between 1 and 255", Set.of());
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handleConstraintViolation(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getTitle()).isEqualTo("Validation Error");
+  }
+
+  @Test
+  @DisplayName("Debe retornar 409 cuando se maneja PaymentOrderConflictException")
+  void shouldReturn409WhenHandlingPaymentOrderConflictException() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    PaymentOrderConflictException exception =
+        new PaymentOrderConflictException(orderId, new RuntimeException("stale version"));
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handlePaymentOrderConflict(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getTitle()).isEqualTo("Payment Order Conflict");
+    assertThat(response.getBody().getDetail()).contains(orderId.toString());
+    assertThat(response.getBody().getProperties()).containsKey("paymentOrderId");
+  }
+
+  @Test
+  @DisplayName("Debe retornar 409 cuando el ciclo de vida no permite la transición")
+  void shouldReturn409WhenHandlingInvalidStatusTransitionException() {
+    // Given
+    UUID orderId = UUID.randomUUID();
+    InvalidStatusTransitionException exception = new InvalidStatusTransitionException(
+        orderId, PaymentOrderStatus.INITIATED, PaymentOrderStatus.SETTLED);
+
+    // When
+    ResponseEntity<ProblemDetail> response = handler.handleInvalidStatusTransition(exception);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getTitle()).isEqualTo("Invalid Status Transition");
+    assertThat(response.getBody().getProperties())
+        .containsEntry("fromStatus", "Initiated")
+        .containsEntry("toStatus", "Settled");
+  }
+
   @Test
   @DisplayName("Debe retornar 500 cuando se maneja excepción genérica")
   void shouldReturn500WhenHandlingGenericException() {
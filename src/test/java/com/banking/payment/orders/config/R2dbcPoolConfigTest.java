@@ -0,0 +1,49 @@
+package com.banking.payment.orders.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import reactor.netty.resources.LoopResources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * R2dbcPoolConfigTest - Tests unitarios para R2dbcPoolConfig.
+ */
+class R2dbcPoolConfigTest {
+
+  @Test
+  @DisplayName("Debe dimensionar el pool según los event loops")
+  void shouldSizePoolFromEventLoops() {
+    assertThat(R2dbcPoolConfig.maxSize(8, 2)).isEqualTo(16);
+    assertThat(R2dbcPoolConfig.maxSize(4, 0)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Debe crear el pool sin abrir conexiones hasta el warm-up")
+  void shouldCreatePoolLazily() {
+    // Given
+    R2dbcProperties properties = new R2dbcProperties();
+    properties.setUrl("r2dbc:postgresql://localhost:5432/paymentorders");
+    properties.setUsername("user");
+    properties.setPassword("pass");
+
+    // When
+    ConnectionPool pool = new R2dbcPoolConfig().connectionFactory(properties, 2, 1000,
+        Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMinutes(10),
+        Duration.ofMinutes(30));
+
+    // Then
+    try {
+      assertThat(pool.getMetrics()).hasValueSatisfying(metrics -> {
+        assertThat(metrics.getMaxAllocatedSize())
+            .isEqualTo(LoopResources.DEFAULT_IO_WORKER_COUNT * 2);
+        assertThat(metrics.allocatedSize()).isZero();
+      });
+    } finally {
+      pool.dispose();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.banking.payment.orders.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * R2dbcPoolHealthIndicatorTest - Tests unitarios para R2dbcPoolHealthIndicator.
+ */
+@ExtendWith(MockitoExtension.class)
+class R2dbcPoolHealthIndicatorTest {
+
+  @Mock
+  private ConnectionPool connectionPool;
+
+  @Mock
+  private PoolMetrics poolMetrics;
+
+  @Mock
+  private ConnectionPool replicaConnectionPool;
+
+  private R2dbcPoolHealthIndicator healthIndicator;
+
+  @BeforeEach
+  void setUp() {
+    healthIndicator = new R2dbcPoolHealthIndicator(Map.of("connectionFactory", connectionPool));
+  }
+
+  @Test
+  @DisplayName("Debe reportar UP con las métricas del pool sin abrir conexiones")
+  void shouldReportUpWithPoolMetricsWithoutAcquiringConnection() {
+    // Given
+    when(connectionPool.getMetrics()).thenReturn(Optional.of(poolMetrics));
+    when(poolMetrics.acquiredSize()).thenReturn(8);
+    when(poolMetrics.allocatedSize()).thenReturn(8);
+    when(poolMetrics.idleSize()).thenReturn(0);
+    when(poolMetrics.pendingAcquireSize()).thenReturn(3);
+    when(poolMetrics.getMaxAllocatedSize()).thenReturn(8);
+
+    // When / Then
+    StepVerifier.create(healthIndicator.health())
+        .assertNext(health -> {
+          assertThat(health.getStatus()).isEqualTo(Status.UP);
+          assertThat(health.getDetails())
+              .containsEntry("acquired", 8)
+              .containsEntry("pending", 3)
+              .containsEntry("saturated", true);
+        })
+        .verifyComplete();
+
+    verify(connectionPool, never()).create();
+  }
+
+  @Test
+  @DisplayName("Debe reportar DOWN si el pool está cerrado")
+  void shouldReportDownWhenPoolIsDisposed() {
+    // Given
+    when(connectionPool.isDisposed()).thenReturn(true);
+
+    // When / Then
+    StepVerifier.create(healthIndicator.health())
+        .assertNext(health -> assertThat(health.getStatus()).isEqualTo(Status.DOWN))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe reportar cada pool por su nombre y DOWN si uno de ellos está cerrado")
+  void shouldReportEachPoolByNameAndDownWhenAnyIsDisposed() {
+    // Given
+    Map<String, ConnectionPool> pools = new LinkedHashMap<>();
+    pools.put("connectionFactory", connectionPool);
+    pools.put("replicaConnectionFactory", replicaConnectionPool);
+    healthIndicator = new R2dbcPoolHealthIndicator(pools);
+    when(replicaConnectionPool.isDisposed()).thenReturn(true);
+
+    // When / Then
+    StepVerifier.create(healthIndicator.health())
+        .assertNext(health -> {
+          assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+          assertThat(health.getDetails())
+              .containsOnlyKeys("connectionFactory", "replicaConnectionFactory");
+          assertThat(health.getDetails().get("replicaConnectionFactory"))
+              .isEqualTo(Map.of("reason", "Connection pool is disposed"));
+        })
+        .verifyComplete();
+  }
+}
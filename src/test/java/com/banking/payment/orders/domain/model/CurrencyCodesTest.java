@@ -0,0 +1,59 @@
+package com.banking.payment.orders.domain.model;
+
+import java.util.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CurrencyCodesTest - Tests unitarios para CurrencyCodes.
+ */
+class CurrencyCodesTest {
+
+  @Test
+  @DisplayName("Debe devolver los mismos decimales que Currency para todas las divisas")
+  void shouldReturnSameFractionDigitsAsCurrency() {
+    // When / Then
+    for (Currency currency : Currency.getAvailableCurrencies()) {
+      assertThat(CurrencyCodes.fractionDigits(currency.getCurrencyCode()))
+          .as(currency.getCurrencyCode())
+          .isEqualTo(currency.getDefaultFractionDigits());
+    }
+  }
+
+  @Test
+  @DisplayName("Debe reconocer divisas con y sin decimales")
+  void shouldRecognizeKnownCurrencies() {
+    // When / Then
+    assertThat(CurrencyCodes.fractionDigits("EUR")).isEqualTo(2);
+    assertThat(CurrencyCodes.fractionDigits("JPY")).isZero();
+    assertThat(CurrencyCodes.fractionDigits("BHD")).isEqualTo(3);
+    assertThat(CurrencyCodes.fractionDigits("XAU")).isEqualTo(CurrencyCodes.NO_MINOR_UNIT);
+    assertThat(CurrencyCodes.isKnown("USD")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Debe devolver una instancia compartida por código")
+  void shouldReturnSharedInstance() {
+    // When / Then
+    assertThat(CurrencyCodes.canonical(new String("EUR")))
+        .isEqualTo("EUR")
+        .isSameAs(CurrencyCodes.canonical("EUR"));
+    assertThat(CurrencyCodes.canonical("ABC")).isNull();
+    assertThat(CurrencyCodes.canonical("eur")).isNull();
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"ABC", "eur", "EU", "EURO", "E1R", "€UR"})
+  @DisplayName("Debe rechazar códigos que no son ISO 4217")
+  void shouldRejectUnknownCodes(String code) {
+    // When / Then
+    assertThat(CurrencyCodes.isKnown(code)).isFalse();
+    assertThat(CurrencyCodes.fractionDigits(code)).isEqualTo(CurrencyCodes.UNKNOWN);
+  }
+}
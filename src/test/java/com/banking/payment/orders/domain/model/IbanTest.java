@@ -0,0 +1,81 @@
+package com.banking.payment.orders.domain.model;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IbanTest - Tests unitarios para Iban.
+ */
+class IbanTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "ES9121000418450200051332",
+      "ES6421000418450200051333",
+      "DE89370400440532013000",
+      "GB29NWBK60161331926819",
+      "FR1420041010050500013M02606",
+      "NO9386011117947",
+      "MT84MALT011000012345MTLCAST001S"})
+  @DisplayName("Debe aceptar IBAN válidos")
+  void shouldAcceptValidIbans(String iban) {
+    // When / Then
+    assertThat(Iban.hasIbanCountry(iban)).isTrue();
+    assertThat(Iban.isValid(iban)).isTrue();
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {
+      "ES9121000418450200051333",
+      "ES912100041845020005133",
+      "ES91210004184502000513322",
+      "ESAB21000418450200051332",
+      "ES9121000418450200O51332",
+      "es9121000418450200051332",
+      "GB29nwbk60161331926819",
+      "EC12DEBTOR"})
+  @DisplayName("Debe rechazar IBAN con dígito de control, longitud o alfabeto incorrectos")
+  void shouldRejectInvalidIbans(String iban) {
+    // When / Then
+    assertThat(Iban.isValid(iban)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Debe distinguir países con IBAN de cuentas de otros países")
+  void shouldDetectIbanCountries() {
+    // When / Then
+    assertThat(Iban.hasIbanCountry("ES00")).isTrue();
+    assertThat(Iban.hasIbanCountry("EC12DEBTOR")).isFalse();
+    assertThat(Iban.hasIbanCountry("US")).isFalse();
+    assertThat(Iban.hasIbanCountry("1")).isFalse();
+  }
+
+  @Test
+  @DisplayName("Debe coincidir con el módulo 97 calculado con BigInteger")
+  void shouldMatchBigIntegerReference() {
+    // Given
+    String bban = "21000418450200051332";
+
+    // When / Then
+    for (int check = 0; check < 100; check++) {
+      String iban = "ES%02d%s".formatted(check, bban);
+      assertThat(Iban.isValid(iban)).as(iban).isEqualTo(referenceIsValid(iban));
+    }
+  }
+
+  private static boolean referenceIsValid(String iban) {
+    String rearranged = iban.substring(4) + iban.substring(0, 4);
+    StringBuilder digits = new StringBuilder();
+    for (char character : rearranged.toCharArray()) {
+      digits.append(Character.getNumericValue(character));
+    }
+    return new BigInteger(digits.toString()).mod(BigInteger.valueOf(97)).intValue() == 1;
+  }
+}
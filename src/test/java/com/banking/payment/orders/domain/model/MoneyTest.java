@@ -0,0 +1,85 @@
+package com.banking.payment.orders.domain.model;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MoneyTest - Tests unitarios para Money.
+ */
+class MoneyTest {
+
+  @ParameterizedTest
+  @CsvSource({
+      "150.75, EUR, 15075", "150.5, EUR, 15050", "150.00, EUR, 15000", "0.01, USD, 1",
+      "1500, JPY, 1500", "10.00, JPY, 10", "1.234, BHD, 1234", "0.0001, CLF, 1",
+      "999999999.99, EUR, 99999999999", "-2.5, EUR, -250"})
+  @DisplayName("Debe convertir el decimal a unidades menores sin perder precisión")
+  void shouldConvertDecimalToMinorUnitsExactly(String amount, String currency, long minorUnits) {
+    // When
+    Money money = Money.of(new BigDecimal(amount), currency);
+
+    // Then
+    assertThat(money.minorUnits()).isEqualTo(minorUnits);
+    assertThat(money.toBigDecimal()).isEqualByComparingTo(amount);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "15075, EUR, 150.75", "5, EUR, 0.05", "0, EUR, 0.00", "-250, EUR, -2.50",
+      "-5, USD, -0.05", "1500, JPY, 1500", "12, BHD, 0.012", "1, CLF, 0.0001",
+      "9223372036854775807, EUR, 92233720368547758.07",
+      "-9223372036854775808, EUR, -92233720368547758.08"})
+  @DisplayName("Debe escribir el importe con la escala de la moneda igual que BigDecimal")
+  void shouldRenderPlainStringLikeBigDecimal(long minorUnits, String currency, String text) {
+    // Given
+    Money money = new Money(minorUnits, currency);
+
+    // When / Then
+    assertThat(money.toPlainString()).isEqualTo(text);
+    assertThat(money.toPlainString()).isEqualTo(money.toBigDecimal().toPlainString());
+  }
+
+  @Test
+  @DisplayName("Debe compartir la instancia de la moneda y ser igual con cualquier escala")
+  void shouldShareCurrencyInstanceAndIgnoreScale() {
+    // Given
+    String currency = new String("EUR");
+
+    // When
+    Money money = Money.of(new BigDecimal("150.0"), currency);
+
+    // Then
+    assertThat(money.currency()).isSameAs(CurrencyCodes.canonical("EUR"));
+    assertThat(money).isEqualTo(Money.of(new BigDecimal("150.00"), "EUR"));
+    assertThat(money).hasToString("150.00 EUR");
+  }
+
+  @Test
+  @DisplayName("Debe rechazar decimales de más, monedas inválidas e importes fuera de rango")
+  void shouldRejectInvalidAmounts() {
+    // When / Then
+    assertThatThrownBy(() -> Money.of(new BigDecimal("10.001"), "EUR"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("EUR");
+    assertThatThrownBy(() -> Money.of(new BigDecimal("10.5"), "JPY"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("JPY");
+    assertThatThrownBy(() -> Money.of(BigDecimal.ONE, "ABC"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("ISO 4217");
+    assertThatThrownBy(() -> new Money(1L, "XAU"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("minor units");
+    assertThatThrownBy(() -> Money.of(new BigDecimal("1E+17"), "EUR"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("out of range");
+    assertThatThrownBy(() -> Money.of(null, "EUR"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * PaymentDetailsTest - Tests para PaymentDetails value object.
@@ -24,7 +25,7 @@ class PaymentDetailsTest {
 
     // Then
     assertThat(paymentDetails).isNotNull();
-    assertThat(paymentDetails.amount()).isEqualByComparingTo(amount);
+    assertThat(paymentDetails.amount()).isEqualTo(new Money(15000L, "EUR"));
     assertThat(paymentDetails.currency()).isEqualTo(currency);
     assertThat(paymentDetails.paymentMechanismType()).isEqualTo(paymentMechanismType);
   }
@@ -55,4 +56,24 @@ class PaymentDetailsTest {
     // When & Then
     assertThat(details1).isNotEqualTo(details2);
   }
+
+  @Test
+  @DisplayName("Debe rechazar importes con más decimales de los que admite la moneda")
+  void shouldRejectAmountWithMoreDecimalsThanCurrencyAllows() {
+    // When / Then
+    assertThatThrownBy(() -> new PaymentDetails(new BigDecimal("10.50"), "JPY", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("JPY");
+    assertThat(new PaymentDetails(new BigDecimal("10.00"), "JPY", null).amount())
+        .isEqualTo(new Money(10L, "JPY"));
+  }
+
+  @Test
+  @DisplayName("Debe rechazar códigos de moneda que no existen en ISO 4217")
+  void shouldRejectUnknownCurrency() {
+    // When / Then
+    assertThatThrownBy(() -> new PaymentDetails(new BigDecimal("10.00"), "ABC", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("ISO 4217");
+  }
 }
@@ -0,0 +1,76 @@
+package com.banking.payment.orders.domain.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentOrderIdsTest - Tests unitarios para PaymentOrderIds.
+ */
+class PaymentOrderIdsTest {
+
+  @Test
+  @DisplayName("Debe generar UUID versión 7 con variante RFC 9562 y el instante actual")
+  void shouldGenerateVersion7WithCurrentTimestamp() {
+    // Given
+    long before = System.currentTimeMillis();
+
+    // When
+    UUID id = PaymentOrderIds.next();
+
+    // Then
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(PaymentOrderIds.timestampOf(id)).hasValueSatisfying(timestamp ->
+        assertThat(timestamp.toEpochMilli()).isGreaterThanOrEqualTo(before));
+  }
+
+  @Test
+  @DisplayName("Debe generar ids estrictamente crecientes dentro del mismo milisegundo")
+  void shouldGenerateStrictlyIncreasingIds() {
+    // When
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(PaymentOrderIds.next());
+    }
+
+    // Then
+    for (int i = 1; i < ids.size(); i++) {
+      assertThat(compareUnsigned(ids.get(i), ids.get(i - 1))).isPositive();
+    }
+  }
+
+  @Test
+  @DisplayName("Debe codificar milisegundo, contador y bits aleatorios en su posición")
+  void shouldEncodeFieldsAtRfcPositions() {
+    // When
+    UUID id = PaymentOrderIds.build(0x0189_ABCD_EF01L, 0x123, -1L);
+
+    // Then
+    assertThat(id).hasToString("0189abcd-ef01-7123-bfff-ffffffffffff");
+    assertThat(PaymentOrderIds.timestampOf(id))
+        .contains(Instant.ofEpochMilli(0x0189_ABCD_EF01L));
+  }
+
+  @Test
+  @DisplayName("No debe extraer instante de ids versión 4")
+  void shouldNotExtractTimestampFromVersion4Ids() {
+    // When / Then
+    assertThat(PaymentOrderIds.timestampOf(UUID.randomUUID())).isEmpty();
+  }
+
+  /**
+   * Compara como enteros sin signo de 128 bits, que es el orden de PostgreSQL para uuid.
+   */
+  private static int compareUnsigned(UUID left, UUID right) {
+    int most = Long.compareUnsigned(
+        left.getMostSignificantBits(), right.getMostSignificantBits());
+    return most != 0 ? most : Long.compareUnsigned(
+        left.getLeastSignificantBits(), right.getLeastSignificantBits());
+  }
+}
@@ -1,11 +1,15 @@
 package com.banking.payment.orders.domain.model;
 
+import com.banking.payment.orders.domain.exception.InvalidStatusTransitionException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * PaymentOrderProcedureTest - Tests unitarios para PaymentOrderProcedure.
@@ -53,7 +57,7 @@ class PaymentOrderProcedureTest {
   void shouldUpdateStatusWhenUpdateStatusCalled() {
     // Given
     PaymentOrderProcedure procedure = createPaymentOrder();
-    PaymentOrderStatus newStatus = PaymentOrderStatus.COMPLETED;
+    PaymentOrderStatus newStatus = PaymentOrderStatus.PENDING;
 
     // When
     procedure.updateStatus(newStatus);
@@ -63,6 +67,20 @@ class PaymentOrderProcedureTest {
     assertThat(procedure.getLastUpdateDateTime()).isNotNull();
   }
 
+  @Test
+  @DisplayName("Debe rechazar updateStatus cuando el ciclo de vida no permite la transición")
+  void shouldRejectUpdateStatusWhenTransitionIsNotAllowed() {
+    // Given
+    PaymentOrderProcedure procedure = createPaymentOrder();
+
+    // When & Then
+    assertThatThrownBy(() -> procedure.updateStatus(PaymentOrderStatus.COMPLETED))
+        .isInstanceOf(InvalidStatusTransitionException.class)
+        .hasMessageContaining("cannot transition from Initiated to Completed");
+    assertThat(procedure.getPaymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.INITIATED);
+  }
+
   @Test
   @DisplayName("Debe mantener ID único para cada orden creada")
   void shouldMaintainUniqueIdForEachOrderCreated() {
@@ -88,6 +106,62 @@ class PaymentOrderProcedureTest {
         .isBeforeOrEqualTo(procedure.getLastUpdateDateTime());
   }
 
+  @Test
+  @DisplayName("Debe copiar la orden de forma que sus cambios de estado sean independientes")
+  void shouldCopyOrderWithIndependentStatus() {
+    // Given
+    PaymentOrderProcedure procedure = createPaymentOrder();
+
+    // When
+    PaymentOrderProcedure copy = procedure.copy();
+    copy.updateStatus(PaymentOrderStatus.PENDING);
+
+    // Then
+    assertThat(copy).isNotSameAs(procedure);
+    assertThat(copy.getPaymentOrderProcedureInstanceReference())
+        .isEqualTo(procedure.getPaymentOrderProcedureInstanceReference());
+    assertThat(copy.getPaymentDetails()).isEqualTo(procedure.getPaymentDetails());
+    assertThat(procedure.getPaymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.INITIATED);
+    assertThat(copy.getPaymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.PENDING);
+  }
+
+  @Test
+  @DisplayName("Debe reconstruir una orden persistida con su id, estado, fechas y versión")
+  void shouldRehydratePersistedOrderAsIs() {
+    // Given
+    UUID id = UUID.randomUUID();
+    OffsetDateTime created = OffsetDateTime.parse("2025-03-01T10:00:00Z");
+    OffsetDateTime updated = OffsetDateTime.parse("2025-03-02T08:30:00Z");
+    PaymentDetails paymentDetails = new PaymentDetails(
+        new BigDecimal("150.00"), "EUR", "CreditTransfer");
+
+    // When
+    PaymentOrderProcedure procedure = PaymentOrderProcedure.rehydrate(
+        id,
+        PaymentOrderStatus.SETTLED,
+        "TXN-12345",
+        new Payer("John Doe", "BANK001", "ES9121000418450200051332"),
+        new Payee("Jane Smith", "BANK002", "ES9121000418450200051333"),
+        paymentDetails,
+        new DateInformation("RequestedExecutionDate", LocalDate.of(2025, 3, 3)),
+        "Payment for invoice INV-001",
+        created,
+        updated,
+        4L
+    );
+
+    // Then
+    assertThat(procedure.getPaymentOrderProcedureInstanceReference()).isEqualTo(id);
+    assertThat(procedure.getPaymentOrderProcedureInstanceStatus())
+        .isEqualTo(PaymentOrderStatus.SETTLED);
+    assertThat(procedure.getPaymentDetails()).isEqualTo(paymentDetails);
+    assertThat(procedure.getCreatedDateTime()).isEqualTo(created);
+    assertThat(procedure.getLastUpdateDateTime()).isEqualTo(updated);
+    assertThat(procedure.getVersion()).isEqualTo(4L);
+  }
+
   private PaymentOrderProcedure createPaymentOrder() {
     return PaymentOrderProcedure.initiate(
         "TXN-12345",
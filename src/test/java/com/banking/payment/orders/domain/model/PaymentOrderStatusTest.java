@@ -50,6 +50,40 @@ class PaymentOrderStatusTest {
     assertThat(PaymentOrderStatus.CANCELLED.getValue()).isEqualTo("Cancelled");
   }
 
+  @Test
+  @DisplayName("Debe permitir solo las transiciones del ciclo de vida")
+  void shouldAllowOnlyLifecycleTransitions() {
+    // When & Then
+    assertThat(PaymentOrderStatus.INITIATED.canTransitionTo(PaymentOrderStatus.PENDING)).isTrue();
+    assertThat(PaymentOrderStatus.PENDING.canTransitionTo(PaymentOrderStatus.ACCEPTED)).isTrue();
+    assertThat(PaymentOrderStatus.ACCEPTED.canTransitionTo(PaymentOrderStatus.IN_PROGRESS))
+        .isTrue();
+    assertThat(PaymentOrderStatus.IN_PROGRESS.canTransitionTo(PaymentOrderStatus.COMPLETED))
+        .isTrue();
+    assertThat(PaymentOrderStatus.COMPLETED.canTransitionTo(PaymentOrderStatus.SETTLED)).isTrue();
+    assertThat(PaymentOrderStatus.INITIATED.canTransitionTo(PaymentOrderStatus.COMPLETED))
+        .isFalse();
+    assertThat(PaymentOrderStatus.PENDING.canTransitionTo(PaymentOrderStatus.INITIATED)).isFalse();
+    assertThat(PaymentOrderStatus.IN_PROGRESS.canTransitionTo(PaymentOrderStatus.CANCELLED))
+        .isFalse();
+    assertThat(PaymentOrderStatus.PENDING.canTransitionTo(PaymentOrderStatus.PENDING)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Debe considerar terminales los estados sin transiciones de salida")
+  void shouldTreatStatesWithoutSuccessorsAsTerminal() {
+    // When & Then
+    assertThat(PaymentOrderStatus.SETTLED.isTerminal()).isTrue();
+    assertThat(PaymentOrderStatus.REJECTED.isTerminal()).isTrue();
+    assertThat(PaymentOrderStatus.FAILED.isTerminal()).isTrue();
+    assertThat(PaymentOrderStatus.CANCELLED.isTerminal()).isTrue();
+    assertThat(PaymentOrderStatus.INITIATED.isTerminal()).isFalse();
+    assertThat(PaymentOrderStatus.COMPLETED.isTerminal()).isFalse();
+    for (PaymentOrderStatus status : PaymentOrderStatus.values()) {
+      assertThat(status.canTransitionTo(PaymentOrderStatus.INITIATED)).isFalse();
+    }
+  }
+
   @Test
   @DisplayName("Debe ser case-sensitive al comparar valores")
   void shouldBeCaseSensitiveWhenComparingValues() {
@@ -2,8 +2,8 @@
 -- PostgreSQL 15
 
 CREATE TABLE IF NOT EXISTS payment_orders (
-    id UUID PRIMARY KEY,
-    status VARCHAR(50) NOT NULL,
+    id UUID NOT NULL,
+    status SMALLINT NOT NULL,
     payment_transaction_initiator_reference VARCHAR(255) NOT NULL,
     
     -- Payer information
@@ -17,8 +17,8 @@ CREATE TABLE IF NOT EXISTS payment_orders (
     payee_product_instance_reference VARCHAR(255) NOT NULL,
     
     -- Payment details
-    amount DECIMAL(19, 4) NOT NULL,
-    currency VARCHAR(3) NOT NULL,
+    amount BIGINT NOT NULL,
+    currency SMALLINT NOT NULL,
     payment_mechanism_type VARCHAR(50),
     
     -- Date information
@@ -30,9 +30,201 @@ CREATE TABLE IF NOT EXISTS payment_orders (
     
     -- Audit fields
     created_date_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    last_update_date_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+    last_update_date_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Optimistic locking
+    version BIGINT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (id, created_date_time)
+) PARTITION BY RANGE (created_date_time);
+
+-- Diccionarios de las columnas compactas de payment_orders. PaymentOrderPersistenceMapper
+-- codifica con los mismos códigos; aquí sirven para consultar a mano y para migrar.
+-- status: código estable por estado. currency: código numérico ISO 4217 y sus decimales, de
+-- modo que amount se guarda en unidades menores (céntimos, yenes...).
+CREATE TABLE IF NOT EXISTS payment_order_statuses (
+    code SMALLINT PRIMARY KEY,
+    value VARCHAR(50) NOT NULL UNIQUE
+);
+INSERT INTO payment_order_statuses (code, value) VALUES
+    (1, 'Initiated'), (2, 'Pending'), (3, 'Accepted'), (4, 'InProgress'), (5, 'Completed'),
+    (6, 'Settled'), (7, 'Rejected'), (8, 'Failed'), (9, 'Cancelled')
+ON CONFLICT (code) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS currencies (
+    code SMALLINT PRIMARY KEY,
+    alphabetic_code CHAR(3) NOT NULL UNIQUE,
+    minor_units SMALLINT NOT NULL
 );
+-- Divisas de java.util.Currency con código numérico y unidad menor, las mismas que acepta
+-- Money; si dos divisas históricas comparten código numérico se conserva la primera por orden
+-- alfabético.
+INSERT INTO currencies (code, alphabetic_code, minor_units) VALUES
+    (4, 'AFA', 2), (8, 'ALL', 2), (12, 'DZD', 2), (20, 'ADP', 0), (31, 'AZM', 2),
+    (32, 'ARS', 2), (36, 'AUD', 2), (40, 'ATS', 2), (44, 'BSD', 2), (48, 'BHD', 3),
+    (50, 'BDT', 2), (51, 'AMD', 2), (52, 'BBD', 2), (56, 'BEF', 0), (60, 'BMD', 2),
+    (64, 'BTN', 2), (68, 'BOB', 2), (72, 'BWP', 2), (84, 'BZD', 2), (90, 'SBD', 2),
+    (96, 'BND', 2), (100, 'BGL', 2), (104, 'MMK', 2), (108, 'BIF', 0), (112, 'BYB', 0),
+    (116, 'KHR', 2), (124, 'CAD', 2), (132, 'CVE', 2), (136, 'KYD', 2), (144, 'LKR', 2),
+    (152, 'CLP', 0), (156, 'CNY', 2), (170, 'COP', 2), (174, 'KMF', 0), (188, 'CRC', 2),
+    (191, 'HRK', 2), (192, 'CUP', 2), (196, 'CYP', 2), (203, 'CZK', 2), (208, 'DKK', 2),
+    (214, 'DOP', 2), (222, 'SVC', 2), (230, 'ETB', 2), (232, 'ERN', 2), (233, 'EEK', 2),
+    (238, 'FKP', 2), (242, 'FJD', 2), (246, 'FIM', 2), (250, 'FRF', 2), (262, 'DJF', 0),
+    (270, 'GMD', 2), (276, 'DEM', 2), (288, 'GHC', 2), (292, 'GIP', 2), (300, 'GRD', 0),
+    (320, 'GTQ', 2), (324, 'GNF', 0), (328, 'GYD', 2), (332, 'HTG', 2), (340, 'HNL', 2),
+    (344, 'HKD', 2), (348, 'HUF', 2), (352, 'ISK', 0), (356, 'INR', 2), (360, 'IDR', 2),
+    (364, 'IRR', 2), (368, 'IQD', 3), (372, 'IEP', 2), (376, 'ILS', 2), (380, 'ITL', 0),
+    (388, 'JMD', 2), (392, 'JPY', 0), (398, 'KZT', 2), (400, 'JOD', 3), (404, 'KES', 2),
+    (408, 'KPW', 2), (410, 'KRW', 0), (414, 'KWD', 3), (417, 'KGS', 2), (418, 'LAK', 2),
+    (422, 'LBP', 2), (426, 'LSL', 2), (428, 'LVL', 2), (430, 'LRD', 2), (434, 'LYD', 3),
+    (440, 'LTL', 2), (442, 'LUF', 0), (446, 'MOP', 2), (450, 'MGF', 0), (454, 'MWK', 2),
+    (458, 'MYR', 2), (462, 'MVR', 2), (470, 'MTL', 2), (478, 'MRO', 2), (480, 'MUR', 2),
+    (484, 'MXN', 2), (496, 'MNT', 2), (498, 'MDL', 2), (504, 'MAD', 2), (508, 'MZM', 2),
+    (512, 'OMR', 3), (516, 'NAD', 2), (524, 'NPR', 2), (528, 'NLG', 2), (532, 'ANG', 2),
+    (533, 'AWG', 2), (548, 'VUV', 0), (554, 'NZD', 2), (558, 'NIO', 2), (566, 'NGN', 2),
+    (578, 'NOK', 2), (586, 'PKR', 2), (590, 'PAB', 2), (598, 'PGK', 2), (600, 'PYG', 0),
+    (604, 'PEN', 2), (608, 'PHP', 2), (620, 'PTE', 0), (624, 'GWP', 2), (626, 'TPE', 0),
+    (634, 'QAR', 2), (642, 'ROL', 0), (643, 'RUB', 2), (646, 'RWF', 0), (654, 'SHP', 2),
+    (678, 'STD', 2), (682, 'SAR', 2), (690, 'SCR', 2), (694, 'SLL', 2), (702, 'SGD', 2),
+    (703, 'SKK', 2), (704, 'VND', 0), (705, 'SIT', 2), (706, 'SOS', 2), (710, 'ZAR', 2),
+    (716, 'ZWD', 2), (724, 'ESP', 0), (728, 'SSP', 2), (736, 'SDD', 2), (740, 'SRG', 2),
+    (748, 'SZL', 2), (752, 'SEK', 2), (756, 'CHF', 2), (760, 'SYP', 2), (764, 'THB', 2),
+    (776, 'TOP', 2), (780, 'TTD', 2), (784, 'AED', 2), (788, 'TND', 3), (792, 'TRL', 0),
+    (795, 'TMM', 2), (800, 'UGX', 0), (807, 'MKD', 2), (810, 'RUR', 2), (818, 'EGP', 2),
+    (826, 'GBP', 2), (834, 'TZS', 2), (840, 'USD', 2), (858, 'UYU', 2), (860, 'UZS', 2),
+    (862, 'VEB', 2), (882, 'WST', 2), (886, 'YER', 2), (891, 'CSD', 2), (894, 'ZMK', 2),
+    (901, 'TWD', 2), (925, 'SLE', 2), (926, 'VED', 2), (928, 'VES', 2), (929, 'MRU', 2),
+    (930, 'STN', 2), (931, 'CUC', 2), (932, 'ZWL', 2), (933, 'BYN', 2), (934, 'TMT', 2),
+    (935, 'ZWR', 2), (936, 'GHS', 2), (937, 'VEF', 2), (938, 'SDG', 2), (940, 'UYI', 0),
+    (941, 'RSD', 2), (942, 'ZWN', 2), (943, 'MZN', 2), (944, 'AZN', 2), (945, 'AYM', 2),
+    (946, 'RON', 2), (947, 'CHE', 2), (948, 'CHW', 2), (949, 'TRY', 2), (950, 'XAF', 0),
+    (951, 'XCD', 2), (952, 'XOF', 0), (953, 'XPF', 0), (967, 'ZMW', 2), (968, 'SRD', 2),
+    (969, 'MGA', 2), (970, 'COU', 2), (971, 'AFN', 2), (972, 'TJS', 2), (973, 'AOA', 2),
+    (974, 'BYR', 0), (975, 'BGN', 2), (976, 'CDF', 2), (977, 'BAM', 2), (978, 'EUR', 2),
+    (979, 'MXV', 2), (980, 'UAH', 2), (981, 'GEL', 2), (984, 'BOV', 2), (985, 'PLN', 2),
+    (986, 'BRL', 2), (990, 'CLF', 4), (997, 'USN', 2), (998, 'USS', 2)
+ON CONFLICT DO NOTHING;
+
+-- Índices de búsqueda con paginación por keyset
+CREATE INDEX IF NOT EXISTS idx_payment_orders_status_keyset
+    ON payment_orders(status, created_date_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_payment_orders_created_keyset
+    ON payment_orders(created_date_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_payment_orders_payer_keyset
+    ON payment_orders(payer_product_instance_reference, created_date_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_payment_orders_payee_keyset
+    ON payment_orders(payee_product_instance_reference, created_date_time DESC, id DESC);
+
+-- Índice de cobertura para la consulta de estado (index-only scan por id)
+CREATE INDEX IF NOT EXISTS idx_payment_orders_status_projection
+    ON payment_orders(id) INCLUDE (status, last_update_date_time);
+
+-- Particiones mensuales de payment_orders: crea la del mes en curso (UTC) y las de los
+-- months_ahead meses siguientes que aún no existan. Es idempotente y tolera ejecuciones
+-- simultáneas desde varias réplicas. Devuelve el número de particiones creadas.
+CREATE OR REPLACE FUNCTION create_payment_order_partitions(months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    first_month TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC');
+    month_start TIMESTAMP;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        month_start := first_month + make_interval(months => i);
+        partition_name := 'payment_orders_p' || to_char(month_start, 'YYYYMM');
+        CONTINUE WHEN to_regclass(partition_name) IS NOT NULL;
+        BEGIN
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF payment_orders FOR VALUES FROM (%L) TO (%L)',
+                partition_name,
+                month_start AT TIME ZONE 'UTC',
+                (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+            created := created + 1;
+        EXCEPTION
+            -- Otra réplica la creó a la vez
+            WHEN duplicate_table OR unique_violation THEN
+                NULL;
+            -- El rango se solapa con otra partición (p. ej. la legacy, que llega hasta el mes
+            -- siguiente al de la migración): se avisa en lugar de ocultarlo
+            WHEN invalid_object_definition THEN
+                RAISE NOTICE 'Partition % not created: %', partition_name, SQLERRM;
+        END;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_payment_order_partitions(3);
+
+-- Unicidad del id entre particiones: la clave primaria incluye created_date_time, así que un
+-- id repetido en otro mes no la viola. Cada alta registra el id en esta tabla sin particionar
+-- dentro del mismo INSERT; un duplicado falla con unique_violation (DuplicateKeyException).
+-- Se rellena una sola vez al crearla con las órdenes existentes (incluida la legacy).
+DO $$
+BEGIN
+    IF to_regclass('payment_order_ids') IS NULL THEN
+        CREATE TABLE payment_order_ids (id UUID PRIMARY KEY);
+        INSERT INTO payment_order_ids (id) SELECT id FROM payment_orders;
+    END IF;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION register_payment_order_ids() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO payment_order_ids (id) SELECT id FROM inserted_orders;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS payment_orders_register_ids ON payment_orders;
+CREATE TRIGGER payment_orders_register_ids
+    AFTER INSERT ON payment_orders
+    REFERENCING NEW TABLE AS inserted_orders
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION register_payment_order_ids();
+
+-- Claves de idempotencia de la iniciación de órdenes (Idempotency-Key)
+CREATE TABLE IF NOT EXISTS payment_order_idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    payment_order_id UUID NOT NULL,
+    created_date_time TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Purga de claves caducadas (IdempotencyKeyRetention)
+CREATE INDEX IF NOT EXISTS idx_payment_order_idempotency_keys_created
+    ON payment_order_idempotency_keys (created_date_time);
+
+-- Bandeja de eventos de órdenes (transactional outbox). Se escribe en la misma transacción que
+-- payment_orders y las filas se eliminan al publicarse, así que solo contiene pendientes y el
+-- relay la recorre por la clave primaria.
+CREATE TABLE IF NOT EXISTS payment_order_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payment_order_id UUID NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Retención de eventos sin entregar (PaymentOrderOutboxRelay)
+CREATE INDEX IF NOT EXISTS idx_payment_order_outbox_occurred
+    ON payment_order_outbox (occurred_at);
+
+-- Aviso de cambios de estado para el seguimiento en vivo (SSE). pg_notify se entrega al
+-- confirmarse la transacción y solo a las conexiones que han ejecutado LISTEN; la carga es
+-- "id,status,last_update_date_time" con el código de estado y la fecha en ISO-8601.
+CREATE OR REPLACE FUNCTION notify_payment_order_status() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('payment_order_status',
+        NEW.id || ',' || NEW.status || ',' || (to_json(NEW.last_update_date_time) #>> '{}'));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
 
--- Index for faster lookups
-CREATE INDEX IF NOT EXISTS idx_payment_orders_status ON payment_orders(status);
-CREATE INDEX IF NOT EXISTS idx_payment_orders_created ON payment_orders(created_date_time);
+DROP TRIGGER IF EXISTS payment_orders_status_notify ON payment_orders;
+CREATE TRIGGER payment_orders_status_notify
+    AFTER UPDATE OF status ON payment_orders
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION notify_payment_order_status();